@@ -0,0 +1,107 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.memory;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark of {@link IEnvironment#worldPush()} and {@link IEnvironment#worldPop()}.
+ * <p>
+ * Each invocation opens {@link #depth} worlds, modifies {@link #updates} stored integers
+ * in each of them and then backtracks to the root world.
+ * The flat, the chunked and the indexed trails are measured.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TrailingBenchmark {
+
+    @Param({"flat", "chunk", "indexed"})
+    public String trail;
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"64"})
+    public int depth;
+
+    @Param({"100"})
+    public int updates;
+
+    private IEnvironment environment;
+
+    private IStateInt[] values;
+
+    private int[] indices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EnvironmentBuilder builder = new EnvironmentBuilder();
+        switch (trail) {
+            case "chunk":
+                builder.fromChunk();
+                break;
+            case "indexed":
+                builder.fromIndexed();
+                break;
+            default:
+                builder.fromFlat();
+        }
+        environment = builder.build();
+        values = new IStateInt[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = environment.makeInt(0);
+        }
+        Random rnd = new Random(0);
+        indices = new int[depth * updates];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = rnd.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public int pushUpdatePop() {
+        int k = 0;
+        for (int d = 1; d <= depth; d++) {
+            environment.worldPush();
+            for (int u = 0; u < updates; u++) {
+                values[indices[k++]].add(d);
+            }
+        }
+        int sum = values[indices[0]].get();
+        for (int d = 0; d < depth; d++) {
+            environment.worldPop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int pushPop() {
+        for (int d = 0; d < depth; d++) {
+            environment.worldPush();
+        }
+        for (int d = 0; d < depth; d++) {
+            environment.worldPop();
+        }
+        return environment.getWorldIndex();
+    }
+}
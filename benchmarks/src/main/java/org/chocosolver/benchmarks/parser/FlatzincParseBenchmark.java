@@ -0,0 +1,92 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.parser;
+
+import org.chocosolver.parser.flatzinc.Flatzinc;
+import org.chocosolver.parser.flatzinc.FlatzincReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark of FlatZinc parsing: the ANTLR-based parser versus {@link FlatzincReader}.
+ * <p>
+ * A synthetic instance with {@link #size} variables, as many <code>int_lin_le</code> constraints
+ * and as many <code>int_ne</code> constraints is generated once, then parsed and modelled
+ * on each invocation. Solving is not measured.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FlatzincParseBenchmark {
+
+    @Param({"antlr", "stream"})
+    public String parser;
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    private Path instance;
+
+    private ByteBuffer mapped;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        instance = Files.createTempFile("choco", ".fzn");
+        Random rnd = new Random(0);
+        try (BufferedWriter w = Files.newBufferedWriter(instance)) {
+            for (int i = 0; i < size; i++) {
+                w.write("var 0..100: x" + i + ";\n");
+            }
+            for (int i = 0; i < size; i++) {
+                int a = rnd.nextInt(size);
+                int b = rnd.nextInt(size);
+                int c = rnd.nextInt(size);
+                w.write("constraint int_lin_le([2,-3,1],[x" + a + ",x" + b + ",x" + c + "]," + rnd.nextInt(100) + ");\n");
+                w.write("constraint int_ne(x" + a + ",x" + b + ");\n");
+            }
+            w.write("solve satisfy;\n");
+        }
+        mapped = FlatzincReader.map(instance);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(instance);
+    }
+
+    @Benchmark
+    public int parse() throws IOException {
+        Flatzinc fzn = new Flatzinc(false, false, 1);
+        fzn.createSettings();
+        fzn.createSolver();
+        if ("stream".equals(parser)) {
+            fzn.read(fzn.getModel(), fzn.datas[0], mapped.duplicate());
+        } else {
+            try (InputStream is = Files.newInputStream(instance)) {
+                fzn.parse(fzn.getModel(), fzn.datas[0], is);
+            }
+        }
+        return fzn.getModel().getNbCstrs();
+    }
+}
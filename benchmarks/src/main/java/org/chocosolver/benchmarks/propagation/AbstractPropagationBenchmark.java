@@ -0,0 +1,122 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for propagation benchmarks.
+ * <p>
+ * A model is built once per trial and propagated at root node.
+ * Then, each invocation replays a fixed (seeded) sequence of dives:
+ * a dive pushes a world, instantiates a variable, calls
+ * {@link org.chocosolver.solver.Solver#propagate()} and goes on until a failure occurs
+ * or the sequence is exhausted, and finally backtracks to the root node.
+ * This measures the propagation engine and the propagators without any search overhead.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public abstract class AbstractPropagationBenchmark {
+
+    /**
+     * Seed used to build the model and the sequence of decisions.
+     */
+    @Param({"0"})
+    public long seed;
+
+    /**
+     * Number of dives, from root node, per invocation.
+     */
+    @Param({"32"})
+    public int dives;
+
+    protected Model model;
+
+    private IEnvironment environment;
+
+    private IntVar[] vars;
+
+    private int[][] decisions;
+
+    /**
+     * Declare the model to benchmark.
+     *
+     * @param model the model to fill
+     * @param rnd   a seeded random number generator
+     * @return the variables to instantiate during dives
+     */
+    protected abstract IntVar[] buildModel(Model model, Random rnd);
+
+    /**
+     * @return the settings of the model to benchmark
+     */
+    protected Settings settings() {
+        return Settings.init();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws ContradictionException {
+        Random rnd = new Random(seed);
+        model = new Model(settings());
+        vars = buildModel(model, rnd);
+        environment = model.getEnvironment();
+        model.getSolver().propagate();
+        environment.worldPush();
+        decisions = new int[dives][];
+        for (int d = 0; d < dives; d++) {
+            decisions[d] = new int[vars.length * 2];
+            for (int i = 0; i < vars.length; i++) {
+                int v = rnd.nextInt(vars.length);
+                decisions[d][2 * i] = v;
+                decisions[d][2 * i + 1] = vars[v].getLB() + rnd.nextInt(vars[v].getDomainSize());
+            }
+        }
+    }
+
+    @Benchmark
+    public long dive() {
+        long depth = 0;
+        int root = environment.getWorldIndex();
+        for (int d = 0; d < dives; d++) {
+            int[] decs = decisions[d];
+            try {
+                for (int i = 0; i < decs.length; i += 2) {
+                    IntVar var = vars[decs[i]];
+                    if (!var.isInstantiated() && var.contains(decs[i + 1])) {
+                        environment.worldPush();
+                        var.instantiateTo(decs[i + 1], Cause.Null);
+                        model.getSolver().propagate();
+                        depth++;
+                    }
+                }
+            } catch (ContradictionException ignored) {
+                // the dive ends on failure
+            }
+            environment.worldPopUntil(root);
+        }
+        return depth;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+
+/**
+ * Benchmark of {@link org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffAC}
+ * through the "AC" consistency of allDifferent.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class AllDiffACBenchmark extends AbstractPropagationBenchmark {
+
+    @Override
+    protected IntVar[] buildModel(Model model, Random rnd) {
+        int n = 100;
+        IntVar[] x = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            int lb = rnd.nextInt(n / 2);
+            x[i] = model.intVar("x_" + i, lb, lb + n / 2 + rnd.nextInt(n / 2), false);
+        }
+        model.allDifferent(x, "AC").post();
+        return x;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.Random;
+
+/**
+ * Benchmark of {@link org.chocosolver.solver.constraints.extension.nary.PropCompactTable}
+ * on random positive tables.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class CompactTableBenchmark extends AbstractPropagationBenchmark {
+
+    /**
+     * Number of tuples per table.
+     */
+    @Param({"10000", "100000"})
+    public int tuples;
+
+    /**
+     * Whether compact-table loops over all its words when most of them are not empty.
+     */
+    @Param({"false", "true"})
+    public boolean denseKernels;
+
+    @Override
+    protected Settings settings() {
+        return Settings.init().setEnableDenseTableKernels(denseKernels);
+    }
+
+    @Override
+    protected IntVar[] buildModel(Model model, Random rnd) {
+        int n = 20;
+        int arity = 5;
+        int d = 10;
+        IntVar[] x = model.intVarArray("x", n, 0, d - 1, false);
+        for (int j = 0; j < n / 2; j++) {
+            IntVar[] scope = new IntVar[arity];
+            for (int i = 0; i < arity; i++) {
+                scope[i] = x[(j + i * 3) % n];
+            }
+            Tuples table = new Tuples(true);
+            for (int t = 0; t < tuples; t++) {
+                int[] tuple = new int[arity];
+                for (int i = 0; i < arity; i++) {
+                    tuple[i] = rnd.nextInt(d);
+                }
+                table.add(tuple);
+            }
+            model.table(scope, table, "CT+").post();
+        }
+        return x;
+    }
+}
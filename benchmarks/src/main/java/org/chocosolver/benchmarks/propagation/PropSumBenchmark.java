@@ -0,0 +1,46 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+
+/**
+ * Benchmark of {@link org.chocosolver.solver.constraints.nary.sum.PropSum}
+ * and {@link org.chocosolver.solver.constraints.nary.sum.PropScalar}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropSumBenchmark extends AbstractPropagationBenchmark {
+
+    @Override
+    protected IntVar[] buildModel(Model model, Random rnd) {
+        int n = 40;
+        int m = 10;
+        IntVar[] x = model.intVarArray("x", n, 0, 20, true);
+        for (int j = 0; j < m; j++) {
+            IntVar[] scope = new IntVar[n / 2];
+            int[] coeffs = new int[n / 2];
+            for (int i = 0; i < scope.length; i++) {
+                scope[i] = x[rnd.nextInt(n)];
+                coeffs[i] = 1 + rnd.nextInt(5);
+            }
+            if (j % 2 == 0) {
+                model.sum(scope, "<=", 10 * n).post();
+            } else {
+                model.scalar(scope, coeffs, "<=", 30 * n).post();
+            }
+        }
+        return x;
+    }
+}
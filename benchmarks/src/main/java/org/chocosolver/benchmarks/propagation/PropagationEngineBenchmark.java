@@ -0,0 +1,53 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+
+/**
+ * Benchmark of {@link org.chocosolver.solver.propagation.PropagationEngine#propagate()}
+ * on a model made of many small binary and ternary constraints,
+ * where the engine scheduling dominates the propagators' cost.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropagationEngineBenchmark extends AbstractPropagationBenchmark {
+
+    @Override
+    protected IntVar[] buildModel(Model model, Random rnd) {
+        int n = 200;
+        IntVar[] x = model.intVarArray("x", n, 0, n / 2, false);
+        for (int i = 0; i < 4 * n; i++) {
+            int a = rnd.nextInt(n);
+            int b = rnd.nextInt(n);
+            if (a != b) {
+                switch (i % 4) {
+                    case 0:
+                        model.arithm(x[a], "!=", x[b]).post();
+                        break;
+                    case 1:
+                        model.arithm(x[a], "<=", x[b], "+", rnd.nextInt(n / 4)).post();
+                        break;
+                    case 2:
+                        model.distance(x[a], x[b], ">", rnd.nextInt(4)).post();
+                        break;
+                    default:
+                        model.arithm(x[a], "+", x[b], "<=", n / 2 + rnd.nextInt(n / 2)).post();
+                        break;
+                }
+            }
+        }
+        return x;
+    }
+}
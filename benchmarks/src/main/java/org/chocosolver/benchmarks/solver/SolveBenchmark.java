@@ -0,0 +1,185 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.solver;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a complete {@link Solver#solve()} run on fixed instances.
+ * <p>
+ * Each invocation builds a fresh model (not measured) and explores at most {@link #nodes} nodes.
+ * Besides the number of runs per second, the auxiliary counters report the number of
+ * nodes and failures explored per second, which is the metric to watch when upgrading.
+ * To observe the allocation rate, run with {@code -prof gc}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SolveBenchmark {
+
+    /**
+     * Search counters, normalized by JMH per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long nodes;
+        public long fails;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            nodes = 0;
+            fails = 0;
+        }
+    }
+
+    @Param({"nqueens", "golomb", "rcpsp"})
+    public String problem;
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({"50000"})
+    public long nodes;
+
+    private Model model;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        switch (problem) {
+            case "nqueens":
+                model = nqueens(12);
+                break;
+            case "golomb":
+                model = golomb(9);
+                break;
+            case "rcpsp":
+                model = rcpsp(30, 4, seed);
+                break;
+            default:
+                throw new UnsupportedOperationException("Unknown problem " + problem);
+        }
+        model.getSolver().limitNode(nodes);
+    }
+
+    @Benchmark
+    public long solve(Counters counters) {
+        Solver solver = model.getSolver();
+        long solutions = 0;
+        while (solver.solve()) {
+            solutions++;
+        }
+        counters.nodes += solver.getNodeCount();
+        counters.fails += solver.getFailCount();
+        return solutions;
+    }
+
+    /**
+     * Enumerates all solutions of the n-queens problem.
+     */
+    static Model nqueens(int n) {
+        Model model = new Model("NQueens");
+        IntVar[] vars = new IntVar[n];
+        IntVar[] diag1 = new IntVar[n];
+        IntVar[] diag2 = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = model.intVar("Q_" + i, 1, n, false);
+            diag1[i] = model.offset(vars[i], i);
+            diag2[i] = model.offset(vars[i], -i);
+        }
+        model.allDifferent(vars, "BC").post();
+        model.allDifferent(diag1, "BC").post();
+        model.allDifferent(diag2, "BC").post();
+        model.getSolver().setSearch(Search.minDomLBSearch(vars));
+        return model;
+    }
+
+    /**
+     * Minimizes the length of a Golomb ruler with m marks (CSPLib prob006).
+     */
+    static Model golomb(int m) {
+        Model model = new Model("GolombRuler");
+        int ub = (1 << (m + 1)) - 1;
+        IntVar[] ticks = model.intVarArray("a", m, 0, ub, false);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, ub, false);
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                model.scalar(new IntVar[]{ticks[j], ticks[i]}, new int[]{1, -1}, "=", diffs[k]).post();
+                model.arithm(diffs[k], ">=", (j - i) * (j - i + 1) / 2).post();
+                model.arithm(diffs[k], "-", ticks[m - 1], "<=", -((m - 1 - j + i) * (m - j + i)) / 2).post();
+                model.arithm(diffs[k], "<=", ticks[m - 1], "-", ((m - 1 - j + i) * (m - j + i)) / 2).post();
+            }
+        }
+        model.allDifferent(diffs, "BC").post();
+        model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        model.getSolver().setSearch(Search.inputOrderLBSearch(ticks));
+        return model;
+    }
+
+    /**
+     * Minimizes the makespan of a randomly generated (but seeded) RCPSP instance
+     * with <i>n</i> tasks and <i>r</i> renewable resources.
+     */
+    static Model rcpsp(int n, int r, long seed) {
+        Random rnd = new Random(seed);
+        int[] durations = new int[n];
+        int horizon = 0;
+        for (int i = 0; i < n; i++) {
+            durations[i] = 1 + rnd.nextInt(10);
+            horizon += durations[i];
+        }
+        Model model = new Model("RCPSP");
+        IntVar[] starts = model.intVarArray("S", n, 0, horizon, true);
+        Task[] tasks = new Task[n];
+        IntVar[] ends = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            tasks[i] = new Task(starts[i], durations[i]);
+            ends[i] = tasks[i].getEnd();
+        }
+        // random precedences, from lower to higher indices to avoid cycles
+        for (int i = 1; i < n; i++) {
+            for (int k = 0; k < 2; k++) {
+                int j = rnd.nextInt(i);
+                model.arithm(ends[j], "<=", starts[i]).post();
+            }
+        }
+        for (int k = 0; k < r; k++) {
+            IntVar[] heights = new IntVar[n];
+            for (int i = 0; i < n; i++) {
+                heights[i] = model.intVar(rnd.nextInt(5));
+            }
+            model.cumulative(tasks, heights, model.intVar(6 + rnd.nextInt(4))).post();
+        }
+        IntVar makespan = model.intVar("makespan", 0, horizon, true);
+        model.max(makespan, ends).post();
+        model.setObjective(Model.MINIMIZE, makespan);
+        model.getSolver().setSearch(Search.minDomLBSearch(starts));
+        return model;
+    }
+}
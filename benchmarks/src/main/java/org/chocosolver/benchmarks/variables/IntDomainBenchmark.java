@@ -0,0 +1,106 @@
+/*
+ * This file is part of choco-benchmarks, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.variables;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.IntervalIntVarImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmark of domain operations of {@link IntervalIntVarImpl} and {@link BitsetIntVarImpl}.
+ * <p>
+ * Domain modifications are done in a fresh world which is popped afterwards,
+ * so that the cost of trailing is included, as it is during search.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class IntDomainBenchmark {
+
+    @Param({"interval", "bitset"})
+    public String domain;
+
+    @Param({"1024"})
+    public int size;
+
+    private Model model;
+
+    private IntVar var;
+
+    private int[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new Model();
+        var = model.intVar("x", 0, size - 1, "interval".equals(domain));
+        Random rnd = new Random(0);
+        values = new int[size / 4];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rnd.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public int updateBounds() throws ContradictionException {
+        model.getEnvironment().worldPush();
+        int lb = 0, ub = size - 1;
+        while (lb + 1 < ub) {
+            var.updateLowerBound(++lb, Cause.Null);
+            var.updateUpperBound(--ub, Cause.Null);
+        }
+        int r = var.getDomainSize();
+        model.getEnvironment().worldPop();
+        return r;
+    }
+
+    @Benchmark
+    public int removeValues() throws ContradictionException {
+        model.getEnvironment().worldPush();
+        for (int v : values) {
+            var.removeValue(v, Cause.Null);
+        }
+        int r = var.getDomainSize();
+        model.getEnvironment().worldPop();
+        return r;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        int ub = var.getUB();
+        for (int v = var.getLB(); v <= ub; v = var.nextValue(v)) {
+            bh.consume(v);
+        }
+    }
+
+    @Benchmark
+    public int contains() {
+        int c = 0;
+        for (int v : values) {
+            if (var.contains(v)) {
+                c++;
+            }
+        }
+        return c;
+    }
+}
@@ -34,8 +34,15 @@ import org.kohsuke.args4j.Option;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
 
 /**
  * A regular parser with default and common services
@@ -234,6 +241,47 @@ public abstract class RegParser implements IParser {
         }
     }
 
+    /**
+     * Apply <i>builder</i> to the index of each model of the portfolio.
+     * When more than one core is used, models are built concurrently, on at most as many threads
+     * as available processors, so that the startup time does not grow with the number of cores.
+     * All the models are still built in full, so the heap used is unchanged.
+     *
+     * @param builder builds the i<sup>th</sup> model of the portfolio
+     */
+    protected final void buildModels(IntConsumer builder) {
+        int n = portfolio.getModels().size();
+        if (n == 1) {
+            builder.accept(0);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(n, Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                final int j = i;
+                futures.add(executor.submit(() -> builder.accept(j)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void freesearch(Solver solver) {
         BlackBoxConfigurator bb;
         if (solver.getObjectiveManager().isOptimization()) {
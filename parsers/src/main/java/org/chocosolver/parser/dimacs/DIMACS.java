@@ -83,7 +83,7 @@ public class DIMACS extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
+        buildModels(i -> {
             Model m = models.get(i);
             Solver s = m.getSolver();
             try {
@@ -122,11 +122,11 @@ public class DIMACS extends RegParser {
                 if (level.isLoggable(Level.INFO)) {
                     s.log().red().print("UNSUPPORTED\n");
                     s.log().printf("%s\n", e.getMessage());
+                    s.log().printStackTrace(e);
                 }
-                e.printStackTrace();
                 throw new RuntimeException("UNSUPPORTED");
             }
-        }
+        });
         if (level.isLoggable(Level.INFO)) {
             getModel().displayVariableOccurrences();
             getModel().displayPropagatorOccurrences();
@@ -38,6 +38,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
@@ -74,6 +75,9 @@ public class Flatzinc extends RegParser {
             "(default: OUTPUT, i.e., restricted to the variables declared in output).")
     protected CompleteSearch ocs = CompleteSearch.OUTPUT;
 
+    @Option(name = "-stream", usage = "Read the file with the streaming reader, for very large instances (default: false).")
+    protected boolean stream = false;
+
     //***********************************************************************************
     // VARIABLES
     //***********************************************************************************
@@ -143,14 +147,25 @@ public class Flatzinc extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
+        final ByteBuffer mapped;
+        try {
+            mapped = stream ? FlatzincReader.map(Paths.get(instance)) : null;
+        } catch (IOException e) {
+            throw new Error(e.getMessage());
+        }
+        buildModels(i -> {
             Model m = models.get(i);
             Solver s = m.getSolver();
             try {
                 long ptime = -System.currentTimeMillis();
-                FileInputStream fileInputStream = new FileInputStream(instance);
-                parse(m, datas[i], fileInputStream);
-                fileInputStream.close();
+                if (stream) {
+                    read(m, datas[i], mapped.duplicate());
+                } else {
+                    // each model streams the file, no copy of it is kept in memory
+                    try (InputStream inputStream = new FileInputStream(instance)) {
+                        parse(m, datas[i], inputStream);
+                    }
+                }
                 if(logFilePath != null) {
                     s.log().remove(System.out);
                     s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
@@ -183,7 +198,19 @@ public class Flatzinc extends RegParser {
             } catch (IOException e) {
                 throw new Error(e.getMessage());
             }
-        }
+        });
+    }
+
+    /**
+     * Read the FlatZinc model stored in <i>buffer</i> with a {@link FlatzincReader}
+     * and post it into <i>target</i>.
+     *
+     * @param target the model to populate
+     * @param data   the data of <i>target</i>
+     * @param buffer the content of a FlatZinc file
+     */
+    public void read(Model target, Datas data, ByteBuffer buffer) {
+        new FlatzincReader(target, data, buffer).read();
     }
 
     public void parse(Model target, Datas data, InputStream is) {
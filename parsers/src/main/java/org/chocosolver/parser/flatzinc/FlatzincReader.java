@@ -0,0 +1,740 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.*;
+import org.chocosolver.parser.flatzinc.ast.declaration.*;
+import org.chocosolver.parser.flatzinc.ast.expression.*;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A streaming FlatZinc reader, an alternative to {@link Flatzinc4Parser} for very large instances.
+ * <p>
+ * The input is read from a {@link ByteBuffer}, typically a memory-mapped file (see {@link #map(Path)}),
+ * with a hand-written tokenizer that allocates neither tokens nor strings for keywords and integers.
+ * Each statement is posted as soon as it is read, and its expressions are then released,
+ * so that the memory peak is close to the size of the final model.
+ * </p>
+ * <p>
+ * The accepted language is the one of {@code Flatzinc4Parser.g4}: predicate declarations are skipped,
+ * parameters, variables, constraints and the solve goal are built with
+ * {@link FParameter}, {@link FVariable}, {@link FConstraint} and {@link FGoal}.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class FlatzincReader {
+
+    // tokens
+    private static final int EOF = 0;
+    private static final int IDENTIFIER = 1;
+    private static final int INT_CONST = 2;
+    private static final int FLOAT_CONST = 3;
+    private static final int STRING = 4;
+    private static final int BOOL = 5;
+    private static final int TRUE = 6;
+    private static final int FALSE = 7;
+    private static final int INT = 8;
+    private static final int FLOAT = 9;
+    private static final int SET = 10;
+    private static final int OF = 11;
+    private static final int ARRAY = 12;
+    private static final int VAR = 13;
+    private static final int PAR = 14;
+    private static final int PREDICATE = 15;
+    private static final int CONSTRAINT = 16;
+    private static final int SOLVE = 17;
+    private static final int SATISFY = 18;
+    private static final int MINIMIZE = 19;
+    private static final int MAXIMIZE = 20;
+    private static final int DD = 21;
+    private static final int LB = 22;
+    private static final int RB = 23;
+    private static final int CM = 24;
+    private static final int LS = 25;
+    private static final int RS = 26;
+    private static final int EQ = 27;
+    private static final int SC = 28;
+    private static final int CL = 29;
+    private static final int DC = 30;
+    private static final int LP = 31;
+    private static final int RP = 32;
+
+    private static final String[] KEYWORDS = {
+            "bool", "true", "false", "int", "float", "set", "of", "array", "var", "par",
+            "predicate", "constraint", "solve", "satisfy", "minimize", "maximize"
+    };
+
+    /**
+     * Size of the identifier cache, a power of 2.
+     */
+    private static final int CACHE_SIZE = 1 << 14;
+
+    private final Model model;
+
+    private final Datas datas;
+
+    private final ByteBuffer buffer;
+
+    private final int limit;
+
+    /**
+     * Position of the next byte to read.
+     */
+    private int pos;
+
+    /**
+     * Current line, for error messages.
+     */
+    private int line = 1;
+
+    /**
+     * Kind of the current token.
+     */
+    private int token;
+
+    /**
+     * Start and end (exclusive) of the current token in {@link #buffer}.
+     */
+    private int start, end;
+
+    /**
+     * Value of the current token, when it is an {@link #INT_CONST}.
+     */
+    private int ival;
+
+    /**
+     * Recently read identifiers, to avoid creating the same string many times
+     * (e.g., constraint names and frequently used variables).
+     */
+    private final String[] cache = new String[CACHE_SIZE];
+
+    /**
+     * Create a reader of <i>buffer</i> which posts the FlatZinc model it describes into <i>model</i>.
+     *
+     * @param model  the target model
+     * @param datas  the data of the target model
+     * @param buffer the FlatZinc model, read from its position to its limit
+     */
+    public FlatzincReader(Model model, Datas datas, ByteBuffer buffer) {
+        this.model = model;
+        this.datas = datas;
+        this.buffer = buffer;
+        this.pos = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Map a file in memory, in read-only mode.
+     *
+     * @param path path of the file to map
+     * @return the content of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large to be mapped: " + path);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Read the whole input and post it into the model.
+     *
+     * @throws ParserException if the input is not a valid FlatZinc model
+     */
+    public void read() {
+        next();
+        while (token != EOF) {
+            switch (token) {
+                case PREDICATE:
+                    skipStatement();
+                    break;
+                case CONSTRAINT:
+                    constraint();
+                    break;
+                case SOLVE:
+                    solveGoal();
+                    break;
+                default:
+                    declaration();
+                    break;
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // STATEMENTS
+    //***********************************************************************************
+
+    private void skipStatement() {
+        while (token != SC) {
+            if (token == EOF) {
+                throw error("unexpected end of file");
+            }
+            next();
+        }
+        next();
+    }
+
+    /**
+     * Parameter or variable declaration.
+     */
+    private void declaration() {
+        List<Declaration> indices = null;
+        if (token == ARRAY) {
+            next();
+            accept(LS);
+            indices = new ArrayList<>(1);
+            indices.add(indexSet());
+            while (token == CM) {
+                next();
+                indices.add(indexSet());
+            }
+            accept(RS);
+            accept(OF);
+        }
+        boolean isVar = token == VAR;
+        Declaration type;
+        if (isVar) {
+            next();
+            type = varType();
+        } else {
+            if (token == PAR) {
+                next();
+            }
+            type = parType();
+        }
+        if (indices != null) {
+            type = new DArray(indices, type);
+        }
+        accept(CL);
+        String id = identifier();
+        if (isVar) {
+            List<EAnnotation> annotations = annotations();
+            Expression expression = null;
+            if (token == EQ) {
+                next();
+                expression = expr();
+            }
+            accept(SC);
+            FVariable.make_variable(datas, type, id, annotations, expression, model);
+        } else {
+            accept(EQ);
+            Expression expression = expr();
+            accept(SC);
+            FParameter.make_parameter(datas, type, id, expression);
+        }
+    }
+
+    private void constraint() {
+        accept(CONSTRAINT);
+        String name = identifier();
+        accept(LP);
+        List<Expression> exps = new ArrayList<>();
+        exps.add(expr());
+        while (token == CM) {
+            next();
+            exps.add(expr());
+        }
+        accept(RP);
+        List<EAnnotation> annotations = annotations();
+        accept(SC);
+        datas.incCstrCounter(name);
+        FConstraint.valueOf(name).build(model, datas, name, exps, annotations);
+    }
+
+    private void solveGoal() {
+        accept(SOLVE);
+        List<EAnnotation> annotations = annotations();
+        ResolutionPolicy policy;
+        Expression expression = null;
+        switch (token) {
+            case MINIMIZE:
+                next();
+                policy = ResolutionPolicy.MINIMIZE;
+                expression = expr();
+                break;
+            case MAXIMIZE:
+                next();
+                policy = ResolutionPolicy.MAXIMIZE;
+                expression = expr();
+                break;
+            case SATISFY:
+                next();
+                policy = ResolutionPolicy.SATISFACTION;
+                break;
+            default:
+                throw error("expected satisfy, minimize or maximize");
+        }
+        accept(SC);
+        FGoal.define_goal(model, annotations, policy, expression);
+    }
+
+    //***********************************************************************************
+    // TYPES
+    //***********************************************************************************
+
+    private Declaration parType() {
+        switch (token) {
+            case BOOL:
+                next();
+                return DBool.me;
+            case FLOAT:
+                next();
+                return DFloat.me;
+            case INT:
+                next();
+                return DInt.me;
+            case SET:
+                next();
+                accept(OF);
+                accept(INT);
+                return DSetOfInt.me;
+            default:
+                throw error("expected a parameter type");
+        }
+    }
+
+    private Declaration varType() {
+        switch (token) {
+            case BOOL:
+                next();
+                return DBool.me;
+            case FLOAT:
+                next();
+                return DFloat.me;
+            case INT:
+                next();
+                return DInt.me;
+            case INT_CONST:
+            case LB:
+                return intDomain();
+            case SET:
+                next();
+                accept(OF);
+                if (token == INT) {
+                    next();
+                    return new DSet(DInt.me);
+                }
+                return new DSet(intDomain());
+            default:
+                throw error("expected a variable type");
+        }
+    }
+
+    /**
+     * <i>l..u</i> or <i>{v1, v2, ...}</i>
+     */
+    private Declaration intDomain() {
+        if (token == LB) {
+            return new DManyInt(intSet());
+        }
+        EInt lb = intConst();
+        accept(DD);
+        return new DInt2(lb, intConst());
+    }
+
+    private Declaration indexSet() {
+        if (token == INT) {
+            next();
+            return DInt.me;
+        }
+        EInt lb = intConst();
+        accept(DD);
+        return new DInt2(lb, intConst());
+    }
+
+    //***********************************************************************************
+    // EXPRESSIONS
+    //***********************************************************************************
+
+    private Expression expr() {
+        switch (token) {
+            case LB:
+                return new ESetList(intSet());
+            case TRUE:
+                next();
+                return EBool.make(true);
+            case FALSE:
+                next();
+                return EBool.make(false);
+            case INT_CONST: {
+                EInt i1 = intConst();
+                if (token == DD) {
+                    next();
+                    return new ESetBounds(i1, intConst());
+                }
+                return i1;
+            }
+            case FLOAT_CONST: {
+                EFloat f = EFloat.make(text());
+                next();
+                return f;
+            }
+            case LS: {
+                next();
+                if (token == RS) {
+                    next();
+                    return new EArray();
+                }
+                ArrayList<Expression> exps = new ArrayList<>();
+                exps.add(expr());
+                while (token == CM) {
+                    next();
+                    exps.add(expr());
+                }
+                accept(RS);
+                return new EArray(exps);
+            }
+            case IDENTIFIER: {
+                String id = identifier();
+                if (token == LP) {
+                    return new EAnnotation(new EIdentifier(datas, id), arguments());
+                } else if (token == LS) {
+                    next();
+                    int i = intConst().value;
+                    accept(RS);
+                    return new EIdArray(datas, id, i);
+                }
+                return new EIdentifier(datas, id);
+            }
+            case STRING: {
+                EString s = new EString(text());
+                next();
+                return s;
+            }
+            default:
+                throw error("expected an expression");
+        }
+    }
+
+    /**
+     * <i>{v1, v2, ...}</i>, possibly empty
+     */
+    private List<EInt> intSet() {
+        accept(LB);
+        if (token == RB) {
+            next();
+            return new ArrayList<>();
+        }
+        ArrayList<EInt> values = new ArrayList<>();
+        values.add(intConst());
+        while (token == CM) {
+            next();
+            values.add(intConst());
+        }
+        accept(RB);
+        return values;
+    }
+
+    /**
+     * <i>(e1, e2, ...)</i>
+     */
+    private List<Expression> arguments() {
+        accept(LP);
+        ArrayList<Expression> exps = new ArrayList<>();
+        exps.add(expr());
+        while (token == CM) {
+            next();
+            exps.add(expr());
+        }
+        accept(RP);
+        return exps;
+    }
+
+    private List<EAnnotation> annotations() {
+        if (token != DC) {
+            return Collections.emptyList();
+        }
+        List<EAnnotation> annotations = new ArrayList<>();
+        while (token == DC) {
+            next();
+            String id = identifier();
+            List<Expression> exps = token == LP ? arguments() : new ArrayList<>();
+            annotations.add(new EAnnotation(new EIdentifier(datas, id), exps));
+        }
+        return annotations;
+    }
+
+    private EInt intConst() {
+        if (token != INT_CONST) {
+            throw error("expected an integer");
+        }
+        EInt i = EInt.make(ival);
+        next();
+        return i;
+    }
+
+    private String identifier() {
+        if (token != IDENTIFIER) {
+            throw error("expected an identifier");
+        }
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + buffer.get(i);
+        }
+        int slot = (h ^ (h >>> 16)) & (CACHE_SIZE - 1);
+        String s = cache[slot];
+        if (s == null || !matches(s)) {
+            s = text();
+            cache[slot] = s;
+        }
+        next();
+        return s;
+    }
+
+    private void accept(int expected) {
+        if (token != expected) {
+            throw error("unexpected token");
+        }
+        next();
+    }
+
+    //***********************************************************************************
+    // TOKENIZER
+    //***********************************************************************************
+
+    /**
+     * Read the next token.
+     */
+    private void next() {
+        skipBlanks();
+        start = pos;
+        if (pos >= limit) {
+            token = EOF;
+            end = pos;
+            return;
+        }
+        byte c = buffer.get(pos++);
+        switch (c) {
+            case '.':
+                if (pos < limit && buffer.get(pos) == '.') {
+                    pos++;
+                    token = DD;
+                    break;
+                }
+                throw error("unexpected character '.'");
+            case '{':
+                token = LB;
+                break;
+            case '}':
+                token = RB;
+                break;
+            case ',':
+                token = CM;
+                break;
+            case '[':
+                token = LS;
+                break;
+            case ']':
+                token = RS;
+                break;
+            case '=':
+                token = EQ;
+                break;
+            case ';':
+                token = SC;
+                break;
+            case ':':
+                if (pos < limit && buffer.get(pos) == ':') {
+                    pos++;
+                    token = DC;
+                } else {
+                    token = CL;
+                }
+                break;
+            case '(':
+                token = LP;
+                break;
+            case ')':
+                token = RP;
+                break;
+            case '"':
+                string();
+                break;
+            default:
+                if (c == '-' || isDigit(c)) {
+                    number(c);
+                } else if (isLetter(c)) {
+                    while (pos < limit && isIdentifierPart(buffer.get(pos))) {
+                        pos++;
+                    }
+                    token = keyword();
+                } else {
+                    throw error("unexpected character '" + (char) c + "'");
+                }
+        }
+        end = pos;
+    }
+
+    private void skipBlanks() {
+        while (pos < limit) {
+            byte c = buffer.get(pos);
+            if (c == '\n') {
+                line++;
+                pos++;
+            } else if (c == ' ' || c == '\t' || c == '\r') {
+                pos++;
+            } else if (c == '%') {
+                while (pos < limit && buffer.get(pos) != '\n') {
+                    pos++;
+                }
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Read an integer or a float constant, <i>first</i> being already read.
+     */
+    private void number(byte first) {
+        boolean negative = first == '-';
+        long value = negative ? 0 : first - '0';
+        if (negative && (pos >= limit || !isDigit(buffer.get(pos)))) {
+            throw error("unexpected character '-'");
+        }
+        boolean overflow = false;
+        while (pos < limit && isDigit(buffer.get(pos))) {
+            value = value * 10 + (buffer.get(pos++) - '0');
+            overflow |= value > Integer.MAX_VALUE + 1L;
+        }
+        boolean isFloat = false;
+        // a dot followed by a digit, otherwise this may be a '..'
+        if (pos + 1 < limit && buffer.get(pos) == '.' && isDigit(buffer.get(pos + 1))) {
+            isFloat = true;
+            pos++;
+            while (pos < limit && isDigit(buffer.get(pos))) {
+                pos++;
+            }
+        }
+        if (pos < limit && (buffer.get(pos) == 'e' || buffer.get(pos) == 'E')) {
+            int p = pos + 1;
+            if (p < limit && (buffer.get(p) == '+' || buffer.get(p) == '-')) {
+                p++;
+            }
+            if (p < limit && isDigit(buffer.get(p))) {
+                isFloat = true;
+                pos = p;
+                while (pos < limit && isDigit(buffer.get(pos))) {
+                    pos++;
+                }
+            }
+        }
+        if (isFloat) {
+            token = FLOAT_CONST;
+        } else {
+            value = negative ? -value : value;
+            if (overflow || value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+                throw error("integer out of range");
+            }
+            token = INT_CONST;
+            ival = (int) value;
+        }
+    }
+
+    private void string() {
+        while (pos < limit) {
+            byte c = buffer.get(pos++);
+            if (c == '\\') {
+                pos++;
+            } else if (c == '"') {
+                token = STRING;
+                return;
+            } else if (c == '\n') {
+                line++;
+            }
+        }
+        throw error("unterminated string");
+    }
+
+    /**
+     * @return the keyword matching the current identifier, or {@link #IDENTIFIER}
+     */
+    private int keyword() {
+        int length = pos - start;
+        if (length < 2 || length > 10) {
+            return IDENTIFIER;
+        }
+        for (int k = 0; k < KEYWORDS.length; k++) {
+            String kw = KEYWORDS[k];
+            if (kw.length() == length && kw.charAt(0) == buffer.get(start) && matches(kw, start, pos)) {
+                return BOOL + k;
+            }
+        }
+        return IDENTIFIER;
+    }
+
+    private boolean matches(String s) {
+        return matches(s, start, end);
+    }
+
+    private boolean matches(String s, int from, int to) {
+        if (s.length() != to - from) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i - from) != buffer.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the text of the current token
+     */
+    private String text() {
+        return text(start, end);
+    }
+
+    private String text(int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = from; i < to; i++) {
+            bytes[i - from] = buffer.get(i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ParserException error(String message) {
+        // when the tokenizer fails, the current token is not complete yet
+        int to = Math.max(end, pos);
+        return new ParserException(String.format("line %d: %s near '%s'", line, message,
+                start < to ? text(start, to) : "<EOF>"));
+    }
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(byte c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(byte c) {
+        return isLetter(c) || isDigit(c);
+    }
+}
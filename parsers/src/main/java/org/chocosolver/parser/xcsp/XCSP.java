@@ -85,7 +85,7 @@ public class XCSP extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
+        buildModels(i -> {
             Model m = models.get(i);
             Solver s = m.getSolver();
             try {
@@ -124,11 +124,11 @@ public class XCSP extends RegParser {
                 if (level.isLoggable(Level.INFO)) {
                     s.log().red().print("s UNSUPPORTED\n");
                     s.log().printf("c %s\n", e.getMessage());
+                    s.log().printStackTrace(e);
                 }
-                e.printStackTrace();
                 throw new RuntimeException("UNSUPPORTED");
             }
-        }
+        });
     }
 
     public void parse(Model target, XCSPParser parser) throws Exception {
@@ -0,0 +1,97 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser;
+
+import org.chocosolver.parser.dimacs.DIMACS;
+import org.chocosolver.parser.flatzinc.Flatzinc;
+import org.chocosolver.parser.xcsp.XCSP;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.variables.Variable;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Checks that the models of a portfolio, built concurrently, are the same as the one built alone.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParallelBuildTest {
+
+    @DataProvider
+    public Object[][] instances() {
+        return new Object[][]{
+                {(Supplier<RegParser>) Flatzinc::new, "/flatzinc/basics/circuit+test_globals.fzn", new String[0]},
+                {(Supplier<RegParser>) Flatzinc::new, "/flatzinc/basics/cumulative+test_globals.fzn", new String[]{"-stream"}},
+                {(Supplier<RegParser>) Flatzinc::new, "/flatzinc/basics/basic+test_basic.fzn", new String[]{"-f"}},
+                {(Supplier<RegParser>) XCSP::new, "/xcsp/basics/AllInterval-005.xml.lzma", new String[0]},
+                {(Supplier<RegParser>) XCSP::new, "/xcsp/basics/Allergy.xml.lzma", new String[]{"-f"}},
+                {(Supplier<RegParser>) DIMACS::new, "/dimacs/ais6.cnf", new String[0]},
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "instances")
+    public void testSameModels(Supplier<RegParser> factory, String path, String[] options) throws SetUpException {
+        List<String> expected = signature(build(factory, path, options, 1).get(0));
+        List<Model> models = build(factory, path, options, 4);
+        Assert.assertEquals(models.size(), 4);
+        for (Model model : models) {
+            Assert.assertEquals(signature(model), expected, model.getName());
+        }
+    }
+
+    private List<Model> build(Supplier<RegParser> factory, String path, String[] options, int cores) throws SetUpException {
+        String file = Objects.requireNonNull(this.getClass().getResource(path)).getFile();
+        List<String> args = new ArrayList<>();
+        args.add(file);
+        args.add("-lvl");
+        args.add("SILENT");
+        args.add("-p");
+        args.add(Integer.toString(cores));
+        args.addAll(Arrays.asList(options));
+        RegParser parser = factory.get();
+        parser.setUp(args.toArray(new String[0]));
+        parser.createSolver();
+        parser.buildModel();
+        parser.configureSearch();
+        return parser.portfolio.getModels();
+    }
+
+    /**
+     * @return the variables, the constraints and the objective of <i>model</i>, as strings
+     */
+    private static List<String> signature(Model model) {
+        List<String> signature = new ArrayList<>();
+        for (Variable v : model.getVars()) {
+            signature.add(v.toString());
+        }
+        for (Constraint c : model.getCstrs()) {
+            StringBuilder st = new StringBuilder(c.getName());
+            for (Propagator<?> p : c.getPropagators()) {
+                st.append(' ').append(p.getClass().getSimpleName());
+                for (int i = 0; i < p.getNbVars(); i++) {
+                    st.append(' ').append(p.getVar(i).getName());
+                }
+            }
+            signature.add(st.toString());
+        }
+        signature.add(model.getResolutionPolicy() + " " + model.getObjective());
+        return signature;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.solver.Model;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks that {@link FlatzincReader} builds the same models as {@link Flatzinc4Parser}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class FlatzincReaderTest {
+
+    @DataProvider
+    public Object[][] instances() {
+        return new Object[][]{
+                {"var 1 .. 2: a::output_var;constraint int_ne(a, 1);solve satisfy;"},
+                {"% a comment\n" +
+                        "array[1 .. 2] of var 1 .. \n" +
+                        "2: q;\n" +
+                        "constraint int_ne(q[1], q[2]);\n" +
+                        "solve satisfy;"},
+                {"array[1 .. 3] of int: covers = [1,5,8];\n" +
+                        "array[1 .. 3] of int: lbound = [0,1,0];\n" +
+                        "array[1 .. 3] of int: ubound = [1,1,1];\n" +
+                        "array[1 .. 3] of var 1 .. 10: vars;\n" +
+                        "constraint globalCardinalityLowUpChoco(vars, covers, lbound, ubound,false);\n" +
+                        "solve satisfy;"},
+                {"var set of 1..10: x:: output_var;\n" +
+                        "var 0..10: X_INTRODUCED_1_ ::var_is_introduced ;\n" +
+                        "constraint set_card(x,X_INTRODUCED_1_);\n" +
+                        "solve  maximize X_INTRODUCED_1_;"},
+                {"predicate fzn_minimum_arg_int(array [int] of var int: x,var int: z);\n" +
+                        "var {1,7}: B:: output_var;\n" +
+                        "var 1..4: C:: output_var;\n" +
+                        "var {1,7}: E:: output_var;\n" +
+                        "array [1..5] of var int: X_INTRODUCED_0_ ::var_is_introduced  = [B,E,B,1,7];\n" +
+                        "constraint fzn_minimum_arg_int(X_INTRODUCED_0_,C);\n" +
+                        "solve :: int_search([B,C,E],occurrence,indomain_reverse_split,complete) satisfy;\n"},
+                {"array [1..3] of int: c = [2,-3,1];\n" +
+                        "var -5..5: x:: output_var;\n" +
+                        "var -5..5: y:: output_var;\n" +
+                        "var bool: b:: output_var;\n" +
+                        "constraint int_lin_le(c,[x,y,x],-4);\n" +
+                        "constraint int_le_reif(x,y,b);\n" +
+                        "constraint set_in(y,{-1,0,3});\n" +
+                        "solve :: seq_search([int_search([x,y],input_order,indomain_min,complete)]) satisfy;\n"}
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "instances")
+    public void testSameModel(String instance) {
+        Flatzinc fzn1 = new Flatzinc(true, false, 1);
+        fzn1.createSettings();
+        fzn1.createSolver();
+        fzn1.parse(fzn1.getModel(), fzn1.datas[0],
+                new ByteArrayInputStream(instance.getBytes(StandardCharsets.UTF_8)));
+        Model m1 = fzn1.getModel();
+
+        Flatzinc fzn2 = new Flatzinc(true, false, 1);
+        fzn2.createSettings();
+        fzn2.createSolver();
+        fzn2.read(fzn2.getModel(), fzn2.datas[0],
+                ByteBuffer.wrap(instance.getBytes(StandardCharsets.UTF_8)));
+        Model m2 = fzn2.getModel();
+
+        Assert.assertEquals(m2.getNbVars(), m1.getNbVars());
+        Assert.assertEquals(m2.getNbCstrs(), m1.getNbCstrs());
+        Assert.assertEquals(m2.getResolutionPolicy(), m1.getResolutionPolicy());
+        Assert.assertEquals(m2.getSolver().findAllSolutions().size(), m1.getSolver().findAllSolutions().size());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ParserException.class)
+    public void testError() {
+        Flatzinc fzn = new Flatzinc(false, false, 1);
+        fzn.createSettings();
+        fzn.createSolver();
+        fzn.read(fzn.getModel(), fzn.datas[0],
+                ByteBuffer.wrap("var 1..2: a constraint int_ne(a, 1);".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -16,6 +16,7 @@
 module org.chocosolver.solver {
     // exports in alphabetical order
     exports org.chocosolver.memory;
+    exports org.chocosolver.memory.copying;
     exports org.chocosolver.memory.trailing;
     exports org.chocosolver.memory.trailing.trail;
     exports org.chocosolver.memory.trailing.trail.flatten;
@@ -132,6 +133,7 @@ module org.chocosolver.solver {
     requires org.jgrapht.core;
     requires automaton;
     requires sizeof;
+    requires java.management;
 
     opens org.chocosolver.memory to org.testng, sizeof;
     opens org.chocosolver.solver.constraints.unary to org.chocosolver.parsers, sizeof;
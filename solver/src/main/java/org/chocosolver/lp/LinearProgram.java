@@ -212,11 +212,11 @@ public class LinearProgram {
     // number of constraints
     int m;
     // a mxn matrix
-    private double[][] A;
+    double[][] A;
     // an m-vector
-    private double[] b;
+    double[] b;
     // an n-vector
-    private double[] c;
+    double[] c;
     // an n-vector
     double[] x;
     double z;
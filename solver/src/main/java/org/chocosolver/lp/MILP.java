@@ -38,6 +38,9 @@ import static org.chocosolver.lp.LinearProgram.Status.FEASIBLE;
  */
 public class MILP extends LinearProgram {
 
+    // tolerance under which a value is considered as integral
+    private static final double INTEGRALITY_TOL = 1e-6;
+
     // bits set to true indicate integer variables
     private final BitSet integers;
     // bits set to true indicate Boolean variables
@@ -169,19 +172,50 @@ public class MILP extends LinearProgram {
      */
     private boolean isIntegral(int i) {
         assert integers.get(i) : "non integer variable";
-        return Math.rint(x[i]) == x[i] && (!booleans.get(i) || !(x[i] > 1.));
+        return Math.abs(Math.rint(x[i]) - x[i]) <= INTEGRALITY_TOL && (!booleans.get(i) || !(x[i] > 1. + INTEGRALITY_TOL));
     }
 
 
     /**
-     * Drop the last <code>m</code> declared constraints.
+     * Build the linear relaxation of this, as a sparse linear program.
+     * Boolean variables are bounded by 1.
      *
-     * @param m number of constraints to drop
+     * @return the linear relaxation of this
      */
-    private void dropUntil(int m) {
-        while (this.m > m) {
-            dropLast();
+    private RevisedSimplex relaxation() {
+        RevisedSimplex lp = new RevisedSimplex();
+        for (int j = 0; j < n; j++) {
+            lp.makeVariable(0., booleans.get(j) ? 1. : Double.POSITIVE_INFINITY);
+        }
+        int[] idx = new int[n];
+        double[] coeffs = new double[n];
+        for (int i = 0; i < m; i++) {
+            int k = 0;
+            for (int j = 0; j < n; j++) {
+                if (A[i][j] != 0.) {
+                    idx[k] = j;
+                    coeffs[k++] = A[i][j];
+                }
+            }
+            lp.addLeq(Arrays.copyOf(idx, k), Arrays.copyOf(coeffs, k), b[i]);
         }
+        lp.setObjective(true, Arrays.copyOf(c, n));
+        return lp;
+    }
+
+    /**
+     * Copy the solution of the relaxation into this.
+     *
+     * @param lp the relaxation
+     */
+    private void readSolution(RevisedSimplex lp) {
+        if (this.x.length != n) {
+            this.x = new double[n];
+        }
+        for (int j = 0; j < n; j++) {
+            x[j] = lp.value(j);
+        }
+        z = lp.objective();
     }
 
     /**
@@ -205,65 +239,60 @@ public class MILP extends LinearProgram {
      * Otherwise, the optimal solution of this mixed integer linear program is computed and values of the variables
      * can be read calling {@link #value(int)}.
      * </p>
+     * <p>
+     * Relaxations are solved by a {@link RevisedSimplex}: a branch only modifies the bounds of a variable
+     * and each node is re-optimized by the dual simplex from the basis of its parent.
+     * </p>
      *
      * @return the resolution status
      * @implNote This method assumes that the objective is to be maximized
      */
     public Status branchAndBound(Score score) {
-        // 1. add equations to bound Boolean variables
-        int lastm = this.m;
-        for (int i = booleans.nextSetBit(0); i > -1; i = booleans.nextSetBit(i + 1)) {
-            addLeq(i, 1., 1.);
-        }
+        // 1. build the relaxation, Boolean variables are bounded by 1
+        RevisedSimplex lp = relaxation();
         // 2. check if the Simplex returns an integral solution (or claims that no solution exists)
-        Status relaxProb = simplex();
+        Status relaxProb = lp.simplex();
         if (!relaxProb.equals(FEASIBLE)) {
             // 2a. if no solution exists, terminate
-            // remove Boolean bounds
-            dropUntil(lastm);
+            this.status = relaxProb;
             return relaxProb;
         }
+        readSolution(lp);
+        this.status = FEASIBLE;
         if (isIntegral()) {
             // 2b. if solution is integral, thus optimal, terminate
-            // remove Boolean bounds
-            dropUntil(lastm);
             return relaxProb;
         }
-        System.out.printf("%s\n", Arrays.toString(x));
+        if (trace) System.out.printf("%s\n", Arrays.toString(x));
         // 3. look for integral optimal solution
         double bestObjective = Double.NEGATIVE_INFINITY;
         double[] bestX = null;
         Deque<Branching> branchings = new ArrayDeque<>();
         // 3a. partition the pb in two
         // this is expressed as binary decision
-        partition(branchings, score);
+        partition(branchings, score, lp);
         while (!branchings.isEmpty()) {
             Branching branch = branchings.getLast();
             // 3b. deal with backtrack
-            switch (branch.getBranch()) {
-                case 2:
-                    // if the top decision cannot be refuted, then remove it
-                    branchings.removeLast();
-                    dropLast();
-                    continue;
-                case 1:
-                    // if the top decision can be refuted, then refute it
-                    dropLast();
-                    break;
-                default:
-                case 0:
-                    // otherwise do nothing
-                    break;
+            if (branch.getBranch() == 2) {
+                // if the top decision cannot be refuted, then remove it
+                branchings.removeLast();
+                branch.undo(lp);
+                continue;
             }
             // 3c. restrict the search space
-            branch.apply(this);
+            if (!branch.apply(lp)) {
+                // empty domain, then backtrack
+                continue;
+            }
             if (trace) System.out.println("Branch on :" + branch);
             // 3d. check if the Simplex returns an integral solution
-            relaxProb = simplex();
+            relaxProb = lp.simplex();
             if (!relaxProb.equals(FEASIBLE)) {
                 // if the current search contains no solution, then backtrack
                 continue;
             }
+            readSolution(lp);
             double currentObjectiveValue = objective();
             if (currentObjectiveValue <= bestObjective) {
                 // if the current solution is not better, then backtrack
@@ -277,20 +306,21 @@ public class MILP extends LinearProgram {
                 continue;
             }
             // otherwise, partition the sub problem in two
-            partition(branchings, score);
+            partition(branchings, score, lp);
         }
         // 4. prepare result
         if (bestObjective > Double.NEGATIVE_INFINITY) {
             // if an integral optimal solution were found, then restore it
             this.status = Status.FEASIBLE;
+            for (int i = integers.nextSetBit(0); i > -1; i = integers.nextSetBit(i + 1)) {
+                bestX[i] = Math.rint(bestX[i]);
+            }
             System.arraycopy(bestX, 0, this.x, 0, n);
             this.z = bestObjective;
         } else {
             // if no solution were found
             this.status = Status.INFEASIBLE;
         }
-        // remove Boolean bounds
-        dropUntil(lastm);
         return status;
     }
 
@@ -304,8 +334,9 @@ public class MILP extends LinearProgram {
      *
      * @param branchings the branching queue to fill
      * @param score      the scoring function
+     * @param lp         the relaxation, whose current basis is recorded for the second branch
      */
-    private void partition(Deque<Branching> branchings, Score score) {
+    private void partition(Deque<Branching> branchings, Score score, RevisedSimplex lp) {
         double scoring = Double.POSITIVE_INFINITY;
         int idx = -1;
         for (int i = integers.nextSetBit(0); i > -1; i = integers.nextSetBit(i + 1)) {
@@ -319,11 +350,11 @@ public class MILP extends LinearProgram {
             }
         }
         if (idx > -1) {
-            int val = (int) value(idx);
+            int val = (int) Math.floor(value(idx));
             if (booleans.get(idx)) {
                 val = 0;
             }
-            branchings.addLast(new Branching(idx, val));
+            branchings.addLast(new Branching(idx, val, lp));
         }
     }
 
@@ -339,22 +370,29 @@ public class MILP extends LinearProgram {
      * <br/>
      * A Branching object reduces the domain of a variable <i>var</i> with respect to an integer value <i>val</i>.
      * <br/>
-     * It has four states, denoted by <i>branch</i>:
+     * It has three states, denoted by <i>branch</i>:
      * <ul>
      *     <li>0: the branching is created, but not applied</li>
-     *     <li>1: (var &le; val) is added to the MILP</li>
-     *     <li>2: (var &ge; val +1) is added to the MILP</li>
-     *     <li>3: the branching is unavailable</li>
+     *     <li>1: (var &le; val) is applied to the relaxation</li>
+     *     <li>2: (var &ge; val +1) is applied to the relaxation</li>
      * </ul>
+     * The bounds of <i>var</i> and the basis of the relaxation when the branching is created
+     * are recorded, so that the second branch restarts from the same basis as the first one.
      */
     private static class Branching {
         private final int var;
         private final int val;
+        private final double lb;
+        private final double ub;
+        private final int[] basis;
         private int branch;
 
-        public Branching(int var, int val) {
+        public Branching(int var, int val, RevisedSimplex lp) {
             this.var = var;
             this.val = val;
+            this.lb = lp.getLB(var);
+            this.ub = lp.getUB(var);
+            this.basis = lp.getBasis();
             this.branch = 0;
         }
 
@@ -362,16 +400,35 @@ public class MILP extends LinearProgram {
             return branch;
         }
 
-        void apply(MILP milp) {
+        /**
+         * Apply the next branch to the relaxation.
+         *
+         * @param lp the relaxation
+         * @return <i>false</i> if the branch empties the domain of the variable
+         */
+        boolean apply(RevisedSimplex lp) {
             branch++;
             switch (branch) {
                 case 1:
-                    milp.addLeq(var, 1, val);
+                    if (val < lb) return false;
+                    lp.setBounds(var, lb, Math.min(ub, val));
                     break;
                 case 2:
-                    milp.addGeq(var, 1, val + 1);
+                    if (val + 1 > ub) return false;
+                    lp.setBasis(basis);
+                    lp.setBounds(var, Math.max(lb, val + 1), ub);
                     break;
             }
+            return true;
+        }
+
+        /**
+         * Restore the bounds of the variable.
+         *
+         * @param lp the relaxation
+         */
+        void undo(RevisedSimplex lp) {
+            lp.setBounds(var, lb, ub);
         }
 
         @Override
@@ -384,8 +441,6 @@ public class MILP extends LinearProgram {
                 case 1:
                     st += "x_" + (var + 1) + " <= " + val;
                     break;
-                case 3:
-                    st += "end ";
                 case 2:
                     st += "x_" + (var + 1) + " >= " + (val + 1);
                     break;
@@ -0,0 +1,1062 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.lp;
+
+import org.chocosolver.lp.LinearProgram.Status;
+
+import java.util.Arrays;
+
+/**
+ * <p>A sparse linear program, equipped with a bounded revised simplex method.</p>
+ * <p>
+ * Unlike {@link LinearProgram}, which works on a dense tableau, this class only stores the nonzero
+ * coefficients of the constraint matrix (column-wise), and represents the inverse of the basis
+ * in product form (a file of eta vectors), periodically rebuilt.
+ * Variables and rows are bounded: <i>lb<sub>j</sub> &le; x<sub>j</sub> &le; ub<sub>j</sub></i> and
+ * <i>lb<sub>i</sub> &le; a<sub>i</sub>.x &le; ub<sub>i</sub></i>, where bounds may be infinite.
+ * </p>
+ * <p>
+ * The basis reached by a call to {@link #simplex()} is kept, so that the next call restarts from it.
+ * When only bounds were modified in between, as in branch-and-bound or within a propagator,
+ * the basis remains dual feasible and the dual simplex, with a bound-flipping ratio test,
+ * reaches the new optimum in few iterations.
+ * Otherwise, a primal simplex (with a phase one minimizing the sum of infeasibilities) is run.
+ * A basis can also be captured with {@link #getBasis()} and restored with {@link #setBasis(int[])}.
+ * </p>
+ * <pre> {@code
+ * RevisedSimplex lp = new RevisedSimplex();
+ * int x = lp.makeVariable();
+ * int y = lp.makeVariable(0, 10);
+ * lp.addLeq(new int[]{x, y}, new double[]{4, 3}, 36);
+ * lp.addLeq(new int[]{x, y}, new double[]{2, 3}, 48);
+ * lp.setObjective(true, new double[]{5, 7});
+ * if (lp.simplex() == Status.FEASIBLE) {
+ *     double z = lp.objective();
+ *     lp.setBounds(x, 0, 2); // then re-optimize from the current basis
+ *     lp.simplex();
+ * }
+ * }</pre>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class RevisedSimplex {
+
+    /**
+     * Status of a nonbasic variable at its lower bound
+     */
+    public static final int AT_LOWER = 0;
+    /**
+     * Status of a nonbasic variable at its upper bound
+     */
+    public static final int AT_UPPER = 1;
+    /**
+     * Status of a nonbasic free variable, set to 0
+     */
+    public static final int FREE = 2;
+    /**
+     * Status of a basic variable
+     */
+    public static final int BASIC = 3;
+
+    private static final double PRIMAL_TOL = 1e-7;
+    private static final double DUAL_TOL = 1e-7;
+    private static final double PIVOT_TOL = 1e-9;
+    private static final double DROP_TOL = 1e-13;
+    /**
+     * Number of basis updates before the product form is rebuilt from scratch
+     */
+    private static final int REFACTOR = 64;
+    /**
+     * Number of consecutive degenerate pivots before switching to Bland's rule
+     */
+    private static final int DEGENERATE = 50;
+
+    // number of structural variables
+    private int n;
+    // number of rows, each row i comes with a logical variable, indexed n + i
+    private int m;
+    // bounds and costs of all variables (structural then logical), costs are to be minimized
+    private double[] lb = new double[16];
+    private double[] ub = new double[16];
+    private double[] cost = new double[16];
+    // current value and status of all variables
+    private double[] x = new double[16];
+    private int[] stat = new int[16];
+    // set to -1 when the objective is to be maximized
+    private double sense = 1.;
+
+    // the rows, as entered
+    private int[] rStart = new int[17];
+    private int[] rIdx = new int[16];
+    private double[] rVal = new double[16];
+    // the same matrix, column-wise, rebuilt lazily
+    private int[] cStart = new int[1];
+    private int[] cIdx = new int[0];
+    private double[] cVal = new double[0];
+    private boolean columnsOutdated;
+
+    // basic variable of each row
+    private int[] head = new int[16];
+    // the eta file: B^-1 = E_k ... E_1
+    private int nEta;
+    private int[] etaRow = new int[16];
+    private double[] etaPiv = new double[16];
+    private int[] etaStart = new int[17];
+    private int[] etaIdx = new int[64];
+    private double[] etaVal = new double[64];
+    private int updates;
+    private boolean invertNeeded;
+
+    // working m-vectors
+    private double[] work = new double[16];
+    private double[] y = new double[16];
+    private double[] rho = new double[16];
+    // reduced costs of all variables
+    private double[] d = new double[16];
+    // candidates of the bound-flipping ratio test
+    private int[] cand = new int[16];
+    private double[] ratio = new double[16];
+    private double[] alphaR = new double[16];
+
+    private Status status = Status.UNKNOWN;
+    private long iterations;
+    private int maxIterations = Integer.MAX_VALUE;
+
+    /**
+     * Create an empty linear program.
+     */
+    public RevisedSimplex() {
+    }
+
+    /**
+     * Declare a new nonnegative variable (&ge; 0).
+     *
+     * @return the index of the variable
+     */
+    public int makeVariable() {
+        return makeVariable(0., Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Declare a new variable.
+     *
+     * @param lb lower bound of the variable, may be {@link Double#NEGATIVE_INFINITY}
+     * @param ub upper bound of the variable, may be {@link Double#POSITIVE_INFINITY}
+     * @return the index of the variable
+     */
+    public int makeVariable(double lb, double ub) {
+        if (m > 0) {
+            throw new UnsupportedOperationException("Some constraints are already declared");
+        }
+        ensureVariables(n + 1);
+        int j = n++;
+        this.lb[j] = lb;
+        this.ub[j] = ub;
+        this.cost[j] = 0.;
+        this.stat[j] = AT_LOWER;
+        placeNonbasic(j);
+        return j;
+    }
+
+    /**
+     * Declare <i>n</i> new nonnegative variables
+     *
+     * @param n number of variables to declare
+     */
+    public void makeVariables(int n) {
+        for (int i = 0; i < n; i++) {
+            makeVariable();
+        }
+    }
+
+    /**
+     * @return the number of variables declared
+     */
+    public int nbVariables() {
+        return n;
+    }
+
+    /**
+     * @return the number of rows declared
+     */
+    public int nbRows() {
+        return m;
+    }
+
+    /**
+     * Set the objective function to optimize
+     *
+     * @param maximize set to <i>true</i> for maximization, <i>false</i> otherwise
+     * @param ci       coefficients of the objective function, one per variable
+     */
+    public void setObjective(boolean maximize, double[] ci) {
+        if (ci.length != n) {
+            throw new UnsupportedOperationException("" +
+                    "The number of coefficients in the objective function differs from " +
+                    "the number of variables declared.");
+        }
+        sense = maximize ? -1. : 1.;
+        for (int j = 0; j < n; j++) {
+            cost[j] = sense * ci[j];
+        }
+    }
+
+    /**
+     * Add a row <i>lb &le; &Sigma; c<sub>k</sub>.x<sub>vars[k]</sub> &le; ub</i>.
+     * A variable may appear more than once, its coefficients are then summed.
+     * The current basis is kept: the logical variable of the new row becomes basic.
+     *
+     * @param vars   indices of the variables
+     * @param coeffs coefficients of the variables
+     * @param lb     lower bound of the row, may be {@link Double#NEGATIVE_INFINITY}
+     * @param ub     upper bound of the row, may be {@link Double#POSITIVE_INFINITY}
+     * @return the index of the row
+     */
+    public int addRow(int[] vars, double[] coeffs, double lb, double ub) {
+        if (vars.length != coeffs.length) {
+            throw new IllegalArgumentException("vars and coeffs must have the same length");
+        }
+        int i = m;
+        int nnz = rStart[i];
+        if (rStart.length < i + 2) {
+            rStart = Arrays.copyOf(rStart, (i + 2) * 3 / 2 + 1);
+        }
+        if (rIdx.length < nnz + vars.length) {
+            int cap = Math.max(nnz + vars.length, rIdx.length * 3 / 2);
+            rIdx = Arrays.copyOf(rIdx, cap);
+            rVal = Arrays.copyOf(rVal, cap);
+        }
+        for (int k = 0; k < vars.length; k++) {
+            if (vars[k] < 0 || vars[k] >= n) {
+                throw new IllegalArgumentException("Unknown variable " + vars[k]);
+            }
+            if (coeffs[k] != 0.) {
+                rIdx[nnz] = vars[k];
+                rVal[nnz++] = coeffs[k];
+            }
+        }
+        rStart[i + 1] = nnz;
+        ensureVariables(n + m + 1);
+        ensureRows(m + 1);
+        m++;
+        // the logical variable r_i satisfies a_i.x + r_i = 0, hence -ub <= r_i <= -lb
+        int l = n + i;
+        this.lb[l] = -ub;
+        this.ub[l] = -lb;
+        this.cost[l] = 0.;
+        this.stat[l] = BASIC;
+        this.head[i] = l;
+        columnsOutdated = true;
+        invertNeeded = true;
+        return i;
+    }
+
+    /**
+     * Add a linear inequality (&le;) to the system.
+     *
+     * @param vars   indices of the variables
+     * @param coeffs coefficients of the variables
+     * @param b      the right-hand side value
+     * @return the index of the row
+     */
+    public int addLeq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, Double.NEGATIVE_INFINITY, b);
+    }
+
+    /**
+     * Add a linear inequality (&ge;) to the system.
+     *
+     * @param vars   indices of the variables
+     * @param coeffs coefficients of the variables
+     * @param b      the right-hand side value
+     * @return the index of the row
+     */
+    public int addGeq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, b, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Add a linear equality (=) to the system.
+     *
+     * @param vars   indices of the variables
+     * @param coeffs coefficients of the variables
+     * @param b      the right-hand side value
+     * @return the index of the row
+     */
+    public int addEq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, b, b);
+    }
+
+    /**
+     * Modify the bounds of a variable.
+     * The current basis is kept, a nonbasic variable is moved to its (new) bound.
+     *
+     * @param j  index of the variable
+     * @param lb new lower bound
+     * @param ub new upper bound
+     */
+    public void setBounds(int j, double lb, double ub) {
+        this.lb[j] = lb;
+        this.ub[j] = ub;
+        if (stat[j] != BASIC) {
+            placeNonbasic(j);
+        }
+    }
+
+    /**
+     * Modify the bounds of a row.
+     *
+     * @param i  index of the row
+     * @param lb new lower bound
+     * @param ub new upper bound
+     */
+    public void setRowBounds(int i, double lb, double ub) {
+        setBounds(n + i, -ub, -lb);
+    }
+
+    /**
+     * @param j index of a variable
+     * @return the lower bound of the variable
+     */
+    public double getLB(int j) {
+        return lb[j];
+    }
+
+    /**
+     * @param j index of a variable
+     * @return the upper bound of the variable
+     */
+    public double getUB(int j) {
+        return ub[j];
+    }
+
+    /**
+     * Set the maximum number of iterations of each call to {@link #simplex()}.
+     * When reached, the status is {@link Status#UNKNOWN}.
+     *
+     * @param maxIterations maximum number of iterations
+     */
+    public void setMaxIterations(int maxIterations) {
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return the total number of simplex iterations done so far
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Capture the current basis, that is the status of the <i>n + m</i> variables
+     * ({@link #AT_LOWER}, {@link #AT_UPPER}, {@link #FREE} or {@link #BASIC}).
+     *
+     * @return a copy of the current basis
+     */
+    public int[] getBasis() {
+        return Arrays.copyOf(stat, n + m);
+    }
+
+    /**
+     * Restore a basis previously captured with {@link #getBasis()}.
+     * If some rows were added since, their logical variables are basic.
+     * A basis that turns out to be singular is repaired with logical variables.
+     *
+     * @param basis a basis
+     */
+    public void setBasis(int[] basis) {
+        for (int j = 0; j < n + m; j++) {
+            stat[j] = j < basis.length ? basis[j] : BASIC;
+            if (stat[j] != BASIC) {
+                placeNonbasic(j);
+            }
+        }
+        invertNeeded = true;
+    }
+
+    /**
+     * Run the simplex method on this linear program, starting from the current basis.
+     * <p>If the problem is infeasible, this method terminates.
+     * Otherwise, the optimal solution of this linear program is computed and values of the variables
+     * can be read calling {@link #value(int)}.
+     * </p>
+     *
+     * @return the resolution status
+     */
+    public Status simplex() {
+        if (columnsOutdated) {
+            buildColumns();
+        }
+        status = null;
+        if (makeDualFeasible()) {
+            status = dualSimplex(Math.min(maxIterations, 50 * (n + m) + 1000));
+        }
+        if (status == null) {
+            status = primalSimplex(maxIterations);
+        }
+        if (status == Status.FEASIBLE) {
+            computePrimal();
+            computeDual();
+        }
+        return status;
+    }
+
+    /**
+     * @return <i>true</i> if the last call to {@link #simplex()} computed the (optimal) solution.
+     */
+    public boolean isFeasible() {
+        return status == Status.FEASIBLE;
+    }
+
+    /**
+     * @return the status of the last call to {@link #simplex()}
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Return the value of the j<sup>th</sup> variable in the linear program.
+     *
+     * @param j index of the variable.
+     * @return the value assigned the j<sup>th</sup> variable in this linear program.
+     */
+    public double value(int j) {
+        return x[j];
+    }
+
+    /**
+     * Return the activity of the i<sup>th</sup> row, that is <i>a<sub>i</sub>.x</i>.
+     *
+     * @param i index of the row
+     * @return the activity of the row
+     */
+    public double rowActivity(int i) {
+        return -x[n + i];
+    }
+
+    /**
+     * Return the value of the objective function defined in this linear program.
+     * <p>
+     * If this is not feasible, returns {@link Double#NEGATIVE_INFINITY} when maximizing
+     * and {@link Double#POSITIVE_INFINITY} otherwise.
+     * </p>
+     *
+     * @return the value of the objective function.
+     */
+    public double objective() {
+        if (!isFeasible()) {
+            return sense < 0 ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        double z = 0.;
+        for (int j = 0; j < n; j++) {
+            z += cost[j] * x[j];
+        }
+        return sense * z;
+    }
+
+    /**
+     * Return the reduced cost of the j<sup>th</sup> variable, in the sense of the objective.
+     * Increasing a nonbasic variable by <i>&delta;</i> changes the objective by <i>&delta;</i>
+     * times its reduced cost.
+     *
+     * @param j index of the variable
+     * @return the reduced cost of the variable
+     */
+    public double reducedCost(int j) {
+        return stat[j] == BASIC ? 0. : sense * d[j];
+    }
+
+    /**
+     * Return the dual value of the i<sup>th</sup> row, in the sense of the objective.
+     *
+     * @param i index of the row
+     * @return the dual value of the row
+     */
+    public double dual(int i) {
+        return sense * y[i];
+    }
+
+    /**
+     * @param j index of a variable
+     * @return <i>true</i> if the variable is basic
+     */
+    public boolean isBasic(int j) {
+        return stat[j] == BASIC;
+    }
+
+    //***********************************************************************************
+    // PRIMAL SIMPLEX
+    //***********************************************************************************
+
+    /**
+     * Bounded primal simplex with a composite phase one.
+     *
+     * @param limit maximum number of iterations
+     * @return the resolution status
+     */
+    private Status primalSimplex(int limit) {
+        int degenerate = 0;
+        for (int it = 0; it < limit; it++) {
+            if (invertNeeded || updates >= REFACTOR) {
+                invert();
+            }
+            computePrimal();
+            boolean phase1 = false;
+            for (int i = 0; i < m; i++) {
+                int k = head[i];
+                if (x[k] < lb[k] - PRIMAL_TOL) {
+                    y[i] = -1.;
+                    phase1 = true;
+                } else if (x[k] > ub[k] + PRIMAL_TOL) {
+                    y[i] = 1.;
+                    phase1 = true;
+                } else {
+                    y[i] = 0.;
+                }
+            }
+            if (!phase1) {
+                for (int i = 0; i < m; i++) {
+                    y[i] = cost[head[i]];
+                }
+            }
+            btran(y);
+            // pricing: Dantzig's rule, or Bland's rule on degeneracy
+            boolean bland = degenerate > DEGENERATE;
+            int q = -1;
+            int dir = 0;
+            double best = 0.;
+            for (int j = 0; j < n + m; j++) {
+                int s = stat[j];
+                if (s == BASIC || lb[j] == ub[j]) continue;
+                double dj = (phase1 ? 0. : cost[j]) - dot(j, y);
+                int dj_dir = 0;
+                if (dj < -DUAL_TOL && (s != AT_UPPER)) {
+                    dj_dir = 1;
+                } else if (dj > DUAL_TOL && (s != AT_LOWER)) {
+                    dj_dir = -1;
+                }
+                if (dj_dir != 0 && Math.abs(dj) > best) {
+                    best = Math.abs(dj);
+                    q = j;
+                    dir = dj_dir;
+                    if (bland) break;
+                }
+            }
+            if (q < 0) {
+                return phase1 ? Status.INFEASIBLE : Status.FEASIBLE;
+            }
+            iterations++;
+            loadColumn(q, work);
+            ftran(work);
+            // Harris' ratio test: first, the largest step with bounds relaxed by the tolerance
+            double tmax = ub[q] - lb[q];
+            double harris = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < m; i++) {
+                double a = dir * work[i];
+                if (Math.abs(a) < PIVOT_TOL) continue;
+                double bound = primalBound(head[i], a, phase1);
+                if (Double.isNaN(bound)) continue;
+                double t = (Math.abs(x[head[i]] - bound) + PRIMAL_TOL) / Math.abs(a);
+                if (t < harris) harris = t;
+            }
+            // then, among the rows blocking before this step, the largest pivot
+            double tbest = Double.POSITIVE_INFINITY;
+            int r = -1;
+            double rbound = 0.;
+            double rpiv = 0.;
+            for (int i = 0; i < m; i++) {
+                double a = dir * work[i];
+                if (Math.abs(a) < PIVOT_TOL) continue;
+                int k = head[i];
+                double bound = primalBound(k, a, phase1);
+                if (Double.isNaN(bound)) continue;
+                double t = Math.max(0., a > 0 ? (x[k] - bound) / a : (bound - x[k]) / -a);
+                if (t <= harris && (r < 0 || (bland ? k < head[r] : Math.abs(a) > rpiv))) {
+                    tbest = t;
+                    r = i;
+                    rbound = bound;
+                    rpiv = Math.abs(a);
+                }
+            }
+            if (r < 0 && tmax == Double.POSITIVE_INFINITY) {
+                return phase1 ? Status.UNKNOWN : Status.UNBOUNDED;
+            }
+            if (tmax <= tbest) {
+                // bound flip, the basis does not change
+                stat[q] = dir > 0 ? AT_UPPER : AT_LOWER;
+                x[q] = dir > 0 ? ub[q] : lb[q];
+                degenerate = 0;
+                continue;
+            }
+            degenerate = tbest < PRIMAL_TOL ? degenerate + 1 : 0;
+            int k = head[r];
+            stat[k] = rbound == lb[k] ? AT_LOWER : AT_UPPER;
+            x[k] = rbound;
+            x[q] += dir * tbest;
+            pivot(q, r);
+        }
+        return Status.UNKNOWN;
+    }
+
+    /**
+     * Return the bound a basic variable <i>k</i> would reach first in the primal ratio test,
+     * or {@link Double#NaN} if it does not block.
+     *
+     * @param k      a basic variable
+     * @param a      its rate of decrease
+     * @param phase1 <i>true</i> when minimizing the sum of infeasibilities
+     */
+    private double primalBound(int k, double a, boolean phase1) {
+        double v = x[k];
+        double bound;
+        if (a > 0) {
+            // the basic variable decreases
+            if (phase1 && v > ub[k] + PRIMAL_TOL) {
+                bound = ub[k];
+            } else if (phase1 && v < lb[k] - PRIMAL_TOL) {
+                return Double.NaN;
+            } else {
+                bound = lb[k];
+            }
+            return bound == Double.NEGATIVE_INFINITY ? Double.NaN : bound;
+        } else {
+            // the basic variable increases
+            if (phase1 && v < lb[k] - PRIMAL_TOL) {
+                bound = lb[k];
+            } else if (phase1 && v > ub[k] + PRIMAL_TOL) {
+                return Double.NaN;
+            } else {
+                bound = ub[k];
+            }
+            return bound == Double.POSITIVE_INFINITY ? Double.NaN : bound;
+        }
+    }
+
+    //***********************************************************************************
+    // DUAL SIMPLEX
+    //***********************************************************************************
+
+    /**
+     * Compute reduced costs and flip boxed nonbasic variables whose reduced cost has the wrong sign.
+     *
+     * @return <i>false</i> if the current basis cannot be made dual feasible by flips
+     */
+    private boolean makeDualFeasible() {
+        if (invertNeeded || updates >= REFACTOR) {
+            invert();
+        }
+        computeDual();
+        for (int j = 0; j < n + m; j++) {
+            int s = stat[j];
+            if (s == BASIC || lb[j] == ub[j]) continue;
+            double dj = d[j];
+            if ((dj < -DUAL_TOL && s != AT_UPPER) || (dj > DUAL_TOL && s != AT_LOWER)) {
+                boolean boxed = lb[j] > Double.NEGATIVE_INFINITY && ub[j] < Double.POSITIVE_INFINITY;
+                if (!boxed) {
+                    return false;
+                }
+                stat[j] = dj < 0 ? AT_UPPER : AT_LOWER;
+                x[j] = dj < 0 ? ub[j] : lb[j];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bounded dual simplex, with a bound-flipping ratio test.
+     * The current basis is assumed to be dual feasible.
+     *
+     * @param limit maximum number of iterations
+     * @return the resolution status, or <i>null</i> if dual feasibility was lost
+     * or the iteration limit is reached, in which case the primal simplex takes over
+     */
+    private Status dualSimplex(int limit) {
+        for (int it = 0; it < limit; it++) {
+            if (it > 0 && !makeDualFeasible()) {
+                return null;
+            }
+            computePrimal();
+            // choose the leaving row, the most infeasible one
+            int r = -1;
+            double worst = PRIMAL_TOL;
+            for (int i = 0; i < m; i++) {
+                int k = head[i];
+                double inf = Math.max(lb[k] - x[k], x[k] - ub[k]);
+                if (inf > worst) {
+                    worst = inf;
+                    r = i;
+                }
+            }
+            if (r < 0) {
+                return Status.FEASIBLE;
+            }
+            iterations++;
+            int p = head[r];
+            int s = x[p] < lb[p] ? 1 : -1;
+            double target = s > 0 ? lb[p] : ub[p];
+            Arrays.fill(rho, 0, m, 0.);
+            rho[r] = 1.;
+            btran(rho);
+            // collect the candidates
+            int nc = 0;
+            for (int j = 0; j < n + m; j++) {
+                int sj = stat[j];
+                if (sj == BASIC || lb[j] == ub[j]) continue;
+                double arj = dot(j, rho);
+                if ((sj == AT_LOWER && s * arj < -PIVOT_TOL)
+                        || (sj == AT_UPPER && s * arj > PIVOT_TOL)
+                        || (sj == FREE && Math.abs(arj) > PIVOT_TOL)) {
+                    if (nc == cand.length) {
+                        cand = Arrays.copyOf(cand, nc * 2);
+                        ratio = Arrays.copyOf(ratio, nc * 2);
+                        alphaR = Arrays.copyOf(alphaR, nc * 2);
+                    }
+                    cand[nc] = j;
+                    ratio[nc] = Math.abs(d[j]) / Math.abs(arj);
+                    alphaR[nc++] = arj;
+                }
+            }
+            if (nc == 0) {
+                return Status.INFEASIBLE;
+            }
+            sort(cand, ratio, alphaR, 0, nc - 1);
+            // bound-flipping ratio test: pass over breakpoints as long as the slope remains positive
+            double slope = Math.abs(x[p] - target);
+            int c = 0;
+            for (; c < nc - 1; c++) {
+                int j = cand[c];
+                double range = ub[j] - lb[j];
+                if (range == Double.POSITIVE_INFINITY) break;
+                double next = slope - Math.abs(alphaR[c]) * range;
+                if (next <= 0.) break;
+                slope = next;
+            }
+            // Harris' ratio test on the remaining breakpoints, to prefer large pivots
+            double harris = Double.POSITIVE_INFINITY;
+            for (int c2 = c; c2 < nc; c2++) {
+                harris = Math.min(harris, (Math.abs(d[cand[c2]]) + DUAL_TOL / 2) / Math.abs(alphaR[c2]));
+            }
+            int e = c;
+            for (int c2 = c + 1; c2 < nc && ratio[c2] <= harris; c2++) {
+                if (Math.abs(alphaR[c2]) > Math.abs(alphaR[e])) e = c2;
+            }
+            for (int c2 = 0; c2 < c; c2++) {
+                int j = cand[c2];
+                if (stat[j] == AT_LOWER) {
+                    stat[j] = AT_UPPER;
+                    x[j] = ub[j];
+                } else {
+                    stat[j] = AT_LOWER;
+                    x[j] = lb[j];
+                }
+            }
+            int q = cand[e];
+            loadColumn(q, work);
+            ftran(work);
+            if (Math.abs(work[r]) < PIVOT_TOL) {
+                if (updates == 0) {
+                    return null;
+                }
+                // numerical trouble, rebuild the inverse and try again
+                invertNeeded = true;
+                continue;
+            }
+            stat[p] = s > 0 ? AT_LOWER : AT_UPPER;
+            x[p] = target;
+            pivot(q, r);
+        }
+        return null;
+    }
+
+    //***********************************************************************************
+    // LINEAR ALGEBRA
+    //***********************************************************************************
+
+    /**
+     * Basic values, from nonbasic ones: x<sub>B</sub> = -B<sup>-1</sup>N.x<sub>N</sub>.
+     */
+    private void computePrimal() {
+        Arrays.fill(work, 0, m, 0.);
+        for (int j = 0; j < n; j++) {
+            if (stat[j] != BASIC && x[j] != 0.) {
+                double v = x[j];
+                for (int k = cStart[j]; k < cStart[j + 1]; k++) {
+                    work[cIdx[k]] -= cVal[k] * v;
+                }
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            if (stat[n + i] != BASIC) {
+                work[i] -= x[n + i];
+            }
+        }
+        ftran(work);
+        for (int i = 0; i < m; i++) {
+            x[head[i]] = work[i];
+        }
+    }
+
+    /**
+     * Dual values and reduced costs: y = c<sub>B</sub>B<sup>-1</sup> and d = c - y.A
+     */
+    private void computeDual() {
+        for (int i = 0; i < m; i++) {
+            y[i] = cost[head[i]];
+        }
+        btran(y);
+        for (int j = 0; j < n + m; j++) {
+            if (stat[j] == BASIC) {
+                d[j] = 0.;
+            } else {
+                d[j] = cost[j] - dot(j, y);
+            }
+        }
+    }
+
+    private double dot(int j, double[] v) {
+        if (j >= n) {
+            return v[j - n];
+        }
+        double s = 0.;
+        for (int k = cStart[j]; k < cStart[j + 1]; k++) {
+            s += cVal[k] * v[cIdx[k]];
+        }
+        return s;
+    }
+
+    private void loadColumn(int j, double[] v) {
+        Arrays.fill(v, 0, m, 0.);
+        if (j >= n) {
+            v[j - n] = 1.;
+        } else {
+            for (int k = cStart[j]; k < cStart[j + 1]; k++) {
+                v[cIdx[k]] += cVal[k];
+            }
+        }
+    }
+
+    /**
+     * Solve B.v' = v in place.
+     */
+    private void ftran(double[] v) {
+        for (int e = 0; e < nEta; e++) {
+            int p = etaRow[e];
+            double vp = v[p];
+            if (vp == 0.) continue;
+            vp /= etaPiv[e];
+            v[p] = vp;
+            for (int k = etaStart[e]; k < etaStart[e + 1]; k++) {
+                v[etaIdx[k]] -= etaVal[k] * vp;
+            }
+        }
+    }
+
+    /**
+     * Solve v'.B = v in place.
+     */
+    private void btran(double[] v) {
+        for (int e = nEta - 1; e >= 0; e--) {
+            int p = etaRow[e];
+            double s = v[p];
+            for (int k = etaStart[e]; k < etaStart[e + 1]; k++) {
+                s -= etaVal[k] * v[etaIdx[k]];
+            }
+            v[p] = s / etaPiv[e];
+        }
+    }
+
+    /**
+     * Append the eta vector built from <i>alpha</i> = B<sup>-1</sup>a<sub>q</sub> and pivot row <i>r</i>.
+     */
+    private void pushEta(double[] alpha, int r) {
+        if (nEta == etaRow.length) {
+            etaRow = Arrays.copyOf(etaRow, nEta * 2);
+            etaPiv = Arrays.copyOf(etaPiv, nEta * 2);
+            etaStart = Arrays.copyOf(etaStart, nEta * 2 + 1);
+        }
+        int nnz = etaStart[nEta];
+        for (int i = 0; i < m; i++) {
+            if (i != r && Math.abs(alpha[i]) > DROP_TOL) {
+                if (nnz == etaIdx.length) {
+                    etaIdx = Arrays.copyOf(etaIdx, nnz * 2);
+                    etaVal = Arrays.copyOf(etaVal, nnz * 2);
+                }
+                etaIdx[nnz] = i;
+                etaVal[nnz++] = alpha[i];
+            }
+        }
+        etaRow[nEta] = r;
+        etaPiv[nEta] = alpha[r];
+        etaStart[++nEta] = nnz;
+    }
+
+    /**
+     * Variable <i>q</i> enters the basis in row <i>r</i>, <i>work</i> holds B<sup>-1</sup>a<sub>q</sub>.
+     */
+    private void pivot(int q, int r) {
+        pushEta(work, r);
+        head[r] = q;
+        stat[q] = BASIC;
+        updates++;
+    }
+
+    /**
+     * Rebuild the product form of the inverse of the basis made of the variables whose status is {@link #BASIC}.
+     * Starting from the identity (the logical basis), each basic structural variable is pivoted in,
+     * on the row with the largest magnitude among those whose logical variable is not basic.
+     * Structural variables that cannot be pivoted in are made nonbasic and replaced by logical variables.
+     */
+    private void invert() {
+        if (columnsOutdated) {
+            buildColumns();
+        }
+        nEta = 0;
+        etaStart[0] = 0;
+        updates = 0;
+        invertNeeded = false;
+        boolean[] locked = new boolean[m];
+        for (int i = 0; i < m; i++) {
+            head[i] = n + i;
+            locked[i] = stat[n + i] == BASIC;
+        }
+        for (int j = 0; j < n; j++) {
+            if (stat[j] != BASIC) continue;
+            loadColumn(j, work);
+            ftran(work);
+            int r = -1;
+            double best = PIVOT_TOL * 1e3;
+            for (int i = 0; i < m; i++) {
+                if (!locked[i] && Math.abs(work[i]) > best) {
+                    best = Math.abs(work[i]);
+                    r = i;
+                }
+            }
+            if (r < 0) {
+                stat[j] = AT_LOWER;
+                placeNonbasic(j);
+                continue;
+            }
+            pushEta(work, r);
+            head[r] = j;
+            locked[r] = true;
+        }
+        for (int i = 0; i < m; i++) {
+            if (!locked[i]) {
+                stat[n + i] = BASIC;
+            }
+        }
+        updates = 0;
+    }
+
+    private void buildColumns() {
+        int nnz = rStart[m];
+        int[] start = new int[n + 1];
+        for (int k = 0; k < nnz; k++) {
+            start[rIdx[k] + 1]++;
+        }
+        for (int j = 0; j < n; j++) {
+            start[j + 1] += start[j];
+        }
+        int[] pos = Arrays.copyOf(start, n);
+        int[] idx = new int[nnz];
+        double[] val = new double[nnz];
+        for (int i = 0; i < m; i++) {
+            for (int k = rStart[i]; k < rStart[i + 1]; k++) {
+                int p = pos[rIdx[k]]++;
+                idx[p] = i;
+                val[p] = rVal[k];
+            }
+        }
+        cStart = start;
+        cIdx = idx;
+        cVal = val;
+        columnsOutdated = false;
+    }
+
+    //***********************************************************************************
+    // UTILITIES
+    //***********************************************************************************
+
+    /**
+     * Put a nonbasic variable on a finite bound, if any, keeping it on its upper bound if it was there.
+     */
+    private void placeNonbasic(int j) {
+        boolean finiteL = lb[j] > Double.NEGATIVE_INFINITY;
+        boolean finiteU = ub[j] < Double.POSITIVE_INFINITY;
+        if (finiteU && (stat[j] == AT_UPPER || !finiteL)) {
+            stat[j] = AT_UPPER;
+            x[j] = ub[j];
+        } else if (finiteL) {
+            stat[j] = AT_LOWER;
+            x[j] = lb[j];
+        } else {
+            stat[j] = FREE;
+            x[j] = 0.;
+        }
+    }
+
+    private void ensureVariables(int size) {
+        if (lb.length < size) {
+            int cap = Math.max(size, lb.length * 3 / 2);
+            lb = Arrays.copyOf(lb, cap);
+            ub = Arrays.copyOf(ub, cap);
+            cost = Arrays.copyOf(cost, cap);
+            x = Arrays.copyOf(x, cap);
+            stat = Arrays.copyOf(stat, cap);
+            d = Arrays.copyOf(d, cap);
+        }
+    }
+
+    private void ensureRows(int size) {
+        if (head.length < size) {
+            int cap = Math.max(size, head.length * 3 / 2);
+            head = Arrays.copyOf(head, cap);
+            work = Arrays.copyOf(work, cap);
+            y = Arrays.copyOf(y, cap);
+            rho = Arrays.copyOf(rho, cap);
+        }
+    }
+
+    /**
+     * Sort candidates by increasing ratio (quicksort on parallel arrays).
+     */
+    private static void sort(int[] cand, double[] ratio, double[] alpha, int lo, int hi) {
+        while (lo < hi) {
+            double pivot = ratio[(lo + hi) >>> 1];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (ratio[i] < pivot) i++;
+                while (ratio[j] > pivot) j--;
+                if (i <= j) {
+                    int tc = cand[i];
+                    cand[i] = cand[j];
+                    cand[j] = tc;
+                    double tr = ratio[i];
+                    ratio[i] = ratio[j];
+                    ratio[j] = tr;
+                    double ta = alpha[i];
+                    alpha[i] = alpha[j];
+                    alpha[j] = ta;
+                    i++;
+                    j--;
+                }
+            }
+            if (j - lo < hi - i) {
+                sort(cand, ratio, alpha, lo, j);
+                lo = i;
+            } else {
+                sort(cand, ratio, alpha, i, hi);
+                hi = j;
+            }
+        }
+    }
+}
@@ -203,4 +203,15 @@ public class EnvironmentBuilder {
         setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
         return this;
     }
+
+    /**
+     * Build a flat environment wherein integers are trailed by index,
+     * see {@link IndexedIntTrail}.
+     * @return {@code this}
+     */
+    public EnvironmentBuilder fromIndexed(){
+        fromFlat();
+        setTrail(new IndexedIntTrail(worldsize, worldnumber, loadfactor));
+        return this;
+    }
 }
\ No newline at end of file
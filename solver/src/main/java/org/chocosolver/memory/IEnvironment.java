@@ -11,6 +11,7 @@ package org.chocosolver.memory;
 
 import org.chocosolver.memory.structure.BasicIndexedBipartiteSet;
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.structure.OperationLongArray;
 
 
 /**
@@ -113,6 +114,17 @@ public interface IEnvironment  {
      */
     IStateLong makeLong(long init);
 
+    /**
+     * Factory pattern: new backtrackable array of longs attached to this environment.
+     * By default, modified entries are restored by operations (see {@link #save(IOperation)}).
+     * @param size the number of entries
+     * @param initialValue the initial value of each entry
+     * @return a backtrackable array of longs
+     */
+    default IStateLongArray makeLongArray(int size, long initialValue) {
+        return new OperationLongArray(this, size, initialValue);
+    }
+
     /**
      * Factory pattern: new IStateBitSet objects are created by the environment
      *
@@ -175,4 +187,14 @@ public interface IEnvironment  {
      * @return the timestamp
      */
     int getTimeStamp();
+
+    /**
+     * Return the number of entries stored since the current world was pushed,
+     * that is, the amount of data to restore on the next world pop.
+     * Environments which do not track it return 0.
+     * @return a positive number
+     */
+    default int sizeOfCurrentWorld() {
+        return 0;
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory;
+
+import java.util.Arrays;
+
+/**
+ * A backtrackable array of longs, stored in a primitive array.
+ * <p>
+ * Contrary to an array of {@link IStateLong}, entries are not wrapped into objects:
+ * only the (index, previous value) pairs are stored on modification.
+ * It is designed for reversible bitsets, and thus provides word-masking operations.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public abstract class IStateLongArray {
+
+    /**
+     * The current environment.
+     */
+    protected final IEnvironment environment;
+
+    /**
+     * Contains the elements of the array.
+     */
+    protected long[] values;
+
+    /**
+     * Value of the entries on creation.
+     */
+    protected final long initialValue;
+
+    protected IStateLongArray(IEnvironment env, int size, long initialValue) {
+        this.environment = env;
+        this.initialValue = initialValue;
+        this.values = new long[size];
+        Arrays.fill(values, initialValue);
+    }
+
+    /**
+     * Stores the value of the entry at <i>index</i>, if needed, before it is modified.
+     *
+     * @param index index of the entry about to be modified
+     */
+    protected abstract void save(int index);
+
+    /**
+     * @return the number of entries
+     */
+    public final int length() {
+        return values.length;
+    }
+
+    /**
+     * Ensures that the array can hold <i>size</i> entries.
+     * New entries are set to the initial value.
+     *
+     * @param size the minimum acceptable number of entries
+     */
+    public void ensureCapacity(int size) {
+        int oldSize = values.length;
+        if (oldSize < size) {
+            values = Arrays.copyOf(values, size);
+            Arrays.fill(values, oldSize, size, initialValue);
+        }
+    }
+
+    /**
+     * @param index index of the entry
+     * @return the value of the entry at <i>index</i>
+     */
+    public final long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Assigns a new value to the entry at <i>index</i>.
+     *
+     * @param index index of the entry
+     * @param value the new value
+     * @return the old value
+     */
+    public final long set(int index, long value) {
+        long old = values[index];
+        if (old != value) {
+            save(index);
+            values[index] = value;
+        }
+        return old;
+    }
+
+    /**
+     * Keeps the bits of the entry at <i>index</i> which are set in <i>mask</i>.
+     *
+     * @param index index of the entry
+     * @param mask  bits to keep
+     * @return the new value
+     */
+    public final long and(int index, long mask) {
+        long w = values[index] & mask;
+        set(index, w);
+        return w;
+    }
+
+    /**
+     * Sets the bits of the entry at <i>index</i> which are set in <i>mask</i>.
+     *
+     * @param index index of the entry
+     * @param mask  bits to set
+     * @return the new value
+     */
+    public final long or(int index, long mask) {
+        long w = values[index] | mask;
+        set(index, w);
+        return w;
+    }
+
+    /**
+     * Clears the bits of the entry at <i>index</i> which are set in <i>mask</i>.
+     *
+     * @param index index of the entry
+     * @param mask  bits to clear
+     * @return the new value
+     */
+    public final long andNot(int index, long mask) {
+        long w = values[index] & ~mask;
+        set(index, w);
+        return w;
+    }
+
+    /**
+     * Assigns <i>value</i> to the entries from <i>from</i> (inclusive) to <i>to</i> (exclusive).
+     *
+     * @param from  index of the first entry
+     * @param to    index after the last entry
+     * @param value the new value
+     */
+    public final void fill(int from, int to, long value) {
+        for (int i = from; i < to; i++) {
+            set(i, value);
+        }
+    }
+
+    /**
+     * Keeps, in each entry from <i>from</i> (inclusive) to <i>to</i> (exclusive),
+     * the bits which are set in the entry of <i>masks</i> with the same index.
+     *
+     * @param masks bits to keep
+     * @param from  index of the first entry
+     * @param to    index after the last entry
+     * @return <i>true</i> if at least one entry has been modified
+     */
+    public final boolean and(long[] masks, int from, int to) {
+        boolean modified = false;
+        for (int i = from; i < to; i++) {
+            long w = values[i] & masks[i];
+            if (w != values[i]) {
+                save(i);
+                values[i] = w;
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * @param masks bits to look for
+     * @param from  index of the first entry
+     * @param to    index after the last entry
+     * @return the index of the first entry, from <i>from</i> (inclusive) to <i>to</i> (exclusive),
+     * which shares a bit with the entry of <i>masks</i> with the same index, or -1 if none
+     */
+    public final int intersect(long[] masks, int from, int to) {
+        int i = from;
+        // words are checked by blocks of four, to reduce the number of branches
+        for (; i + 3 < to; i += 4) {
+            if (((values[i] & masks[i]) | (values[i + 1] & masks[i + 1])
+                    | (values[i + 2] & masks[i + 2]) | (values[i + 3] & masks[i + 3])) != 0L) {
+                break;
+            }
+        }
+        for (; i < to; i++) {
+            if ((values[i] & masks[i]) != 0L) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
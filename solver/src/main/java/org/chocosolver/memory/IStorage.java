@@ -53,5 +53,17 @@ public interface IStorage  {
 
     void worldCommit(int worldIndex);
 
+    /**
+     * Returns the number of entries stored since the current world was pushed.
+     *
+     * Storages which do not track it return 0.
+     *
+     * @param worldIndex current world index
+     * @return a positive number
+     */
+    default int sizeOfWorld(int worldIndex) {
+        return 0;
+    }
+
 }
 
@@ -0,0 +1,41 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateDoubleVector;
+
+/**
+ * A vector of doubles for {@link EnvironmentCopying}.
+ * Vectors are not copied on world push: each modification is saved as an operation.
+ */
+public final class CopiedDoubleVector extends IStateDoubleVector {
+
+    /**
+     * Constructs a copied vector.
+     *
+     * @param env          the environment
+     * @param initialSize  initial size
+     * @param initialValue initial value of each entry
+     */
+    public CopiedDoubleVector(EnvironmentCopying env, int initialSize, double initialValue) {
+        super(env, initialSize, initialValue);
+    }
+
+    @Override
+    public double quickSet(int index, double val) {
+        assert (rangeCheck(index));
+        final double oldValue = elementData[index];
+        if (val != oldValue) {
+            environment.save(() -> elementData[index] = oldValue);
+            elementData[index] = val;
+        }
+        return oldValue;
+    }
+}
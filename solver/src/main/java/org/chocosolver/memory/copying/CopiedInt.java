@@ -0,0 +1,43 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateInt;
+
+/**
+ * A class implementing copied int.
+ * Its value is saved on world push by {@link EnvironmentCopying}, instead of being trailed on modification.
+ */
+public final class CopiedInt extends IStateInt {
+
+    /**
+     * Value this was created with.
+     */
+    final int initialValue;
+
+    /**
+     * Constructs a copied int with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    public CopiedInt(final EnvironmentCopying env, final int i) {
+        super(env, i);
+        initialValue = i;
+        env.register(this);
+    }
+
+    /**
+     * Modifies the value, nothing is stored.
+     */
+    @Override
+    public void set(final int y) {
+        currentValue = y;
+    }
+}
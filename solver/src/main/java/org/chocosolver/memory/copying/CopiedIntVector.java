@@ -0,0 +1,67 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateIntVector;
+
+/**
+ * A vector of integers for {@link EnvironmentCopying}.
+ * Vectors are not copied on world push: each modification is saved as an operation.
+ */
+public final class CopiedIntVector extends IStateIntVector {
+
+    /**
+     * Constructs a copied vector.
+     *
+     * @param env          the environment
+     * @param initialSize  initial size
+     * @param initialValue initial value of each entry
+     */
+    public CopiedIntVector(EnvironmentCopying env, int initialSize, int initialValue) {
+        super(env, initialSize, initialValue);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (minCapacity > oldCapacity) {
+            int newCapacity = Math.max(minCapacity, (oldCapacity * 3) / 2 + 1);
+            int[] oldData = elementData;
+            elementData = new int[newCapacity];
+            System.arraycopy(oldData, 0, elementData, 0, size.get());
+        }
+    }
+
+    @Override
+    public void add(int i) {
+        int newsize = size.get() + 1;
+        ensureCapacity(newsize);
+        size.set(newsize);
+        elementData[newsize - 1] = i;
+    }
+
+    @Override
+    public int set(int index, int val) {
+        if (rangeCheck(index)) {
+            return quickSet(index, val);
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size.get());
+    }
+
+    @Override
+    public int quickSet(int index, int val) {
+        assert (rangeCheck(index));
+        final int oldValue = elementData[index];
+        if (val != oldValue) {
+            environment.save(() -> elementData[index] = oldValue);
+            elementData[index] = val;
+        }
+        return oldValue;
+    }
+}
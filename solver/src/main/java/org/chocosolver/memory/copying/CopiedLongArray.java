@@ -0,0 +1,69 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateLongArray;
+
+/**
+ * An array of longs for {@link EnvironmentCopying}.
+ * Its entries are saved on world push by {@link EnvironmentCopying}, instead of being trailed on modification.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class CopiedLongArray extends IStateLongArray {
+
+    /**
+     * Constructs a copied array of longs.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     *
+     * @param env          the environment
+     * @param size         the number of entries
+     * @param initialValue the initial value of each entry
+     */
+    public CopiedLongArray(EnvironmentCopying env, int size, long initialValue) {
+        super(env, size, initialValue);
+        env.register(this);
+    }
+
+    /**
+     * Modifies the value, nothing is stored.
+     */
+    @Override
+    protected void save(int index) {
+    }
+
+    /**
+     * Copies the entries into <i>dest</i>, from <i>pos</i>.
+     */
+    void copyTo(long[] dest, int pos) {
+        System.arraycopy(values, 0, dest, pos, values.length);
+    }
+
+    /**
+     * Copies <i>len</i> entries from <i>src</i>, starting at <i>pos</i>,
+     * the other entries are set back to the initial value.
+     */
+    void copyFrom(long[] src, int pos, int len) {
+        ensureCapacity(len);
+        System.arraycopy(src, pos, values, 0, len);
+        reset(len);
+    }
+
+    /**
+     * Sets back the entries from <i>from</i> to the initial value.
+     */
+    void reset(int from) {
+        for (int i = from; i < values.length; i++) {
+            values[i] = initialValue;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.*;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.trailing.trail.IOperationTrail;
+import org.chocosolver.memory.trailing.trail.flatten.OperationTrail;
+
+import java.util.Arrays;
+
+import static org.chocosolver.memory.trailing.EnvironmentTrailing.LOADFACTOR;
+import static org.chocosolver.memory.trailing.EnvironmentTrailing.NBUPATES;
+import static org.chocosolver.memory.trailing.EnvironmentTrailing.NBWORLDS;
+
+/**
+ * An environment based on copying instead of trailing.
+ * <p>
+ * Backtrackable primitives (integers, longs, doubles, booleans and arrays of longs, and so bitsets)
+ * are registered on creation.
+ * On world push, their values are copied into a {@link Snapshot}, made of primitive arrays,
+ * which is restored on world pop.
+ * Modifying a primitive is therefore free, whereas pushing a world costs a copy of all of them.
+ * Vectors and {@link IOperation}s are still trailed.
+ * </p>
+ * <p>
+ * The current state can also be captured with {@link #snapshot()} and restored later,
+ * in this environment or in the environment of an equivalent model (same primitives created in the same order),
+ * with {@link #restore(Snapshot)}.
+ * This makes it possible to hand a search state off to another thread,
+ * or to re-open a node, without replaying the decisions that lead to it.
+ * </p>
+ * <p>
+ * A snapshot only covers the backtrackable primitives: neither vectors nor {@link IOperation}s are part of it,
+ * so data structures relying on {@link IEnvironment#save(IOperation)} (for instance, vectors, boolean variables,
+ * sets and the activation or passivation of propagators) are not transferred.
+ * Hence, {@link #restore(Snapshot)} refuses a snapshot captured while such data structures were modified,
+ * or an environment wherein they are: in practice, a snapshot is to be captured before propagation,
+ * the receiving model propagating again.
+ * Snapshots are not used by the solver itself: {@code MoveBinaryHBFS} and the parallel searches still
+ * re-open nodes by replaying decisions; capturing and restoring a state is up to the caller.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class EnvironmentCopying extends AbstractEnvironment {
+
+    private CopiedInt[] ints = new CopiedInt[NBUPATES];
+    private int nbInts;
+    private CopiedLong[] longs = new CopiedLong[NBUPATES];
+    private int nbLongs;
+    private CopiedDouble[] doubles = new CopiedDouble[NBUPATES];
+    private int nbDoubles;
+    private CopiedBool[] bools = new CopiedBool[NBUPATES];
+    private int nbBools;
+    private CopiedLongArray[] longArrays = new CopiedLongArray[NBUPATES];
+    private int nbLongArrays;
+
+    /**
+     * Values of the primitives, saved at the beginning of each world.
+     */
+    private Snapshot[] worlds = new Snapshot[NBWORLDS];
+
+    private final IOperationTrail operationTrail = new OperationTrail(NBUPATES, NBWORLDS, LOADFACTOR);
+
+    /**
+     * Number of operations dropped on world commit, whose modifications are thus permanent.
+     */
+    private int nbCommittedOperations;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPush() {
+        timestamp++;
+        final int wi = currentWorld + 1;
+        if (worlds[wi] == null) {
+            worlds[wi] = new Snapshot();
+        }
+        capture(worlds[wi]);
+        operationTrail.worldPush(wi);
+        if (wi == worlds.length - 1) {
+            worlds = Arrays.copyOf(worlds, (int) (worlds.length * LOADFACTOR));
+        }
+        currentWorld++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPop() {
+        timestamp++;
+        final int wi = currentWorld;
+        apply(worlds[wi], true);
+        operationTrail.worldPop(wi);
+        currentWorld--;
+        assert currentWorld >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldCommit() {
+        if (currentWorld == 0) {
+            throw new IllegalStateException("Commit in world 0?");
+        }
+        // the values saved at the beginning of the current world are simply forgotten
+        nbCommittedOperations += operationTrail.sizeOfWorld(currentWorld);
+        operationTrail.worldCommit(currentWorld);
+        currentWorld--;
+    }
+
+    /**
+     * Captures the current values of all the backtrackable primitives of this environment.
+     *
+     * @return a new snapshot
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = new Snapshot();
+        capture(snapshot);
+        snapshot.nbOperations = nbOperations();
+        return snapshot;
+    }
+
+    /**
+     * Sets the backtrackable primitives of this environment to the values stored in <i>snapshot</i>.
+     * The modification is made in the current world, and is thus undone on the next world pop.
+     * The snapshot may come from another environment, as long as the primitives were created in the same order.
+     * Primitives created after the snapshot was taken are set back to their initial value.
+     * Vectors and data structures relying on operations cannot be restored,
+     * so they must not have been modified, neither when the snapshot was captured nor now.
+     *
+     * @param snapshot values to restore
+     * @throws IllegalArgumentException if <i>snapshot</i> stores more primitives than this environment declares
+     * @throws IllegalStateException    if data structures relying on operations were modified
+     *                                  when <i>snapshot</i> was captured, or are modified in this environment
+     */
+    public void restore(Snapshot snapshot) {
+        if (snapshot.nbInts > nbInts || snapshot.nbLongs > nbLongs
+                || snapshot.nbDoubles > nbDoubles || snapshot.nbBools > nbBools
+                || snapshot.nbLongArrays > nbLongArrays) {
+            throw new IllegalArgumentException("The snapshot does not match this environment");
+        }
+        if (snapshot.nbOperations > 0 || nbOperations() > 0) {
+            throw new IllegalStateException("The snapshot cannot be restored: " +
+                    "data structures relying on operations were modified");
+        }
+        apply(snapshot, true);
+    }
+
+    /**
+     * @return the number of operations which have been recorded and not undone
+     */
+    private int nbOperations() {
+        return operationTrail.sizeOfWorld(0) + nbCommittedOperations;
+    }
+
+    private void capture(Snapshot s) {
+        if (s.ints.length < nbInts) {
+            s.ints = new int[ints.length];
+        }
+        for (int i = 0; i < nbInts; i++) {
+            s.ints[i] = ints[i].get();
+        }
+        s.nbInts = nbInts;
+        if (s.longs.length < nbLongs) {
+            s.longs = new long[longs.length];
+        }
+        for (int i = 0; i < nbLongs; i++) {
+            s.longs[i] = longs[i].get();
+        }
+        s.nbLongs = nbLongs;
+        if (s.doubles.length < nbDoubles) {
+            s.doubles = new double[doubles.length];
+        }
+        for (int i = 0; i < nbDoubles; i++) {
+            s.doubles[i] = doubles[i].get();
+        }
+        s.nbDoubles = nbDoubles;
+        if (s.bools.length < nbBools) {
+            s.bools = new boolean[bools.length];
+        }
+        for (int i = 0; i < nbBools; i++) {
+            s.bools[i] = bools[i].get();
+        }
+        s.nbBools = nbBools;
+        int nbWords = 0;
+        for (int i = 0; i < nbLongArrays; i++) {
+            nbWords += longArrays[i].length();
+        }
+        if (s.words.length < nbWords) {
+            s.words = new long[Math.max(nbWords, (int) (s.words.length * LOADFACTOR))];
+        }
+        if (s.lengths.length < nbLongArrays) {
+            s.lengths = new int[longArrays.length];
+        }
+        for (int i = 0, pos = 0; i < nbLongArrays; i++) {
+            longArrays[i].copyTo(s.words, pos);
+            s.lengths[i] = longArrays[i].length();
+            pos += s.lengths[i];
+        }
+        s.nbLongArrays = nbLongArrays;
+    }
+
+    /**
+     * Restores the values stored in <i>s</i>.
+     * If <i>reset</i> is set to <i>true</i>, primitives not stored in <i>s</i> are set back to their initial value.
+     */
+    private void apply(Snapshot s, boolean reset) {
+        for (int i = 0; i < s.nbInts; i++) {
+            ints[i].set(s.ints[i]);
+        }
+        for (int i = 0; i < s.nbLongs; i++) {
+            longs[i].set(s.longs[i]);
+        }
+        for (int i = 0; i < s.nbDoubles; i++) {
+            doubles[i].set(s.doubles[i]);
+        }
+        for (int i = 0; i < s.nbBools; i++) {
+            bools[i].set(s.bools[i]);
+        }
+        for (int i = 0, pos = 0; i < s.nbLongArrays; i++) {
+            longArrays[i].copyFrom(s.words, pos, s.lengths[i]);
+            pos += s.lengths[i];
+        }
+        if (reset) {
+            for (int i = s.nbInts; i < nbInts; i++) {
+                ints[i].set(ints[i].initialValue);
+            }
+            for (int i = s.nbLongs; i < nbLongs; i++) {
+                longs[i].set(longs[i].initialValue);
+            }
+            for (int i = s.nbDoubles; i < nbDoubles; i++) {
+                doubles[i].set(doubles[i].initialValue);
+            }
+            for (int i = s.nbBools; i < nbBools; i++) {
+                bools[i].set(bools[i].initialValue);
+            }
+            for (int i = s.nbLongArrays; i < nbLongArrays; i++) {
+                longArrays[i].reset(0);
+            }
+        }
+    }
+
+    void register(CopiedInt v) {
+        if (nbInts == ints.length) {
+            ints = Arrays.copyOf(ints, (int) (ints.length * LOADFACTOR));
+        }
+        ints[nbInts++] = v;
+    }
+
+    void register(CopiedLong v) {
+        if (nbLongs == longs.length) {
+            longs = Arrays.copyOf(longs, (int) (longs.length * LOADFACTOR));
+        }
+        longs[nbLongs++] = v;
+    }
+
+    void register(CopiedDouble v) {
+        if (nbDoubles == doubles.length) {
+            doubles = Arrays.copyOf(doubles, (int) (doubles.length * LOADFACTOR));
+        }
+        doubles[nbDoubles++] = v;
+    }
+
+    void register(CopiedBool v) {
+        if (nbBools == bools.length) {
+            bools = Arrays.copyOf(bools, (int) (bools.length * LOADFACTOR));
+        }
+        bools[nbBools++] = v;
+    }
+
+    void register(CopiedLongArray v) {
+        if (nbLongArrays == longArrays.length) {
+            longArrays = Arrays.copyOf(longArrays, (int) (longArrays.length * LOADFACTOR));
+        }
+        longArrays[nbLongArrays++] = v;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt() {
+        return makeInt(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt(final int initialValue) {
+        return new CopiedInt(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateBool makeBool(final boolean initialValue) {
+        return new CopiedBool(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateIntVector makeIntVector(final int size, final int initialValue) {
+        return new CopiedIntVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDoubleVector makeDoubleVector(final int size, final double initialValue) {
+        return new CopiedDoubleVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat() {
+        return makeFloat(Double.NaN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat(final double initialValue) {
+        return new CopiedDouble(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong() {
+        return makeLong(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong(final long init) {
+        return new CopiedLong(this, init);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLongArray makeLongArray(final int size, final long initialValue) {
+        return new CopiedLongArray(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Primitives are copied on world push, only operations are counted.
+     */
+    @Override
+    public int sizeOfCurrentWorld() {
+        return operationTrail.sizeOfWorld(currentWorld);
+    }
+
+    @Override
+    public void save(IOperation operation) {
+        operationTrail.savePreviousState(operation);
+    }
+
+    @Override
+    public void saveAt(IOperation operation, int worldIndex) {
+        operationTrail.savePreviousStateAt(operation, worldIndex, currentWorld);
+    }
+}
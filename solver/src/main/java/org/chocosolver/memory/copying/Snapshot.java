@@ -0,0 +1,84 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+/**
+ * The values of all the backtrackable primitives of an {@link EnvironmentCopying},
+ * stored in primitive arrays, by order of creation.
+ * <p>
+ * A snapshot taken in an environment can be restored in any other one
+ * wherein the same primitives were created in the same order,
+ * typically the environment of a copy of the model.
+ * </p>
+ *
+ * @author agent
+ * @see EnvironmentCopying#snapshot()
+ * @see EnvironmentCopying#restore(Snapshot)
+ * @since 17/10/2026
+ */
+public final class Snapshot {
+
+    int[] ints = new int[0];
+    int nbInts;
+    long[] longs = new long[0];
+    int nbLongs;
+    double[] doubles = new double[0];
+    int nbDoubles;
+    boolean[] bools = new boolean[0];
+    int nbBools;
+    /**
+     * Entries of the arrays of longs, one after the other, and the length of each array
+     */
+    long[] words = new long[0];
+    int[] lengths = new int[0];
+    int nbLongArrays;
+    /**
+     * Number of operations recorded, and not undone, when this was captured
+     */
+    int nbOperations;
+
+    Snapshot() {
+    }
+
+    /**
+     * @return the number of integers stored in this
+     */
+    public int getNbInts() {
+        return nbInts;
+    }
+
+    /**
+     * @return the number of longs stored in this
+     */
+    public int getNbLongs() {
+        return nbLongs;
+    }
+
+    /**
+     * @return the number of doubles stored in this
+     */
+    public int getNbDoubles() {
+        return nbDoubles;
+    }
+
+    /**
+     * @return the number of booleans stored in this
+     */
+    public int getNbBools() {
+        return nbBools;
+    }
+
+    /**
+     * @return the number of arrays of longs stored in this
+     */
+    public int getNbLongArrays() {
+        return nbLongArrays;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateLongArray;
+
+import java.util.Arrays;
+
+/**
+ * A backtrackable array of longs, whose modified entries are restored by operations
+ * saved in the environment (see {@link IEnvironment#save(IOperation)}).
+ * It is the default implementation of {@link IEnvironment#makeLongArray(int, long)},
+ * for environments which do not provide a dedicated trail.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class OperationLongArray extends IStateLongArray {
+
+    /**
+     * Contains time stamps for all entries (the world index of the last update for each entry)
+     */
+    private int[] worldStamps;
+
+    /**
+     * Constructs a backtrackable array of longs.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     *
+     * @param env          the current environment
+     * @param size         the number of entries
+     * @param initialValue the initial value of each entry
+     */
+    public OperationLongArray(IEnvironment env, int size, long initialValue) {
+        super(env, size, initialValue);
+        this.worldStamps = new int[size];
+        Arrays.fill(worldStamps, env.getWorldIndex());
+    }
+
+    @Override
+    protected void save(int index) {
+        final int wi = environment.getWorldIndex();
+        if (worldStamps[index] < wi) {
+            final long oldValue = values[index];
+            final int oldStamp = worldStamps[index];
+            environment.save(() -> {
+                values[index] = oldValue;
+                worldStamps[index] = oldStamp;
+            });
+            worldStamps[index] = wi;
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int size) {
+        super.ensureCapacity(size);
+        if (worldStamps.length < size) {
+            // new entries are saved on their first modification
+            worldStamps = Arrays.copyOf(worldStamps, size);
+        }
+    }
+}
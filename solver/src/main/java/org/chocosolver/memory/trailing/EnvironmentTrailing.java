@@ -50,6 +50,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     private IOperationTrail operationTrail;
     private StoredIntVectorTrail intVectorTrail;
     private StoredDoubleVectorTrail doubleVectorTrail;
+    private StoredLongArrayTrail longArrayTrail;
 
     /**
      * Contains all the {@link org.chocosolver.memory.IStorage} trails for
@@ -176,6 +177,14 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         return new StoredLong(this, init);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLongArray makeLongArray(final int size, final long initialValue) {
+        return new StoredLongArray(this, size, initialValue);
+    }
+
 
     private void increaseTrail() {// TODO check resizing
         IStorage[] tmp = trails;
@@ -285,9 +294,29 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         return doubleVectorTrail;
     }
 
+    public StoredLongArrayTrail getLongArrayTrail() {
+        if (longArrayTrail == null) {
+            increaseTrail();
+            trails[trailSize++] = longArrayTrail = new StoredLongArrayTrail(this, NBUPATES, NBWORLDS, LOADFACTOR);
+        }
+        return longArrayTrail;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int sizeOfCurrentWorld() {
+        int size = 0;
+        for (int i = 0; i < trailSize; i++) {
+            size += trails[i].sizeOfWorld(currentWorld);
+        }
+        return size;
+    }
+
     public void save(IOperation oldValue) {
         getOperationTrail().savePreviousState(oldValue);
     }
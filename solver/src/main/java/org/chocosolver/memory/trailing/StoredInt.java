@@ -20,6 +20,11 @@ public class StoredInt extends IStateInt {
 
     protected final IStoredIntTrail myTrail;
 
+    /**
+     * Index of this in its trail, -1 if the trail does not index stored ints.
+     */
+    protected final int index;
+
     /**
      * Constructs a stored search with an initial value.
      * Note: this constructor should not be used directly: one should instead
@@ -28,6 +33,14 @@ public class StoredInt extends IStateInt {
     public StoredInt(final EnvironmentTrailing env, final int i) {
         super(env, i);
         myTrail = env.getIntTrail();
+        index = myTrail.register(this);
+    }
+
+    /**
+     * @return the index of this in its trail, -1 if the trail does not index stored ints
+     */
+    public final int getIndex() {
+        return index;
     }
 
     /**
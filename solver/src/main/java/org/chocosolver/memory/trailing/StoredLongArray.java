@@ -0,0 +1,73 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing;
+
+import org.chocosolver.memory.IStateLongArray;
+import org.chocosolver.memory.trailing.trail.StoredLongArrayTrail;
+
+import java.util.Arrays;
+
+/**
+ * A backtrackable array of longs, whose modified entries are trailed in a {@link StoredLongArrayTrail}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class StoredLongArray extends IStateLongArray {
+
+    /**
+     * Contains time stamps for all entries (the world index of the last update for each entry)
+     */
+    public int[] worldStamps;
+
+    private final StoredLongArrayTrail myTrail;
+
+    /**
+     * Constructs a stored array of longs.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     *
+     * @param env          the current environment
+     * @param size         the number of entries
+     * @param initialValue the initial value of each entry
+     */
+    public StoredLongArray(EnvironmentTrailing env, int size, long initialValue) {
+        super(env, size, initialValue);
+        this.worldStamps = new int[size];
+        Arrays.fill(worldStamps, env.getWorldIndex());
+        this.myTrail = env.getLongArrayTrail();
+    }
+
+    @Override
+    protected void save(int index) {
+        final int wi = environment.getWorldIndex();
+        if (worldStamps[index] < wi) {
+            myTrail.savePreviousState(this, index, values[index], worldStamps[index]);
+            worldStamps[index] = wi;
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int size) {
+        super.ensureCapacity(size);
+        if (worldStamps.length < size) {
+            // new entries are trailed on their first modification
+            worldStamps = Arrays.copyOf(worldStamps, size);
+        }
+    }
+
+    /**
+     * Sets an entry without storing the previous value.
+     */
+    public void _set(int index, long value, int stamp) {
+        values[index] = value;
+        worldStamps[index] = stamp;
+    }
+}
@@ -22,4 +22,15 @@ public interface IStoredIntTrail extends IStorage {
 
     void savePreviousState(StoredInt v, int oldValue, int oldStamp);
 
+    /**
+     * Declares a new stored int to this trail.
+     * Trails that refer to stored ints by index, instead of by reference, record it in their registry.
+     *
+     * @param v the new stored int
+     * @return the index of <i>v</i> in this trail, or -1 if this trail does not index stored ints
+     */
+    default int register(StoredInt v) {
+        return -1;
+    }
+
 }
@@ -194,4 +194,9 @@ public class StoredDoubleVectorTrail implements IStorage {
         }
         currentLevel = writeIdx;
     }
+
+    @Override
+    public int sizeOfWorld(int worldIndex) {
+        return currentLevel - worldStartLevels[worldIndex];
+    }
 }
@@ -193,4 +193,9 @@ public class StoredIntVectorTrail implements IStorage {
         }
         currentLevel = writeIdx;
     }
+
+    @Override
+    public int sizeOfWorld(int worldIndex) {
+        return currentLevel - worldStartLevels[worldIndex];
+    }
 }
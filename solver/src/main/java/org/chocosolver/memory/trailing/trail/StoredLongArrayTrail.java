@@ -0,0 +1,172 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.trail;
+
+import org.chocosolver.memory.IStorage;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.StoredLongArray;
+
+import java.util.Arrays;
+
+/**
+ * Implements a trail with the history of all the stored arrays of longs.
+ * Previous values are stored in primitive arrays, as (array, index, value, stamp) entries.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class StoredLongArrayTrail implements IStorage {
+
+    /**
+     * The current environment.
+     */
+    private final EnvironmentTrailing environment;
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+
+    /**
+     * All the stored arrays.
+     */
+    private StoredLongArray[] arrayStack;
+
+    /**
+     * Indices of the previous values in the stored arrays.
+     */
+    private int[] indexStack;
+
+    /**
+     * Previous values of the stored array entries.
+     */
+    private long[] valueStack;
+
+    /**
+     * World stamps associated to the previous values
+     */
+    private int[] stampStack;
+
+    /**
+     * The last world an array was modified in.
+     */
+    private int currentLevel;
+
+    /**
+     * Starts of levels in all the history arrays.
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Constructs a trail for the specified environment with the
+     * specified numbers of updates and worlds.
+     *
+     * @param env        the environment
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public StoredLongArrayTrail(EnvironmentTrailing env, int nUpdates, int nWorlds, double loadfactor) {
+        this.environment = env;
+        this.currentLevel = 0;
+        this.arrayStack = new StoredLongArray[nUpdates];
+        this.indexStack = new int[nUpdates];
+        this.valueStack = new long[nUpdates];
+        this.stampStack = new int[nUpdates];
+        this.worldStartLevels = new int[nWorlds];
+        this.loadfactor = loadfactor;
+    }
+
+    /**
+     * Reacts on the modification of an entry in a stored array.
+     */
+    public void savePreviousState(StoredLongArray array, int index, long oldValue, int oldStamp) {
+        this.arrayStack[currentLevel] = array;
+        this.indexStack[currentLevel] = index;
+        this.stampStack[currentLevel] = oldStamp;
+        this.valueStack[currentLevel] = oldValue;
+        currentLevel++;
+        if (currentLevel == arrayStack.length) {
+            resizeUpdateCapacity();
+        }
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (int) (arrayStack.length * loadfactor);
+        arrayStack = Arrays.copyOf(arrayStack, newCapacity);
+        valueStack = Arrays.copyOf(valueStack, newCapacity);
+        stampStack = Arrays.copyOf(stampStack, newCapacity);
+        indexStack = Arrays.copyOf(indexStack, newCapacity);
+    }
+
+    public void resizeWorldCapacity(int newWorldCapacity) {
+        worldStartLevels = Arrays.copyOf(worldStartLevels, newWorldCapacity);
+    }
+
+    /**
+     * Moving up to the next world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPush(int worldIndex) {
+        this.worldStartLevels[worldIndex] = currentLevel;
+        if (worldIndex == worldStartLevels.length - 1) {
+            resizeWorldCapacity((int) (worldStartLevels.length * loadfactor));
+        }
+    }
+
+    /**
+     * Moving down to the previous world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPop(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        while (currentLevel > wsl) {
+            currentLevel--;
+            arrayStack[currentLevel]._set(indexStack[currentLevel], valueStack[currentLevel], stampStack[currentLevel]);
+        }
+    }
+
+    /**
+     * Comits a world: merging it with the previous one.
+     */
+    @Override
+    public void worldCommit(int worldIndex) {
+        // see StoredIntVectorTrail#worldCommit
+        int startLevel = worldStartLevels[environment.getWorldIndex()];
+        int prevWorld = environment.getWorldIndex() - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            StoredLongArray array = arrayStack[level];
+            int idx = indexStack[level];
+            long val = valueStack[level];
+            int stamp = stampStack[level];
+            array.worldStamps[idx] = prevWorld;
+            if (stamp != prevWorld) {
+                if (writeIdx != level) {
+                    valueStack[writeIdx] = val;
+                    indexStack[writeIdx] = idx;
+                    arrayStack[writeIdx] = array;
+                    stampStack[writeIdx] = stamp;
+                }
+                writeIdx++;
+            }
+        }
+        currentLevel = writeIdx;
+    }
+
+    @Override
+    public int sizeOfWorld(int worldIndex) {
+        return currentLevel - worldStartLevels[worldIndex];
+    }
+}
@@ -65,4 +65,11 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
         return n;
     }
 
-}
\ No newline at end of file
+    @Override
+    public int sizeOfWorld(int worldIndex) {
+        if (worldIndex < 0 || worldIndex >= worlds.length || worlds[worldIndex] == null) {
+            return 0;
+        }
+        return worlds[worldIndex].used();
+    }
+}
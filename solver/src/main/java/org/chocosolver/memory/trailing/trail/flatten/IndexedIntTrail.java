@@ -0,0 +1,180 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.trail.flatten;
+
+import org.chocosolver.memory.trailing.StoredInt;
+import org.chocosolver.memory.trailing.trail.IStoredIntTrail;
+
+import java.util.Arrays;
+
+/**
+ * A flat trail for integers that refers to stored ints by index.
+ * <p>
+ * Each {@link StoredInt} is registered on creation and gets an index in {@link #registry}.
+ * The trail itself is only made of primitive arrays (indices, values and stamps),
+ * so that saving a value does not store any reference and restoring a world is a tight loop over ints.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class IndexedIntTrail implements IStoredIntTrail {
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+
+    /**
+     * Registered stored ints, indexed by {@link StoredInt#getIndex()}.
+     */
+    private StoredInt[] registry;
+
+    /**
+     * Number of registered stored ints.
+     */
+    private int size;
+
+    /**
+     * Stack of indices of backtrackable search variables.
+     */
+    private int[] indexStack;
+
+    /**
+     * Stack of values (former values that need be restored upon backtracking).
+     */
+    private int[] valueStack;
+
+    /**
+     * Stack of timestamps indicating the world where the former value
+     * had been written.
+     */
+    private int[] stampStack;
+
+    /**
+     * Points the level of the last entry.
+     */
+    private int currentLevel;
+
+    /**
+     * A stack of pointers (for each start of a world).
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Constructs a trail with predefined size.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public IndexedIntTrail(int nUpdates, int nWorlds, double loadfactor) {
+        currentLevel = 0;
+        registry = new StoredInt[nUpdates];
+        indexStack = new int[nUpdates];
+        valueStack = new int[nUpdates];
+        stampStack = new int[nUpdates];
+        worldStartLevels = new int[nWorlds];
+        this.loadfactor = loadfactor;
+    }
+
+    @Override
+    public int register(StoredInt v) {
+        if (size == registry.length) {
+            registry = Arrays.copyOf(registry, Math.max(size + 1, (int) (size * loadfactor)));
+        }
+        registry[size] = v;
+        return size++;
+    }
+
+    /**
+     * Moving up to the next world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPush(int worldIndex) {
+        worldStartLevels[worldIndex] = currentLevel;
+        if (worldIndex == worldStartLevels.length - 1) {
+            worldStartLevels = Arrays.copyOf(worldStartLevels, (int) (worldStartLevels.length * loadfactor));
+        }
+    }
+
+    /**
+     * Moving down to the previous world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPop(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        final StoredInt[] reg = registry;
+        final int[] idx = indexStack;
+        final int[] vals = valueStack;
+        final int[] stamps = stampStack;
+        for (int level = currentLevel - 1; level >= wsl; level--) {
+            reg[idx[level]]._set(vals[level], stamps[level]);
+        }
+        currentLevel = wsl;
+    }
+
+    /**
+     * Comits a world: merging it with the previous one.
+     */
+    @Override
+    public void worldCommit(int worldIndex) {
+        // see StoredIntTrail#worldCommit(int)
+        final int startLevel = worldStartLevels[worldIndex];
+        final int prevWorld = worldIndex - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            final int idx = indexStack[level];
+            final int val = valueStack[level];
+            final int stamp = stampStack[level];
+            registry[idx].overrideTimeStamp(prevWorld);
+            if (stamp != prevWorld) {
+                if (writeIdx != level) {
+                    valueStack[writeIdx] = val;
+                    indexStack[writeIdx] = idx;
+                    stampStack[writeIdx] = stamp;
+                }
+                writeIdx++;
+            }
+        }
+        currentLevel = writeIdx;
+    }
+
+    /**
+     * Reacts when a StoredInt is modified: push the index, the former value & timestamp
+     * on the stacks.
+     */
+    @Override
+    public void savePreviousState(StoredInt v, int oldValue, int oldStamp) {
+        indexStack[currentLevel] = v.getIndex();
+        valueStack[currentLevel] = oldValue;
+        stampStack[currentLevel] = oldStamp;
+        currentLevel++;
+        if (currentLevel == indexStack.length) {
+            resizeUpdateCapacity();
+        }
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (int) (indexStack.length * loadfactor);
+        indexStack = Arrays.copyOf(indexStack, newCapacity);
+        valueStack = Arrays.copyOf(valueStack, newCapacity);
+        stampStack = Arrays.copyOf(stampStack, newCapacity);
+    }
+
+    @Override
+    public int sizeOfWorld(int worldIndex) {
+        return currentLevel - worldStartLevels[worldIndex];
+    }
+}
@@ -116,4 +116,9 @@ public class OperationTrail implements IOperationTrail {
             worldStartLevels[t]++;
         }
     }
+
+    @Override
+    public int sizeOfWorld(int worldIndex) {
+        return currentLevel - worldStartLevels[worldIndex];
+    }
 }
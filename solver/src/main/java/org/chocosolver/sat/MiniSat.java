@@ -12,7 +12,6 @@ package org.chocosolver.sat;
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TDoubleArrayList;
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.IntHeap;
 
@@ -33,6 +32,13 @@ import java.util.*;
  * sat.solve();
  * </code>
  * </pre></p>
+ * <p>
+ * As in MiniSat, clauses are stored one after the other in a single <code>int[]</code> arena
+ * and are referred to by their offset in it.
+ * Watch lists are primitive arrays indexed by literal, storing pairs of clause reference and blocking literal,
+ * and the assignment is a <code>byte[]</code>.
+ * The arena is compacted when enough memory is used by removed clauses.
+ * </p>
  *
  * @author Charles Prud'homme
  * @since 12/07/13
@@ -44,22 +50,46 @@ public class MiniSat implements SatFactory, Dimacs {
     // value of an undefined literal
     private static final int litUndef = -2;
     // undefined clause
-    static final Clause CR_Undef = new Clause(new int[0]);
-    static final VarData VD_Undef = new VarData(CR_Undef, -1);
+    static final int CR_Undef = -1;
+    // values of a literal or of a variable, as in {@link Boolean#value()}
+    static final byte L_TRUE = 0;
+    static final byte L_FALSE = 1;
+    static final byte L_UNDEF = 2;
+    private static final Boolean[] BOOLEANS = {Boolean.lTrue, Boolean.lFalse, Boolean.lUndef};
+    private static final int[] NO_WATCH = new int[0];
+
+    // Layout of a clause in the arena: a header, its activity (as float bits) and its literals.
+    // The header stores the size of the clause and three flags.
+    private static final int LITS = 2;
+    private static final int LEARNT = 1;
+    private static final int DELETED = 2;
+    private static final int RELOCATED = 4;
+    private static final int SIZE_SHIFT = 3;
 
     // If false, the constraints are already unsatisfiable. No part of
     // the solver state may be used!
     public boolean ok_;
+    // All clauses, stored one after the other, referred to by their offset.
+    int[] arena = new int[1024];
+    // First free position in the arena.
+    int arenaTop;
+    // Number of positions in the arena used by removed clauses.
+    int wasted;
     // List of problem addClauses.
-    public final ArrayList<Clause> clauses = new ArrayList<>();
+    public final TIntArrayList clauses = new TIntArrayList();
     // List of learnt addClauses.
-    private final ArrayList<Clause> learnts = new ArrayList<>();
+    private final TIntArrayList learnts = new TIntArrayList();
     // 'watches_[lit]' is a list of constraints watching 'lit'(will go
-    // there if literal becomes true).
-    private final TIntObjectHashMap<ArrayList<Watcher>> watches_ = new TIntObjectHashMap<>();
+    // there if literal becomes true). It stores pairs (clause, blocking literal)
+    // and only the 'wsize_[lit]' first values are relevant.
+    private int[][] watches_ = new int[0][];
+    private int[] wsize_ = new int[0];
     // The current assignments.
-    //TIntObjectHashMap<Boolean> assignment_ = new TIntObjectHashMap<>();
-    List<Boolean> assignment_ = new ArrayList<>();
+    byte[] assignment_ = new byte[0];
+    // For each variable, the clause that implies its current value, or CR_Undef
+    int[] reason_ = new int[0];
+    // For each variable, the decision level of its current value
+    int[] level_ = new int[0];
     // Assignment stack; stores all assignments made in the order they
     // were made.
     TIntArrayList trail_ = new TIntArrayList();
@@ -93,9 +123,8 @@ public class MiniSat implements SatFactory, Dimacs {
     int propagations;
     int rnd_decisions;
     boolean asynch_interrupt = false;
-    ArrayList<Boolean> model = new ArrayList<>();
+    byte[] model = new byte[0];
     TIntArrayList conflict = new TIntArrayList();
-    ArrayList<VarData> vardata = new ArrayList<>();
     int conflicts;
     int decisions;
     int max_literals;
@@ -109,7 +138,7 @@ public class MiniSat implements SatFactory, Dimacs {
     BitSet polarity = new BitSet();
     TIntArrayList analyze_toclear = new TIntArrayList();
     TDoubleArrayList activity = new TDoubleArrayList();
-    IntHeap order_heap = new IntHeap((a, b) -> activity.get(a) > activity.get(b));
+    IntHeap order_heap = new IntHeap((a, b) -> activity.getQuick(a) > activity.getQuick(b));
     Random rand;
     private final TIntArrayList temporary_add_vector_ = new TIntArrayList();
     public TIntArrayList touched_variables_ = new TIntArrayList();
@@ -122,7 +151,6 @@ public class MiniSat implements SatFactory, Dimacs {
         this.qhead_ = 0;
         num_vars_ = 0;
         rand = new Random(random_seed);
-        assignment_.add(Boolean.lUndef); // required because variable are numbered from 1
     }
 
     @Override
@@ -137,8 +165,10 @@ public class MiniSat implements SatFactory, Dimacs {
      */
     public int newVariable() {
         int v = incrementVariableCounter();
-        assignment_.add(v, Boolean.lUndef);
-        vardata.add(new VarData(CR_Undef, 0));
+        ensureCapacity(v + 1);
+        assignment_[v] = L_UNDEF;
+        reason_[v] = CR_Undef;
+        level_[v] = 0;
         //activity .push(0);
         activity.add(rnd_init_act ? rand.nextDouble() * 0.00001 : 0);
         seen.clear(v);
@@ -149,6 +179,20 @@ public class MiniSat implements SatFactory, Dimacs {
         return v;
     }
 
+    private void ensureCapacity(int nvars) {
+        int old = assignment_.length;
+        if (nvars > old) {
+            int c = Math.max(nvars, old * 3 / 2 + 1);
+            assignment_ = Arrays.copyOf(assignment_, c);
+            Arrays.fill(assignment_, old, c, L_UNDEF);
+            reason_ = Arrays.copyOf(reason_, c);
+            level_ = Arrays.copyOf(level_, c);
+            watches_ = Arrays.copyOf(watches_, 2 * c);
+            Arrays.fill(watches_, 2 * old, 2 * c, NO_WATCH);
+            wsize_ = Arrays.copyOf(wsize_, 2 * c);
+        }
+    }
+
     private void insertVarOrder(int v) {
         if (!order_heap.contains(v) && decision.get(v)) {
             order_heap.insert(v);
@@ -171,9 +215,9 @@ public class MiniSat implements SatFactory, Dimacs {
         int lit = litUndef;
         int j = 0;
         for (int i = 0; i < ps.size(); i++) {
-            if (valueLit(ps.get(i)) == Boolean.lTrue || ps.get(i) == neg(lit)) {
+            if (litValue(ps.get(i)) == L_TRUE || ps.get(i) == neg(lit)) {
                 return true;
-            } else if (valueLit(ps.get(i)) != Boolean.lFalse && ps.get(i) != lit) {
+            } else if (litValue(ps.get(i)) != L_FALSE && ps.get(i) != lit) {
                 lit = ps.get(i);
                 ps.set(j++, lit);
             }
@@ -190,7 +234,7 @@ public class MiniSat implements SatFactory, Dimacs {
                 uncheckedEnqueue(ps.get(0));
                 return (ok_ = propagate() == CR_Undef);
             default:
-                Clause cr = new Clause(ps.toArray());
+                int cr = allocClause(ps, false);
                 clauses.add(cr);
                 attachClause(cr);
                 break;
@@ -250,15 +294,17 @@ public class MiniSat implements SatFactory, Dimacs {
     // Backtrack until a certain level.
     void cancelUntil(int level) {
         if (trailMarker() > level) {
-            for (int c = trail_.size() - 1; c >= trail_markers_.get(level); c--) {
-                int x = var(trail_.get(c));
-                assignment_.set(x, Boolean.lUndef);
-                if (phase_saving > 1 || (phase_saving == 1) && c > trail_markers_.get(trail_markers_.size() - 1))
-                    polarity.set(x, sgn(trail_.get(c)));
+            int from = trail_markers_.getQuick(level);
+            for (int c = trail_.size() - 1; c >= from; c--) {
+                int l = trail_.getQuick(c);
+                int x = var(l);
+                assignment_[x] = L_UNDEF;
+                if (phase_saving > 1 || (phase_saving == 1) && c > trail_markers_.getQuick(trail_markers_.size() - 1))
+                    polarity.set(x, sgn(l));
                 insertVarOrder(x);
             }
-            qhead_ = trail_markers_.get(level);
-            trail_.remove(trail_markers_.get(level), trail_.size() - trail_markers_.get(level));
+            qhead_ = from;
+            trail_.remove(from, trail_.size() - from);
             trail_markers_.remove(level, trail_markers_.size() - level);
         }
     }
@@ -270,13 +316,19 @@ public class MiniSat implements SatFactory, Dimacs {
 
     // The current value of a variable.
     Boolean valueVar(int x) {
-        return assignment_.get(x);
+        return BOOLEANS[assignment_[x]];
     }
 
     // The current value of a literal.
     Boolean valueLit(int l) {
-        Boolean b = assignment_.get(var(l));
-        return b == Boolean.lUndef ? Boolean.lUndef : xor(b, sgn(l));
+        return BOOLEANS[litValue(l)];
+    }
+
+    // The current value of a literal, as a byte: L_TRUE, L_FALSE or L_UNDEF.
+    final byte litValue(int l) {
+        byte b = assignment_[l >> 1];
+        // a positive literal (odd) takes the value of its variable, a negative one the opposite
+        return b == L_UNDEF ? L_UNDEF : (byte) (b ^ (~l & 1));
     }
 
     // The current number of original clauses.
@@ -299,17 +351,15 @@ public class MiniSat implements SatFactory, Dimacs {
     }
 
     // Enqueue a literal. Assumes value of literal is undefined.
-    void uncheckedEnqueue(int l, Clause from) {
-        assert valueLit(l) == Boolean.lUndef;
-        if (assignment_.get(var(l)) == Boolean.lUndef) {
+    void uncheckedEnqueue(int l, int from) {
+        assert litValue(l) == L_UNDEF;
+        int x = var(l);
+        if (assignment_[x] == L_UNDEF) {
             touched_variables_.add(l);
         }
-        assignment_.set(var(l), makeBoolean(sgn(l)));
-        //vardata.ensureCapacity(var(l));
-        while (vardata.size() < var(l)) {
-            vardata.add(VD_Undef);
-        }
-        vardata.set(var(l), new VarData(from, trailMarker()));
+        assignment_[x] = sgn(l) ? L_TRUE : L_FALSE;
+        reason_[x] = from;
+        level_[x] = trailMarker();
         trail_.add(l);
     }
 
@@ -317,92 +367,246 @@ public class MiniSat implements SatFactory, Dimacs {
         uncheckedEnqueue(l, CR_Undef);
     }
 
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Clause arena
+
+    /**
+     * Store a clause in the arena.
+     *
+     * @param ps     its literals
+     * @param learnt set to <i>true</i> if the clause is learnt
+     * @return the reference of the clause
+     */
+    int allocClause(TIntList ps, boolean learnt) {
+        int cr = reserve(ps.size(), learnt);
+        for (int i = 0; i < ps.size(); i++) {
+            arena[cr + LITS + i] = ps.get(i);
+        }
+        return cr;
+    }
+
+    /**
+     * Store a clause in the arena.
+     *
+     * @param ps     its literals
+     * @param learnt set to <i>true</i> if the clause is learnt
+     * @return the reference of the clause
+     */
+    int allocClause(int[] ps, boolean learnt) {
+        int cr = reserve(ps.length, learnt);
+        System.arraycopy(ps, 0, arena, cr + LITS, ps.length);
+        return cr;
+    }
+
+    private int reserve(int size, boolean learnt) {
+        int cr = arenaTop;
+        if (cr + LITS + size > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, cr + LITS + size));
+        }
+        arena[cr] = size << SIZE_SHIFT | (learnt ? LEARNT : 0);
+        arena[cr + 1] = Float.floatToRawIntBits(0f);
+        arenaTop = cr + LITS + size;
+        return cr;
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the number of literals of the clause
+     */
+    public final int clauseSize(int cr) {
+        return arena[cr] >>> SIZE_SHIFT;
+    }
+
+    /**
+     * @param cr a clause reference
+     * @param i  index of a literal in the clause
+     * @return the i<sup>th</sup> literal of the clause
+     */
+    public final int lit(int cr, int i) {
+        return arena[cr + LITS + i];
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return <i>true</i> if the clause is learnt
+     */
+    public final boolean learnt(int cr) {
+        return (arena[cr] & LEARNT) != 0;
+    }
+
+    private float claActivity(int cr) {
+        return Float.intBitsToFloat(arena[cr + 1]);
+    }
+
+    private void claActivity(int cr, float a) {
+        arena[cr + 1] = Float.floatToRawIntBits(a);
+    }
+
+    /**
+     * Free the memory used by a clause in the arena, the clause must be detached.
+     */
+    void freeClause(int cr) {
+        assert (arena[cr] & DELETED) == 0;
+        arena[cr] |= DELETED;
+        wasted += LITS + clauseSize(cr);
+    }
+
+    /**
+     * Compact the arena when a fifth of it is used by removed clauses.
+     * All clause references may change, so this must not be called while some are held outside the solver.
+     */
+    void checkGarbage() {
+        if (wasted > arenaTop / 5) {
+            int[] from = arena;
+            arena = new int[Math.max(1024, (arenaTop - wasted) * 3 / 2)];
+            arenaTop = 0;
+            wasted = 0;
+            relocAll(from);
+        }
+    }
+
+    /**
+     * Move the clauses referred to by the solver from <i>from</i> to the current arena
+     * and update the references.
+     *
+     * @param from the previous arena
+     */
+    void relocAll(int[] from) {
+        for (int l = 0; l < 2 * nVars(); l++) {
+            int[] ws = watches_[l];
+            for (int k = 0; k < wsize_[l]; k += 2) {
+                ws[k] = reloc(from, ws[k]);
+            }
+        }
+        for (int i = 0; i < trail_.size(); i++) {
+            int x = var(trail_.getQuick(i));
+            int cr = reason_[x];
+            if (cr != CR_Undef) {
+                reason_[x] = (from[cr] & DELETED) != 0 ? CR_Undef : reloc(from, cr);
+            }
+        }
+        relocList(from, learnts);
+        relocList(from, clauses);
+    }
+
+    /**
+     * Update the references of a list of clauses, moving them if not done yet
+     *
+     * @param from  the previous arena
+     * @param list  a list of clause references
+     */
+    final void relocList(int[] from, TIntArrayList list) {
+        for (int i = 0; i < list.size(); i++) {
+            list.setQuick(i, reloc(from, list.getQuick(i)));
+        }
+    }
+
+    private int reloc(int[] from, int cr) {
+        if ((from[cr] & RELOCATED) != 0) {
+            return from[cr + 1];
+        }
+        assert (from[cr] & DELETED) == 0;
+        int size = from[cr] >>> SIZE_SHIFT;
+        int ncr = reserve(size, (from[cr] & LEARNT) != 0);
+        arena[ncr + 1] = from[cr + 1];
+        System.arraycopy(from, cr + LITS, arena, ncr + LITS, size);
+        from[cr] |= RELOCATED;
+        from[cr + 1] = ncr;
+        return ncr;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
     // Attach a clause to watcher lists.
-    void attachClause(Clause cr) {
-        assert cr.size() > 1;
-        ArrayList<Watcher> l0 = watches_.get(neg(cr._g(0)));
-        if (l0 == null) {
-            l0 = new ArrayList<>();
-            watches_.put(neg(cr._g(0)), l0);
-        }
-        ArrayList<Watcher> l1 = watches_.get(neg(cr._g(1)));
-        if (l1 == null) {
-            l1 = new ArrayList<>();
-            watches_.put(neg(cr._g(1)), l1);
-        }
-        l0.add(new Watcher(cr, cr._g(1)));
-        l1.add(new Watcher(cr, cr._g(0)));
-        if (cr.learnt()) learnts_literals += cr.size();
-        else clauses_literals += cr.size();
-    }
-
-    void detachClause(Clause cr) {
-        ArrayList<Watcher> ws = watches_.get(neg(cr._g(0)));
-        int i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+    void attachClause(int cr) {
+        int size = clauseSize(cr);
+        assert size > 1;
+        watch(neg(lit(cr, 0)), cr, lit(cr, 1));
+        watch(neg(lit(cr, 1)), cr, lit(cr, 0));
+        if (learnt(cr)) learnts_literals += size;
+        else clauses_literals += size;
+    }
+
+    private void watch(int l, int cr, int blocker) {
+        int[] ws = watches_[l];
+        int s = wsize_[l];
+        if (s + 2 > ws.length) {
+            ws = watches_[l] = Arrays.copyOf(ws, Math.max(8, ws.length * 2));
         }
-        assert i > -1;
-        ws.remove(i);
-        ws = watches_.get(neg(cr._g(1)));
-        i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+        ws[s] = cr;
+        ws[s + 1] = blocker;
+        wsize_[l] = s + 2;
+    }
+
+    void detachClause(int cr) {
+        unwatch(neg(lit(cr, 0)), cr);
+        unwatch(neg(lit(cr, 1)), cr);
+    }
+
+    private void unwatch(int l, int cr) {
+        int[] ws = watches_[l];
+        int s = wsize_[l];
+        int i = s - 2;
+        while (i >= 0 && ws[i] != cr) {
+            i -= 2;
         }
         assert i > -1;
-        ws.remove(i);
+        System.arraycopy(ws, i + 2, ws, i, s - i - 2);
+        wsize_[l] = s - 2;
     }
 
-    // Perform unit propagation. returns true upon success.
-    Clause propagate() {
-        Clause confl = CR_Undef;
+    // Perform unit propagation. returns CR_Undef upon success, the conflicting clause otherwise.
+    int propagate() {
+        int confl = CR_Undef;
         int num_props = 0;
+        final int[] arena = this.arena; // the arena does not grow during propagation
         while (qhead_ < trail_.size()) {
-            int p = trail_.get(qhead_++);
+            int p = trail_.getQuick(qhead_++);
+            final int false_lit = neg(p);
 
             // 'p' is enqueued fact to propagate.
-            ArrayList<Watcher> ws = watches_.get(p);
+            final int[] ws = watches_[p];
+            final int end = wsize_[p];
             num_props++;
             int i = 0;
             int j = 0;
-            while (ws != null && i < ws.size()) {
+            while (i < end) {
+                int cr = ws[i];
                 // Try to avoid inspecting the clause:
-                int blocker = ws.get(i).blocker;
-                if (valueLit(blocker) == Boolean.lTrue) {
-                    ws.set(j++, ws.get(i++));
+                int blocker = ws[i + 1];
+                i += 2;
+                if (litValue(blocker) == L_TRUE) {
+                    ws[j++] = cr;
+                    ws[j++] = blocker;
                     continue;
                 }
 
                 // Make sure the false literal is data[1]:
-                Clause cr = ws.get(i).clause;
-                final int false_lit = neg(p);
-                if (cr._g(0) == false_lit) {
-                    cr._s(0, cr._g(1));
-                    cr._s(1, false_lit);
+                int c0 = cr + LITS;
+                if (arena[c0] == false_lit) {
+                    arena[c0] = arena[c0 + 1];
+                    arena[c0 + 1] = false_lit;
                 }
-                assert (cr._g(1) == false_lit);
-                i++;
+                assert (arena[c0 + 1] == false_lit);
 
                 // If 0th watch is true, then clause is already satisfied.
-                final int first = cr._g(0);
-                Watcher w = new Watcher(cr, first);
-                if (first != blocker && valueLit(first) == Boolean.lTrue) {
-                    ws.set(j++, w);
+                final int first = arena[c0];
+                if (first != blocker && litValue(first) == L_TRUE) {
+                    ws[j++] = cr;
+                    ws[j++] = first;
                     continue;
                 }
 
                 // Look for new watch:
                 boolean cont = false;
-                for (int k = 2; k < cr.size(); k++) {
-                    if (valueLit(cr._g(k)) != Boolean.lFalse) {
-                        cr._s(1, cr._g(k));
-                        cr._s(k, false_lit);
-                        ArrayList<Watcher> lw = watches_.get(neg(cr._g(1)));
-                        if (lw == null) {
-                            lw = new ArrayList<>();
-                            watches_.put(neg(cr._g(1)), lw);
-                        }
-                        lw.add(w);
+                int size = arena[cr] >>> SIZE_SHIFT;
+                for (int k = 2; k < size; k++) {
+                    int l = arena[c0 + k];
+                    if (litValue(l) != L_FALSE) {
+                        arena[c0 + 1] = l;
+                        arena[c0 + k] = false_lit;
+                        // neg(l) cannot be p, since l is not false
+                        watch(neg(l), cr, first);
                         cont = true;
                         break;
                     }
@@ -410,13 +614,14 @@ public class MiniSat implements SatFactory, Dimacs {
 
                 // Did not find watch -- clause is unit under assignment:
                 if (!cont) {
-                    ws.set(j++, w);
-                    if (valueLit(first) == Boolean.lFalse) {
+                    ws[j++] = cr;
+                    ws[j++] = first;
+                    if (litValue(first) == L_FALSE) {
                         confl = cr;
                         qhead_ = trail_.size();
                         // Copy the remaining watches_:
-                        while (i < ws.size()) {
-                            ws.set(j++, ws.get(i++));
+                        while (i < end) {
+                            ws[j++] = ws[i++];
                         }
                         touched_variables_.add(first);
                     } else {
@@ -424,11 +629,7 @@ public class MiniSat implements SatFactory, Dimacs {
                     }
                 }
             }
-            if (ws != null) {
-                if (ws.size() > j) {
-                    ws.subList(j, ws.size()).clear();
-                }
-            }
+            wsize_[p] = j;
         }
         propagations += num_props;
         return confl;
@@ -444,7 +645,7 @@ public class MiniSat implements SatFactory, Dimacs {
      * {@code ESat.UNDEFINED} if a limit was reached.
      */
     public ESat solve() {
-        model.clear();
+        model = new byte[0];
         conflict.clear();
         if (!ok_) return ESat.FALSE;
         max_learnts = nClauses() * learntsize_factor;
@@ -463,9 +664,9 @@ public class MiniSat implements SatFactory, Dimacs {
 
         if (status == ESat.TRUE) {
             // Extend & copy model:
-            model.ensureCapacity(nVars());
+            model = new byte[nVars()];
             for (int i = 0; i < nVars(); i++) {
-                model.add(valueLit(i));
+                model[i] = assignment_[i];
             }
 
         } else if (status == ESat.FALSE && conflict.size() == 0)
@@ -475,9 +676,9 @@ public class MiniSat implements SatFactory, Dimacs {
         if (status == ESat.TRUE) {
             System.out.print("SAT\n");
             for (int i = 0; i < nVars(); i++)
-                if (model.get(i) != Boolean.lUndef)
+                if (model[i] != L_UNDEF)
                     System.out.printf("%s%s%d", (i == 0) ? "" : " ",
-                            (model.get(i) == Boolean.lTrue) ? "" : "-", i + 1);
+                            (model[i] == L_TRUE) ? "" : "-", i + 1);
             System.out.print(" 0\n");
         } else if (status == ESat.FALSE)
             System.out.print("UNSAT\n");
@@ -499,7 +700,7 @@ public class MiniSat implements SatFactory, Dimacs {
         TIntList learnt_clause = new TIntArrayList();
 
         for (; ; ) {
-            Clause confl = propagate();
+            int confl = propagate();
             if (confl != CR_Undef) {
                 // CONFLICT
                 conflicts++;
@@ -511,13 +712,13 @@ public class MiniSat implements SatFactory, Dimacs {
                 cancelUntil(backtrack_level);
 
                 for (int v = 0; v < nVars(); v++) {
-                    assert valueVar(v) != Boolean.lUndef || order_heap.contains(v) : v + " not heaped";
+                    assert assignment_[v] != L_UNDEF || order_heap.contains(v) : v + " not heaped";
                 }
 
                 if (learnt_clause.size() == 1) {
                     uncheckedEnqueue(learnt_clause.get(0));
                 } else {
-                    Clause cr = new Clause(learnt_clause.toArray(), true);
+                    int cr = allocClause(learnt_clause, true);
                     learnts.add(cr);
                     attachClause(cr);
                     claBumpActivity(cr);
@@ -572,12 +773,12 @@ public class MiniSat implements SatFactory, Dimacs {
         // Random decision:
         if (rand.nextDouble() < random_var_freq && !order_heap.isEmpty()) {
             next = order_heap.get(rand.nextInt(order_heap.size()));
-            if (valueVar(next) == Boolean.lUndef && decision.get(next))
+            if (assignment_[next] == L_UNDEF && decision.get(next))
                 rnd_decisions++;
         }
 
         // Activity based decision:
-        while (next == varUndef || valueVar(next) != Boolean.lUndef || !decision.get(next))
+        while (next == varUndef || assignment_[next] != L_UNDEF || !decision.get(next))
             if (order_heap.isEmpty()) {
                 next = varUndef;
                 break;
@@ -590,7 +791,7 @@ public class MiniSat implements SatFactory, Dimacs {
                 makeLiteral(next, rnd_pol ? rand.nextDouble() < 0.5 : polarity.get(next));
     }
 
-    int analyze(Clause confl, TIntList out_learnt) {
+    int analyze(int confl, TIntList out_learnt) {
         int pathC = 0;
         int p = litUndef;
 
@@ -601,13 +802,13 @@ public class MiniSat implements SatFactory, Dimacs {
 
         do {
             assert (confl != CR_Undef); // (otherwise should be UIP)
-            Clause c = confl;
+            int c = confl;
 
-            if (c.learnt())
+            if (learnt(c))
                 claBumpActivity(c);
 
-            for (int j = (p == litUndef) ? 0 : 1; j < c.size(); j++) {
-                int q = c._g(j);
+            for (int j = (p == litUndef) ? 0 : 1; j < clauseSize(c); j++) {
+                int q = lit(c, j);
 
                 if (!seen.get(var(q)) && level(var(q)) > 0) {
                     varBumpActivity(var(q));
@@ -652,9 +853,9 @@ public class MiniSat implements SatFactory, Dimacs {
                 if (reason(x) == CR_Undef)
                     out_learnt.set(j++, out_learnt.get(i));
                 else {
-                    Clause c = reason(var(out_learnt.get(i)));
-                    for (int k = 1; k < c.size(); k++)
-                        if (!seen.get(var(c._g(k))) && level(var(c._g(k))) > 0) {
+                    int c = reason(x);
+                    for (int k = 1; k < clauseSize(c); k++)
+                        if (!seen.get(var(lit(c, k))) && level(var(lit(c, k))) > 0) {
                             out_learnt.set(j++, out_learnt.get(i));
                             break;
                         }
@@ -664,7 +865,9 @@ public class MiniSat implements SatFactory, Dimacs {
             j = out_learnt.size();
 
         max_literals += out_learnt.size();
-        out_learnt.subList(j, out_learnt.size()).clear();
+        if (j < out_learnt.size()) {
+            out_learnt.remove(j, out_learnt.size() - j);
+        }
         tot_literals += out_learnt.size();
 
         // Find correct backtrack level:
@@ -716,26 +919,35 @@ public class MiniSat implements SatFactory, Dimacs {
     private void rebuildOrderHeap() {
         TIntList vs = new TIntArrayList();
         for (int v = 0; v < nVars(); v++)
-            if (decision.get(v) && valueVar(v) == Boolean.lUndef)
+            if (decision.get(v) && assignment_[v] == L_UNDEF)
                 vs.add(v);
         order_heap.build(vs);
     }
 
     void reduceDB() {
-        int i, j;
-        double extra_lim = cla_inc / learnts.size();    // Remove any clause below this activity
-
-        learnts.sort(Comparator.comparingDouble(c -> c.activity));
+        int i;
+        int n = learnts.size();
+        double extra_lim = cla_inc / n;    // Remove any clause below this activity
+
+        // sort learnt clauses by increasing activity:
+        // activities are non-negative floats, so their bits are ordered the same way
+        long[] keys = new long[n];
+        for (i = 0; i < n; i++) {
+            int cr = learnts.getQuick(i);
+            keys[i] = (long) arena[cr + 1] << 32 | cr;
+        }
+        Arrays.sort(keys);
+        learnts.resetQuick();
         // Don't delete binary or locked clauses. From the rest, delete clauses from the first half
         // and clauses with activity smaller than 'extra_lim':
-        for (i = j = 0; i < learnts.size(); i++) {
-            Clause c = learnts.get(i);
-            if (c.size() > 2 && !locked(c) && (i < learnts.size() / 2 || c.activity < extra_lim))
-                removeClause(learnts.get(i));
+        for (i = 0; i < n; i++) {
+            int cr = (int) keys[i];
+            if (clauseSize(cr) > 2 && !locked(cr) && (i < n / 2 || claActivity(cr) < extra_lim))
+                removeClause(cr);
             else
-                learnts.set(j++, learnts.get(i));
+                learnts.add(cr);
         }
-        learnts.subList(j, learnts.size()).clear();
+        checkGarbage();
     }
 
 
@@ -745,34 +957,40 @@ public class MiniSat implements SatFactory, Dimacs {
                 (propagation_budget < 0 || propagations < propagation_budget);
     }
 
-    Clause reason(int x) {
-        return vardata.get(x).cr;
+    int reason(int x) {
+        return reason_[x];
     }
 
     int level(int x) {
-        return vardata.get(x).level;
+        return level_[x];
     }
 
-    boolean locked(Clause c) {
-        return valueLit(c._g(0)) == Boolean.lTrue
-                && reason(var(c._g(0))) != CR_Undef
-                && reason(var(c._g(0))) == c;
+    boolean locked(int c) {
+        int l = lit(c, 0);
+        return litValue(l) == L_TRUE
+                && reason_[var(l)] == c;
     }
 
-    void removeClause(Clause cr) {
+    void removeClause(int cr) {
         detachClause(cr);
         // Don't leave pointers to free'd memory!
         if (locked(cr)) {
-            vardata.get(var(cr._g(0))).cr = CR_Undef;
+            reason_[var(lit(cr, 0))] = CR_Undef;
         }
+        if (learnt(cr)) learnts_literals -= clauseSize(cr);
+        else clauses_literals -= clauseSize(cr);
+        freeClause(cr);
     }
 
 
-    void claBumpActivity(Clause c) {
-        if ((c.activity += cla_inc) > 1e20d) {
+    void claBumpActivity(int c) {
+        float a = (float) (claActivity(c) + cla_inc);
+        claActivity(c, a);
+        if (a > 1e20f) {
             // Rescale:
             for (int i = 0; i < learnts.size(); i++) {
-                learnts.get(i).activity *= 1e-20d;
+                int cr = learnts.getQuick(i);
+                claActivity(cr, claActivity(cr) * 1e-20f);
             }
             cla_inc *= 1e-20d;
         }
@@ -783,13 +1001,11 @@ public class MiniSat implements SatFactory, Dimacs {
     }
 
     void varBumpActivity(int v, double inc) {
-        activity.ensureCapacity(nVars());
-        double a = activity.get(v);
+        double a = activity.getQuick(v);
         activity.setQuick(v, a + inc);
         if (a + inc > 1e100) {
             // Rescale:
-            for (int i = 0; i < nVars(); i++)
-                activity.transformValues(value -> value * 1e-100);
+            activity.transformValues(value -> value * 1e-100);
             var_inc *= 1e-100;
         }
         // Update order_heap with respect to new activity:
@@ -884,78 +1100,6 @@ public class MiniSat implements SatFactory, Dimacs {
         return (l >> 1);
     }
 
-    static Boolean makeBoolean(boolean b) {
-        return (b ? Boolean.lTrue : Boolean.lFalse);
-    }
-
-    private static Boolean xor(Boolean a, boolean b) {
-        return Boolean.make((byte) (a.value() ^ (b ? 1 : 0)));
-    }
-
-
-    /**
-     * Clause -- a simple class for representing a clause
-     * <br/>
-     *
-     * @author Charles Prud'homme, Laurent Perron
-     * @since 12/07/13
-     */
-    public static class Clause {
-
-        private final int[] literals_;
-        private final boolean learnt;
-        private double activity;
-
-        Clause(int[] ps, boolean learnt) {
-            literals_ = ps.clone();
-            this.learnt = learnt;
-        }
-
-        Clause(int[] ps) {
-            this(ps, false);
-        }
-
-        public int size() {
-            return literals_.length;
-        }
-
-        public boolean learnt() {
-            return learnt;
-        }
-
-
-        public int _g(int i) {
-            return literals_[i];
-        }
-
-        void _s(int pos, int l) {
-            literals_[pos] = l;
-        }
-
-        public String toString() {
-            return Arrays.toString(literals_);
-        }
-    }
-
-    /**
-     * // A watcher represent a clause attached to a literal.
-     * <br/>
-     * (or-tools, booleans.cc, ty L. Perron).
-     *
-     * @author Charles Prud'homme
-     * @since 12/07/13
-     */
-    static class Watcher {
-
-        Clause clause;
-        int blocker;
-
-        Watcher(final Clause cr, int l) {
-            this.clause = cr;
-            this.blocker = l;
-        }
-    }
-
     /**
      * <br/>
      * (or-tools, booleans.cc, ty L. Perron).
@@ -987,14 +1131,4 @@ public class MiniSat implements SatFactory, Dimacs {
         }
 
     }
-
-    static class VarData {
-        Clause cr;
-        int level;
-
-        public VarData(Clause cr, int level) {
-            this.cr = cr;
-            this.level = level;
-        }
-    }
-}
\ No newline at end of file
+}
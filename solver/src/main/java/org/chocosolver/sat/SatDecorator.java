@@ -32,7 +32,7 @@ import java.util.function.Consumer;
 public class SatDecorator extends MiniSat {
 
     // store clauses dynamically added from outside
-    public ArrayList<Clause> dynClauses = new ArrayList<>();
+    public TIntArrayList dynClauses = new TIntArrayList();
     private final TIntObjectHashMap<Literalizer> lits = new TIntObjectHashMap<>();
     private final HashMap<Variable, List<Literalizer>> vars = new HashMap<>();
     /**
@@ -72,10 +72,11 @@ public class SatDecorator extends MiniSat {
                 ok_ = (propagate() == CR_Undef);
                 return;
             default:
-                Clause cr = new Clause(ps);
+                int cr = allocClause(ps, false);
                 removeDominated(cr);
                 dynClauses.add(cr);
                 attachClause(cr);
+                checkGarbage();
                 break;
         }
     }
@@ -85,21 +86,21 @@ public class SatDecorator extends MiniSat {
      *
      * @param last the clause to compare the other with
      */
-    private void removeDominated(Clause last) {
+    private void removeDominated(int last) {
         for (int c = dynClauses.size() - 1; c >= 0; c--) {
-            Clause prev = dynClauses.get(c);
-            if (last.size() < prev.size()) {
+            int prev = dynClauses.getQuick(c);
+            if (clauseSize(last) < clauseSize(prev)) {
                 int i = 0, j = 0;
-                while (i < last.size() && j < prev.size()) {
-                    int l = last._g(i);
-                    int p = prev._g(j);
+                while (i < clauseSize(last) && j < clauseSize(prev)) {
+                    int l = lit(last, i);
+                    int p = lit(prev, j);
                     if (l < p) break;
                     j++;
                     if (l == p) {
                         i++;
                     }
                 }
-                if (i == last.size() && j == prev.size()) {
+                if (i == clauseSize(last) && j == clauseSize(prev)) {
                     // then 'last' dominates 'prev'
                     detachLearnt(c);
                 }
@@ -108,9 +109,7 @@ public class SatDecorator extends MiniSat {
     }
 
     public void detachLearnt(int ci) {
-        Clause cr = dynClauses.get(ci);
-        detachClause(cr);
-        dynClauses.remove(ci);
+        removeClause(dynClauses.removeAt(ci));
     }
 
     private void dynUncheckedEnqueue(int l) {
@@ -122,13 +121,12 @@ public class SatDecorator extends MiniSat {
     }
 
     public ESat value(int svar) {
-        switch (valueVar(svar)) {
-            case lFalse:
+        switch (assignment_[svar]) {
+            case L_FALSE:
                 return ESat.FALSE;
-            case lTrue:
+            case L_TRUE:
                 return ESat.TRUE;
             default:
-            case lUndef:
                 return ESat.UNDEFINED;
         }
     }
@@ -146,17 +144,17 @@ public class SatDecorator extends MiniSat {
         if (propagate() != CR_Undef) {
             return false;
         }
-        if (valueLit(lit) == Boolean.lTrue) {
+        if (litValue(lit) == L_TRUE) {
             // Dummy decision level:
             pushTrailMarker();
             return true;
-        } else if (valueLit(lit) == Boolean.lFalse) {
+        } else if (litValue(lit) == L_FALSE) {
             return false;
         }
         pushTrailMarker();
         // Unchecked enqueue
-        assert valueLit(lit) == Boolean.lUndef;
-        assignment_.set(var(lit), makeBoolean(sgn(lit)));
+        assert litValue(lit) == L_UNDEF;
+        assignment_[var(lit)] = sgn(lit) ? L_TRUE : L_FALSE;
         trail_.add(lit);
         return propagate() == CR_Undef;
     }
@@ -215,6 +213,12 @@ public class SatDecorator extends MiniSat {
         super.cancelUntil(level);
     }
 
+    @Override
+    void relocAll(int[] from) {
+        super.relocAll(from);
+        relocList(from, dynClauses);
+    }
+
     /**
      * Bind a boolean variable {@code bvar}, from CP side, to a variable from SAT side.
      * It creates the SAT variable and {@link Literalizer.BoolLit} that connect both world.
@@ -252,12 +256,13 @@ public class SatDecorator extends MiniSat {
      * @param clauses list of clause
      * @return <tt>true</tt> if all clauses are satisfied, <tt>false</tt> otherwise
      */
-    public boolean clauseEntailed(ArrayList<Clause> clauses) {
+    public boolean clauseEntailed(TIntList clauses) {
         int lit;
         cl:
-        for (Clause c : clauses) {
-            for (int i = 0; i < c.size(); i++) {
-                lit = c._g(i);
+        for (int k = 0; k < clauses.size(); k++) {
+            int c = clauses.get(k);
+            for (int i = 0; i < clauseSize(c); i++) {
+                lit = lit(c, i);
                 Literalizer ltz = lits.get(var(lit));
                 // ltz is null only for 'addClausesSumBoolArrayLessEqKVar' that needs an extra var.
                 if (ltz == null || lits.get(var(lit)).check(sgn(lit))) {
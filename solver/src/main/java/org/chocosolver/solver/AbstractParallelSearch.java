@@ -0,0 +1,413 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.real.RealConstraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+import org.chocosolver.util.tools.TimeUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Common base of the parallel resolution drivers which run equivalent models, one per thread,
+ * and share among them the stop criteria and the best solution found.
+ * <p>
+ * Sub-problems are described by paths, that is, sequences of decisions stored as
+ * (variable position, operator code, value) triplets, so that a path computed in a model
+ * can be applied in any other equivalent model.
+ * </p>
+ *
+ * <p>
+ * Project: choco.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+abstract class AbstractParallelSearch {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * List of {@link Model}s to be executed in parallel.
+     */
+    final List<Model> models;
+
+    /**
+     * Models already configured by this driver.
+     */
+    final Set<Model> initialized;
+
+    /**
+     * Models whose search strategy has been initialized during the current resolution.
+     */
+    private final Set<Model> ready;
+
+    /**
+     * Stop criteria, shared by all models.
+     */
+    private final List<Criterion> criteria;
+
+    /**
+     * Maximal run time of a resolution, in nanoseconds, or -1 for no limit.
+     */
+    private long timeLimit = -1;
+
+    /**
+     * Time at which the current resolution is stopped, in nanoseconds, if a time limit is set.
+     */
+    private volatile long deadline;
+
+    final AtomicBoolean terminated = new AtomicBoolean(false);
+    final AtomicBoolean stopped = new AtomicBoolean(false);
+
+    /**
+     * Best objective value found so far, if any.
+     */
+    volatile Number bestValue;
+
+    /**
+     * The best solution found so far (or the first one in satisfaction).
+     */
+    Solution bestSolution;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    AbstractParallelSearch() {
+        this.models = new ArrayList<>();
+        this.initialized = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.ready = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        this.criteria = new ArrayList<>();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return the (mutable!) list of models used in this parallel resolution
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * Add stop criteria, shared by all models, to stop the search.
+     *
+     * @param criterion one or more stop criteria
+     */
+    public void addStopCriterion(Criterion... criterion) {
+        Collections.addAll(criteria, criterion);
+    }
+
+    /**
+     * Defines a limit over the run time.
+     * When the limit is reached, the resolution is stopped.
+     * The limit applies to each resolution, and is measured from its beginning.
+     * It replaces the one previously defined, if any.
+     *
+     * @param limit maximal resolution time in millisecond
+     */
+    public void limitTime(long limit) {
+        this.timeLimit = limit * TimeUtils.MILLISECONDS_IN_NANOSECONDS;
+    }
+
+    /**
+     * @return the (best) solution found, or <i>null</i> if none was found.
+     */
+    public Solution getBestSolution() {
+        return bestSolution;
+    }
+
+    /**
+     * @return the best objective value found, or <i>null</i> if none was found.
+     */
+    public Number getBestSolutionValue() {
+        return bestValue;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Check the models can be solved in parallel.
+     *
+     * @throws SolverException               if no model has been added.
+     * @throws UnsupportedOperationException if the objective is not an integer variable,
+     *                                       or if a model relies on Ibex.
+     */
+    void check() {
+        String name = getClass().getSimpleName();
+        if (models.size() == 0) {
+            throw new SolverException("No model found in the " + name + ".");
+        }
+        if (models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            Variable objective = models.get(0).getObjective();
+            if (objective == null) {
+                throw new UnsupportedOperationException("No objective has been defined");
+            }
+            if ((objective.getTypeAndKind() & Variable.INT) == 0) {
+                throw new UnsupportedOperationException(name + " only deals with integer objective");
+            }
+        }
+        for (Constraint c : models.get(0).getCstrs()) {
+            if (c instanceof RealConstraint) {
+                throw new UnsupportedOperationException("Ibex is not multithread safe, " + name + " cannot be used");
+            }
+        }
+    }
+
+    /**
+     * Start a new resolution: clear the stop flags and start the time limit, if any.
+     */
+    void start() {
+        terminated.set(false);
+        stopped.set(false);
+        ready.clear();
+        if (timeLimit >= 0) {
+            deadline = System.nanoTime() + timeLimit;
+        }
+    }
+
+    /**
+     * Declare a default search strategy in <i>model</i> if needed, and plug the monitor that shares its solutions,
+     * the first time the model is met. Then reset its solver.
+     */
+    void prepare(Model model) {
+        Solver solver = model.getSolver();
+        if (!initialized.contains(model)) {
+            if (solver.getSearch() == null) {
+                model.getSettings().makeDefaultSearch(model);
+            }
+            solver.plugMonitor((IMonitorSolution) () -> onSolution(model));
+            initialized.add(model);
+        }
+        solver.reset();
+    }
+
+    boolean isStopCriterionMet() {
+        if (terminated.get()) {
+            return true;
+        }
+        if (timeLimit >= 0 && System.nanoTime() - deadline >= 0) {
+            stopped.set(true);
+            terminated.set(true);
+            return true;
+        }
+        for (int i = 0; i < criteria.size(); i++) {
+            if (criteria.get(i).isMet()) {
+                stopped.set(true);
+                terminated.set(true);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Record the current solution of <i>model</i> if it is the first one, or a better one.
+     * In optimization, a better solution is shared among all models.
+     *
+     * @return <i>true</i> if the solution has been recorded
+     */
+    synchronized boolean onSolution(Model model) {
+        if (model.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            if (!onSatisfaction(model)) {
+                terminated.set(true);
+            }
+            if (bestSolution == null) {
+                bestSolution = new Solution(model).record();
+                return true;
+            }
+            return false;
+        }
+        int val = ((IntVar) model.getObjective()).getValue();
+        boolean better = bestValue == null
+                || (model.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE && val > bestValue.intValue())
+                || (model.getResolutionPolicy() == ResolutionPolicy.MINIMIZE && val < bestValue.intValue());
+        if (better) {
+            bestValue = val;
+            bestSolution = new Solution(model).record();
+            models.forEach(m -> m.getSolver().getObjectiveManager().updateBestSolution(val));
+        }
+        return better;
+    }
+
+    /**
+     * Called on each solution of a satisfaction problem, within {@link #onSolution(Model)}.
+     *
+     * @return <i>true</i> if the resolution should go on, <i>false</i> (default) to stop it
+     */
+    boolean onSatisfaction(Model model) {
+        return false;
+    }
+
+    /**
+     * Apply <i>path</i> in <i>model</i>, then compute the next decision with the search strategy
+     * and pass each consistent child to <i>onChild</i>, with its index (0 for the left branch, 1 for the right one).
+     * <i>onChild</i> is called while the child is propagated in <i>model</i>.
+     *
+     * @return <i>false</i> if <i>path</i> cannot be split, <i>true</i> otherwise
+     */
+    boolean split(Model model, int[] path, ObjIntConsumer<int[]> onChild) {
+        Solver solver = model.getSolver();
+        IEnvironment environment = model.getEnvironment();
+        int base = environment.getWorldIndex();
+        environment.worldPush();
+        try {
+            solver.propagate();
+            apply(model, path, 0, path.length);
+            solver.propagate();
+            AbstractStrategy<?> strategy = solver.getSearch();
+            // the strategy is initialized once per resolution, not on each split
+            if (!ready.contains(model)) {
+                if (!strategy.init()) {
+                    return true;
+                }
+                ready.add(model);
+            }
+            Decision<?> decision = strategy.getDecision();
+            if (!(decision instanceof IntDecision)) {
+                if (decision != null) {
+                    decision.free();
+                }
+                return false;
+            }
+            IntDecision left = (IntDecision) decision;
+            IntDecision right = left.flip();
+            int pos = position(model, left.getDecisionVariable());
+            int[][] branches = new int[][]{
+                    step(path, pos, left.getDecOp(), left.getDecisionValue()),
+                    step(path, pos, right.getDecOp(), right.getDecisionValue())
+            };
+            left.free();
+            right.free();
+            for (int b = 0; b < branches.length; b++) {
+                environment.worldPush();
+                try {
+                    apply(model, branches[b], path.length, branches[b].length);
+                    solver.propagate();
+                    onChild.accept(branches[b], b);
+                } catch (ContradictionException ignored) {
+                    // this branch is inconsistent
+                }
+                environment.worldPop();
+            }
+        } catch (ContradictionException ignored) {
+            // the path itself is inconsistent
+        } finally {
+            environment.worldPopUntil(base);
+            // forces the next resolution to run the initial propagation again
+            solver.getEngine().reset();
+        }
+        return true;
+    }
+
+    /**
+     * Post the decisions of <i>path</i> in <i>model</i>, as temporary constraints.
+     *
+     * @return the constraints posted, to be unposted once the sub-problem is solved
+     */
+    Constraint[] post(Model model, int[] path) {
+        Constraint[] cstrs = new Constraint[path.length / 3];
+        for (int i = 0, j = 0; i < path.length; i += 3, j++) {
+            cstrs[j] = model.arithm((IntVar) model.getVar(path[i]), operator(path[i + 1]), path[i + 2]);
+        }
+        model.post(cstrs);
+        // the resolution about to start initializes the strategy
+        ready.add(model);
+        return cstrs;
+    }
+
+    static void apply(Model model, int[] path, int from, int to) throws ContradictionException {
+        for (int i = from; i < to; i += 3) {
+            IntVar var = (IntVar) model.getVar(path[i]);
+            DecisionOperator<IntVar> op = decisionOperator(path[i + 1]);
+            op.apply(var, path[i + 2], Cause.Null);
+        }
+    }
+
+    static int[] step(int[] path, int pos, DecisionOperator<IntVar> op, int value) {
+        int[] next = Arrays.copyOf(path, path.length + 3);
+        next[path.length] = pos;
+        next[path.length + 1] = code(op);
+        next[path.length + 2] = value;
+        return next;
+    }
+
+    private static int code(DecisionOperator<IntVar> op) {
+        if (op == DecisionOperatorFactory.makeIntEq()) {
+            return 0;
+        } else if (op == DecisionOperatorFactory.makeIntNeq()) {
+            return 1;
+        } else if (op == DecisionOperatorFactory.makeIntSplit()) {
+            return 2;
+        } else if (op == DecisionOperatorFactory.makeIntReverseSplit()) {
+            return 3;
+        }
+        throw new SolverException("Unknown decision operator " + op);
+    }
+
+    static DecisionOperator<IntVar> decisionOperator(int code) {
+        switch (code) {
+            case 0:
+                return DecisionOperatorFactory.makeIntEq();
+            case 1:
+                return DecisionOperatorFactory.makeIntNeq();
+            case 2:
+                return DecisionOperatorFactory.makeIntSplit();
+            default:
+                return DecisionOperatorFactory.makeIntReverseSplit();
+        }
+    }
+
+    static String operator(int code) {
+        switch (code) {
+            case 0:
+                return "=";
+            case 1:
+                return "!=";
+            case 2:
+                return "<=";
+            default:
+                return ">=";
+        }
+    }
+
+    /**
+     * @return the position of <i>var</i> in <i>model</i>, variables being sorted by increasing ID.
+     */
+    static int position(Model model, Variable var) {
+        int pos = model.getVarPosition(var.getId());
+        if (pos < 0) {
+            throw new SolverException("Unknown variable " + var);
+        }
+        return pos;
+    }
+}
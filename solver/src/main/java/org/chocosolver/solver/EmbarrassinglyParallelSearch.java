@@ -0,0 +1,421 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * An Embarrassingly Parallel Search (EPS) helper.
+ * </p>
+ * <p>
+ * Contrary to {@link ParallelPortfolio}, where each model explores the entire search space
+ * with its own configuration, this class splits the search space into many disjoint sub-problems
+ * which are then dispatched to the models in parallel.
+ * The resolution of a problem is made of three steps:
+ *      <ol>
+ *          <li>adding equivalent models (same variables, same constraints, declared in the same order),</li>
+ *          <li>running the resolution in parallel with {@link #solve()} or {@link #findAllSolutions()},</li>
+ *          <li>getting the (best) solution found, if any, with {@link #getBestSolution()}.</li>
+ *      </ol>
+ * </p>
+ * <p>
+ *     The decomposition relies on the search strategy declared in the first model
+ *     (or the default one if none was declared):
+ *     the first decisions it produces are applied and refuted, with propagation,
+ *     until at least {@link #setSubproblemsPerWorker(int)} consistent sub-problems per model exist.
+ *     A sub-problem is a sequence of decisions (e.g., <i>x = 3, y &ne; 2, z &le; 5</i>) which is posted
+ *     as temporary constraints in the model that solves it.
+ * </p>
+ * <p>
+ *     Sub-problems are dispatched to a {@link ForkJoinPool} whose parallelism is the number of models.
+ *     Idle threads steal pending sub-problems from busy ones and, when no more sub-problem is pending,
+ *     a sub-problem about to be solved is split again and its sub-trees made available for stealing.
+ * </p>
+ * <p>
+ *     When dealing with an optimization problem, each new best solution is shared among all models
+ *     through {@link org.chocosolver.solver.objective.IObjectiveManager#updateBestSolution(Number)}.
+ *     It is essential to eagerly declare the objective variable with {@link Model#setObjective(boolean, Variable)}.
+ * </p>
+ * <p>
+ *     Since a model is reset between two sub-problems, the stop criteria declared directly in the models are lost.
+ *     Declare them with {@link #addStopCriterion(Criterion...)} instead.
+ *     Moreover, nogoods recorded on restarts or learnt clauses are only valid in the sub-problem
+ *     they come from, so such features should not be enabled in the models.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      eps.addModel(modeller());
+ * }
+ * eps.solve();
+ * Solution best = eps.getBestSolution();
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * Project: choco.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class EmbarrassinglyParallelSearch extends AbstractParallelSearch {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Models not currently solving a sub-problem.
+     */
+    private final BlockingQueue<Model> available;
+
+    /**
+     * Expected number of sub-problems per model, after the initial decomposition.
+     */
+    private int subproblemsPerWorker = 30;
+
+    /**
+     * Sub-problems are not split beyond this number of decisions.
+     */
+    private int maxSplitDepth = 64;
+
+    /**
+     * Set to <i>true</i> to record all solutions (satisfaction problems only).
+     */
+    private boolean enumerate;
+
+    private final AtomicInteger nbSubproblems = new AtomicInteger();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder fails = new LongAdder();
+
+    /**
+     * All solutions found, when enumerating.
+     */
+    private final List<Solution> solutions;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new EmbarrassinglyParallelSearch.
+     * This class stores the models to be executed in parallel in a {@link ArrayList} initially empty.
+     */
+    public EmbarrassinglyParallelSearch() {
+        this.available = new LinkedBlockingQueue<>();
+        this.solutions = new ArrayList<>();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>
+     * Adds a model to the list of models to run in parallel.
+     * The model should be populated before calling {@link #solve()}.
+     * </p>
+     * <p>
+     * <b>Important:</b> all models are expected to be equivalent, that is,
+     * each variable has the same ID in each model.
+     * When dealing with optimization problems, the objective variables <b>HAVE</b> to be declared eagerly with
+     * {@link Model#setObjective(boolean, Variable)}.
+     * </p>
+     *
+     * @param model a model to add
+     */
+    public void addModel(Model model) {
+        this.models.add(model);
+    }
+
+    /**
+     * Set the expected number of sub-problems per model to create on initial decomposition (default is 30).
+     * The higher, the better the load balancing, but the higher the overhead.
+     *
+     * @param n number of sub-problems per model
+     * @return this
+     */
+    public EmbarrassinglyParallelSearch setSubproblemsPerWorker(int n) {
+        if (n < 1) {
+            throw new SolverException("The number of sub-problems per worker should be strictly positive");
+        }
+        this.subproblemsPerWorker = n;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of decisions a sub-problem can be made of (default is 64).
+     *
+     * @param depth maximum depth of the decomposition
+     * @return this
+     */
+    public EmbarrassinglyParallelSearch setMaxSplitDepth(int depth) {
+        this.maxSplitDepth = depth;
+        return this;
+    }
+
+    /**
+     * Run the resolution in parallel.
+     * <ul>
+     *     <li>For a satisfaction problem, the resolution stops on the first solution.</li>
+     *     <li>For an optimization problem, the resolution stops when the best solution is proven optimal,
+     *     or when a stop criterion is met.</li>
+     * </ul>
+     * The (best) solution is then available with {@link #getBestSolution()}.
+     *
+     * @return <code>true</code> if and only if at least one solution has been found.
+     * @throws SolverException if no model has been added.
+     */
+    public boolean solve() {
+        enumerate = false;
+        run();
+        return bestSolution != null;
+    }
+
+    /**
+     * Find all solutions of a satisfaction problem, in parallel.
+     * Note that solutions are returned in no particular order
+     * and that the list may be incomplete if a stop criterion is met.
+     *
+     * @return the list of solutions found.
+     * @throws SolverException if no model has been added or if the problem is not a satisfaction one.
+     */
+    public List<Solution> findAllSolutions() {
+        if (!models.isEmpty() && models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            throw new SolverException("findAllSolutions() only applies to satisfaction problems");
+        }
+        enumerate = true;
+        run();
+        return new ArrayList<>(solutions);
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution explored all sub-problems,
+     * that is, no stop criterion was met.
+     */
+    public boolean isSearchCompleted() {
+        return !stopped.get();
+    }
+
+    /**
+     * @return the number of sub-problems created during the last resolution,
+     * including the ones created by dynamic splitting.
+     */
+    public int getSubproblemCount() {
+        return nbSubproblems.get();
+    }
+
+    /**
+     * @return the number of nodes explored by all models during the last resolution.
+     */
+    public long getNodeCount() {
+        return nodes.sum();
+    }
+
+    /**
+     * @return the number of failures encountered by all models during the last resolution.
+     */
+    public long getFailCount() {
+        return fails.sum();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void run() {
+        check();
+        start();
+        nbSubproblems.set(0);
+        nodes.reset();
+        fails.reset();
+        bestValue = null;
+        bestSolution = null;
+        solutions.clear();
+        available.clear();
+        for (Model m : models) {
+            prepare(m);
+        }
+        List<int[]> subproblems = decompose(models.get(0), models.size() * subproblemsPerWorker);
+        available.addAll(models);
+        ForkJoinPool pool = new ForkJoinPool(models.size());
+        try {
+            List<SubTree> tasks = new ArrayList<>(subproblems.size());
+            for (int[] path : subproblems) {
+                tasks.add(new SubTree(path));
+            }
+            nbSubproblems.addAndGet(tasks.size());
+            pool.submit(() -> ForkJoinTask.invokeAll(tasks)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped.set(true);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SolverException) {
+                throw (SolverException) e.getCause();
+            }
+            throw new SolverException(e.getCause().getMessage());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Override
+    boolean onSatisfaction(Model model) {
+        if (enumerate) {
+            solutions.add(new Solution(model).record());
+        }
+        return enumerate;
+    }
+
+    /**
+     * Split the search space of <i>model</i> in (at least) <i>target</i> sub-problems, if possible.
+     * Sub-problems are expanded in breadth-first order.
+     */
+    private List<int[]> decompose(Model model, int target) {
+        ArrayDeque<int[]> open = new ArrayDeque<>();
+        List<int[]> closed = new ArrayList<>();
+        open.add(new int[0]);
+        while (!open.isEmpty() && open.size() + closed.size() < target) {
+            int[] path = open.pollFirst();
+            if (path.length / 3 >= maxSplitDepth) {
+                closed.add(path);
+                continue;
+            }
+            List<int[]> children = expand(model, path);
+            if (children == null) {
+                closed.add(path); // cannot be split anymore
+            } else {
+                open.addAll(children);
+            }
+        }
+        closed.addAll(open);
+        return closed;
+    }
+
+    /**
+     * Apply <i>path</i> in <i>model</i>, then compute the next decision with the search strategy
+     * and return the consistent children.
+     *
+     * @return the consistent children of <i>path</i> (possibly empty),
+     * or <i>null</i> if <i>path</i> cannot be split.
+     */
+    private List<int[]> expand(Model model, int[] path) {
+        List<int[]> children = new ArrayList<>(2);
+        return split(model, path, (child, b) -> children.add(child)) ? children : null;
+    }
+
+    /**
+     * Solve the sub-problem described by <i>path</i> in <i>model</i>.
+     */
+    private void solve(Model model, int[] path) {
+        Solver solver = model.getSolver();
+        Constraint[] cstrs = post(model, path);
+        try {
+            solver.addStopCriterion(this::isStopCriterionMet);
+            if (bestValue != null) {
+                solver.getObjectiveManager().updateBestSolution(bestValue);
+            }
+            //noinspection StatementWithEmptyBody
+            while (solver.solve() && (enumerate || model.getResolutionPolicy() != ResolutionPolicy.SATISFACTION)) {
+            }
+        } finally {
+            nodes.add(solver.getNodeCount());
+            fails.add(solver.getFailCount());
+            solver.reset();
+            model.unpost(cstrs);
+        }
+    }
+
+    /**
+     * Takes an available model, letting the pool compensate for the blocked worker thread, if needed.
+     */
+    private final class ModelTaker implements ForkJoinPool.ManagedBlocker {
+
+        private Model model;
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (model == null) {
+                model = available.take();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return model != null || (model = available.poll()) != null;
+        }
+    }
+
+    /**
+     * A sub-tree to explore.
+     * When there is no more pending work in the pool, it is split again before being solved,
+     * so that idle threads can steal its sub-trees.
+     */
+    private final class SubTree extends RecursiveAction {
+
+        private final int[] path;
+
+        SubTree(int[] path) {
+            this.path = path;
+        }
+
+        @Override
+        protected void compute() {
+            if (isStopCriterionMet()) {
+                return;
+            }
+            List<int[]> children = null;
+            ModelTaker taker = new ModelTaker();
+            try {
+                ForkJoinPool.managedBlock(taker);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Model model = taker.model;
+            try {
+                if (path.length / 3 < maxSplitDepth && getSurplusQueuedTaskCount() <= 0
+                        && getPool().getQueuedTaskCount() == 0) {
+                    children = expand(model, path);
+                }
+                if (children == null) {
+                    EmbarrassinglyParallelSearch.this.solve(model, path);
+                }
+            } finally {
+                available.add(model);
+            }
+            if (children != null && !children.isEmpty()) {
+                nbSubproblems.addAndGet(children.size() - 1);
+                List<SubTree> tasks = new ArrayList<>(children.size());
+                for (int[] child : children) {
+                    tasks.add(new SubTree(child));
+                }
+                invokeAll(tasks);
+            }
+        }
+    }
+}
@@ -27,6 +27,35 @@ import java.util.function.Consumer;
  */
 public interface ICause  {
 
+    /**
+     * Kinds of cause, to dispatch on during conflict analysis.
+     */
+    enum Kind {
+        /**
+         * Any cause not listed below
+         */
+        OTHER,
+        /**
+         * A propagator, except the ones below
+         */
+        PROPAGATOR,
+        /**
+         * A propagator of a signed clause, which explains itself
+         */
+        CLAUSE,
+        /**
+         * A decision over an integer variable
+         */
+        DECISION
+    }
+
+    /**
+     * @return the kind of this cause, to avoid type checks during conflict analysis
+     */
+    default Kind getKind() {
+        return Kind.OTHER;
+    }
+
     /**
      * Clausal explanation for this cause.
      * <p>
@@ -354,6 +354,31 @@ public class Model implements IModel {
         return vars[i];
     }
 
+    /**
+     * Returns the position, within the array of variables defined in <code>this</code>, of the variable whose ID is <i>id</i>.
+     * Since variables are stored by increasing ID, this is useful to find the counterpart of a variable
+     * in an equivalent model (that is, a model where each variable has the same ID).
+     *
+     * @param id ID of the variable to look for
+     * @return the position of the variable, or -1 if no variable of <code>this</code> has this ID
+     */
+    public int getVarPosition(int id) {
+        int low = 0;
+        int high = vIdx - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = vars[mid].getId() - id;
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns the number of {@link IntVar} of the model involved in <code>this</code>,
      * <b>excluding</b> {@link BoolVar} if <i>includeBoolVar</i>=<i>false</i>.
@@ -973,6 +998,7 @@ public class Model implements IModel {
      *
      * @param constraints the constraints to remove
      * @throws SolverException if a constraint is unknown from the model
+     *                         or was posted before the scope currently open (see {@link Solver#pushScope()})
      */
     public void unpost(Constraint... constraints) throws SolverException {
         if (constraints != null) {
@@ -982,6 +1008,9 @@ public class Model implements IModel {
                     throw new SolverException("The constraint " + c + " was not posted to the model and cannot be unposted");
                 }
                 int idx = c.getCidxInModel();
+                if (idx < getSolver().getScopeFloor()) {
+                    throw new SolverException("The constraint " + c + " was posted before the current scope and cannot be unposted");
+                }
                 c.declareAs(Constraint.Status.FREE, -1);
                 c.ignore();
                 // 2. remove it from the network
@@ -0,0 +1,567 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.move.Move;
+import org.chocosolver.solver.search.loop.move.MoveBinaryLDS;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A parallel variant of Limited Discrepancy Search[1] and of Hybrid Best-First Search[2].
+ * </p>
+ * <p>
+ * [1]:W.D. Harvey and M.L.Ginsberg, Limited Discrepancy Search, IJCAI-95.
+ * <br/>
+ * [2]:D. Allouche, S. de Givry, G. Katsirelos, T. Schiex, M. Zytnicki,
+ * Anytime Hybrid Best-First Search with Tree Decomposition for Weighted CSP, CP-2015.
+ * </p>
+ * <p>
+ * Like {@link EmbarrassinglyParallelSearch}, it relies on equivalent models, one per thread.
+ * Open nodes, that is, sequences of decisions (e.g., <i>x = 3, y &ne; 2, z &le; 5</i>) to be explored,
+ * are stored in a shared priority queue and pulled by the models.
+ * They are ordered either by number of discrepancies ({@link Order#DISCREPANCY})
+ * or by bound of the objective variable ({@link Order#BOUND}).
+ * </p>
+ * <p>
+ * A model pulling an open node first runs a depth-first search restricted to it,
+ * limited to {@link #setProbeLimit(long)} backtracks.
+ * If the sub-tree is not exhausted, the node is split with the search strategy of the model,
+ * and its consistent children are pushed in the queue.
+ * While there are fewer open nodes than models, nodes are split without being probed.
+ * </p>
+ * <p>
+ * The number of open nodes is capped by {@link #setMaxOpenNodes(int)}.
+ * A child which does not fit in the queue is handled according to the {@link SpillPolicy}:
+ * either it is explored depth-first, without limit, by the model which created it,
+ * or it is discarded, making the resolution incomplete.
+ * </p>
+ * <p>
+ *     When dealing with an optimization problem, each new best solution is shared among all models,
+ *     and open nodes whose bound cannot improve it are pruned.
+ *     It is essential to eagerly declare the objective variable with {@link Model#setObjective(boolean, Variable)}.
+ *     Stop criteria should be declared with {@link #addStopCriterion(Criterion...)}.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelBestFirstSearch bfs = new ParallelBestFirstSearch(ParallelBestFirstSearch.Order.BOUND);
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      bfs.addModel(modeller());
+ * }
+ * bfs.setMaxOpenNodes(100_000);
+ * bfs.solve();
+ * Solution best = bfs.getBestSolution();
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * Project: choco.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class ParallelBestFirstSearch extends AbstractParallelSearch {
+
+    /**
+     * How open nodes are ordered.
+     */
+    public enum Order {
+        /**
+         * Fewest discrepancies first (the number of refuted decisions in the node),
+         * as in Limited Discrepancy Search.
+         */
+        DISCREPANCY,
+        /**
+         * Best bound of the objective variable first, as in Hybrid Best-First Search.
+         * Only applies to optimization problems.
+         */
+        BOUND
+    }
+
+    /**
+     * What to do with an open node when the queue is full.
+     */
+    public enum SpillPolicy {
+        /**
+         * The node is explored depth-first, without limit, by the model which created it.
+         * The resolution remains complete.
+         */
+        DEPTH_FIRST,
+        /**
+         * The node is discarded. The resolution becomes incomplete.
+         */
+        DISCARD
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * How open nodes are ordered.
+     */
+    private final Order order;
+
+    /**
+     * What to do with an open node when the queue is full.
+     */
+    private SpillPolicy spillPolicy = SpillPolicy.DEPTH_FIRST;
+
+    /**
+     * Maximum number of open nodes in the queue.
+     */
+    private int maxOpenNodes = 100_000;
+
+    /**
+     * Maximum number of backtracks of the depth-first search run on an open node before splitting it.
+     */
+    private long probeLimit = 1000;
+
+    /**
+     * Maximum number of discrepancies of an open node, in {@link Order#DISCREPANCY}.
+     */
+    private int maxDiscrepancy = Integer.MAX_VALUE;
+
+    /**
+     * Open nodes are not split beyond this number of decisions.
+     */
+    private int maxSplitDepth = 64;
+
+    /**
+     * The open nodes.
+     */
+    private PriorityBlockingQueue<Node> open;
+
+    /**
+     * Number of open nodes either in the queue or being explored.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final AtomicBoolean discarded = new AtomicBoolean(false);
+    private final LongAdder explored = new LongAdder();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder fails = new LongAdder();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new ParallelBestFirstSearch.
+     * This class stores the models to be executed in parallel in a {@link ArrayList} initially empty.
+     *
+     * @param order how open nodes are ordered
+     */
+    public ParallelBestFirstSearch(Order order) {
+        this.order = order;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>
+     * Adds a model to the list of models to run in parallel.
+     * The model should be populated before calling {@link #solve()}.
+     * </p>
+     * <p>
+     * <b>Important:</b> all models are expected to be equivalent, that is,
+     * each variable has the same ID in each model.
+     * When dealing with optimization problems, the objective variables <b>HAVE</b> to be declared eagerly with
+     * {@link Model#setObjective(boolean, Variable)}.
+     * </p>
+     *
+     * @param model a model to add
+     */
+    public void addModel(Model model) {
+        this.models.add(model);
+    }
+
+    /**
+     * Set the maximum number of open nodes stored in the queue (default is 100,000),
+     * and what to do with a node which does not fit in it (default is {@link SpillPolicy#DEPTH_FIRST}).
+     *
+     * @param n      maximum number of open nodes
+     * @param policy what to do with a node when the queue is full
+     * @return this
+     */
+    public ParallelBestFirstSearch setMaxOpenNodes(int n, SpillPolicy policy) {
+        if (n < 1) {
+            throw new SolverException("The maximum number of open nodes should be strictly positive");
+        }
+        this.maxOpenNodes = n;
+        this.spillPolicy = policy;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of open nodes stored in the queue (default is 100,000).
+     *
+     * @param n maximum number of open nodes
+     * @return this
+     */
+    public ParallelBestFirstSearch setMaxOpenNodes(int n) {
+        return setMaxOpenNodes(n, spillPolicy);
+    }
+
+    /**
+     * Set the maximum number of backtracks of the depth-first search run on an open node
+     * before splitting it (default is 1000).
+     * The higher, the less open nodes, but the less the search is guided by their order.
+     *
+     * @param backtracks maximum number of backtracks, 0 to split open nodes without probing them
+     * @return this
+     */
+    public ParallelBestFirstSearch setProbeLimit(long backtracks) {
+        this.probeLimit = backtracks;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of discrepancies allowed, when open nodes are ordered by {@link Order#DISCREPANCY}.
+     * The decisions refuted by the depth-first searches count as discrepancies too.
+     * By default, the number of discrepancies is not limited.
+     *
+     * @param discrepancy maximum number of discrepancies
+     * @return this
+     */
+    public ParallelBestFirstSearch setMaxDiscrepancy(int discrepancy) {
+        this.maxDiscrepancy = discrepancy;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of decisions an open node can be made of (default is 64).
+     * Deeper nodes are explored depth-first, without limit.
+     *
+     * @param depth maximum depth of an open node
+     * @return this
+     */
+    public ParallelBestFirstSearch setMaxSplitDepth(int depth) {
+        this.maxSplitDepth = depth;
+        return this;
+    }
+
+    /**
+     * Run the resolution in parallel.
+     * <ul>
+     *     <li>For a satisfaction problem, the resolution stops on the first solution.</li>
+     *     <li>For an optimization problem, the resolution stops when the best solution is proven optimal,
+     *     or when a stop criterion is met.</li>
+     * </ul>
+     * The (best) solution is then available with {@link #getBestSolution()}.
+     *
+     * @return <code>true</code> if and only if at least one solution has been found.
+     * @throws SolverException if no model has been added.
+     * @throws UnsupportedOperationException if open nodes are ordered by bound in a satisfaction problem.
+     */
+    public boolean solve() {
+        check();
+        start();
+        discarded.set(false);
+        pending.set(0);
+        peak.set(0);
+        explored.reset();
+        nodes.reset();
+        fails.reset();
+        bestValue = null;
+        bestSolution = null;
+        for (Model m : models) {
+            prepare(m);
+        }
+        open = new PriorityBlockingQueue<>(64, comparator(models.get(0).getResolutionPolicy()));
+        boolean minimize = models.get(0).getResolutionPolicy() == ResolutionPolicy.MINIMIZE;
+        offer(new Node(new int[0], 0, minimize ? Integer.MIN_VALUE : Integer.MAX_VALUE));
+        ExecutorService pool = Executors.newFixedThreadPool(models.size());
+        try {
+            List<Future<?>> workers = new ArrayList<>(models.size());
+            for (Model m : models) {
+                workers.add(pool.submit(() -> work(m)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped.set(true);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SolverException) {
+                throw (SolverException) e.getCause();
+            }
+            throw new SolverException(e.getCause().getMessage());
+        } finally {
+            terminated.set(true);
+            pool.shutdownNow();
+            open.clear();
+        }
+        return bestSolution != null;
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution explored the whole search space,
+     * that is, no stop criterion was met and no open node was discarded.
+     */
+    public boolean isSearchCompleted() {
+        return !stopped.get() && !discarded.get();
+    }
+
+    /**
+     * @return the number of open nodes pulled from the queue during the last resolution.
+     */
+    public long getOpenNodeCount() {
+        return explored.sum();
+    }
+
+    /**
+     * @return the maximum number of open nodes stored in the queue at once during the last resolution.
+     */
+    public int getPeakOpenNodes() {
+        return peak.get();
+    }
+
+    /**
+     * @return the number of nodes explored by all models during the last resolution.
+     */
+    public long getNodeCount() {
+        return nodes.sum();
+    }
+
+    /**
+     * @return the number of failures encountered by all models during the last resolution.
+     */
+    public long getFailCount() {
+        return fails.sum();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Pull open nodes and explore them until there are no more of them or a stop criterion is met.
+     */
+    private void work(Model model) {
+        while (!isStopCriterionMet()) {
+            Node node;
+            try {
+                node = open.poll(1, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (node == null) {
+                if (pending.get() == 0) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                explored.increment();
+                explore(model, node);
+            } finally {
+                // decremented once the children have been pushed, so that pending cannot reach 0 too early
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    private void explore(Model model, Node node) {
+        if (!isValid(model, node.bound)) {
+            return;
+        }
+        if (node.depth() >= maxSplitDepth) {
+            solve(model, node, 0);
+            return;
+        }
+        if (probeLimit > 0 && open.size() >= models.size() && solve(model, node, probeLimit)) {
+            return; // the sub-tree has been exhausted
+        }
+        if (isStopCriterionMet()) {
+            return;
+        }
+        List<Node> children = expand(model, node);
+        if (children == null) {
+            solve(model, node, 0);
+            return;
+        }
+        List<Node> spilled = null;
+        for (Node child : children) {
+            if (order == Order.DISCREPANCY && child.discrepancy > maxDiscrepancy) {
+                discarded.set(true);
+            } else if (open.size() < maxOpenNodes) {
+                offer(child);
+            } else if (spillPolicy == SpillPolicy.DEPTH_FIRST) {
+                if (spilled == null) {
+                    spilled = new ArrayList<>(2);
+                }
+                spilled.add(child);
+            } else {
+                discarded.set(true);
+            }
+        }
+        if (spilled != null) {
+            for (int i = 0; i < spilled.size() && !isStopCriterionMet(); i++) {
+                if (isValid(model, spilled.get(i).bound)) {
+                    solve(model, spilled.get(i), 0);
+                }
+            }
+        }
+    }
+
+    private void offer(Node node) {
+        pending.incrementAndGet();
+        open.offer(node);
+        peak.accumulateAndGet(open.size(), Math::max);
+    }
+
+    /**
+     * Apply the decisions of <i>node</i> in <i>model</i>, then compute the next decision with the search strategy
+     * and return the consistent children, with their bound.
+     *
+     * @return the consistent children of <i>node</i> (possibly empty),
+     * or <i>null</i> if <i>node</i> cannot be split.
+     */
+    private List<Node> expand(Model model, Node node) {
+        List<Node> children = new ArrayList<>(2);
+        // the right branch is a discrepancy
+        boolean split = split(model, node.path,
+                (child, b) -> children.add(new Node(child, node.discrepancy + b, bound(model))));
+        return split ? children : null;
+    }
+
+    /**
+     * Explore depth-first the sub-tree rooted in <i>node</i>, in <i>model</i>.
+     *
+     * @param limit maximum number of backtracks, 0 for no limit
+     * @return <i>true</i> if the sub-tree has been exhausted
+     */
+    private boolean solve(Model model, Node node, long limit) {
+        Solver solver = model.getSolver();
+        Constraint[] cstrs = post(model, node.path);
+        Move move = solver.getMove();
+        try {
+            solver.addStopCriterion(this::isStopCriterionMet);
+            if (limit > 0) {
+                solver.limitBacktrack(limit);
+            }
+            if (order == Order.DISCREPANCY && maxDiscrepancy < Integer.MAX_VALUE) {
+                solver.setMove(new MoveBinaryLDS(solver.getSearch(), maxDiscrepancy - node.discrepancy,
+                        model.getEnvironment()));
+            }
+            if (bestValue != null) {
+                solver.getObjectiveManager().updateBestSolution(bestValue);
+            }
+            //noinspection StatementWithEmptyBody
+            while (solver.solve() && model.getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            }
+            return !solver.isStopCriterionMet();
+        } finally {
+            nodes.add(solver.getNodeCount());
+            fails.add(solver.getFailCount());
+            solver.reset();
+            solver.setMove(move);
+            model.unpost(cstrs);
+        }
+    }
+
+    /**
+     * @return the current bound of the objective variable of <i>model</i>,
+     * its lower bound in minimization and its upper bound in maximization.
+     */
+    private static int bound(Model model) {
+        switch (model.getResolutionPolicy()) {
+            case MINIMIZE:
+                return ((IntVar) model.getObjective()).getLB();
+            case MAXIMIZE:
+                return ((IntVar) model.getObjective()).getUB();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * @return <i>true</i> if an open node with bound <i>bound</i> may improve the best solution found so far.
+     */
+    private boolean isValid(Model model, int bound) {
+        Number best = bestValue;
+        if (best == null) {
+            return true;
+        }
+        switch (model.getResolutionPolicy()) {
+            case MINIMIZE:
+                return bound < best.intValue();
+            case MAXIMIZE:
+                return bound > best.intValue();
+            default:
+                return true;
+        }
+    }
+
+    private Comparator<Node> comparator(ResolutionPolicy policy) {
+        // the best bound first
+        Comparator<Node> bound = Comparator.comparingInt((Node n) -> n.bound);
+        if (policy == ResolutionPolicy.MAXIMIZE) {
+            bound = bound.reversed();
+        }
+        // the deepest first
+        Comparator<Node> depth = Comparator.comparingInt((Node n) -> -n.path.length);
+        Comparator<Node> discrepancy = Comparator.comparingInt((Node n) -> n.discrepancy);
+        if (order == Order.BOUND) {
+            return bound.thenComparing(depth).thenComparing(discrepancy);
+        }
+        return discrepancy.thenComparing(bound).thenComparing(depth);
+    }
+
+    @Override
+    void check() {
+        super.check();
+        if (models.get(0).getResolutionPolicy() == ResolutionPolicy.SATISFACTION && order == Order.BOUND) {
+            throw new UnsupportedOperationException("Best-first search is not adapted to satisfaction problems.");
+        }
+    }
+
+    /**
+     * An open node: the decisions leading to it, as (variable position, operator, value) triplets,
+     * its number of discrepancies and the bound of the objective variable once they are propagated.
+     */
+    private static final class Node {
+
+        private final int[] path;
+        private final int discrepancy;
+        private final int bound;
+
+        Node(int[] path, int discrepancy, int bound) {
+            this.path = path;
+            this.discrepancy = discrepancy;
+            this.bound = bound;
+        }
+
+        int depth() {
+            return path.length / 3;
+        }
+    }
+}
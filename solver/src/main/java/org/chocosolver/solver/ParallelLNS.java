@@ -0,0 +1,464 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.bandit.Policy;
+import org.chocosolver.util.bandit.UCB1;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * A parallel Large Neighborhood Search.
+ * </p>
+ * <p>
+ * Like {@link ParallelBestFirstSearch}, it relies on equivalent models, one per thread.
+ * Each model runs its own LNS (see {@link MoveLNS}), and is given its own instances of the same neighborhoods,
+ * declared in the same order with {@link #addModel(Model, INeighbor...)}.
+ * </p>
+ * <p>
+ * The models share the best solution found so far, the <i>incumbent</i>:
+ * each new best solution is published to all models, which relax it the next time they select a fragment.
+ * A model which has not found a solution yet starts from the incumbent, if any.
+ * </p>
+ * <p>
+ * Each time a model selects a fragment, the neighborhood is chosen by a multi-armed bandit policy
+ * (by default, {@link UCB1}), shared by all models.
+ * The policy is rewarded by 1 when the fragment improves the incumbent, and by 0 otherwise.
+ * A fragment is abandoned after {@link #setRestartFailLimit(long)} failures.
+ * </p>
+ * <p>
+ *     The resolution stops when a stop criterion, declared with {@link #addStopCriterion(Criterion...)}, is met,
+ *     or when a model proves the optimality of the incumbent.
+ *     It is essential to eagerly declare the objective variable with {@link Model#setObjective(boolean, Variable)}.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelLNS lns = new ParallelLNS();
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      Model model = modeller();
+ *      IntVar[] vars = ...;
+ *      lns.addModel(model, new RandomNeighborhood(vars, 4, i), new PropagationGuidedNeighborhood(vars, 30, 10, i));
+ * }
+ * lns.limitTime(10_000);
+ * lns.solve();
+ * Solution best = lns.getBestSolution();
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * Project: choco.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class ParallelLNS extends AbstractParallelSearch {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Neighborhoods of each model.
+     */
+    private final List<INeighbor[]> neighbors;
+
+    /**
+     * Creates the neighborhood selection policy, given the number of neighborhoods.
+     */
+    private IntFunction<Policy> policyFactory = UCB1::new;
+
+    /**
+     * Number of failures after which a fragment is abandoned.
+     */
+    private long restartFailLimit = 100;
+
+    /**
+     * The neighborhood selection policy, shared by all models.
+     */
+    private Policy policy;
+
+    /**
+     * Number of neighborhoods selected so far.
+     */
+    private int step;
+
+    /**
+     * Number of fragments, and of fragments which improved the incumbent, per neighborhood.
+     */
+    private long[] runs;
+    private long[] improvements;
+
+    /**
+     * The best solution found so far, if any, as seen by the neighborhoods.
+     */
+    private final AtomicReference<Incumbent> incumbent = new AtomicReference<>();
+
+    private final AtomicBoolean proven = new AtomicBoolean(false);
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new ParallelLNS.
+     * This class stores the models to be executed in parallel in a {@link ArrayList} initially empty.
+     */
+    public ParallelLNS() {
+        this.neighbors = new ArrayList<>();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>
+     * Adds a model to the list of models to run in parallel, with its neighborhoods.
+     * The model should be populated, and its search strategy declared, before calling {@link #solve()}.
+     * </p>
+     * <p>
+     * <b>Important:</b> all models are expected to be equivalent, that is,
+     * each variable has the same ID in each model.
+     * The <i>i</i>-th neighborhood of each model should be of the same kind,
+     * since the selection policy considers them as the same arm.
+     * The objective variables <b>HAVE</b> to be declared eagerly with
+     * {@link Model#setObjective(boolean, Variable)}.
+     * </p>
+     *
+     * @param model     a model to add
+     * @param neighbors neighborhoods of the model, over its variables
+     */
+    public void addModel(Model model, INeighbor... neighbors) {
+        this.models.add(model);
+        this.neighbors.add(neighbors);
+    }
+
+    /**
+     * Set how neighborhoods are selected (default is {@link UCB1}).
+     * The policy is created, then shared by all models, on the first call to {@link #solve()}.
+     *
+     * @param policyFactory creates a policy given the number of neighborhoods, for instance {@code MOSS::new}
+     * @return this
+     */
+    public ParallelLNS setPolicy(IntFunction<Policy> policyFactory) {
+        this.policyFactory = policyFactory;
+        return this;
+    }
+
+    /**
+     * Set the number of failures after which a fragment is abandoned (default is 100).
+     * Only applies to models not solved yet.
+     *
+     * @param fails maximum number of failures per fragment
+     * @return this
+     */
+    public ParallelLNS setRestartFailLimit(long fails) {
+        if (fails < 1) {
+            throw new SolverException("The number of failures per fragment should be strictly positive");
+        }
+        this.restartFailLimit = fails;
+        return this;
+    }
+
+    /**
+     * Run the resolution in parallel, until a stop criterion is met or a model proves the optimality
+     * of the best solution found.
+     * The best solution is then available with {@link #getBestSolution()}.
+     *
+     * @return <code>true</code> if and only if at least one solution has been found.
+     * @throws SolverException if no model has been added, or if models do not declare the same number of neighborhoods.
+     * @throws UnsupportedOperationException if the problem is not an optimization problem over an integer variable.
+     */
+    public boolean solve() {
+        check();
+        start();
+        if (policy == null) {
+            int n = neighbors.get(0).length;
+            policy = policyFactory.apply(n);
+            policy.init();
+            runs = new long[n];
+            improvements = new long[n];
+        }
+        for (int i = 0; i < models.size(); i++) {
+            prepare(models.get(i), neighbors.get(i));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(models.size());
+        try {
+            List<Future<?>> workers = new ArrayList<>(models.size());
+            for (Model m : models) {
+                workers.add(pool.submit(() -> work(m)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SolverException) {
+                throw (SolverException) e.getCause();
+            }
+            throw new SolverException(e.getCause().getMessage());
+        } finally {
+            terminated.set(true);
+            pool.shutdownNow();
+        }
+        return bestSolution != null;
+    }
+
+    /**
+     * @return <i>true</i> if a model has proven the optimality of the best solution found
+     * (or the absence of solution).
+     */
+    public boolean isSearchCompleted() {
+        return proven.get();
+    }
+
+    /**
+     * @param neighborhood index of a neighborhood, as declared in {@link #addModel(Model, INeighbor...)}
+     * @return the number of fragments built with this neighborhood by all models
+     */
+    public synchronized long getRunCount(int neighborhood) {
+        return runs == null ? 0 : runs[neighborhood];
+    }
+
+    /**
+     * @param neighborhood index of a neighborhood, as declared in {@link #addModel(Model, INeighbor...)}
+     * @return the number of fragments built with this neighborhood which improved the best solution
+     */
+    public synchronized long getImprovementCount(int neighborhood) {
+        return improvements == null ? 0 : improvements[neighborhood];
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void prepare(Model model, INeighbor[] arms) {
+        Solver solver = model.getSolver();
+        if (!initialized.contains(model)) {
+            if (solver.getSearch() == null) {
+                model.getSettings().makeDefaultSearch(model);
+            }
+            Worker worker = new Worker(model, new Neighborhoods(arms));
+            solver.setMove(worker);
+            solver.plugMonitor(worker);
+            solver.addStopCriterion(this::isStopCriterionMet);
+            initialized.add(model);
+        }
+    }
+
+    /**
+     * Run the LNS of a model until it is stopped or proves optimality.
+     */
+    private void work(Model model) {
+        Solver solver = model.getSolver();
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) {
+            // solutions are published on the fly
+        }
+        if (solver.getSearchState() == SearchState.TERMINATED) {
+            proven.set(true);
+        }
+        terminated.set(true);
+    }
+
+    /**
+     * Publish the current solution of <i>model</i> if it improves the incumbent.
+     *
+     * @return the version of the new incumbent, or 0 if the solution has not been published
+     */
+    private synchronized int publish(Model model) {
+        if (!onSolution(model)) {
+            return 0;
+        }
+        Incumbent inc = incumbent.get();
+        int version = inc == null ? 1 : inc.version + 1;
+        incumbent.set(new Incumbent(bestSolution, version));
+        return version;
+    }
+
+    private synchronized int select() {
+        int arm = policy.nextAction(step++);
+        runs[arm]++;
+        return arm;
+    }
+
+    private synchronized void reward(int arm, boolean improved) {
+        if (improved) {
+            improvements[arm]++;
+        }
+        policy.update(arm, improved ? 1. : 0.);
+    }
+
+    @Override
+    void check() {
+        if (!models.isEmpty() && models.get(0).getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            throw new UnsupportedOperationException("ParallelLNS only deals with optimization problems");
+        }
+        super.check();
+        int n = neighbors.get(0).length;
+        if (n == 0) {
+            throw new SolverException("No neighborhood declared in the ParallelLNS.");
+        }
+        for (INeighbor[] arms : neighbors) {
+            if (arms.length != n) {
+                throw new SolverException("Each model of the ParallelLNS should declare the same number of neighborhoods.");
+            }
+        }
+    }
+
+    /**
+     * The best solution found so far, and its rank among the successive best solutions.
+     */
+    private static final class Incumbent {
+
+        private final Solution solution;
+        private final int version;
+
+        Incumbent(Solution solution, int version) {
+            this.solution = solution;
+            this.version = version;
+        }
+    }
+
+    /**
+     * The neighborhoods of a model, one of them being selected by the shared policy for each fragment.
+     */
+    private final class Neighborhoods implements INeighbor {
+
+        private final INeighbor[] arms;
+        /**
+         * The neighborhood of the current fragment, -1 if none
+         */
+        private int arm = -1;
+        /**
+         * Set to <i>true</i> when the current fragment has improved the incumbent
+         */
+        private boolean improved;
+        /**
+         * Version of the incumbent recorded in the neighborhoods
+         */
+        private int version;
+
+        Neighborhoods(INeighbor[] arms) {
+            this.arms = arms;
+        }
+
+        @Override
+        public void init() {
+            for (INeighbor n : arms) {
+                n.init();
+            }
+        }
+
+        @Override
+        public void recordSolution() {
+            for (INeighbor n : arms) {
+                n.recordSolution();
+            }
+        }
+
+        @Override
+        public void fixSomeVariables() throws ContradictionException {
+            Incumbent inc = incumbent.get();
+            if (inc != null && inc.version != version) {
+                // another model has found a better solution
+                loadFromSolution(inc.solution);
+                version = inc.version;
+            }
+            arm = select();
+            arms[arm].fixSomeVariables();
+        }
+
+        @Override
+        public void restrictLess() {
+            if (arm >= 0) {
+                arms[arm].restrictLess();
+                reward(arm, improved);
+                arm = -1;
+            }
+            improved = false;
+        }
+
+        @Override
+        public boolean isSearchComplete() {
+            return arm >= 0 && arms[arm].isSearchComplete();
+        }
+
+        @Override
+        public void loadFromSolution(Solution solution) {
+            for (INeighbor n : arms) {
+                n.loadFromSolution(solution);
+            }
+        }
+    }
+
+    /**
+     * The LNS of a model, which publishes its solutions
+     * and starts from the incumbent if it has not found a solution on its own.
+     */
+    private final class Worker extends MoveLNS implements IMonitorSolution {
+
+        private final Model model;
+        private final Neighborhoods neighborhoods;
+
+        Worker(Model model, Neighborhoods neighborhoods) {
+            super(model.getSolver().getMove(), neighborhoods, new FailCounter(model, restartFailLimit));
+            this.model = model;
+            this.neighborhoods = neighborhoods;
+        }
+
+        @Override
+        public boolean extend(Solver solver) {
+            if (solutions == 0 && !solutionLoaded) {
+                Incumbent inc = incumbent.get();
+                if (inc != null) {
+                    neighborhoods.loadFromSolution(inc.solution);
+                    neighborhoods.version = inc.version;
+                    solutionLoaded = true;
+                    doRestart(solver);
+                    return true;
+                }
+            }
+            return super.extend(solver);
+        }
+
+        @Override
+        public void onSolution() {
+            int version = publish(model);
+            if (version > 0) {
+                neighborhoods.improved = true;
+                neighborhoods.version = version;
+            }
+        }
+    }
+}
@@ -10,10 +10,12 @@
 package org.chocosolver.solver;
 
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseExchange;
 import org.chocosolver.solver.constraints.nary.sat.NogoodStealer;
 import org.chocosolver.solver.constraints.real.RealConstraint;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts;
 import org.chocosolver.solver.search.strategy.BlackBoxConfigurator;
@@ -122,6 +124,11 @@ public class ParallelPortfolio {
      */
     private NogoodStealer manager = NogoodStealer.NONE;
 
+    /**
+     * This exchange is used to share learnt signed clauses, may be null.
+     */
+    private ClauseExchange exchange;
+
     /**
      * Stores whether or not prepare() method has been called
      */
@@ -183,6 +190,31 @@ public class ParallelPortfolio {
         this.manager = new NogoodStealer();
     }
 
+    /**
+     * Calling this method will ensure that workers learning signed clauses
+     * (see {@link Solver#setLearningSignedClauses()}) publish their short learnt clauses
+     * and import, on restart, the ones learnt by the other workers.
+     * Unreliable workers only import clauses.
+     * Learning must be set up before calling {@link #solve()} and workers must be equipped with a restart policy.
+     *
+     * @param exchange the clause exchange to share through
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, each variable has
+     * the same ID in each worker).
+     * @see ClauseExchange
+     */
+    public void shareLearntClauses(ClauseExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    /**
+     * Share learnt signed clauses through a {@link ClauseExchange} with default parameters.
+     *
+     * @see #shareLearntClauses(ClauseExchange)
+     */
+    public void shareLearntClauses() {
+        shareLearntClauses(new ClauseExchange());
+    }
+
     /**
      * <p>
      * Adds a model to the list of models to run in parallel.
@@ -394,6 +426,11 @@ public class ParallelPortfolio {
             if (searchAutoConf) {
                 configureModel(i);
             }
+            if (exchange != null && s.getLearner() instanceof LearnSignedClauses) {
+                ClauseExchange.Endpoint ep = exchange.connect(s.getModel(), reliableness.get(s.getModel()));
+                ((LearnSignedClauses<?>) s.getLearner()).setClauseExchange(ep);
+                s.plugMonitor(ep);
+            }
         }
     }
 
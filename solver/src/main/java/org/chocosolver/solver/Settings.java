@@ -46,10 +46,14 @@ public class Settings {
 
     private int minCardForSumDecomposition = 50;
 
+    private int minBoxesForSweepDiffN = 300;
+
     private boolean enableTableSubstitution = true;
 
     private int maxTupleSizeForSubstitution = 10_000;
 
+    private boolean enableDenseTableKernels = false;
+
     private int timeLimitForPreprocessing = -1;
 
     private boolean sortPropagatorActivationWRTPriority = true;
@@ -58,6 +62,8 @@ public class Settings {
 
     private Consumer<Model> defaultSearch = m -> BlackBoxConfigurator.init().make(m);
 
+    private int minVarsForHeapSelection = 10_000;
+
     private boolean warnUser = false;
 
     private boolean enableDecompositionOfBooleanSum = false;
@@ -86,6 +92,12 @@ public class Settings {
 
     private int dominancePerimeter = 4;
 
+    private int clauseReductionPeriod = 2_000;
+
+    private int coreLBD = 2;
+
+    private int tier2LBD = 6;
+
     private boolean explainGlobalFailureInSum = false;
 
     private double ibexContractionRatio = Ibex.RATIO;
@@ -251,6 +263,30 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return minimum number of boxes of a diffN constraint to be propagated with a sweep-based algorithm,
+     * 300 by default
+     */
+    public int getMinBoxesForSweepDiffN() {
+        return minBoxesForSweepDiffN;
+    }
+
+    /**
+     * Define the minimum number of boxes of a diffN constraint to be propagated with a sweep-based algorithm
+     * instead of a pairwise one.
+     * The sweep-based algorithm indexes compulsory parts and scales better when boxes interact with few others,
+     * the pairwise one maintains a graph of possibly overlapping boxes and is more adapted to small instances.
+     * Both filter the origins and the lengths of the boxes and check the energy of overlapping boxes,
+     * but the sweep-based algorithm only revisits the boxes close to a modified one.
+     *
+     * @param minBoxesForSweepDiffN number of boxes threshold
+     * @return the current instance
+     */
+    public Settings setMinBoxesForSweepDiffN(int minBoxesForSweepDiffN) {
+        this.minBoxesForSweepDiffN = minBoxesForSweepDiffN;
+        return this;
+    }
+
 
     /**
      * @return <tt>true</tt> if some intension constraints can be replaced by extension constraints
@@ -291,6 +327,29 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return <tt>true</tt> if compact-table loops over all its words when most of them are not empty,
+     * <tt>false</tt> (default value) otherwise.
+     */
+    public boolean enableDenseTableKernels() {
+        return enableDenseTableKernels;
+    }
+
+    /**
+     * Define whether compact-table loops over all its words, instead of the non-empty ones only,
+     * when most of them are not empty.
+     * Such contiguous loops avoid the indirection through the sparse index of non-empty words,
+     * which may pay off on tables with many tuples (see {@code CompactTableBenchmark}).
+     * Disabled by default, as no gain has been measured yet.
+     *
+     * @param enableDenseTableKernels {@code true} to enable dense loops
+     * @return the current instance
+     */
+    public Settings setEnableDenseTableKernels(boolean enableDenseTableKernels) {
+        this.enableDenseTableKernels = enableDenseTableKernels;
+        return this;
+    }
+
     /**
      * @return the time allocated for the preprocessing
      */
@@ -375,6 +434,27 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return minimum number of decision variables for weighted variable selectors
+     * to keep candidates in a heap instead of scanning them all
+     */
+    public int getMinVarsForHeapSelection() {
+        return minVarsForHeapSelection;
+    }
+
+    /**
+     * Define the minimum number of decision variables for weighted variable selectors (like dom/wdeg)
+     * to keep candidates in a heap, updated incrementally, instead of scanning them all at each decision.
+     * With a heap, ties are not broken randomly.
+     *
+     * @param minVarsForHeapSelection number of decision variables threshold
+     * @return the current instance
+     */
+    public Settings setMinVarsForHeapSelection(int minVarsForHeapSelection) {
+        this.minVarsForHeapSelection = minVarsForHeapSelection;
+        return this;
+    }
+
     /**
      * @return <tt>true</tt> if warnings detected during modeling/solving are output.
      */
@@ -703,6 +783,67 @@ public class Settings {
         return this;
     }
 
+    /**
+     * Learnt signed clauses are periodically reduced: every <i>n</i> conflicts,
+     * or on the first restart after <i>n</i> conflicts when a restart policy is declared.
+     *
+     * @return number of conflicts between two reductions of the clause store
+     * @see #setLearntClausesReductionPeriod(int)
+     * @see #setLearntClausesLBDTiers(int, int)
+     */
+    public int getLearntClausesReductionPeriod() {
+        return clauseReductionPeriod;
+    }
+
+    /**
+     * Learnt signed clauses are periodically reduced: every <i>n</i> conflicts,
+     * or on the first restart after <i>n</i> conflicts when a restart policy is declared.
+     *
+     * @param n number of conflicts between two reductions of the clause store
+     * @return the current instance
+     * @see #getLearntClausesReductionPeriod()
+     */
+    public Settings setLearntClausesReductionPeriod(int n) {
+        this.clauseReductionPeriod = n;
+        return this;
+    }
+
+    /**
+     * @return maximum LBD of a learnt signed clause that is never removed from the store
+     * @see #setLearntClausesLBDTiers(int, int)
+     */
+    public int getLearntClausesCoreLBD() {
+        return coreLBD;
+    }
+
+    /**
+     * @return maximum LBD of a learnt signed clause that is kept in the store as long as it is used
+     * @see #setLearntClausesLBDTiers(int, int)
+     */
+    public int getLearntClausesTier2LBD() {
+        return tier2LBD;
+    }
+
+    /**
+     * Learnt signed clauses are ranked in three tiers wrt to their literal block distance (LBD).
+     * Clauses with an LBD up to <i>core</i> are never removed on reduction,
+     * clauses with an LBD up to <i>tier2</i> are kept as long as they are involved in conflicts,
+     * other ones are removed on reduction wrt to their activity
+     * (see {@link #setRatioForClauseStoreReduction(float)}).
+     *
+     * @param core  maximum LBD of core clauses
+     * @param tier2 maximum LBD of tier-2 clauses
+     * @return the current instance
+     * @see #getLearntClausesCoreLBD()
+     * @see #getLearntClausesTier2LBD()
+     * @see #setLearntClausesReductionPeriod(int)
+     */
+    public Settings setLearntClausesLBDTiers(int core, int tier2) {
+        this.coreLBD = core;
+        this.tier2LBD = tier2;
+        return this;
+    }
+
 
     /**
      * @return <i>true</i> if additional clauses can be learned from sum's global failure
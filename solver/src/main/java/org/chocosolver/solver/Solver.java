@@ -11,6 +11,7 @@ package org.chocosolver.solver;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseConstraint;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
@@ -24,6 +25,7 @@ import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.loop.Reporting;
 import org.chocosolver.solver.search.loop.learn.Learn;
 import org.chocosolver.solver.search.loop.learn.LearnNothing;
+import org.chocosolver.solver.search.loop.monitors.IMonitorScope;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.loop.monitors.ISearchMonitor;
 import org.chocosolver.solver.search.loop.monitors.SearchMonitorList;
@@ -167,6 +169,11 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      * Index of the world where the search starts, after initialization.
      */
     private int searchWorldIndex = 0;
+    /**
+     * Stack of the scopes opened, see {@link #pushScope()}.
+     * Each entry stores the number of constraints and the mark of the clause store when the scope was opened.
+     */
+    private final Deque<int[]> scopes = new ArrayDeque<>();
     /**
      * List of stopping criteria.
      * When at least one is satisfied, the search loop ends.
@@ -730,6 +737,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      *     <li>call {@link Solver#setNoLearning()}</li>
      *     <li>remove warm start hints</li>
      *     <li>clear {@link #searchMonitors}, that forget any declared one</li>
+     *     <li>close the scopes opened, without retracting their constraints</li>
      *     <li>call {@link Model#removeMinisat()}</li>
      * </ul>
      * </p>
@@ -750,9 +758,132 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         searchMonitors.reset();
         defaultSearch = false;
         completeSearch = false;
+        scopes.clear();
         mModel.removeMinisat();
     }
 
+    /**
+     * <p>
+     * Open a new scope of constraints.
+     * The constraints posted from now on, as well as the signed clauses learnt from now on,
+     * are retracted on the matching call to {@link #popScope()}.
+     * Scopes can be nested.
+     * </p>
+     * <p>
+     * Unlike {@link #reset()}, the propagation engine is not rebuilt:
+     * if a resolution was run before, the solver is only brought back to its root node
+     * and the constraints posted in the scope are added to the engine dynamically.
+     * The stop criteria are kept.
+     * </p>
+     * <p>
+     * While a scope is open, the constraints posted before cannot be unposted.
+     * The variables created within a scope are not removed on pop,
+     * nor are the nogoods recorded from restarts.
+     * </p>
+     *
+     * @see #popScope(boolean, boolean)
+     */
+    public void pushScope() {
+        backToRoot();
+        ClauseConstraint clauses = (ClauseConstraint) mModel.getHook(Model.CLAUSES_HOOK_NAME);
+        // if the clause store does not exist yet, all its clauses will be related to this scope
+        scopes.push(new int[]{mModel.getNbCstrs(), clauses == null ? 0 : clauses.getClauseStore().mark()});
+        searchMonitors.afterPushScope();
+    }
+
+    /**
+     * Close the last scope opened, forget the signed clauses learnt within it
+     * but keep the statistics of the search heuristics.
+     *
+     * @see #popScope(boolean, boolean)
+     */
+    public void popScope() {
+        popScope(false, true);
+    }
+
+    /**
+     * <p>
+     * Close the last scope opened: the solver is brought back to its root node
+     * and the constraints posted since the matching call to {@link #pushScope()} are unposted.
+     * </p>
+     * <p>
+     * The signed clauses learnt within the scope may depend on the constraints retracted:
+     * they should only be kept when the constraints of the scope are known to be redundant.
+     * Learnt clauses made of zero or one literal are posted as constraints, and are always retracted.
+     * The statistics of the search heuristics that implement {@link IMonitorScope}
+     * (like {@link org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDeg})
+     * are always purged from the propagators retracted.
+     * </p>
+     *
+     * @param keepLearntClauses set to <i>true</i> to keep the signed clauses learnt within the scope
+     * @param keepHeuristics    set to <i>false</i> to reset the statistics of the search heuristics
+     * @throws SolverException if no scope is open
+     */
+    public void popScope(boolean keepLearntClauses, boolean keepHeuristics) {
+        if (scopes.isEmpty()) {
+            throw new SolverException("No scope to pop, pushScope() must be called first");
+        }
+        int[] scope = scopes.pop();
+        backToRoot();
+        Object minisat = mModel.getHook(Model.MINISAT_HOOK_NAME);
+        ClauseConstraint clauses = (ClauseConstraint) mModel.getHook(Model.CLAUSES_HOOK_NAME);
+        Constraint[] cstrs = mModel.getCstrs();
+        List<Constraint> toRemove = new ArrayList<>();
+        for (int i = cstrs.length - 1; i >= scope[0]; i--) {
+            // the constraints that support learning may be created within a scope, they are kept
+            if (cstrs[i] != minisat && cstrs[i] != clauses) {
+                toRemove.add(cstrs[i]);
+            }
+        }
+        mModel.unpost(toRemove.toArray(new Constraint[0]));
+        // the initial propagation was scheduled before the constraints were retracted
+        if (engine.isInitialized()) {
+            engine.reactivate();
+        }
+        if (!keepLearntClauses && clauses != null) {
+            clauses.getClauseStore().forgetSince(scope[1]);
+        }
+        searchMonitors.afterPopScope(keepHeuristics);
+    }
+
+    /**
+     * @return the number of scopes currently open
+     */
+    public int getNbScopes() {
+        return scopes.size();
+    }
+
+    /**
+     * @return the number of constraints that cannot be unposted because of an open scope
+     */
+    int getScopeFloor() {
+        return scopes.isEmpty() ? 0 : scopes.peek()[0];
+    }
+
+    /**
+     * Bring this solver back to its root node, like {@link #reset()} does,
+     * but keep the propagation engine, the learnt clauses and the stop criteria.
+     */
+    private void backToRoot() {
+        if (!engine.isInitialized()) {
+            // nothing was propagated yet
+            return;
+        }
+        if (rootWorldIndex > -1) {
+            mModel.getEnvironment().worldPopUntil(rootWorldIndex);
+        }
+        searchWorldIndex = 0;
+        action = initialize;
+        mMeasures.reset();
+        engine.reactivate();
+        dpath.synchronize();
+        objectivemanager.resetBestBounds();
+        feasible = UNDEFINED;
+        jumpTo = 0;
+        stop = false;
+        canBeRepaired = true;
+    }
+
     /**
      * Propagates constraints and related events through the constraint network until a fix point is find,
      * or a contradiction is detected.
@@ -0,0 +1,341 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * A service to solve many small and independent models concurrently, for instance one per incoming request.
+ * </p>
+ * <p>
+ * Contrary to {@link ParallelPortfolio} or {@link EmbarrassinglyParallelSearch}, where many models
+ * solve the same problem, each job submitted to this service is made of its own model,
+ * and all jobs share the same executor.
+ * By default, jobs run on virtual threads when the JVM supports them (Java 21 and later),
+ * or on a pool of as many threads as available processors otherwise.
+ * </p>
+ * <p>
+ * While a job is running, its solver yields the running thread every {@link #setYieldPeriod(int)} nodes,
+ * so that, on virtual threads, long-running jobs do not monopolize the carrier threads.
+ * Each job is given a deadline, from its submission: a job whose deadline is exceeded before it starts
+ * is not run, and a running job is stopped as soon as its deadline is exceeded.
+ * Queueing latency (from submission to start) and solving latency (from start to end) of the last
+ * jobs are recorded, see {@link #getQueueLatency(double)} and {@link #getSolveLatency(double)}.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>SolverService service = new SolverService();
+ * CompletableFuture&lt;Solution&gt; future = service.submit(modeller(request), Solver::findSolution, 100);
+ * ...
+ * service.close();
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * Project: choco.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class SolverService implements AutoCloseable {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Number of latencies kept to compute percentiles.
+     */
+    private static final int WINDOW = 4096;
+
+    /**
+     * The executor jobs are run on.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Set to <i>true</i> when the executor has been created by this service.
+     */
+    private final boolean owned;
+
+    /**
+     * Number of nodes between two yields, 0 to never yield.
+     */
+    private int yieldPeriod = 64;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final Latencies queueLatencies = new Latencies();
+    private final Latencies solveLatencies = new Latencies();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new SolverService, running jobs on virtual threads when available,
+     * on a pool of as many threads as available processors otherwise.
+     * The executor is shut down on {@link #close()}.
+     */
+    public SolverService() {
+        this.executor = defaultExecutor();
+        this.owned = true;
+    }
+
+    /**
+     * Creates a new SolverService, running jobs on <i>executor</i>.
+     * The executor is not shut down on {@link #close()}.
+     *
+     * @param executor the executor to run jobs on
+     */
+    public SolverService(ExecutorService executor) {
+        this.executor = executor;
+        this.owned = false;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Set the number of nodes a solver opens between two yields of the running thread (default is 64).
+     * Only applies to jobs submitted afterwards.
+     *
+     * @param nodes number of nodes between two yields, 0 to never yield
+     * @return this
+     */
+    public SolverService setYieldPeriod(int nodes) {
+        if (nodes < 0) {
+            throw new SolverException("The yield period should be positive or null");
+        }
+        this.yieldPeriod = nodes;
+        return this;
+    }
+
+    /**
+     * Submit a job: <i>job</i> will be applied to the solver of <i>model</i>.
+     * <p>
+     * If the deadline is exceeded before the job starts, the returned future completes exceptionally
+     * with a {@link TimeoutException}.
+     * Otherwise, the resolution is stopped when the deadline is exceeded, as with any stop criterion,
+     * and the future completes with the value returned by <i>job</i>.
+     * Cancelling the future while the job is running interrupts the resolution.
+     * </p>
+     *
+     * @param model   the model to solve, which should not be shared with another job
+     * @param job     what to do with the solver, for instance {@code Solver::findSolution}
+     * @param timeout maximum time, from now, to run the job, in milliseconds
+     * @param <R>     type of the result
+     * @return a future completed with the result of the job
+     */
+    public <R> CompletableFuture<R> submit(Model model, Function<Solver, R> job, long timeout) {
+        long submission = System.nanoTime();
+        long deadline = submission + TimeUnit.MILLISECONDS.toNanos(timeout);
+        pending.incrementAndGet();
+        Job<R> task = new Job<>(model.getSolver(), job, submission, deadline);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            task.future.completeExceptionally(e);
+        }
+        return task.future;
+    }
+
+    /**
+     * @param percentile a percentile, in [0,100]
+     * @return the given percentile of the time, in nanoseconds, the last jobs waited before being started,
+     * or 0 if no job has been started yet.
+     */
+    public long getQueueLatency(double percentile) {
+        return queueLatencies.percentile(percentile);
+    }
+
+    /**
+     * @param percentile a percentile, in [0,100]
+     * @return the given percentile of the time, in nanoseconds, the last jobs ran,
+     * or 0 if no job has been completed yet.
+     */
+    public long getSolveLatency(double percentile) {
+        return solveLatencies.percentile(percentile);
+    }
+
+    /**
+     * @return the number of jobs submitted but not completed yet
+     */
+    public int getPendingJobCount() {
+        return pending.get();
+    }
+
+    /**
+     * @return the number of jobs run to their end, including the ones stopped on their deadline
+     */
+    public long getCompletedJobCount() {
+        return completed.get();
+    }
+
+    /**
+     * @return the number of jobs not run because their deadline was exceeded before they started
+     */
+    public long getExpiredJobCount() {
+        return expired.get();
+    }
+
+    /**
+     * Shut down the executor, if it has been created by this service.
+     * Jobs already submitted are still run.
+     */
+    @Override
+    public void close() {
+        if (owned) {
+            executor.shutdown();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private static ExecutorService defaultExecutor() {
+        try {
+            // virtual threads are only available from Java 21
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "choco-solver-service-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * A job submitted to the service.
+     */
+    private final class Job<R> implements Runnable, IMonitorOpenNode {
+
+        private final Solver solver;
+        private final Function<Solver, R> job;
+        private final long submission;
+        private final long deadline;
+        private final int period;
+        private final CompletableFuture<R> future;
+        private int nodes;
+        private volatile Thread runner;
+
+        Job(Solver solver, Function<Solver, R> job, long submission, long deadline) {
+            this.solver = solver;
+            this.job = job;
+            this.submission = submission;
+            this.deadline = deadline;
+            this.period = yieldPeriod;
+            this.future = new CompletableFuture<R>() {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    boolean cancelled = super.cancel(mayInterruptIfRunning);
+                    Thread t = runner;
+                    if (cancelled && mayInterruptIfRunning && t != null) {
+                        t.interrupt();
+                    }
+                    return cancelled;
+                }
+            };
+        }
+
+        @Override
+        public void afterOpenNode() {
+            if (period > 0 && ++nodes == period) {
+                nodes = 0;
+                Thread.yield();
+            }
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            runner = Thread.currentThread();
+            // the future is completed last, once the solver and the statistics are up-to-date
+            R result = null;
+            Throwable error = null;
+            try {
+                if (future.isDone()) {
+                    return; // cancelled
+                }
+                queueLatencies.record(start - submission);
+                if (start - deadline >= 0) {
+                    expired.incrementAndGet();
+                    error = new TimeoutException("Deadline exceeded before the job started");
+                    return;
+                }
+                Criterion timeout = () -> System.nanoTime() - deadline >= 0;
+                solver.addStopCriterion(timeout);
+                solver.plugMonitor(this);
+                try {
+                    result = job.apply(solver);
+                } finally {
+                    solver.unplugMonitor(this);
+                    solver.removeStopCriterion(timeout);
+                    // the interrupted status is not propagated to the next job
+                    Thread.interrupted();
+                    solveLatencies.record(System.nanoTime() - start);
+                    completed.incrementAndGet();
+                }
+            } catch (Throwable t) {
+                error = t;
+            } finally {
+                runner = null;
+                pending.decrementAndGet();
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(result);
+                }
+            }
+        }
+    }
+
+    /**
+     * The last {@link #WINDOW} latencies recorded.
+     */
+    private static final class Latencies {
+
+        private final long[] values = new long[WINDOW];
+        private long count;
+
+        synchronized void record(long latency) {
+            values[(int) (count++ % WINDOW)] = latency;
+        }
+
+        synchronized long percentile(double percentile) {
+            int n = (int) Math.min(count, WINDOW);
+            if (n == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(values, n);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100d * n) - 1;
+            return sorted[Math.max(0, Math.min(n - 1, rank))];
+        }
+    }
+}
@@ -161,6 +161,8 @@ public class ConstraintsName {
 
     public static final String CUMULATIVE = "CUMULATIVE";
 
+    public static final String DISJUNCTIVE = "DISJUNCTIVE";
+
     public static final String GCC = "GCC";
 
     public static final String NOGOODCONSTRAINT = "NOGOODCONSTRAINT";
@@ -169,6 +171,8 @@ public class ConstraintsName {
 
     public static final String MIXEDSCALAR = "MIXEDSCALAR";
 
+    public static final String LINEARRELAXATION = "LINEARRELAXATION";
+
     public static final String INTEQREAL = "INTEQREAL";
 
     public static final String REALCONSTRAINT = "REALCONSTRAINT";
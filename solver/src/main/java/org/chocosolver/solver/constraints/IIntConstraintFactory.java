@@ -23,6 +23,7 @@ import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
 import org.chocosolver.solver.constraints.extension.hybrid.PropHybridTable;
 import org.chocosolver.solver.constraints.extension.nary.*;
 import org.chocosolver.solver.constraints.nary.PropDiffN;
+import org.chocosolver.solver.constraints.nary.PropDiffNSweep;
 import org.chocosolver.solver.constraints.nary.PropIntValuePrecedeChain;
 import org.chocosolver.solver.constraints.nary.PropKLoops;
 import org.chocosolver.solver.constraints.nary.alldifferent.AllDifferent;
@@ -45,6 +46,7 @@ import org.chocosolver.solver.constraints.nary.count.PropCountVar;
 import org.chocosolver.solver.constraints.nary.count.PropCount_AC;
 import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.constraints.nary.cumulative.PropDisjunctive;
 import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.knapsack.PropKnapsack;
@@ -61,6 +63,7 @@ import org.chocosolver.solver.constraints.nary.nvalue.amnv.rules.R1;
 import org.chocosolver.solver.constraints.nary.nvalue.amnv.rules.R3;
 import org.chocosolver.solver.constraints.nary.sort.PropKeysorting;
 import org.chocosolver.solver.constraints.nary.sum.IntLinCombFactory;
+import org.chocosolver.solver.constraints.nary.sum.PropLinearRelaxation;
 import org.chocosolver.solver.constraints.nary.tree.PropAntiArborescences;
 import org.chocosolver.solver.constraints.ternary.*;
 import org.chocosolver.solver.constraints.unary.Member;
@@ -1367,6 +1370,44 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Cumulative(tasks, heights, capacity, incremental, filters);
     }
 
+    /**
+     * Creates a disjunctive constraint: Enforces that tasks do not overlap in time,
+     * that is, they are processed one at a time on a unary resource.
+     * <p>
+     * Task duration should be >= 0
+     * Discards tasks whose duration is equal to zero
+     * <p>
+     * Filtering is based on Theta-Lambda trees and runs overload checking, detectable precedences,
+     * not-first/not-last and edge-finding in O(n log n).
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks) {
+        int nbUseFull = 0;
+        for (Task task : tasks) {
+            if (task.getDuration().getUB() > 0) {
+                nbUseFull++;
+            }
+        }
+        if (nbUseFull < 2) {
+            return ref().trueConstraint();
+        }
+        IntVar[] s = new IntVar[nbUseFull];
+        IntVar[] d = new IntVar[nbUseFull];
+        IntVar[] e = new IntVar[nbUseFull];
+        int idx = 0;
+        for (Task task : tasks) {
+            if (task.getDuration().getUB() > 0) {
+                s[idx] = task.getStart();
+                d[idx] = task.getDuration();
+                e[idx] = task.getEnd();
+                idx++;
+            }
+        }
+        return new Constraint(ConstraintsName.DISJUNCTIVE, new PropDisjunctive(s, d, e));
+    }
+
     /**
      * Creates and <b>posts</b> a decomposition of a cumulative constraint:
      * Enforces that at each point in time,
@@ -1419,6 +1460,9 @@ public interface IIntConstraintFactory extends ISelf<Model> {
     /**
      * Creates a diffN constraint. Constrains each rectangle<sub>i</sub>, given by their origins X<sub>i</sub>,Y<sub>i</sub>
      * and sizes width<sub>i</sub>,height<sub>i</sub>, to be non-overlapping.
+     * <p>
+     * From {@link org.chocosolver.solver.Settings#getMinBoxesForSweepDiffN()} rectangles on (300 by default),
+     * a sweep-based propagator is used instead of a pairwise one.
      *
      * @param X                      collection of coordinates in first dimension
      * @param Y                      collection of coordinates in second dimension
@@ -1431,7 +1475,9 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         Model model = X[0].getModel();
         Constraint diffNCons = new Constraint(
                 ConstraintsName.DIFFN,
-                new PropDiffN(X, Y, width, height)
+                X.length < ref().getSettings().getMinBoxesForSweepDiffN() ?
+                        new PropDiffN(X, Y, width, height) :
+                        new PropDiffNSweep(X, Y, width, height)
         );
         if (addCumulativeReasoning) {
             IntVar[] EX = new IntVar[X.length];
@@ -1835,6 +1881,29 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Constraint(ConstraintsName.LEX, new PropLex(vars1, vars2, false));
     }
 
+    /**
+     * Creates a constraint that maintains the linear relaxation of the sums and scalar products
+     * posted so far in the model (see {@link #sum(IntVar[], String, int)} and {@link #scalar(IntVar[], int[], String, int)}).
+     * Reified constraints and constraints with the '!=' operator are ignored,
+     * so are sums over less than three variables since they are turned into {@link #arithm} constraints.
+     * <p>
+     * The relaxation is solved with a sparse dual simplex, warm-started from the previous basis,
+     * each time a bound of a variable is modified.
+     * It fails when the relaxation is infeasible, bounds <i>objective</i> with its optimal value
+     * and applies reduced-cost fixing on the bounds of the variables.
+     * </p>
+     * <p>
+     * This constraint is redundant: it must be created once all the linear constraints are posted.
+     * </p>
+     *
+     * @param objective the objective variable, may be null
+     * @param maximize  set to <i>true</i> if <i>objective</i> is to be maximized
+     * @return a linear relaxation constraint
+     */
+    default Constraint linearRelaxation(IntVar objective, boolean maximize) {
+        return new Constraint(ConstraintsName.LINEARRELAXATION, PropLinearRelaxation.make(ref(), objective, maximize));
+    }
+
     /**
      * Creates an Argmax constraint.
      * z is the index of the maximum value of the collection of domain variables vars.
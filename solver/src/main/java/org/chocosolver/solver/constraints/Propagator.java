@@ -638,6 +638,11 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return reifVar != null;
     }
 
+    @Override
+    public Kind getKind() {
+        return Kind.PROPAGATOR;
+    }
+
     //***********************************************************************************
     // ACCESSORS
     //***********************************************************************************
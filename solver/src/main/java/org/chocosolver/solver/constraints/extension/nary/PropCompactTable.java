@@ -11,7 +11,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
-import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.IStateLongArray;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -22,6 +22,8 @@ import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.procedure.UnaryIntProcedure;
 
+import java.util.Arrays;
+
 /**
  * Propagator for table constraint based on "Compact-Table: Efficiently Filtering Table Constraints
  * with Reversible Sparse Bit-Sets" Only for feasible Tuples
@@ -57,7 +59,8 @@ public class PropCompactTable extends Propagator<IntVar> {
     public PropCompactTable(IntVar[] vars, Tuples tuples) {
         super(vars, PropagatorPriority.QUADRATIC, true);
         this.tuples = tuples;
-        this.currTable = new RSparseBitSet(model.getEnvironment(), this.tuples.nbTuples());
+        this.currTable = new RSparseBitSet(model.getEnvironment(), this.tuples.nbTuples(),
+                model.getSettings().enableDenseTableKernels());
         computeSupports(tuples);
         monitors = new IIntDeltaMonitor[vars.length];
         for (int i = 0; i < vars.length; i++) {
@@ -99,7 +102,7 @@ public class PropCompactTable extends Propagator<IntVar> {
             int lb = vars[i].getLB();
             int ub = vars[i].getUB();
             offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
+            supports[i] = new long[ub - lb + 1][currTable.words.length()];
             residues[i] = new int[ub - lb + 1];
         }
         int wI = 0;
@@ -182,7 +185,7 @@ public class PropCompactTable extends Propagator<IntVar> {
         int ub = vars[i].getUB();
         for (int v = lb; v <= ub; v++) {
             int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
+            if ((currTable.words.get(index) & supports[i][v - offset[i]][index]) == 0L) {
                 index = currTable.intersectIndex(supports[i][v - offset[i]]);
                 if (index == -1) {
                     lb++;
@@ -197,7 +200,7 @@ public class PropCompactTable extends Propagator<IntVar> {
         vars[i].updateLowerBound(lb, this);
         for (int v = ub; v >= lb; v--) {
             int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
+            if ((currTable.words.get(index) & supports[i][v - offset[i]][index]) == 0L) {
                 index = currTable.intersectIndex(supports[i][v - offset[i]]);
                 if (index == -1) {
                     ub--;
@@ -216,7 +219,7 @@ public class PropCompactTable extends Propagator<IntVar> {
         int ub = vars[i].getUB();
         for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
             int index = residues[i][v - offset[i]];
-            if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
+            if ((currTable.words.get(index) & supports[i][v - offset[i]][index]) == 0L) {
                 index = currTable.intersectIndex(supports[i][v - offset[i]]);
                 if (index == -1) {
                     vars[i].removeValue(v, this);
@@ -238,21 +241,28 @@ public class PropCompactTable extends Propagator<IntVar> {
 //***********************************************************************************
 
     protected static class RSparseBitSet {
-        protected IStateLong[] words;
+        protected IStateLongArray words;
         private final int[] index;
         private final IStateInt limit;
         private final long[] mask;
+        private final int nw;
+        /**
+         * Set to <i>true</i> to loop over all the words when most of them are not empty.
+         * Contiguous loops avoid the indirection through {@link #index} and its bookkeeping.
+         */
+        private final boolean denseKernels;
 
-        protected RSparseBitSet(IEnvironment environment, int nbBits) {
+        protected RSparseBitSet(IEnvironment environment, int nbBits, boolean denseKernels) {
             int nw = nbBits / 64;
             if (nw * 64 < nbBits) nw++;
+            this.nw = nw;
+            this.denseKernels = denseKernels;
             index = new int[nw];
             mask = new long[nw];
             limit = environment.makeInt(nw - 1);
-            words = new IStateLong[nw];
+            words = environment.makeLongArray(nw, -1L);
             for (int i = 0; i < nw; i++) {
                 index[i] = i;
-                words[i] = environment.makeLong(-1L);
             }
         }
 
@@ -260,34 +270,77 @@ public class PropCompactTable extends Propagator<IntVar> {
             return limit.get() == -1;
         }
 
+        /**
+         * @return <i>true</i> if at least a quarter of the words are not empty
+         */
+        private boolean denseMask() {
+            return denseKernels && (limit.get() + 1) << 2 >= nw;
+        }
+
+        /**
+         * @return <i>true</i> if at least three quarters of the words are not empty
+         */
+        private boolean denseWords() {
+            return denseKernels && (limit.get() + 1) << 2 >= 3 * nw;
+        }
+
+        // the mask of an empty word does not matter, so it can be modified too
+
         protected void clearMask() {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                mask[offset] = 0L;
+            if (denseMask()) {
+                Arrays.fill(mask, 0L);
+            } else {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    mask[offset] = 0L;
+                }
             }
         }
 
         protected void reverseMask() {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                mask[offset] = ~mask[offset];
+            if (denseMask()) {
+                for (int i = 0; i < nw; i++) {
+                    mask[i] = ~mask[i];
+                }
+            } else {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    mask[offset] = ~mask[offset];
+                }
             }
         }
 
         protected void addToMask(long[] wordsToAdd) {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                mask[offset] = mask[offset] | wordsToAdd[offset];
+            if (denseMask()) {
+                for (int i = 0; i < nw; i++) {
+                    mask[i] |= wordsToAdd[i];
+                }
+            } else {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    mask[offset] = mask[offset] | wordsToAdd[offset];
+                }
             }
         }
 
         private void intersectWithMask() {
-            for (int i = limit.get(); i >= 0; i--) {
-                int offset = index[i];
-                long w = words[offset].get() & mask[offset];
-                if (words[offset].get() != w) {
-                    words[offset].set(w);
-                    if (w == 0L) {
+            if (denseWords()) {
+                if (words.and(mask, 0, nw)) {
+                    // then, empty words are removed from the index
+                    for (int i = limit.get(); i >= 0; i--) {
+                        int offset = index[i];
+                        if (words.get(offset) == 0L) {
+                            index[i] = index[limit.get()];
+                            index[limit.get()] = offset;
+                            limit.add(-1);
+                        }
+                    }
+                }
+            } else {
+                for (int i = limit.get(); i >= 0; i--) {
+                    int offset = index[i];
+                    // non-empty words only are visited, so an empty one has just been modified
+                    if (words.and(offset, mask[offset]) == 0L) {
                         index[i] = index[limit.get()];
                         index[limit.get()] = offset;
                         limit.add(-1);
@@ -297,13 +350,16 @@ public class PropCompactTable extends Propagator<IntVar> {
         }
 
         private int intersectIndex(long[] m) {
+            if (denseWords()) {
+                return words.intersect(m, 0, nw);
+            }
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
-                if ((words[offset].get() & m[offset]) != 0L) {
+                if ((words.get(offset) & m[offset]) != 0L) {
                     return offset;
                 }
             }
             return -1;
         }
     }
-}
\ No newline at end of file
+}
@@ -80,8 +80,8 @@ public class PropCompactTableStar extends PropCompactTable {
             int lb = vars[i].getLB();
             int ub = vars[i].getUB();
             offset[i] = lb;
-            supports[i] = new long[ub - lb + 1][currTable.words.length];
-            inc_supports[i] = new long[ub - lb + 1][currTable.words.length];
+            supports[i] = new long[ub - lb + 1][currTable.words.length()];
+            inc_supports[i] = new long[ub - lb + 1][currTable.words.length()];
             residues[i] = new int[ub - lb + 1];
         }
         int wI = 0;
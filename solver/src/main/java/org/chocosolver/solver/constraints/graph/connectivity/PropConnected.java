@@ -14,7 +14,9 @@ import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.solver.variables.events.GraphEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.connectivity.DecrementalConnectivity;
 import org.chocosolver.util.graphOperations.connectivity.UGVarConnectivityHelper;
 
 import java.util.BitSet;
@@ -23,6 +25,10 @@ import java.util.BitSet;
  * Propagator checking that the graph is connected
  * (Allows graphs with 0 or 1 nodes)
  * Complete Filtering
+ * <p/>
+ * The connected components of the envelope are maintained incrementally (see {@link DecrementalConnectivity}),
+ * and mandatory articulation points and bridges are only searched again in the components
+ * modified since they were last enforced.
  *
  * @author Jean-Guillaume Fages
  */
@@ -37,17 +43,19 @@ public class PropConnected extends Propagator<UndirectedGraphVar> {
     private final UndirectedGraphVar g;
     private final BitSet visited;
     private final UGVarConnectivityHelper helper;
+    private final DecrementalConnectivity components;
 
     //***********************************************************************************
     // CONSTRUCTORS
     //***********************************************************************************
 
     public PropConnected(UndirectedGraphVar graph) {
-        super(new UndirectedGraphVar[]{graph}, PropagatorPriority.LINEAR, false);
+        super(new UndirectedGraphVar[]{graph}, PropagatorPriority.LINEAR, true);
         this.g = graph;
         this.n = graph.getNbMaxNodes();
         this.visited = new BitSet(n);
-        this.helper = new UGVarConnectivityHelper(g);
+        this.components = DecrementalConnectivity.of(g);
+        this.helper = new UGVarConnectivityHelper(g, components);
     }
 
     //***********************************************************************************
@@ -61,6 +69,23 @@ public class PropConnected extends Propagator<UndirectedGraphVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            components.reset();
+        } else {
+            components.sync();
+        }
+        filter();
+        // removals made by this propagator are in the delta of g until the next world only
+        components.sync();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        // components are brought up to date on the delayed propagation, not on a full one
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    private void filter() throws ContradictionException {
         // 0-node or 1-node graphs are accepted
         if (g.getPotentialNodes().size() <= 1) {
             setPassive();
@@ -69,25 +94,29 @@ public class PropConnected extends Propagator<UndirectedGraphVar> {
         // cannot filter if no mandatory node
         if (g.getMandatoryNodes().size() > 0) {
 
-            // 1 --- explore the graph from the first mandatory node and
-            // remove unreachable nodes (fail if mandatory node is not reached)
-            visited.clear();
+            // 1 --- remove the nodes which are not in the connected component of the first mandatory node
+            // of the envelope (fail if a mandatory node is not in it)
             int root = g.getMandatoryNodes().iterator().next();
-            helper.exploreFrom(root, visited);
-            for (int o : g.getPotentialNodes()) {
-                if (!visited.get(o)) {
-                    g.removeNode(o, this);
+            int cc = components.getComponentOf(root);
+            if (components.getComponentSize(cc) < g.getPotentialNodes().size()) {
+                for (int o : g.getPotentialNodes()) {
+                    if (components.getComponentOf(o) != cc) {
+                        g.removeNode(o, this);
+                    }
                 }
             }
 
-            // 2 --- enforce articulation points and bridges that link two mandatory nodes
-            helper.computeMandatoryArticulationPointsAndBridges();
+            // 2 --- enforce articulation points and bridges that link two mandatory nodes,
+            // in the connected component of the envelope if it has been modified since they were last enforced
+            helper.computeMandatoryArticulationPointsAndBridgesOfModifiedComponents();
             for(int ap:helper.getArticulationPoints()) {
                 g.enforceNode(ap, this);
             }
             for(int[] bridge:helper.getBridges()) {
                 g.enforceEdge(bridge[0], bridge[1], this);
             }
+            components.sync();
+            helper.validateComponents();
         }
     }
 
@@ -9,13 +9,16 @@
  */
 package org.chocosolver.solver.constraints.graph.connectivity;
 
+import org.chocosolver.memory.IStateIntVector;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.connectivity.DecrementalConnectivity;
 import org.chocosolver.util.graphOperations.connectivity.UGVarConnectivityHelper;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 
@@ -25,6 +28,12 @@ import java.util.BitSet;
  * Propagator that ensures that the final graph consists in K Connected Components (CC)
  * <p/>
  * complete filtering in linear time
+ * <p/>
+ * The connected components of the envelope are maintained incrementally (see {@link DecrementalConnectivity}).
+ * As each component of the kernel (which bound K from above) lies in a component of the envelope,
+ * the number of kernel components is stored per component of the envelope, and only counted again
+ * in the components modified since. Likewise, articulation points and bridges (when K is at its lower bound)
+ * are only searched again in the components modified since they were last enforced.
  *
  * @author Jean-Guillaume Fages
  */
@@ -37,22 +46,38 @@ public class PropNbCC extends Propagator<Variable> {
     private final UndirectedGraphVar g;
     private final IntVar k;
     private final UGVarConnectivityHelper helper;
+    private final DecrementalConnectivity components;
+    // connected components of the envelope with a mandatory node
+    private final BitSet mandatoryCCs;
     private final BitSet visitedMin, visitedMax;
     private final int[] fifo, ccOf;
+    // number of connected components of the kernel in each component of the envelope,
+    // and stamp of the component of the envelope when they were counted
+    private final IStateIntVector kernelCCs, kernelStamps;
+    // components of the envelope whose kernel components must be counted again
+    private final BitSet modifiedCCs;
+    private final int[] counts;
 
     //***********************************************************************************
     // CONSTRUCTORS
     //***********************************************************************************
 
     public PropNbCC(UndirectedGraphVar graph, IntVar k) {
-        super(new Variable[]{graph, k}, PropagatorPriority.LINEAR, false);
+        super(new Variable[]{graph, k}, PropagatorPriority.LINEAR, true);
         this.g = graph;
         this.k = k;
-        this.helper = new UGVarConnectivityHelper(g);
+        this.components = DecrementalConnectivity.of(g);
+        this.helper = new UGVarConnectivityHelper(g, components);
+        this.mandatoryCCs = new BitSet(components.getNbMaxLabels());
         this.visitedMin = new BitSet(g.getNbMaxNodes());
         this.visitedMax = new BitSet(g.getNbMaxNodes());
         this.fifo = new int[g.getNbMaxNodes()];
         this.ccOf = new int[g.getNbMaxNodes()];
+        int maxLabels = components.getNbMaxLabels();
+        this.kernelCCs = model.getEnvironment().makeIntVector(maxLabels, 0);
+        this.kernelStamps = model.getEnvironment().makeIntVector(maxLabels, -1);
+        this.modifiedCCs = new BitSet(maxLabels);
+        this.counts = new int[maxLabels];
     }
 
     //***********************************************************************************
@@ -61,7 +86,23 @@ public class PropNbCC extends Propagator<Variable> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            components.reset();
+        } else {
+            components.sync();
+        }
+        filter();
+        // removals made by this propagator are in the delta of g until the next world only
+        components.sync();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        // components are brought up to date on the delayed propagation, not on a full one
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
 
+    private void filter() throws ContradictionException {
         // trivial case
         k.updateBounds(0, g.getPotentialNodes().size(), this);
         if (k.getUB() == 0) {
@@ -70,8 +111,8 @@ public class PropNbCC extends Propagator<Variable> {
         }
 
         // bound computation
-        int min = minCC();
-        int max = maxCC();
+        int min = mandatoryCCs();
+        int max = kernelCCs() + g.getPotentialNodes().size() - g.getMandatoryNodes().size();
         k.updateLowerBound(min, this);
         k.updateUpperBound(max, this);
 
@@ -82,24 +123,28 @@ public class PropNbCC extends Propagator<Variable> {
             if (k.getUB() == min) {
 
                 // 1 --- remove unreachable nodes
-                int n = g.getNbMaxNodes();
                 for (int o : g.getPotentialNodes()) {
-                    if (!visitedMin.get(o)) {
+                    if (!mandatoryCCs.get(components.getComponentOf(o))) {
                         g.removeNode(o, this);
                     }
                 }
 
-                // 2 --- enforce articulation points and bridges that link two mandatory nodes
-                helper.computeMandatoryArticulationPointsAndBridges();
+                // 2 --- enforce articulation points and bridges that link two mandatory nodes,
+                // in the connected components of the envelope modified since they were last enforced
+                helper.computeMandatoryArticulationPointsAndBridgesOfModifiedComponents();
                 for(int ap:helper.getArticulationPoints()) {
                     g.enforceNode(ap, this);
                 }
                 for(int[] bridge:helper.getBridges()) {
                     g.enforceEdge(bridge[0], bridge[1], this);
                 }
+                components.sync();
+                helper.validateComponents();
             }
             // a maximal number of CC is required : remaining nodes will be singleton
             else if(k.getLB() == max){
+                // --- label each mandatory node with its connected component in the kernel
+                maxCC();
                 // --- transform every potential node into a mandatory isolated node
                 ISet mNodes = g.getMandatoryNodes();
                 for(int i:g.getPotentialNodes()){
@@ -124,6 +169,24 @@ public class PropNbCC extends Propagator<Variable> {
         }
     }
 
+    /**
+     * Marks the connected components of the envelope which contain a mandatory node
+     *
+     * @return the number of such components
+     */
+    private int mandatoryCCs() {
+        int min = 0;
+        mandatoryCCs.clear();
+        for (int i : g.getMandatoryNodes()) {
+            int cc = components.getComponentOf(i);
+            if (!mandatoryCCs.get(cc)) {
+                mandatoryCCs.set(cc);
+                min++;
+            }
+        }
+        return min;
+    }
+
     private int minCC() {
         int min = 0;
         visitedMin.clear();
@@ -136,6 +199,43 @@ public class PropNbCC extends Propagator<Variable> {
         return min;
     }
 
+    /**
+     * Counts the connected components of the kernel.
+     * They are only explored in the components of the envelope modified since they were last counted
+     * (see {@link DecrementalConnectivity#getStamp(int)}), other counts are read from {@link #kernelCCs}.
+     * Must be called after {@link #mandatoryCCs()}.
+     *
+     * @return the number of connected components of the kernel
+     */
+    private int kernelCCs() {
+        int nbK = 0;
+        for (int l = mandatoryCCs.nextSetBit(0); l >= 0; l = mandatoryCCs.nextSetBit(l + 1)) {
+            if (kernelStamps.quickGet(l) == components.getStamp(l)) {
+                nbK += kernelCCs.quickGet(l);
+            } else {
+                modifiedCCs.set(l);
+            }
+        }
+        if (!modifiedCCs.isEmpty()) {
+            visitedMax.clear();
+            for (int i : g.getMandatoryNodes()) {
+                int l = components.getComponentOf(i);
+                if (modifiedCCs.get(l) && !visitedMax.get(i)) {
+                    exploreLBFrom(i, visitedMax);
+                    counts[l]++;
+                }
+            }
+            for (int l = modifiedCCs.nextSetBit(0); l >= 0; l = modifiedCCs.nextSetBit(l + 1)) {
+                kernelCCs.quickSet(l, counts[l]);
+                kernelStamps.quickSet(l, components.getStamp(l));
+                nbK += counts[l];
+                counts[l] = 0;
+            }
+            modifiedCCs.clear();
+        }
+        return nbK;
+    }
+
     private int maxCC() {
         int nbK = 0;
         visitedMax.clear();
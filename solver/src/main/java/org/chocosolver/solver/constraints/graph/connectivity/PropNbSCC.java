@@ -9,19 +9,30 @@
  */
 package org.chocosolver.solver.constraints.graph.connectivity;
 
+import org.chocosolver.memory.IStateIntVector;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.connectivity.DecrementalStrongConnectivity;
 import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
 
+import java.util.BitSet;
+
 /**
  * Propagator that ensures that the final graph consists in K Strongly Connected Components (SCC)
  * <p/>
  * simple checker and a bit of pruning (runs in linear time)
+ * <p/>
+ * The strongly connected components of the envelope are maintained incrementally
+ * (see {@link DecrementalStrongConnectivity}). As each strongly connected component of the kernel
+ * (which bound K from above) lies in a strongly connected component of the envelope, the number of kernel components
+ * is stored per component of the envelope, and Tarjan's algorithm is only run again
+ * on the mandatory nodes of the components modified since.
  *
  * @author Jean-Guillaume Fages
  */
@@ -35,17 +46,34 @@ public class PropNbSCC extends Propagator<Variable> {
     private final IntVar k;
     private final StrongConnectivityFinder envCCFinder;
     private final StrongConnectivityFinder kerCCFinder;
+    private final DecrementalStrongConnectivity components;
+    // strongly connected components of the envelope with a mandatory node
+    private final BitSet mandatorySCCs;
+    // number of strongly connected components of the kernel in each component of the envelope,
+    // and stamp of the component of the envelope when they were counted
+    private final IStateIntVector kernelSCCs, kernelStamps;
+    // components of the envelope whose kernel components must be counted again, and their mandatory nodes
+    private final BitSet modifiedSCCs, restriction;
+    private final int[] counts;
 
     //***********************************************************************************
     // CONSTRUCTORS
     //***********************************************************************************
 
     public PropNbSCC(DirectedGraphVar graph, IntVar k) {
-        super(new Variable[]{graph, k}, PropagatorPriority.LINEAR, false);
+        super(new Variable[]{graph, k}, PropagatorPriority.LINEAR, true);
         this.g = graph;
         this.k = k;
         envCCFinder = new StrongConnectivityFinder(g.getUB());
         kerCCFinder = new StrongConnectivityFinder(g.getLB());
+        components = DecrementalStrongConnectivity.of(g);
+        mandatorySCCs = new BitSet(components.getNbMaxLabels());
+        int maxLabels = components.getNbMaxLabels();
+        kernelSCCs = model.getEnvironment().makeIntVector(maxLabels, 0);
+        kernelStamps = model.getEnvironment().makeIntVector(maxLabels, -1);
+        modifiedSCCs = new BitSet(maxLabels);
+        restriction = new BitSet(g.getNbMaxNodes());
+        counts = new int[maxLabels];
     }
 
     //***********************************************************************************
@@ -54,6 +82,23 @@ public class PropNbSCC extends Propagator<Variable> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            components.reset();
+        } else {
+            components.sync();
+        }
+        filter();
+        // removals made by this propagator are in the delta of g until the next world only
+        components.sync();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        // components are brought up to date on the delayed propagation, not on a full one
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    private void filter() throws ContradictionException {
         // trivial case
         k.updateLowerBound(0, this);
         if (g.getPotentialNodes().size() == 0) {
@@ -68,30 +113,39 @@ public class PropNbSCC extends Propagator<Variable> {
         }
 
         // bound computation
-        int min = minCC();
-        int max = maxCC();
+        int min = mandatorySCCs();
+        int max = kernelSCCs() + g.getPotentialNodes().size() - g.getMandatoryNodes().size();
         k.updateLowerBound(min, this);
         k.updateUpperBound(max, this);
 
         // A bit of pruning (removes unreachable nodes)
         if (k.getUB() == min && min != max) {
-            int ccs = envCCFinder.getNbSCC();
-            boolean pot = true;
-            for (int cc = 0; cc < ccs; cc++) {
-                for (int i = envCCFinder.getSCCFirstNode(cc); i >= 0 && pot; i = envCCFinder.getNextNode(i)) {
-                    if (g.getMandatoryNodes().contains(i)) {
-                        pot = false;
-                    }
-                }
-                if (pot) {
-                    for (int i = envCCFinder.getSCCFirstNode(cc); i >= 0; i = envCCFinder.getNextNode(i)) {
-                        g.removeNode(i, this);
-                    }
+            for (int i : g.getPotentialNodes()) {
+                if (!mandatorySCCs.get(components.getComponentOf(i))) {
+                    g.removeNode(i, this);
                 }
             }
         }
     }
 
+    /**
+     * Marks the strongly connected components of the envelope which contain a mandatory node
+     *
+     * @return the number of such components
+     */
+    private int mandatorySCCs() {
+        int min = 0;
+        mandatorySCCs.clear();
+        for (int i : g.getMandatoryNodes()) {
+            int cc = components.getComponentOf(i);
+            if (!mandatorySCCs.get(cc)) {
+                mandatorySCCs.set(cc);
+                min++;
+            }
+        }
+        return min;
+    }
+
     public int minCC() {
         envCCFinder.findAllSCC();
         int ccs = envCCFinder.getNbSCC();
@@ -107,6 +161,45 @@ public class PropNbSCC extends Propagator<Variable> {
         return minCC;
     }
 
+    /**
+     * Counts the strongly connected components of the kernel.
+     * They are only computed in the components of the envelope modified since they were last counted
+     * (see {@link DecrementalStrongConnectivity#getStamp(int)}), other counts are read from {@link #kernelSCCs}.
+     * Must be called after {@link #mandatorySCCs()}.
+     *
+     * @return the number of strongly connected components of the kernel
+     */
+    private int kernelSCCs() {
+        int nbK = 0;
+        for (int l = mandatorySCCs.nextSetBit(0); l >= 0; l = mandatorySCCs.nextSetBit(l + 1)) {
+            if (kernelStamps.quickGet(l) == components.getStamp(l)) {
+                nbK += kernelSCCs.quickGet(l);
+            } else {
+                modifiedSCCs.set(l);
+            }
+        }
+        if (!modifiedSCCs.isEmpty()) {
+            for (int i : g.getMandatoryNodes()) {
+                if (modifiedSCCs.get(components.getComponentOf(i))) {
+                    restriction.set(i);
+                }
+            }
+            // kernel arcs between two components of the envelope are in no kernel cycle
+            kerCCFinder.findAllSCCOf(restriction);
+            for (int c = 0; c < kerCCFinder.getNbSCC(); c++) {
+                counts[components.getComponentOf(kerCCFinder.getSCCFirstNode(c))]++;
+            }
+            for (int l = modifiedSCCs.nextSetBit(0); l >= 0; l = modifiedSCCs.nextSetBit(l + 1)) {
+                kernelSCCs.quickSet(l, counts[l]);
+                kernelStamps.quickSet(l, components.getStamp(l));
+                nbK += counts[l];
+                counts[l] = 0;
+            }
+            modifiedSCCs.clear();
+        }
+        return nbK;
+    }
+
     public int maxCC() {
         kerCCFinder.findAllSCC();
         int nbK = kerCCFinder.getNbSCC();
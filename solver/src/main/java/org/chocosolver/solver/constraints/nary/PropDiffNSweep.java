@@ -0,0 +1,560 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Non-overlapping rectangles propagator based on the sweep point algorithm of:
+ * <br/>
+ * N. Beldiceanu and M. Carlsson, "Sweep as a Generic Pruning Technique Applied to the Non-Overlapping
+ * Rectangles Constraint", CP 2001.
+ * <p>
+ * The compulsory part of each box induces a forbidden region for the origin of any other box.
+ * As in {@link PropDiffN}, a box whose compulsory part is empty in one dimension but not in the other
+ * one also forbids the origins of the boxes it surely overlaps in the former dimension.
+ * For each box and each dimension, a sweep line moves from the lower (resp. upper) bound of the origin
+ * until it meets a point which is not covered by any forbidden region.
+ * <p>
+ * Compulsory parts and domains are indexed by their lower corner, so that only the regions close to the
+ * domain of a box are considered, and only the boxes which are close to a modified one are swept again:
+ * for boxes of similar sizes, a full propagation runs in O(n log n) instead of O(n^2).
+ * <p>
+ * Like {@link PropDiffN}, the upper bound of the length of a box is filtered wrt the first compulsory part
+ * it cannot jump over, and the area of the boxes close to a modified one is checked against the area
+ * of their bounding box.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropDiffNSweep extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int n;
+    private final IntVar[] x, y, dx, dy;
+    /**
+     * Compulsory parts in each dimension, as [x0,x1) and [y0,y1)
+     */
+    private final int[] cx0, cx1, cy0, cy1;
+    /**
+     * Boxes with a non-empty compulsory part on the x-axis (resp. y-axis), sorted by x0 (resp. y0),
+     * and all boxes sorted by x.LB (resp. y.LB), as (key << 32 | box) values
+     */
+    private final long[] byX, byY, byLBX, byLBY;
+    private int nbCPX, nbCPY, maxLenX, maxLenY;
+    /**
+     * Largest extent of a box on the x-axis (resp. y-axis), wrt the upper bound of its width (resp. height)
+     */
+    private long maxHullX, maxHullY;
+    /**
+     * Boxes to sweep
+     */
+    private final boolean[] dirty, toSweep;
+    private final int[] dirtyList, sweepList;
+    private int nbDirty, nbSweep;
+    /**
+     * Forbidden regions, as [pl,pu] x [sl,su], p being the swept dimension
+     */
+    private final int[] pl, pu, sl, su;
+    private final long[] order, active;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    public PropDiffNSweep(IntVar[] x, IntVar[] y, IntVar[] dx, IntVar[] dy) {
+        super(ArrayUtils.append(x, y, dx, dy), PropagatorPriority.QUADRATIC, true);
+        n = x.length;
+        if (!(n == y.length && n == dx.length && n == dy.length)) {
+            throw new SolverException("PropDiffNSweep variable arrays do not have same size");
+        }
+        this.x = Arrays.copyOfRange(vars, 0, n);
+        this.y = Arrays.copyOfRange(vars, n, 2 * n);
+        this.dx = Arrays.copyOfRange(vars, 2 * n, 3 * n);
+        this.dy = Arrays.copyOfRange(vars, 3 * n, 4 * n);
+        cx0 = new int[n];
+        cx1 = new int[n];
+        cy0 = new int[n];
+        cy1 = new int[n];
+        byX = new long[n];
+        byY = new long[n];
+        byLBX = new long[n];
+        byLBY = new long[n];
+        dirty = new boolean[n];
+        toSweep = new boolean[n];
+        dirtyList = new int[n];
+        sweepList = new int[n];
+        pl = new int[n];
+        pu = new int[n];
+        sl = new int[n];
+        su = new int[n];
+        order = new long[n];
+        active = new long[n];
+        for (int i = 0; i < n; i++) {
+            byX[i] = byY[i] = byLBX[i] = byLBY[i] = key(0, i);
+        }
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        markDirty(idxVarInProp % n);
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        try {
+            if (PropagatorEventType.isFullPropagation(evtmask)) {
+                for (int i = 0; i < n; i++) {
+                    markDirty(i);
+                }
+            }
+            while (nbDirty > 0) {
+                buildIndex();
+                // modified boxes and boxes close to their compulsory part are swept
+                for (int k = 0; k < nbDirty; k++) {
+                    int j = dirtyList[k];
+                    dirty[j] = false;
+                    markToSweep(j);
+                    energyCheck(j);
+                    if (cx0[j] < cx1[j]) {
+                        markNeighbors(j, true);
+                    }
+                    if (cy0[j] < cy1[j]) {
+                        markNeighbors(j, false);
+                    }
+                }
+                nbDirty = 0;
+                for (int k = 0; k < nbSweep; k++) {
+                    int i = sweepList[k];
+                    toSweep[i] = false;
+                    if (sweep(i, true) | sweep(i, false)) {
+                        markDirty(i);
+                    }
+                }
+                nbSweep = 0;
+            }
+        } finally {
+            clear();
+        }
+    }
+
+    private void markDirty(int i) {
+        if (!dirty[i]) {
+            dirty[i] = true;
+            dirtyList[nbDirty++] = i;
+        }
+    }
+
+    private void markToSweep(int i) {
+        if (!toSweep[i]) {
+            toSweep[i] = true;
+            sweepList[nbSweep++] = i;
+        }
+    }
+
+    private void clear() {
+        for (int k = 0; k < nbDirty; k++) {
+            dirty[dirtyList[k]] = false;
+        }
+        for (int k = 0; k < nbSweep; k++) {
+            toSweep[sweepList[k]] = false;
+        }
+        nbDirty = nbSweep = 0;
+    }
+
+    private static long key(int value, int box) {
+        return ((long) value << 32) | box;
+    }
+
+    private static int box(long key) {
+        return (int) key;
+    }
+
+    private static int value(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Compute the compulsory parts and sort them wrt to their lower corner, and sort boxes wrt to
+     * the lower bound of their origin.
+     * Since few bounds are modified between two calls, arrays are sorted again from their previous order.
+     */
+    private void buildIndex() {
+        nbCPX = nbCPY = 0;
+        maxLenX = maxLenY = 0;
+        maxHullX = maxHullY = 0;
+        for (int i = 0; i < n; i++) {
+            cx0[i] = x[i].getUB();
+            cx1[i] = x[i].getLB() + dx[i].getLB();
+            cy0[i] = y[i].getUB();
+            cy1[i] = y[i].getLB() + dy[i].getLB();
+            if (cx0[i] < cx1[i]) {
+                nbCPX++;
+                maxLenX = Math.max(maxLenX, cx1[i] - cx0[i]);
+            }
+            if (cy0[i] < cy1[i]) {
+                nbCPY++;
+                maxLenY = Math.max(maxLenY, cy1[i] - cy0[i]);
+            }
+            maxHullX = Math.max(maxHullX, (long) x[i].getUB() - x[i].getLB() + dx[i].getUB());
+            maxHullY = Math.max(maxHullY, (long) y[i].getUB() - y[i].getLB() + dy[i].getUB());
+        }
+        for (int q = 0; q < n; q++) {
+            int i = box(byX[q]);
+            // boxes without compulsory part are pushed at the end
+            byX[q] = key(cx0[i] < cx1[i] ? cx0[i] : Integer.MAX_VALUE, i);
+            i = box(byY[q]);
+            byY[q] = key(cy0[i] < cy1[i] ? cy0[i] : Integer.MAX_VALUE, i);
+            i = box(byLBX[q]);
+            byLBX[q] = key(x[i].getLB(), i);
+            i = box(byLBY[q]);
+            byLBY[q] = key(y[i].getLB(), i);
+        }
+        resort(byX, n);
+        resort(byY, n);
+        resort(byLBX, n);
+        resort(byLBY, n);
+    }
+
+    /**
+     * Sort nearly sorted keys with an insertion sort, which falls back to a regular sort
+     * when too many keys are out of place.
+     */
+    private static void resort(long[] keys, int size) {
+        int shifts = 0;
+        int limit = size << 3;
+        for (int q = 1; q < size; q++) {
+            long v = keys[q];
+            int j = q - 1;
+            while (j >= 0 && keys[j] > v) {
+                keys[j + 1] = keys[j];
+                j--;
+                if (++shifts > limit) {
+                    keys[j + 1] = v;
+                    Arrays.sort(keys, 0, size);
+                    return;
+                }
+            }
+            keys[j + 1] = v;
+        }
+    }
+
+    /**
+     * Mark the boxes which may be filtered by the compulsory part of <i>j</i> in one dimension,
+     * that is, those which may overlap <i>j</i> in the other dimension and such that the region
+     * forbidden by <i>j</i> contains a bound of their origin, or which cannot jump over <i>j</i>.
+     * Since the bounds of the other boxes are supported, a region which does not meet them filters nothing.
+     *
+     * @param j    a box with a non-empty compulsory part in the given dimension
+     * @param hori <i>true</i> for the x-axis, <i>false</i> for the y-axis
+     */
+    private void markNeighbors(int j, boolean hori) {
+        IntVar[] p = hori ? x : y, s = hori ? y : x;
+        IntVar[] lp = hori ? dx : dy, ls = hori ? dy : dx;
+        int[] p0 = hori ? cx0 : cy0, p1 = hori ? cx1 : cy1;
+        long[] sorted = hori ? byLBX : byLBY;
+        long from = Math.max(Integer.MIN_VALUE, p0[j] + 1 - (hori ? maxHullX : maxHullY));
+        long sj1 = (long) s[j].getUB() + ls[j].getLB();
+        for (int q = firstFrom(sorted, n, (int) from); q < n && value(sorted[q]) < p1[j]; q++) {
+            int i = box(sorted[q]);
+            int pLB = p[i].getLB(), pUB = p[i].getUB();
+            int a = p0[j] - lp[i].getLB() + 1;
+            if (((a <= pLB) || (a <= pUB && pUB < p1[j])
+                    || (p0[j] >= pLB && (long) p0[j] - pLB < lp[i].getUB() && p1[j] > pUB))
+                    && s[i].getLB() < sj1 && (long) s[i].getUB() + ls[i].getUB() > s[j].getLB()) {
+                markToSweep(i);
+            }
+        }
+    }
+
+    /**
+     * Check that the boxes whose domain intersects the one of <i>i</i> fit in their bounding box.
+     *
+     * @throws ContradictionException if their minimal area exceeds the one of their bounding box
+     */
+    private void energyCheck(int i) throws ContradictionException {
+        long xm = x[i].getLB();
+        long xM = (long) x[i].getUB() + dx[i].getUB();
+        long ym = y[i].getLB();
+        long yM = (long) y[i].getUB() + dy[i].getUB();
+        long am = (long) dx[i].getLB() * dy[i].getLB();
+        long xLengthMin = dx[i].getLB();
+        long yLengthMin = dy[i].getLB();
+        int nb = 1;
+        long from = Math.max(Integer.MIN_VALUE, x[i].getLB() + 1 - maxHullX);
+        long to = (long) x[i].getUB() + dx[i].getUB() - 1;
+        for (int q = firstFrom(byLBX, n, (int) from); q < n && value(byLBX[q]) <= to; q++) {
+            int j = box(byLBX[q]);
+            if (j == i || (long) x[j].getUB() + dx[j].getUB() <= x[i].getLB()
+                    || y[j].getLB() >= (long) y[i].getUB() + dy[i].getUB()
+                    || (long) y[j].getUB() + dy[j].getUB() <= y[i].getLB()) {
+                continue;
+            }
+            xm = Math.min(xm, x[j].getLB());
+            xM = Math.max(xM, (long) x[j].getUB() + dx[j].getUB());
+            ym = Math.min(ym, y[j].getLB());
+            yM = Math.max(yM, (long) y[j].getUB() + dy[j].getUB());
+            am += (long) dx[j].getLB() * dy[j].getLB();
+            if (am > (xM - xm) * (yM - ym)) {
+                fails(); // TODO: could be more precise, for explanation purpose
+            }
+            xLengthMin = Math.min(xLengthMin, dx[j].getLB());
+            yLengthMin = Math.min(yLengthMin, dy[j].getLB());
+            nb++;
+        }
+        if (xLengthMin > 0 && yLengthMin > 0
+                && ((xM - xm) / xLengthMin) * ((yM - ym) / yLengthMin) < nb) {
+            fails(); // TODO: could be more precise, for explanation purpose
+        }
+    }
+
+    /**
+     * @return the first position in the <i>size</i> first keys of <i>sorted</i> whose value is
+     * greater than or equal to <i>value</i>
+     */
+    private static int firstFrom(long[] sorted, int size, int value) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (value(sorted[mid]) < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Filter both bounds of the origin of box <i>i</i> in one dimension, and the upper bound of its length.
+     *
+     * @param i    a box
+     * @param hori <i>true</i> to sweep along the x-axis, <i>false</i> along the y-axis
+     * @return <i>true</i> if a bound has been modified
+     * @throws ContradictionException if no position is feasible
+     */
+    private boolean sweep(int i, boolean hori) throws ContradictionException {
+        IntVar p = hori ? x[i] : y[i];
+        IntVar s = hori ? y[i] : x[i];
+        int lp = hori ? dx[i].getLB() : dy[i].getLB();
+        int ls = hori ? dy[i].getLB() : dx[i].getLB();
+        int[] p0 = hori ? cx0 : cy0, p1 = hori ? cx1 : cy1;
+        int[] s0 = hori ? cy0 : cx0, s1 = hori ? cy1 : cx1;
+        long[] sorted = hori ? byX : byY;
+        int nbCP = hori ? nbCPX : nbCPY;
+        int maxLen = hori ? maxLenX : maxLenY;
+        int pLB = p.getLB(), pUB = p.getUB(), sLB = s.getLB(), sUB = s.getUB();
+        // collect the forbidden regions which intersect the domain of the origin
+        int k = 0;
+        for (int q = firstFrom(sorted, nbCP, pLB + 1 - maxLen); q < nbCP; q++) {
+            int j = box(sorted[q]);
+            if (p0[j] - lp + 1 > pUB) {
+                break;
+            }
+            if (j == i || p1[j] - 1 < pLB) {
+                continue;
+            }
+            if (surelyOverlap(i, j, !hori)) {
+                sl[k] = sLB;
+                su[k] = sUB;
+            } else if (s0[j] < s1[j] && s0[j] - ls + 1 <= sUB && s1[j] - 1 >= sLB) {
+                sl[k] = s0[j] - ls + 1;
+                su[k] = s1[j] - 1;
+            } else {
+                continue;
+            }
+            pl[k] = p0[j] - lp + 1;
+            pu[k] = p1[j] - 1;
+            k++;
+        }
+        if (k == 0) {
+            return filterLength(i, hori);
+        }
+        boolean hasFiltered = false;
+        int lb = sweepMin(k, pLB, pUB, sLB, sUB);
+        if (lb > pUB) {
+            fails(); // TODO: could be more precise, for explanation purpose
+        }
+        if (lb > pLB) {
+            hasFiltered = p.updateLowerBound(lb, this);
+        }
+        // the upper bound, on the mirrored regions
+        for (int r = 0; r < k; r++) {
+            int t = pl[r];
+            pl[r] = -pu[r];
+            pu[r] = -t;
+        }
+        int ub = -sweepMin(k, -p.getUB(), -p.getLB(), sLB, sUB);
+        if (ub < p.getUB()) {
+            hasFiltered |= p.updateUpperBound(ub, this);
+        }
+        return hasFiltered | filterLength(i, hori);
+    }
+
+    /**
+     * Filter the upper bound of the length of box <i>i</i> in one dimension:
+     * when a box surely overlaps <i>i</i> in the other dimension and its compulsory part ends after
+     * the upper bound of the origin of <i>i</i>, then <i>i</i> has to end before it.
+     * Compulsory parts are those computed by {@link #buildIndex()}, which are included in the current ones.
+     *
+     * @param i    a box
+     * @param hori <i>true</i> to filter the width, <i>false</i> to filter the height
+     * @return <i>true</i> if the length has been modified
+     * @throws ContradictionException if the length becomes empty
+     */
+    private boolean filterLength(int i, boolean hori) throws ContradictionException {
+        IntVar p = hori ? x[i] : y[i];
+        IntVar l = hori ? dx[i] : dy[i];
+        int[] p0 = hori ? cx0 : cy0, p1 = hori ? cx1 : cy1;
+        long[] sorted = hori ? byX : byY;
+        int nbCP = hori ? nbCPX : nbCPY;
+        int pLB = p.getLB(), pUB = p.getUB();
+        for (int q = firstFrom(sorted, nbCP, pLB); q < nbCP; q++) {
+            int j = box(sorted[q]);
+            if ((long) p0[j] - pLB >= l.getUB()) {
+                break;
+            }
+            if (j != i && p1[j] > pUB && surelyOverlap(i, j, !hori)) {
+                // compulsory parts are sorted by their lower corner, the first one is the tightest
+                return l.updateUpperBound(p0[j] - pLB, this);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return <i>true</i> if every position of <i>i</i> overlaps every position of <i>j</i>
+     * in one dimension, that is, if one of them has a compulsory part that the other cannot avoid.
+     * Bounds are those read by {@link #buildIndex()}: if it holds for them, it holds for the current ones.
+     */
+    private boolean surelyOverlap(int i, int j, boolean hori) {
+        int[] c0 = hori ? cx0 : cy0, c1 = hori ? cx1 : cy1;
+        return (c0[i] < c1[i] && c1[j] > c0[i] && c0[j] < c1[i])
+                || (c0[j] < c1[j] && c1[i] > c0[j] && c0[i] < c1[j]);
+    }
+
+    /**
+     * Sweep the <i>k</i> first forbidden regions from <i>pLB</i>.
+     *
+     * @return the smallest value in [pLB, pUB] such that a point of [sLB, sUB] is not forbidden,
+     * or <i>pUB + 1</i> if none
+     */
+    private int sweepMin(int k, int pLB, int pUB, int sLB, int sUB) {
+        for (int r = 0; r < k; r++) {
+            order[r] = key(pl[r], r);
+        }
+        Arrays.sort(order, 0, k);
+        int na = 0, next = 0;
+        int cur = pLB;
+        while (cur <= pUB) {
+            // regions leaving the sweep line
+            int w = 0;
+            for (int a = 0; a < na; a++) {
+                if (pu[box(active[a])] >= cur) {
+                    active[w++] = active[a];
+                }
+            }
+            na = w;
+            // regions entering the sweep line
+            while (next < k && value(order[next]) <= cur) {
+                int r = box(order[next++]);
+                if (pu[r] >= cur) {
+                    active[na++] = key(sl[r], r);
+                }
+            }
+            // smallest point of the sweep line which is not forbidden
+            Arrays.sort(active, 0, na);
+            long free = sLB;
+            int min = Integer.MAX_VALUE;
+            for (int a = 0; a < na; a++) {
+                int r = box(active[a]);
+                if (free >= sl[r]) {
+                    free = Math.max(free, su[r] + 1L);
+                }
+                min = Math.min(min, pu[r]);
+            }
+            if (free <= sUB) {
+                return cur;
+            }
+            // jump to the next point where a region leaves the sweep line
+            cur = min + 1;
+        }
+        return pUB + 1;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        // instantiated boxes are sorted by x, only boxes overlapping on x are compared
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (boxInstantiated(i)) {
+                order[m++] = key(x[i].getValue(), i);
+            }
+        }
+        Arrays.sort(order, 0, m);
+        for (int a = 0; a < m; a++) {
+            int i = box(order[a]);
+            for (int b = a + 1; b < m && value(order[b]) < x[i].getValue() + dx[i].getValue(); b++) {
+                int j = box(order[b]);
+                if (x[i].getValue() < x[j].getValue() + dx[j].getValue()
+                        && y[i].getValue() < y[j].getValue() + dy[j].getValue()
+                        && y[j].getValue() < y[i].getValue() + dy[i].getValue()) {
+                    return ESat.FALSE;
+                }
+            }
+        }
+        if (m == n) {
+            return ESat.TRUE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    private boolean boxInstantiated(int i) {
+        return x[i].isInstantiated() && y[i].isInstantiated()
+                && dx[i].isInstantiated() && dy[i].isInstantiated();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("DIFFN(");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(",");
+            sb.append("[").append(x[i].toString());
+            sb.append(",").append(y[i].toString());
+            sb.append(",").append(dx[i].toString());
+            sb.append(",").append(dy[i].toString()).append("]");
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+}
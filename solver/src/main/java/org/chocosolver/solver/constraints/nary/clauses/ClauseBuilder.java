@@ -107,6 +107,18 @@ public class ClauseBuilder {
      * Build the nogood in memory and post it to <i>model</i>.
      */
     public void buildNogood(Model model) {
+        build(model, false);
+    }
+
+    /**
+     * Build the nogood, learnt by another solver, in memory and post it to <i>model</i>.
+     * @see ClauseConstraint#importClause(IntVar[], IntIterableRangeSet[])
+     */
+    public void buildImportedNogood(Model model) {
+        build(model, true);
+    }
+
+    private void build(Model model, boolean imported) {
         if ((status & ALWAYSTRUE) == 0) {
             if ((status & UNKNOWN) != 0) { // at least one clause is unknown
                 if (XParameters.ELIMINATE_VIEWS) eliminateViews();
@@ -128,7 +140,11 @@ public class ClauseBuilder {
                         for (int i = 0; i < _vars.length; i++) {
                             ranges[i] = sets.get(_vars[i].getId());
                         }
-                        model.getClauseConstraint().addClause(_vars, ranges);
+                        if (imported) {
+                            model.getClauseConstraint().importClause(_vars, ranges);
+                        } else {
+                            model.getClauseConstraint().addClause(_vars, ranges);
+                        }
                         break;
                 }
             } else {
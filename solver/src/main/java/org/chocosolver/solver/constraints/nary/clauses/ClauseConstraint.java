@@ -42,6 +42,16 @@ public class ClauseConstraint extends Constraint {
         clauseStore.add(vars, ranges);
     }
 
+    /**
+     * Add a clause learnt by another solver to the clause store,
+     * like: (vars[0] ∈ ranges[0]) &or; (vars[1] ∈ ranges[1]) &or; ...
+     * @param vars set of variables
+     * @param ranges set of allowed ranges
+     */
+    public void importClause(IntVar[] vars, IntIterableRangeSet[] ranges){
+        clauseStore.addImported(vars, ranges);
+    }
+
     @Override
     public ESat isSatisfied() {
         return clauseStore.isEntailed();
@@ -0,0 +1,336 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.clauses;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.objective.IObjectiveManager;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded exchange of learnt signed clauses among models involved in a {@link
+ * org.chocosolver.solver.ParallelPortfolio}.
+ * <p>
+ * Each model is connected through an {@link Endpoint}.
+ * On conflict, a model publishes its learnt clause when it is short enough
+ * (in number of literals and in LBD, see {@link ExplanationForSignedClause#getLBD()}).
+ * On restart, a model imports the clauses published by the other ones since its last restart
+ * into its {@link ClauseStore}.
+ * </p>
+ * <p>
+ * Clauses are stored in a ring buffer, publishing never blocks: when the buffer is full,
+ * the oldest clauses are overwritten and are lost for the models that did not import them yet.
+ * </p>
+ * <p>
+ * When dealing with an optimization problem, a clause may have been derived with the help of the cut
+ * on the objective variable, so it is only valid under this cut.
+ * Each clause is thus tagged with the best bound of its publisher when it is published,
+ * and a model only imports the clauses whose bound is not better than its own
+ * (which assumes the models compute their cut in the same way).
+ * The other ones are skipped.
+ * </p>
+ * <p>
+ * As for {@link org.chocosolver.solver.constraints.nary.sat.NogoodStealer}, all models are
+ * assumed to be equivalent, that is, a variable has the same ID in all models.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ClauseExchange {
+
+    /**
+     * The ring buffer
+     */
+    private final AtomicReferenceArray<SharedClause> slots;
+    /**
+     * Mask to get the slot of a stamp
+     */
+    private final int mask;
+    /**
+     * Stamp of the next clause to publish
+     */
+    private final AtomicLong tail;
+    /**
+     * Maximum number of literals of a clause to publish
+     */
+    private final int maxCard;
+    /**
+     * Maximum LBD of a clause to publish
+     */
+    private final int maxLBD;
+    /**
+     * To identify endpoints
+     */
+    private final AtomicInteger endpoints;
+
+    /**
+     * Create a clause exchange.
+     *
+     * @param capacity maximum number of clauses stored, rounded up to a power of 2
+     * @param maxCard  maximum number of literals of a clause to publish
+     * @param maxLBD   maximum LBD of a clause to publish
+     */
+    public ClauseExchange(int capacity, int maxCard, int maxLBD) {
+        int c = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(c);
+        this.mask = c - 1;
+        this.tail = new AtomicLong();
+        this.maxCard = maxCard;
+        this.maxLBD = maxLBD;
+        this.endpoints = new AtomicInteger();
+    }
+
+    /**
+     * Create a clause exchange that stores up to 4096 clauses,
+     * made of at most 8 literals and with an LBD of at most 4.
+     */
+    public ClauseExchange() {
+        this(4096, 8, 4);
+    }
+
+    /**
+     * Connect a model to this exchange.
+     * The endpoint returned has to be plugged as a search monitor of <i>model</i>
+     * and declared to its learner.
+     *
+     * @param model   a model
+     * @param publish set to <i>false</i> if the model only imports clauses
+     *                (for instance, when it is not reliable)
+     * @return the endpoint of <i>model</i>
+     */
+    public Endpoint connect(Model model, boolean publish) {
+        return new Endpoint(model, endpoints.getAndIncrement(), publish);
+    }
+
+    /**
+     * @return the number of clauses published so far
+     */
+    public long getNbPublished() {
+        return tail.get();
+    }
+
+    private void publish(SharedClause clause) {
+        long t = tail.getAndIncrement();
+        clause.stamp = t;
+        slots.set((int) (t & mask), clause);
+    }
+
+    /**
+     * A clause, as published: variables are referred to by ID
+     */
+    private static final class SharedClause {
+        /**
+         * Index of the publisher
+         */
+        private final int source;
+        /**
+         * IDs of the variables
+         */
+        private final int[] ids;
+        /**
+         * For each variable, the bounds of the ranges of its literal
+         */
+        private final int[][] ranges;
+        /**
+         * Best bound of the objective of the publisher, NaN in satisfaction
+         */
+        private final double bound;
+        /**
+         * Position in the exchange
+         */
+        private long stamp;
+
+        private SharedClause(int source, int[] ids, int[][] ranges, double bound) {
+            this.source = source;
+            this.ids = ids;
+            this.ranges = ranges;
+            this.bound = bound;
+        }
+    }
+
+    /**
+     * The connection of a model to the exchange.
+     */
+    public final class Endpoint implements IMonitorRestart {
+
+        private final Model model;
+        /**
+         * Index of this endpoint
+         */
+        private final int id;
+        /**
+         * Set to <i>false</i> if this only imports clauses
+         */
+        private final boolean publish;
+        /**
+         * Stamp of the next clause to import
+         */
+        private long cursor;
+        /**
+         * Number of clauses published by this endpoint
+         */
+        private long nbPublished;
+        /**
+         * Number of clauses imported by this endpoint
+         */
+        private long nbImported;
+        /**
+         * Number of clauses skipped by this endpoint because of the bound of their publisher
+         */
+        private long nbSkipped;
+
+        private Endpoint(Model model, int id, boolean publish) {
+            this.model = model;
+            this.id = id;
+            this.publish = publish;
+        }
+
+        /**
+         * Publish the signed clause described by <i>explanation</i>, if it is short enough.
+         * Must be called before <i>explanation</i> is recycled.
+         *
+         * @param explanation a learnt signed clause
+         */
+        public void publish(ExplanationForSignedClause explanation) {
+            int card = explanation.getCardinality();
+            if (!publish || card == 0 || card > maxCard || explanation.getLBD() > maxLBD) {
+                return;
+            }
+            int[] ids = new int[card];
+            int[][] ranges = new int[card][];
+            for (int i = 0; i < card; i++) {
+                IntVar var = explanation.getLiteral(i);
+                IntIterableRangeSet set = var.getLit().export();
+                ids[i] = var.getId();
+                ranges[i] = new int[set.getNbRanges() << 1];
+                for (int r = 0; r < set.getNbRanges(); r++) {
+                    ranges[i][r << 1] = set.minOfRange(r);
+                    ranges[i][(r << 1) + 1] = set.maxOfRange(r);
+                }
+            }
+            ClauseExchange.this.publish(new SharedClause(id, ids, ranges, bound()));
+            nbPublished++;
+        }
+
+        /**
+         * Import into the clause store of the model the clauses published by the other models
+         * since the last call.
+         * The clauses are propagated on the next propagation, that is, at the root node after the restart.
+         */
+        @Override
+        public void beforeRestart() {
+            long t = tail.get();
+            if (t - cursor > slots.length()) {
+                cursor = t - slots.length();
+            }
+            ClauseBuilder ngb = model.getClauseBuilder();
+            IntVar[] vars = null;
+            for (; cursor < t; cursor++) {
+                SharedClause clause = slots.get((int) (cursor & mask));
+                // either not written yet or already overwritten
+                if (clause == null || clause.stamp != cursor || clause.source == id) {
+                    continue;
+                }
+                // derived under a better bound than the one of this model
+                if (!isValid(clause.bound)) {
+                    nbSkipped++;
+                    continue;
+                }
+                if (vars == null || vars.length < clause.ids.length) {
+                    vars = new IntVar[clause.ids.length];
+                }
+                if (!lookup(clause.ids, vars)) {
+                    continue;
+                }
+                for (int i = 0; i < clause.ids.length; i++) {
+                    IntIterableRangeSet set = new IntIterableRangeSet();
+                    for (int r = 0; r < clause.ranges[i].length; r += 2) {
+                        set.addBetween(clause.ranges[i][r], clause.ranges[i][r + 1]);
+                    }
+                    ngb.put(vars[i], set);
+                }
+                ngb.buildImportedNogood(model);
+                nbImported++;
+            }
+        }
+
+        /**
+         * @return the best bound of the objective of the model, that is, the one the cut is based on,
+         * or NaN in satisfaction
+         */
+        private double bound() {
+            IObjectiveManager<?> om = model.getSolver().getObjectiveManager();
+            return om.isOptimization() ? om.getBestSolutionValue().doubleValue() : Double.NaN;
+        }
+
+        /**
+         * @param bound the bound of the publisher of a clause
+         * @return <i>true</i> if the cut of the publisher is not tighter than the one of the model,
+         * that is, if the clause holds in the model
+         */
+        private boolean isValid(double bound) {
+            ResolutionPolicy policy = model.getSolver().getObjectiveManager().getPolicy();
+            if (policy == ResolutionPolicy.MINIMIZE) {
+                return bound() <= bound;
+            } else if (policy == ResolutionPolicy.MAXIMIZE) {
+                return bound() >= bound;
+            }
+            return true;
+        }
+
+        /**
+         * Find the variables of this model with the given IDs.
+         *
+         * @return <i>false</i> if one of them does not exist or is not an integer variable
+         */
+        private boolean lookup(int[] ids, IntVar[] vars) {
+            for (int i = 0; i < ids.length; i++) {
+                int pos = model.getVarPosition(ids[i]);
+                Variable var = pos < 0 ? null : model.getVar(pos);
+                if (!(var instanceof IntVar)) {
+                    return false;
+                }
+                vars[i] = (IntVar) var;
+            }
+            return true;
+        }
+
+        /**
+         * @return the number of clauses published by this endpoint
+         */
+        public long getNbPublished() {
+            return nbPublished;
+        }
+
+        /**
+         * @return the number of clauses imported by this endpoint
+         */
+        public long getNbImported() {
+            return nbImported;
+        }
+
+        /**
+         * @return the number of clauses not imported by this endpoint
+         * because they were derived under a better bound of the objective than the one of its model
+         */
+        public long getNbSkipped() {
+            return nbSkipped;
+        }
+    }
+}
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary.clauses;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
@@ -18,6 +19,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.learn.XParameters;
+import org.chocosolver.solver.search.restart.AbstractRestart;
 import org.chocosolver.solver.search.strategy.selectors.variables.ClausesBased;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
@@ -34,7 +36,21 @@ import java.util.stream.Stream;
 import static org.chocosolver.util.ESat.*;
 
 /**
- * A class to manage life of sclauses during resolution. TODO
+ * A class to manage life of sclauses during resolution.
+ * <p>
+ * Learnt signed clauses are ranked in three tiers wrt their literal block distance (LBD),
+ * which is computed when they are learnt and updated when they are involved in a conflict:
+ * <ul>
+ *     <li>core clauses are never removed on reduction,</li>
+ *     <li>tier-2 clauses are kept as long as they are involved in conflicts,
+ *     they are demoted to local otherwise,</li>
+ *     <li>the least active local clauses are removed on reduction.</li>
+ * </ul>
+ * A reduction is applied periodically, on the first restart following the period
+ * (or at once when no restart policy is declared), or as soon as the store is full.
+ * See {@link Settings#setLearntClausesLBDTiers(int, int)}
+ * and {@link Settings#setLearntClausesReductionPeriod(int)}.
+ * </p>
  *
  * <p> Project: choco-solver.
  *
@@ -67,6 +83,34 @@ public class ClauseStore extends Propagator<IntVar> {
      * Ratio of clauses to keep on removal
      */
     private final double ratio;
+    /**
+     * Maximum LBD of core clauses
+     */
+    private final int coreLBD;
+    /**
+     * Maximum LBD of tier-2 clauses
+     */
+    private final int tier2LBD;
+    /**
+     * Number of conflicts between two reductions
+     */
+    private final int period;
+    /**
+     * Number of conflicts so far, serves as a clock
+     */
+    private long conflicts;
+    /**
+     * Value of {@link #conflicts} on the last reduction
+     */
+    private long lastReduction;
+    /**
+     * Number of reductions applied so far
+     */
+    private long nbReductions;
+    /**
+     * LBD of the next learnt signed clause, see {@link #declareLBD(int)}
+     */
+    private int nextLBD = Integer.MAX_VALUE;
 
     private final int domPerimeter;
     /**
@@ -94,6 +138,9 @@ public class ClauseStore extends Propagator<IntVar> {
         this.nbMaxLearnts = model.getSettings().getNbMaxLearntClauses();
         this.ratio = model.getSettings().getRatioForClauseStoreReduction();
         this.domPerimeter = model.getSettings().getLearntClausesDominancePerimeter();
+        this.coreLBD = model.getSettings().getLearntClausesCoreLBD();
+        this.tier2LBD = model.getSettings().getLearntClausesTier2LBD();
+        this.period = model.getSettings().getLearntClausesReductionPeriod();
         this.clauses = new ArrayList<>();
         this.learnts = new ArrayList<>();
         last = null;
@@ -109,23 +156,73 @@ public class ClauseStore extends Propagator<IntVar> {
         return learnts.size();
     }
 
+    /**
+     * @return the number of learnt signed clauses that are never removed on reduction
+     */
+    public int getNbCoreClauses() {
+        int n = 0;
+        for (int i = 0; i < learnts.size(); i++) {
+            if (learnts.get(i).tier == CORE) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @return the number of reductions applied so far
+     */
+    public long getNbReductions() {
+        return nbReductions;
+    }
+
     public void declareClausesBasedStrategy(ClausesBased strat) {
         this.strat = strat;
     }
 
+    /**
+     * Declare the LBD of the next signed clause learnt.
+     * It is used to rank the clause and is forgotten on the next call to {@link #forget()}.
+     *
+     * @param lbd literal block distance of the next learnt clause
+     */
+    public void declareLBD(int lbd) {
+        this.nextLBD = lbd;
+    }
+
     /**
      * Declare a new signed clause in this store
      */
     public void add(IntVar[] vars, IntIterableRangeSet[] ranges) {
+        add(vars, ranges, false);
+    }
+
+    /**
+     * Declare a signed clause learnt by another solver in this store.
+     * Unlike {@link #add(IntVar[], IntIterableRangeSet[])}, the clause is not expected to be asserting
+     * but it can be removed on database reduction like any other learnt clause.
+     */
+    public void addImported(IntVar[] vars, IntIterableRangeSet[] ranges) {
+        add(vars, ranges, true);
+    }
+
+    private void add(IntVar[] vars, IntIterableRangeSet[] ranges, boolean imported) {
         if (XParameters.INTERVAL_TREE) {
             SignedClause cl = new SignedClause(vars, ranges);
             attach(new Watcher(cl.pos[0], cl));
             attach(new Watcher(cl.pos[1], cl));
-            if (model.getSolver().getEngine().isInitialized()) {
+            if (imported) {
+                this.learnts.add(cl);
+                cl.activity = clauseInc;
+                // short enough to be shared, let it prove it is useful here too
+                cl.rank(tier2LBD);
+                if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("import: %s\n", cl);
+            } else if (model.getSolver().getEngine().isInitialized()) {
                 this.learnts.add(cl);
                 last = cl;
                 last.activity = clauseInc;
                 last.rawActivity = 1;
+                last.rank(nextLBD);
                 if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("learn: %s\n", cl);
             } else {
                 if (XParameters.PRINT_CLAUSE) model.getSolver().log().white().printf("add: %s\n", cl);
@@ -166,6 +263,35 @@ public class ClauseStore extends Propagator<IntVar> {
         ng.pos[0] = ng.pos[1] = -1; // to remove it from watchers
     }
 
+    /**
+     * @return a mark to pass to {@link #forgetSince(int)}, to remove the clauses declared from now on
+     */
+    public int mark() {
+        return SID;
+    }
+
+    /**
+     * Remove from this store the signed clauses declared since <i>mark</i> was taken,
+     * whether they were learnt or not.
+     *
+     * @param mark a value returned by {@link #mark()}
+     */
+    public void forgetSince(int mark) {
+        for (int i = learnts.size() - 1; i >= 0; i--) {
+            if (learnts.get(i).id >= mark) {
+                remove(i);
+            }
+        }
+        for (int i = clauses.size() - 1; i >= 0; i--) {
+            if (clauses.get(i).id >= mark) {
+                SignedClause ng = clauses.remove(i);
+                mSolver.getEngine().dynamicDeletion(ng);
+                ng.pos[0] = ng.pos[1] = -1; // to remove it from watchers
+            }
+        }
+        last = null;
+    }
+
     private void check(SignedClause ng) {
         if (mSolver.getDecisionPath().size() > 1) { // if at root node)
             // collect variables related to UNDEF lits.
@@ -206,6 +332,7 @@ public class ClauseStore extends Propagator<IntVar> {
      * Try to delete signed clauses from this nogood store.
      */
     public void forget() {
+        conflicts++;
         if(strat != null){
             strat.decayActivity();
         }
@@ -222,10 +349,26 @@ public class ClauseStore extends Propagator<IntVar> {
             }
         }
         // 2. reduce database
-        reduceDB();
+        if (learnts.size() >= nbMaxLearnts) {
+            reduceDB(true);
+        } else if (mSolver.getRestarter() == AbstractRestart.NO_RESTART) {
+            reduceIfDue();
+        }
+        nextLBD = Integer.MAX_VALUE;
         last = null;
     }
 
+    /**
+     * Reduce the learnt signed clauses when at least {@link Settings#getLearntClausesReductionPeriod()}
+     * conflicts occurred since the last reduction.
+     * This is called on restart, when clauses are less likely to be locked.
+     */
+    public void reduceIfDue() {
+        if (conflicts - lastReduction >= period) {
+            reduceDB(false);
+        }
+    }
+
     private void decayActivity() {
         // Increase the increment by 0.1%.  This introduces "activity
         // inflation", making all previous activity counts have less value.
@@ -258,32 +401,47 @@ public class ClauseStore extends Propagator<IntVar> {
     }
 
     /**
-     * Remove sclauses with a lifespan greater than <i>lifespan</i> and which did not filtered in
-     * the current branch.
+     * Remove the least active local clauses, keeping a ratio of them.
+     * Beforehand, tier-2 clauses not involved in a conflict since the last reduction are demoted to local.
+     *
+     * @param full set to <i>true</i> to consider all tier-2 clauses as local, when the store is full
      */
-    private void reduceDB() {
+    private void reduceDB(boolean full) {
         int size = learnts.size();
-        if (size >= nbMaxLearnts) {
-            learnts.sort(Comparator.comparingDouble(c -> -c.activity));
-            long to = Math.round(ratio * size);
-            for (int i = size - 1; i >= to; i--) {
-                SignedClause ng = learnts.get(i);
-                if (ng.isNotLocked() && ng != last) {
-                    remove(i);
-                }
+        int nbLocals = 0;
+        for (int i = 0; i < size; i++) {
+            SignedClause ng = learnts.get(i);
+            if (ng.tier == TIER2 && (full || ng.touched < lastReduction)) {
+                ng.tier = LOCAL;
+            }
+            if (ng.tier == LOCAL) {
+                nbLocals++;
             }
-            if (size > learnts.size() && model.getSettings().warnUser()) {
+        }
+        lastReduction = conflicts;
+        nbReductions++;
+        // core and tier-2 clauses first, then local ones by decreasing activity
+        learnts.sort((c1, c2) -> c1.tier != c2.tier ? c1.tier - c2.tier : Double.compare(c2.activity, c1.activity));
+        long to = size - nbLocals + Math.round(ratio * nbLocals);
+        for (int i = size - 1; i >= to; i--) {
+            SignedClause ng = learnts.get(i);
+            if (ng.isNotLocked() && ng != last) {
+                remove(i);
+            }
+        }
+        if (size > learnts.size()) {
+            if (model.getSettings().warnUser()) {
                 model.getSolver().log().white().printf("Reduce DB: %d -> %d%n", size, learnts.size());
             }
             for (IntervalTree<Container> t : watches.values()) {
                 Stack<Container> del = new Stack<>();
                 for (Container c : t) {
                     c.watchers.removeIf(w -> !w.c.isConnected());
-                    if(c.watchers.isEmpty()){
+                    if (c.watchers.isEmpty()) {
                         del.push(c);
                     }
                 }
-                while(!del.isEmpty()){
+                while (!del.isEmpty()) {
                     t.delete(del.pop());
                 }
             }
@@ -498,6 +656,19 @@ public class ClauseStore extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    /**
+     * Tier of clauses never removed on reduction, the declared ones are core too
+     */
+    private static final byte CORE = 0;
+    /**
+     * Tier of clauses kept as long as they are involved in conflicts
+     */
+    private static final byte TIER2 = 1;
+    /**
+     * Tier of clauses removed on reduction wrt their activity
+     */
+    private static final byte LOCAL = 2;
+
     public class SignedClause extends Propagator<IntVar> {
 
         static final short LOCK = 4;
@@ -531,6 +702,18 @@ public class ClauseStore extends Propagator<IntVar> {
         private double activity = 0d;
 
         private int rawActivity = 0;
+        /**
+         * Literal block distance, the lowest one met
+         */
+        private int lbd = 0;
+        /**
+         * Tier of this, among {@link #CORE}, {@link #TIER2} and {@link #LOCAL}
+         */
+        private byte tier = CORE;
+        /**
+         * Value of {@link #conflicts} when this was last involved in a conflict
+         */
+        private long touched;
 
         private final int id;
 
@@ -567,6 +750,22 @@ public class ClauseStore extends Propagator<IntVar> {
         }
 
 
+        /**
+         * Set the LBD of this and rank it accordingly.
+         */
+        private void rank(int lbd) {
+            this.lbd = lbd;
+            this.tier = lbd <= coreLBD ? CORE : lbd <= tier2LBD ? TIER2 : LOCAL;
+            this.touched = conflicts;
+        }
+
+        /**
+         * @return the literal block distance of this
+         */
+        public final int getLBD() {
+            return lbd;
+        }
+
         /**
          * @return the number of literals in this
          */
@@ -887,6 +1086,11 @@ public class ClauseStore extends Propagator<IntVar> {
             return u ? UNDEFINED : FALSE;
         }
 
+        @Override
+        public Kind getKind() {
+            return Kind.CLAUSE;
+        }
+
         public void explain(int p, ExplanationForSignedClause explanation) {
             IntVar pivot = explanation.readVar(p);
             IntIterableRangeSet set;
@@ -909,6 +1113,14 @@ public class ClauseStore extends Propagator<IntVar> {
                     v.unionLit(set, explanation);
                 }
             }
+            if (tier != CORE) {
+                touched = conflicts;
+                // as in Glucose, the LBD is only updated when it decreases
+                int l = explanation.getLBD(mvars);
+                if (l < lbd) {
+                    rank(l);
+                }
+            }
         }
 
         @Override
@@ -361,6 +361,11 @@ public class PropSignedClause extends Propagator<IntVar> {
         return u ? UNDEFINED : FALSE;
     }
 
+    @Override
+    public Kind getKind() {
+        return Kind.CLAUSE;
+    }
+
     public void explain(int p, ExplanationForSignedClause explanation) {
         IntVar pivot = explanation.readVar(p);
         IntIterableRangeSet set;
@@ -185,6 +185,38 @@ public class Cumulative extends Constraint {
 				return new DisjunctiveTaskIntervalFilter(n);
 			}
 		},
+		/**
+		 * edge-finding algorithm based on a Theta-Lambda tree (Vilím, 2009), in O(kn log n)
+		 * where k is the number of distinct heights
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new EdgeFindingCumulFilter(n);
+			}
+		},
+		/**
+		 * edge-finding algorithm with the extended edge-finding rule (Mercier and Van Hentenryck, 2008),
+		 * in O(n^3) in the worst case
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		EXTENDED_EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new EdgeFindingCumulFilter(n, true);
+			}
+		},
+		/**
+		 * timetable-edge-finding algorithm (Vilím, 2011; Schutt et al., 2013), in O(n^2)
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		TIMETABLE_EDGE_FINDING {
+			public CumulFilter make(int n){
+				return new TimeTableEdgeFindingCumulFilter(n);
+			}
+		},
 		/**
 		 * Combines above filters as a black-box
 		 * not idempotent
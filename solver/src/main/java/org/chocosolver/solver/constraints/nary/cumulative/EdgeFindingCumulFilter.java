@@ -0,0 +1,266 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.sort.IntComparator;
+
+/**
+ * Edge-finding filter for the cumulative constraint, based on a Theta-Lambda tree:
+ * <br/>
+ * P. Vilím, "Edge Finding Filtering Algorithm for Discrete Cumulative Resources in O(kn log n)", CP 2009.
+ * <br/>
+ * Both starts and ends are filtered, the latter on the mirrored problem.
+ * Runs in O(kn log n), where k is the number of distinct heights.
+ * Only compulsory values are considered (minimal durations and heights, maximal capacity).
+ * <br/>
+ * Optionally, the extended edge-finding rule of:
+ * <br/>
+ * L. Mercier and P. Van Hentenryck, "Edge Finding for Cumulative Scheduling", INFORMS JoC 2008,
+ * <br/>
+ * also detects the sets which must end before a task <i>i</i> starting before them:
+ * when the energy of the tasks in [a,b) and the part of <i>i</i> which is after <i>a</i>, would <i>i</i>
+ * start at its earliest start time, exceed C(b-a), where est(i) &lt; a &lt; ect(i), then <i>i</i> ends after <i>b</i>.
+ * Detected sets are adjusted as in the standard rule.
+ * The detection runs in O(n^2 + nr), where r is the number of earliest start times in the windows (est(i),ect(i)).
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class EdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final int[] tsks;
+	private final boolean extended;
+	private final long[] est, lct, c, p, energy, bound;
+	private final long[] slack;
+	private final int[] byEst, byLct, leafOf, prec;
+	private final long[] update;
+	private final ThetaLambdaTree tree, ctree;
+	private final ArraySort<?> sort;
+	private final IntComparator estComp, lctComp;
+
+	//***********************************************************************************
+	// CONSTRUCTOR
+	//***********************************************************************************
+
+	public EdgeFindingCumulFilter(int nbMaxTasks) {
+		this(nbMaxTasks, false);
+	}
+
+	/**
+	 * @param nbMaxTasks maximum number of tasks
+	 * @param extended   set to <i>true</i> to apply the extended edge-finding rule too
+	 */
+	public EdgeFindingCumulFilter(int nbMaxTasks, boolean extended) {
+		super(nbMaxTasks);
+		this.extended = extended;
+		tsks = new int[nbMaxTasks];
+		est = new long[nbMaxTasks];
+		lct = new long[nbMaxTasks];
+		c = new long[nbMaxTasks];
+		p = new long[nbMaxTasks];
+		energy = new long[nbMaxTasks];
+		bound = new long[nbMaxTasks];
+		slack = new long[nbMaxTasks];
+		byEst = new int[nbMaxTasks];
+		byLct = new int[nbMaxTasks];
+		leafOf = new int[nbMaxTasks];
+		prec = new int[nbMaxTasks];
+		update = new long[nbMaxTasks];
+		tree = new ThetaLambdaTree(nbMaxTasks);
+		ctree = new ThetaLambdaTree(nbMaxTasks);
+		sort = new ArraySort<>(nbMaxTasks, false, true);
+		estComp = (i1, i2) -> Long.compare(est[i1], est[i2]);
+		lctComp = (i1, i2) -> Long.compare(lct[i1], lct[i2]);
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		long C = capa.getUB();
+		int m = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int t = tIter.nextInt();
+			// tasks that do not consume, or that cannot fit, are left to other filters
+			if (d[t].getLB() > 0 && h[t].getLB() > 0 && h[t].getLB() <= C) {
+				tsks[m++] = t;
+			}
+		}
+		if (m < 2) {
+			return;
+		}
+		// earliest start times
+		for (int k = 0; k < m; k++) {
+			int t = tsks[k];
+			est[k] = s[t].getLB();
+			lct[k] = e[t].getUB();
+			c[k] = h[t].getLB();
+			p[k] = d[t].getLB();
+			energy[k] = c[k] * p[k];
+		}
+		if (!edgeFinding(m, C)) {
+			aCause.fails(); // TODO: could be more precise, for explanation purpose
+		}
+		for (int k = 0; k < m; k++) {
+			if (bound[k] > est[k]) {
+				s[tsks[k]].updateLowerBound((int) Math.min(bound[k], Integer.MAX_VALUE), aCause);
+			}
+		}
+		// latest completion times, on the mirrored problem
+		for (int k = 0; k < m; k++) {
+			int t = tsks[k];
+			est[k] = -e[t].getUB();
+			lct[k] = -s[t].getLB();
+		}
+		if (!edgeFinding(m, C)) {
+			aCause.fails(); // TODO: could be more precise, for explanation purpose
+		}
+		for (int k = 0; k < m; k++) {
+			if (bound[k] > est[k]) {
+				e[tsks[k]].updateUpperBound((int) Math.max(-bound[k], Integer.MIN_VALUE), aCause);
+			}
+		}
+	}
+
+	/**
+	 * Compute in {@link #bound} the new earliest start times of the <i>m</i> first tasks.
+	 *
+	 * @param m number of tasks
+	 * @param C capacity of the resource
+	 * @return <i>false</i> if an overload is detected
+	 */
+	private boolean edgeFinding(int m, long C) {
+		for (int k = 0; k < m; k++) {
+			byEst[k] = k;
+			byLct[k] = k;
+			bound[k] = est[k];
+			prec[k] = -1;
+		}
+		sort.sort(byEst, m, estComp);
+		sort.sort(byLct, m, lctComp);
+		for (int l = 0; l < m; l++) {
+			leafOf[byEst[l]] = l;
+		}
+		// detection: tasks are removed from Θ by non-increasing lct
+		tree.reset(m);
+		for (int k = 0; k < m; k++) {
+			tree.addToTheta(leafOf[k], energy[k], C * est[k] + energy[k]);
+		}
+		int q = m - 1;
+		while (q >= 0) {
+			long L = lct[byLct[q]];
+			if (tree.getEnvelope() > C * L) {
+				return false;
+			}
+			while (tree.getLambdaEnvelope() > C * L) {
+				int leaf = tree.getResponsibleLambda();
+				prec[byEst[leaf]] = q;
+				tree.remove(leaf);
+			}
+			while (q >= 0 && lct[byLct[q]] == L) {
+				tree.moveToLambda(leafOf[byLct[q]]);
+				q--;
+			}
+		}
+		if (extended) {
+			extendedDetection(m, C);
+		}
+		// adjustment: one pass per distinct height of tasks with a detected precedence
+		for (int k = 0; k < m; k++) {
+			if (prec[k] >= 0) {
+				computeUpdates(m, C, c[k]);
+				for (int i = k; i < m; i++) {
+					if (prec[i] >= 0 && c[i] == c[k]) {
+						bound[i] = Math.max(bound[i], update[prec[i]]);
+						prec[i] = -1;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Apply the extended edge-finding rule: for each lct value L, at position q in {@link #byLct},
+	 * the free energy of each window [a,L) is computed, and a task <i>i</i> such that lct(i) &gt; L
+	 * is detected if its energy after <i>a</i>, would it start at est(i), exceeds the free energy of
+	 * one of the windows where est(i) &lt; a &lt; ect(i).
+	 * Then <i>i</i> ends after L, which is stored in {@link #prec} unless a larger L has already been detected.
+	 */
+	private void extendedDetection(int m, long C) {
+		for (int q = m - 1; q >= 0; q--) {
+			long L = lct[byLct[q]];
+			if (q < m - 1 && lct[byLct[q + 1]] == L) {
+				continue;
+			}
+			// the free energy of [a,L) is stored at the first position of a in byEst
+			long e = 0;
+			for (int r = m - 1; r >= 0; r--) {
+				int k = byEst[r];
+				if (lct[k] <= L) {
+					e += energy[k];
+				}
+				slack[r] = C * (L - est[k]) - e;
+			}
+			for (int r = 0; r < m; r++) {
+				int i = byEst[r];
+				if (prec[i] >= q || lct[i] <= L) {
+					continue;
+				}
+				long ect = est[i] + p[i];
+				for (int w = r + 1; w < m && est[byEst[w]] < Math.min(ect, L); w++) {
+					long a = est[byEst[w]];
+					if (a > est[i] && est[byEst[w - 1]] < a && c[i] * (ect - a) > slack[w]) {
+						prec[i] = q;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compute in {@link #update} the largest earliest start time induced by LCut(j) on a task of height
+	 * <i>ci</i> which ends after all tasks of LCut(j), j being the last position in {@link #byLct} of its
+	 * lct value.
+	 */
+	private void computeUpdates(int m, long C, long ci) {
+		tree.reset(m);
+		ctree.reset(m);
+		long best = Long.MIN_VALUE;
+		for (int q = 0; q < m; q++) {
+			int k = byLct[q];
+			tree.addToTheta(leafOf[k], energy[k], C * est[k] + energy[k]);
+			ctree.addToTheta(leafOf[k], energy[k], (C - ci) * est[k] + energy[k]);
+			long L = lct[k];
+			if (q == m - 1 || lct[byLct[q + 1]] != L) {
+				int leaf = ctree.rightmostLeafAbove((C - ci) * L);
+				if (leaf >= 0) {
+					long env = tree.envelopeUpTo(leaf) - (C - ci) * L;
+					best = Math.max(best, -Math.floorDiv(-env, ci));
+				}
+			}
+			update[q] = best;
+		}
+	}
+}
@@ -0,0 +1,287 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.sort.IntComparator;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Disjunctive (unary resource) propagator, based on Theta-Lambda trees:
+ * <br/>
+ * P. Vilím, "O(n log n) Filtering Algorithms for Unary Resource Constraint", CPAIOR 2004,
+ * <br/>
+ * P. Vilím, O. Barták and O. Čepek, "Extension of O(n log n) Filtering Algorithms for the Unary
+ * Resource Constraint to Optional Activities", Constraints 2005.
+ * <br/>
+ * Runs overload checking, detectable precedences, not-first/not-last and edge-finding,
+ * on both the earliest start and the latest completion times, up to a fix point.
+ * Tasks with a null duration are ignored.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropDisjunctive extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int n;
+    private final IntVar[] s, d, e;
+    private final int[] tsks;
+    private final long[] est, lct, p, lb, ub;
+    private final int[] byEst, byLct, byLst, byEct, leafOf;
+    private final ThetaLambdaTree tree;
+    private final ArraySort<?> sort;
+    private final IntComparator estComp, lctComp, lstComp, ectComp;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Disjunctive propagator: tasks do not overlap in time
+     *
+     * @param s start variables
+     * @param d duration variables
+     * @param e end variables
+     */
+    public PropDisjunctive(IntVar[] s, IntVar[] d, IntVar[] e) {
+        super(ArrayUtils.append(s, d, e), PropagatorPriority.QUADRATIC, false);
+        this.n = s.length;
+        if (!(n == d.length && n == e.length)) {
+            throw new SolverException("PropDisjunctive variable arrays do not have same size");
+        }
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, n * 2);
+        this.e = Arrays.copyOfRange(vars, n * 2, n * 3);
+        tsks = new int[n];
+        est = new long[n];
+        lct = new long[n];
+        p = new long[n];
+        lb = new long[n];
+        ub = new long[n];
+        byEst = new int[n];
+        byLct = new int[n];
+        byLst = new int[n];
+        byEct = new int[n];
+        leafOf = new int[n];
+        tree = new ThetaLambdaTree(n);
+        sort = new ArraySort<>(n, false, true);
+        estComp = (i1, i2) -> Long.compare(est[i1], est[i2]);
+        lctComp = (i1, i2) -> Long.compare(lct[i1], lct[i2]);
+        lstComp = (i1, i2) -> Long.compare(lct[i1] - p[i1], lct[i2] - p[i2]);
+        ectComp = (i1, i2) -> Long.compare(est[i1] + p[i1], est[i2] + p[i2]);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean change;
+        do {
+            change = false;
+            int m = 0;
+            for (int i = 0; i < n; i++) {
+                d[i].updateLowerBound(0, this);
+                s[i].updateBounds(e[i].getLB() - d[i].getUB(), e[i].getUB() - d[i].getLB(), this);
+                e[i].updateBounds(s[i].getLB() + d[i].getLB(), s[i].getUB() + d[i].getUB(), this);
+                if (d[i].getLB() > 0) {
+                    tsks[m++] = i;
+                }
+            }
+            if (m < 2) {
+                return;
+            }
+            // earliest start times and not-last
+            for (int k = 0; k < m; k++) {
+                int t = tsks[k];
+                est[k] = s[t].getLB();
+                lct[k] = e[t].getUB();
+                p[k] = d[t].getLB();
+            }
+            filter(m);
+            for (int k = 0; k < m; k++) {
+                int t = tsks[k];
+                change |= lb[k] > est[k] && s[t].updateLowerBound((int) Math.min(lb[k], Integer.MAX_VALUE), this);
+                change |= ub[k] < lct[k] && e[t].updateUpperBound((int) Math.max(ub[k], Integer.MIN_VALUE), this);
+            }
+            // latest completion times and not-first, on the mirrored problem
+            for (int k = 0; k < m; k++) {
+                int t = tsks[k];
+                est[k] = -e[t].getUB();
+                lct[k] = -s[t].getLB();
+            }
+            filter(m);
+            for (int k = 0; k < m; k++) {
+                int t = tsks[k];
+                change |= lb[k] > est[k] && e[t].updateUpperBound((int) Math.max(-lb[k], Integer.MIN_VALUE), this);
+                change |= ub[k] < lct[k] && s[t].updateLowerBound((int) Math.min(-ub[k], Integer.MAX_VALUE), this);
+            }
+        } while (change);
+    }
+
+    /**
+     * Compute in {@link #lb} new earliest start times and in {@link #ub} new latest completion times
+     * of the <i>m</i> first tasks, from the current ones.
+     */
+    private void filter(int m) throws ContradictionException {
+        for (int k = 0; k < m; k++) {
+            byEst[k] = byLct[k] = byLst[k] = byEct[k] = k;
+            lb[k] = est[k];
+            ub[k] = lct[k];
+        }
+        sort.sort(byEst, m, estComp);
+        sort.sort(byLct, m, lctComp);
+        sort.sort(byLst, m, lstComp);
+        sort.sort(byEct, m, ectComp);
+        for (int l = 0; l < m; l++) {
+            leafOf[byEst[l]] = l;
+        }
+        overloadAndEdgeFinding(m);
+        detectablePrecedences(m);
+        notLast(m);
+    }
+
+    /**
+     * Overload checking and edge-finding, with a Theta-Lambda tree.
+     */
+    private void overloadAndEdgeFinding(int m) throws ContradictionException {
+        tree.reset(m);
+        for (int k = 0; k < m; k++) {
+            tree.addToTheta(leafOf[k], p[k], est[k] + p[k]);
+        }
+        int q = m - 1;
+        int j = byLct[q];
+        if (tree.getEnvelope() > lct[j]) {
+            fails();
+        }
+        while (q > 0) {
+            tree.moveToLambda(leafOf[j]);
+            j = byLct[--q];
+            if (tree.getEnvelope() > lct[j]) {
+                fails();
+            }
+            while (tree.getLambdaEnvelope() > lct[j]) {
+                int leaf = tree.getResponsibleLambda();
+                int i = byEst[leaf];
+                lb[i] = Math.max(lb[i], tree.getEnvelope());
+                tree.remove(leaf);
+            }
+        }
+    }
+
+    /**
+     * Detectable precedences, with a Theta tree.
+     */
+    private void detectablePrecedences(int m) {
+        tree.reset(m);
+        int ql = 0;
+        for (int r = 0; r < m; r++) {
+            int i = byEct[r];
+            long ect = est[i] + p[i];
+            while (ql < m && ect > lct[byLst[ql]] - p[byLst[ql]]) {
+                int j = byLst[ql++];
+                tree.addToTheta(leafOf[j], p[j], est[j] + p[j]);
+            }
+            lb[i] = Math.max(lb[i], envelopeWithout(i));
+        }
+    }
+
+    /**
+     * Not-last rule, with a Theta tree.
+     */
+    private void notLast(int m) {
+        tree.reset(m);
+        int ql = 0;
+        int last = -1, prev = -1;
+        for (int r = 0; r < m; r++) {
+            int i = byLct[r];
+            while (ql < m && lct[i] > lct[byLst[ql]] - p[byLst[ql]]) {
+                int j = byLst[ql++];
+                tree.addToTheta(leafOf[j], p[j], est[j] + p[j]);
+                prev = last;
+                last = j;
+            }
+            if (envelopeWithout(i) > lct[i] - p[i]) {
+                // the latest start time of the tasks in Θ\{i}
+                int k = last == i ? prev : last;
+                ub[i] = Math.min(ub[i], lct[k] - p[k]);
+            }
+        }
+    }
+
+    /**
+     * @return the earliest completion time of Θ\{i}
+     */
+    private long envelopeWithout(int i) {
+        int leaf = leafOf[i];
+        if (tree.isInTheta(leaf)) {
+            tree.remove(leaf);
+            long ect = tree.getEnvelope();
+            tree.addToTheta(leaf, p[i], est[i] + p[i]);
+            return ect;
+        }
+        return tree.getEnvelope();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        for (int i = 0; i < n; i++) {
+            if (s[i].getLB() + d[i].getLB() > e[i].getUB()
+                    || s[i].getUB() + d[i].getUB() < e[i].getLB()) {
+                return ESat.FALSE;
+            }
+            if (d[i].getLB() > 0) {
+                for (int j = i + 1; j < n; j++) {
+                    // compulsory parts overlap
+                    if (d[j].getLB() > 0 && Math.max(s[i].getUB(), s[j].getUB()) < Math.min(e[i].getLB(), e[j].getLB())) {
+                        return ESat.FALSE;
+                    }
+                }
+            }
+        }
+        if (isCompletelyInstantiated()) {
+            return ESat.TRUE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("DISJUNCTIVE(");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("[").append(s[i].getName()).append(", ")
+                    .append(d[i].getName()).append(", ")
+                    .append(e[i].getName()).append("]");
+        }
+        return sb.append(")").toString();
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+/**
+ * A Theta-Lambda tree, as introduced by P. Vilím for disjunctive and cumulative scheduling.
+ * <p>
+ * Leaves are positions, in non-decreasing order of earliest start time (this is up to the caller).
+ * A leaf is either empty, in Θ (white) or in Λ (gray).
+ * Each leaf holds an energy and an envelope (for instance <i>est + p</i> in the disjunctive case,
+ * <i>C.est + c.p</i> in the cumulative case) and each node maintains in O(log n):
+ * <ul>
+ *     <li>the energy and the envelope of the Θ-leaves of its subtree,</li>
+ *     <li>the same values when at most one gray leaf is added to Θ, and the gray leaf responsible for them.</li>
+ * </ul>
+ * Values are stored as <i>long</i> to prevent overflows in the cumulative case.
+ * A Theta tree is a Theta-Lambda tree without gray leaves.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ThetaLambdaTree {
+
+	/**
+	 * Envelope of an empty set
+	 */
+	public static final long NEG_INF = Long.MIN_VALUE / 4;
+
+	private int n;
+	private int size;
+	private int depth;
+	private long[] energy;
+	private long[] envelope;
+	private long[] grayEnergy;
+	private long[] grayEnvelope;
+	private int[] respEnergy;
+	private int[] respEnvelope;
+
+	/**
+	 * Create a Theta-Lambda tree with no leaf
+	 */
+	public ThetaLambdaTree() {
+		this(1);
+	}
+
+	/**
+	 * Create a Theta-Lambda tree with <i>n</i> empty leaves
+	 *
+	 * @param n number of leaves
+	 */
+	public ThetaLambdaTree(int n) {
+		energy = new long[0];
+		reset(n);
+	}
+
+	/**
+	 * Empty the tree and set its number of leaves to <i>n</i>.
+	 * Arrays are only reallocated when the tree grows.
+	 *
+	 * @param n number of leaves
+	 */
+	public void reset(int n) {
+		this.n = n;
+		int s = 1, h = 0;
+		while (s < n) {
+			s <<= 1;
+			h++;
+		}
+		this.size = s;
+		this.depth = h;
+		if (energy.length < 2 * s) {
+			energy = new long[2 * s];
+			envelope = new long[2 * s];
+			grayEnergy = new long[2 * s];
+			grayEnvelope = new long[2 * s];
+			respEnergy = new int[2 * s];
+			respEnvelope = new int[2 * s];
+		}
+		for (int v = 1; v < 2 * s; v++) {
+			clearNode(v);
+		}
+	}
+
+	private void clearNode(int v) {
+		energy[v] = 0;
+		envelope[v] = NEG_INF;
+		grayEnergy[v] = 0;
+		grayEnvelope[v] = NEG_INF;
+		respEnergy[v] = -1;
+		respEnvelope[v] = -1;
+	}
+
+	/**
+	 * @return number of leaves
+	 */
+	public int getNbLeaves() {
+		return n;
+	}
+
+	/**
+	 * Add the leaf at position <i>leaf</i> to Θ.
+	 *
+	 * @param leaf     a position
+	 * @param e        its energy
+	 * @param envelope its envelope
+	 */
+	public void addToTheta(int leaf, long e, long envelope) {
+		int v = size + leaf;
+		energy[v] = e;
+		this.envelope[v] = envelope;
+		grayEnergy[v] = e;
+		grayEnvelope[v] = envelope;
+		respEnergy[v] = -1;
+		respEnvelope[v] = -1;
+		updateAncestors(v);
+	}
+
+	/**
+	 * Add the leaf at position <i>leaf</i> to Λ.
+	 *
+	 * @param leaf     a position
+	 * @param e        its energy
+	 * @param envelope its envelope
+	 */
+	public void addToLambda(int leaf, long e, long envelope) {
+		int v = size + leaf;
+		energy[v] = 0;
+		this.envelope[v] = NEG_INF;
+		grayEnergy[v] = e;
+		grayEnvelope[v] = envelope;
+		respEnergy[v] = leaf;
+		respEnvelope[v] = leaf;
+		updateAncestors(v);
+	}
+
+	/**
+	 * Move the leaf at position <i>leaf</i> from Θ to Λ.
+	 *
+	 * @param leaf a position in Θ
+	 */
+	public void moveToLambda(int leaf) {
+		int v = size + leaf;
+		addToLambda(leaf, energy[v], envelope[v]);
+	}
+
+	/**
+	 * Remove the leaf at position <i>leaf</i> from the tree.
+	 *
+	 * @param leaf a position
+	 */
+	public void remove(int leaf) {
+		int v = size + leaf;
+		clearNode(v);
+		updateAncestors(v);
+	}
+
+	/**
+	 * @param leaf a position
+	 * @return <i>true</i> if the leaf is in Θ
+	 */
+	public boolean isInTheta(int leaf) {
+		int v = size + leaf;
+		return respEnergy[v] == -1 && envelope[v] > NEG_INF;
+	}
+
+	/**
+	 * @return the energy of Θ
+	 */
+	public long getEnergy() {
+		return energy[1];
+	}
+
+	/**
+	 * @return the envelope of Θ
+	 */
+	public long getEnvelope() {
+		return envelope[1];
+	}
+
+	/**
+	 * @return the largest envelope of Θ plus at most one leaf of Λ
+	 */
+	public long getLambdaEnvelope() {
+		return grayEnvelope[1];
+	}
+
+	/**
+	 * @return the leaf of Λ responsible for {@link #getLambdaEnvelope()}, or -1 if none
+	 */
+	public int getResponsibleLambda() {
+		return respEnvelope[1];
+	}
+
+	/**
+	 * Find the rightmost leaf <i>k</i> of Θ such that the envelope of <i>k</i> plus the energy of
+	 * the Θ-leaves at its right is greater than <i>threshold</i>.
+	 *
+	 * @param threshold a value
+	 * @return a position, or -1 if the envelope of Θ is not greater than <i>threshold</i>
+	 */
+	public int rightmostLeafAbove(long threshold) {
+		if (envelope[1] <= threshold) {
+			return -1;
+		}
+		int v = 1;
+		long r = 0;
+		while (v < size) {
+			int right = 2 * v + 1;
+			if (envelope[right] + r > threshold) {
+				v = right;
+			} else {
+				r += energy[right];
+				v = 2 * v;
+			}
+		}
+		return v - size;
+	}
+
+	/**
+	 * Compute the largest envelope of a leaf <i>k</i> &le; <i>leaf</i> of Θ plus the energy of all
+	 * the Θ-leaves at its right (including those after <i>leaf</i>).
+	 *
+	 * @param leaf a position
+	 * @return the envelope of Θ restricted to the leaves up to <i>leaf</i>
+	 */
+	public long envelopeUpTo(int leaf) {
+		int v = 1;
+		long r = 0;
+		long best = NEG_INF;
+		for (int t = depth - 1; t >= 0; t--) {
+			int left = 2 * v;
+			if (((leaf >> t) & 1) == 1) {
+				best = Math.max(best, envelope[left] + energy[left + 1] + r);
+				v = left + 1;
+			} else {
+				r += energy[left + 1];
+				v = left;
+			}
+		}
+		return Math.max(best, envelope[v] + r);
+	}
+
+	private void updateAncestors(int v) {
+		v >>= 1;
+		while (v > 0) {
+			pull(v);
+			v >>= 1;
+		}
+	}
+
+	private void pull(int v) {
+		int l = 2 * v, r = l + 1;
+		energy[v] = energy[l] + energy[r];
+		envelope[v] = Math.max(envelope[r], envelope[l] + energy[r]);
+		// gray energy
+		long el = grayEnergy[l] + energy[r];
+		long er = energy[l] + grayEnergy[r];
+		if (er > el || (er == el && respEnergy[l] == -1)) {
+			grayEnergy[v] = er;
+			respEnergy[v] = respEnergy[r];
+		} else {
+			grayEnergy[v] = el;
+			respEnergy[v] = respEnergy[l];
+		}
+		// gray envelope
+		long best = grayEnvelope[r];
+		int resp = respEnvelope[r];
+		long alt = envelope[l] + grayEnergy[r];
+		if (alt > best || (alt == best && resp == -1)) {
+			best = alt;
+			resp = respEnergy[r];
+		}
+		alt = grayEnvelope[l] + energy[r];
+		if (alt > best || (alt == best && resp == -1)) {
+			best = alt;
+			resp = respEnvelope[l];
+		}
+		grayEnvelope[v] = best;
+		respEnvelope[v] = resp;
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.sort.IntComparator;
+
+/**
+ * Timetable-edge-finding filter for the cumulative constraint:
+ * <br/>
+ * P. Vilím, "Timetable Edge Finding Filtering Algorithm for Discrete Cumulative Resources", CPAIOR 2011,
+ * <br/>
+ * in the O(n^2) flavour of A. Schutt, T. Feydy and P.J. Stuckey, "Explaining Time-Table-Edge-Finding
+ * Propagation for the Cumulative Resource Constraint", CPAIOR 2013.
+ * <br/>
+ * The energy of the compulsory parts (the time-table) is combined with the free energy of the tasks
+ * contained in each time window [a,b), where a is an earliest start time and b a latest completion time.
+ * For each latest completion time b, every task which ends after b is pushed wrt the window [a,b) with
+ * the least available energy among those starting before it, as in Schutt et al.,
+ * instead of only the task with the largest extra energy in each window.
+ * Both starts and ends are filtered, the latter on the mirrored problem.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class TimeTableEdgeFindingCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	private final int[] tsks;
+	private final long[] est, lct, p, c, bound;
+	private final long[] ttEst, ttLct, avail;
+	private final int[] byEst, byLct, events;
+	private final long[] evTime, evIntegral, evHeight;
+	private int nbEvents;
+	private final ArraySort<?> sort;
+	private final IntComparator estComp, lctComp, evComp;
+
+	//***********************************************************************************
+	// CONSTRUCTOR
+	//***********************************************************************************
+
+	public TimeTableEdgeFindingCumulFilter(int nbMaxTasks) {
+		super(nbMaxTasks);
+		tsks = new int[nbMaxTasks];
+		est = new long[nbMaxTasks];
+		lct = new long[nbMaxTasks];
+		p = new long[nbMaxTasks];
+		c = new long[nbMaxTasks];
+		bound = new long[nbMaxTasks];
+		ttEst = new long[nbMaxTasks];
+		ttLct = new long[nbMaxTasks];
+		avail = new long[nbMaxTasks];
+		byEst = new int[nbMaxTasks];
+		byLct = new int[nbMaxTasks];
+		events = new int[2 * nbMaxTasks];
+		evTime = new long[2 * nbMaxTasks];
+		evIntegral = new long[2 * nbMaxTasks];
+		evHeight = new long[2 * nbMaxTasks];
+		sort = new ArraySort<>(2 * nbMaxTasks, false, true);
+		estComp = (i1, i2) -> Long.compare(est[i1], est[i2]);
+		lctComp = (i1, i2) -> Long.compare(lct[i1], lct[i2]);
+		evComp = (i1, i2) -> Long.compare(eventTime(i1), eventTime(i2));
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		long C = capa.getUB();
+		int m = 0;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int t = tIter.nextInt();
+			// tasks that do not consume, or that cannot fit, are left to other filters
+			if (d[t].getLB() > 0 && h[t].getLB() > 0 && h[t].getLB() <= C) {
+				tsks[m++] = t;
+			}
+		}
+		if (m < 2) {
+			return;
+		}
+		// earliest start times
+		for (int k = 0; k < m; k++) {
+			int t = tsks[k];
+			est[k] = s[t].getLB();
+			lct[k] = e[t].getUB();
+			p[k] = d[t].getLB();
+			c[k] = h[t].getLB();
+		}
+		if (!timeTableEdgeFinding(m, C)) {
+			aCause.fails(); // TODO: could be more precise, for explanation purpose
+		}
+		for (int k = 0; k < m; k++) {
+			if (bound[k] > est[k]) {
+				s[tsks[k]].updateLowerBound((int) Math.min(bound[k], Integer.MAX_VALUE), aCause);
+			}
+		}
+		// latest completion times, on the mirrored problem
+		for (int k = 0; k < m; k++) {
+			int t = tsks[k];
+			est[k] = -e[t].getUB();
+			lct[k] = -s[t].getLB();
+		}
+		if (!timeTableEdgeFinding(m, C)) {
+			aCause.fails(); // TODO: could be more precise, for explanation purpose
+		}
+		for (int k = 0; k < m; k++) {
+			if (bound[k] > est[k]) {
+				e[tsks[k]].updateUpperBound((int) Math.max(-bound[k], Integer.MIN_VALUE), aCause);
+			}
+		}
+	}
+
+	private long eventTime(int ev) {
+		// events below nbMaxTasks are latest start times, the others are earliest completion times
+		return ev < nbMaxTasks ? lct[ev] - p[ev] : est[ev - nbMaxTasks] + p[ev - nbMaxTasks];
+	}
+
+	/**
+	 * Compute in {@link #bound} the new earliest start times of the <i>m</i> first tasks.
+	 *
+	 * @param m number of tasks
+	 * @param C capacity of the resource
+	 * @return <i>false</i> if an overload is detected
+	 */
+	private boolean timeTableEdgeFinding(int m, long C) {
+		for (int k = 0; k < m; k++) {
+			byEst[k] = k;
+			byLct[k] = k;
+			bound[k] = est[k];
+		}
+		sort.sort(byEst, m, estComp);
+		sort.sort(byLct, m, lctComp);
+		buildTimeTable(m);
+		for (int k = 0; k < m; k++) {
+			ttEst[k] = timeTableEnergy(est[k]);
+			ttLct[k] = timeTableEnergy(lct[k]);
+		}
+		for (int q = m - 1; q >= 0; q--) {
+			int y = byLct[q];
+			long b = lct[y];
+			if (q < m - 1 && lct[byLct[q + 1]] == b) {
+				continue;
+			}
+			// available energy of each window [a,b), stored at the first position of a in byEst
+			long free = 0;
+			for (int r = m - 1; r >= 0; r--) {
+				int x = byEst[r];
+				if (lct[x] <= b) {
+					free += c[x] * (p[x] - compulsory(x, Long.MAX_VALUE));
+				}
+				avail[r] = Long.MAX_VALUE;
+				long a = est[x];
+				if (a >= b || (r > 0 && est[byEst[r - 1]] == a)) {
+					continue;
+				}
+				avail[r] = C * (b - a) - free - (ttLct[y] - ttEst[x]);
+				if (avail[r] < 0) {
+					return false;
+				}
+			}
+			// each task which starts before b and ends after it is pushed wrt the tightest window containing its est
+			long minAvail = Long.MAX_VALUE;
+			for (int r = 0; r < m; r++) {
+				int x = byEst[r];
+				minAvail = Math.min(minAvail, avail[r]);
+				if (lct[x] > b && est[x] < b) {
+					long cp = compulsory(x, b);
+					long extra = c[x] * (Math.min(p[x], b - est[x]) - cp);
+					if (extra > minAvail) {
+						bound[x] = Math.max(bound[x], b - (minAvail + c[x] * cp) / c[x]);
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the length of the compulsory part of task <i>k</i> before <i>b</i>
+	 */
+	private long compulsory(int k, long b) {
+		return Math.max(0, Math.min(est[k] + p[k], b) - (lct[k] - p[k]));
+	}
+
+	/**
+	 * Sort the bounds of the compulsory parts and compute the integral of the time-table at each of them.
+	 */
+	private void buildTimeTable(int m) {
+		int nb = 0;
+		for (int k = 0; k < m; k++) {
+			if (compulsory(k, Long.MAX_VALUE) > 0) {
+				events[nb++] = k;
+				events[nb++] = nbMaxTasks + k;
+			}
+		}
+		sort.sort(events, nb, evComp);
+		long integral = 0, height = 0;
+		for (int i = 0; i < nb; i++) {
+			int ev = events[i];
+			long t = eventTime(ev);
+			if (i > 0) {
+				integral += height * (t - evTime[i - 1]);
+			}
+			height += ev < nbMaxTasks ? c[ev] : -c[ev - nbMaxTasks];
+			evTime[i] = t;
+			evIntegral[i] = integral;
+			evHeight[i] = height;
+		}
+		nbEvents = nb;
+	}
+
+	/**
+	 * @return the energy of the compulsory parts before <i>t</i>
+	 */
+	private long timeTableEnergy(long t) {
+		int lo = 0, hi = nbEvents - 1, j = -1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			if (evTime[mid] <= t) {
+				j = mid;
+				lo = mid + 1;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		return j < 0 ? 0 : evIntegral[j] + evHeight[j] * (t - evTime[j]);
+	}
+}
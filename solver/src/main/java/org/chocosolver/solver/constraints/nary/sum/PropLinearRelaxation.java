@@ -0,0 +1,271 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.lp.LinearProgram;
+import org.chocosolver.lp.RevisedSimplex;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ImpliedConstraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.ReificationConstraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A propagator that maintains the linear relaxation of a set of linear constraints
+ * <i>lb<sub>i</sub> &le; &Sigma; c<sub>ij</sub>.x<sub>j</sub> &le; ub<sub>i</sub></i>,
+ * where integrality of the variables is relaxed.
+ * <p>
+ * On each propagation, the bounds of the variables that changed since the previous one are updated
+ * in a {@link RevisedSimplex}, built once, which is re-optimized from its previous basis
+ * (the basis is not restored upon backtrack, it only serves as a starting point).
+ * When bounds were only tightened and the previous optimal solution still satisfies them,
+ * it remains optimal and the relaxation is not re-optimized.
+ * If the relaxation is infeasible, this fails.
+ * Otherwise, when an objective variable is given, its bound is tightened to the optimal value of the relaxation
+ * and reduced-cost fixing is applied:
+ * a nonbasic variable at its lower (resp. upper) bound whose reduced cost <i>r</i> is positive (resp. negative)
+ * cannot move by more than <i>gap / |r|</i>, where <i>gap</i> is the distance between
+ * the optimal value of the relaxation and the other bound of the objective variable.
+ * </p>
+ * <p>
+ * The relaxation is redundant with the constraints it was built from, which must be posted too.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropLinearRelaxation extends Propagator<IntVar> {
+
+    private static final double EPS = 1e-6;
+
+    /**
+     * The linear relaxation, variable j of the LP is vars[j]
+     */
+    private final RevisedSimplex lp;
+    /**
+     * Index of the objective variable in vars, or -1
+     */
+    private final int objective;
+    /**
+     * Set to <i>true</i> if the objective is to be maximized
+     */
+    private final boolean maximize;
+    /**
+     * The rows, kept for entailment checks
+     */
+    private final int[][] rowVars;
+    private final double[][] rowCoeffs;
+    private final double[] rowLb;
+    private final double[] rowUb;
+
+    /**
+     * Create a propagator that maintains the linear relaxation of
+     * <i>rowLb[i] &le; &Sigma; rowCoeffs[i][k].vars[rowVars[i][k]] &le; rowUb[i]</i>.
+     *
+     * @param vars      the variables
+     * @param rowVars   for each row, indices in <i>vars</i> of its variables
+     * @param rowCoeffs for each row, the coefficients of its variables
+     * @param rowLb     lower bound of each row, may be {@link Double#NEGATIVE_INFINITY}
+     * @param rowUb     upper bound of each row, may be {@link Double#POSITIVE_INFINITY}
+     * @param objective index in <i>vars</i> of the objective variable, or -1
+     * @param maximize  set to <i>true</i> if the objective is to be maximized
+     */
+    public PropLinearRelaxation(IntVar[] vars, int[][] rowVars, double[][] rowCoeffs,
+                                double[] rowLb, double[] rowUb, int objective, boolean maximize) {
+        super(vars, PropagatorPriority.VERY_SLOW, false);
+        this.rowVars = rowVars;
+        this.rowCoeffs = rowCoeffs;
+        this.rowLb = rowLb;
+        this.rowUb = rowUb;
+        this.objective = objective;
+        this.maximize = maximize;
+        this.lp = new RevisedSimplex();
+        for (IntVar var : vars) {
+            lp.makeVariable(var.getLB(), var.getUB());
+        }
+        for (int i = 0; i < rowVars.length; i++) {
+            lp.addRow(rowVars[i], rowCoeffs[i], rowLb[i], rowUb[i]);
+        }
+        double[] c = new double[vars.length];
+        if (objective > -1) {
+            c[objective] = 1.;
+        }
+        lp.setObjective(maximize, c);
+    }
+
+    /**
+     * Build the linear relaxation of the sums and scalar products posted in a model,
+     * that is, of the constraints made of {@link PropSum} or {@link PropSumWithLong} (and subclasses)
+     * with an operator among =, &le; and &ge;.
+     * Reified constraints are ignored, as well as small sums rewritten by {@link IntLinCombFactory}
+     * into arithmetic or ternary constraints.
+     *
+     * @param model     a model
+     * @param objective the objective variable, may be null
+     * @param maximize  set to <i>true</i> if the objective is to be maximized
+     * @return a propagator over the relaxation
+     */
+    public static PropLinearRelaxation make(Model model, IntVar objective, boolean maximize) {
+        TIntIntHashMap index = new TIntIntHashMap(16, .5f, -1, -1);
+        List<IntVar> vars = new ArrayList<>();
+        List<int[]> rowVars = new ArrayList<>();
+        List<double[]> rowCoeffs = new ArrayList<>();
+        List<double[]> rowBounds = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            if (c.isReified() || c instanceof ReificationConstraint || c instanceof ImpliedConstraint) {
+                continue;
+            }
+            for (Propagator<?> p : c.getPropagators()) {
+                Operator o;
+                double b;
+                double[] coeffs;
+                if (p instanceof PropSum) {
+                    PropSum ps = (PropSum) p;
+                    o = ps.getOperator();
+                    b = ps.getBound();
+                    int[] cs = ps.getCoefficients();
+                    coeffs = new double[cs.length];
+                    for (int k = 0; k < cs.length; k++) {
+                        coeffs[k] = cs[k];
+                    }
+                } else if (p instanceof PropSumWithLong) {
+                    PropSumWithLong ps = (PropSumWithLong) p;
+                    o = ps.getOperator();
+                    b = ps.getBound();
+                    long[] cs = ps.getCoefficients();
+                    coeffs = new double[cs.length];
+                    for (int k = 0; k < cs.length; k++) {
+                        coeffs[k] = cs[k];
+                    }
+                } else {
+                    continue;
+                }
+                if (o == Operator.NQ) {
+                    continue;
+                }
+                int[] idx = new int[coeffs.length];
+                for (int k = 0; k < coeffs.length; k++) {
+                    idx[k] = indexOf((IntVar) p.getVar(k), index, vars);
+                }
+                rowVars.add(idx);
+                rowCoeffs.add(coeffs);
+                rowBounds.add(new double[]{
+                        o == Operator.LE ? Double.NEGATIVE_INFINITY : b,
+                        o == Operator.GE ? Double.POSITIVE_INFINITY : b});
+            }
+        }
+        int obj = objective == null ? -1 : indexOf(objective, index, vars);
+        double[] lbs = new double[rowBounds.size()];
+        double[] ubs = new double[rowBounds.size()];
+        for (int i = 0; i < lbs.length; i++) {
+            lbs[i] = rowBounds.get(i)[0];
+            ubs[i] = rowBounds.get(i)[1];
+        }
+        return new PropLinearRelaxation(vars.toArray(new IntVar[0]),
+                rowVars.toArray(new int[0][]), rowCoeffs.toArray(new double[0][]),
+                lbs, ubs, obj, maximize);
+    }
+
+    private static int indexOf(IntVar var, TIntIntHashMap index, List<IntVar> vars) {
+        int i = index.get(var.getId());
+        if (i == -1) {
+            i = vars.size();
+            index.put(var.getId(), i);
+            vars.add(var);
+        }
+        return i;
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean resolve = !lp.isFeasible();
+        for (int j = 0; j < vars.length; j++) {
+            int l = vars[j].getLB();
+            int u = vars[j].getUB();
+            if (l != lp.getLB(j) || u != lp.getUB(j)) {
+                // relaxing a bound, or excluding the current value, may change the optimum
+                resolve |= l < lp.getLB(j) || u > lp.getUB(j) || lp.value(j) < l || lp.value(j) > u;
+                lp.setBounds(j, l, u);
+            }
+        }
+        LinearProgram.Status status = resolve ? lp.simplex() : lp.getStatus();
+        if (status == LinearProgram.Status.INFEASIBLE) {
+            fails();
+        }
+        if (status != LinearProgram.Status.FEASIBLE || objective == -1) {
+            return;
+        }
+        double z = lp.objective();
+        IntVar obj = vars[objective];
+        double gap;
+        if (maximize) {
+            if (z + EPS < obj.getUB()) {
+                obj.updateUpperBound((int) Math.floor(z + EPS), this);
+            }
+            gap = z - obj.getLB();
+        } else {
+            if (z - EPS > obj.getLB()) {
+                obj.updateLowerBound((int) Math.ceil(z - EPS), this);
+            }
+            gap = obj.getUB() - z;
+        }
+        // reduced-cost fixing
+        for (int j = 0; j < vars.length; j++) {
+            if (j == objective || lp.isBasic(j)) {
+                continue;
+            }
+            // the loss, in the objective, per unit of increase of the variable
+            double rc = maximize ? -lp.reducedCost(j) : lp.reducedCost(j);
+            if (rc > EPS && lp.value(j) == lp.getLB(j)) {
+                double ub = lp.getLB(j) + Math.floor(gap / rc + EPS);
+                if (ub < vars[j].getUB()) {
+                    vars[j].updateUpperBound((int) ub, this);
+                }
+            } else if (rc < -EPS && lp.value(j) == lp.getUB(j)) {
+                double lb = lp.getUB(j) - Math.floor(gap / -rc + EPS);
+                if (lb > vars[j].getLB()) {
+                    vars[j].updateLowerBound((int) lb, this);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!isCompletelyInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        for (int i = 0; i < rowVars.length; i++) {
+            double s = 0.;
+            for (int k = 0; k < rowVars[i].length; k++) {
+                s += rowCoeffs[i][k] * vars[rowVars[i][k]].getValue();
+            }
+            if (s < rowLb[i] || s > rowUb[i]) {
+                return ESat.FALSE;
+            }
+        }
+        return ESat.TRUE;
+    }
+}
@@ -278,6 +278,11 @@ public class PropScalarWithLong extends PropSumWithLong {
         return check(sumLB, sumUB);
     }
 
+    @Override
+    public long[] getCoefficients() {
+        return c.clone();
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -664,6 +664,31 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @return the coefficient of each variable, in the order of the variables of this propagator
+     */
+    public int[] getCoefficients() {
+        int[] coeffs = new int[l];
+        for (int i = 0; i < l; i++) {
+            coeffs[i] = i < pos ? 1 : -1;
+        }
+        return coeffs;
+    }
+
+    /**
+     * @return the operator of this propagator
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the bound to respect
+     */
+    public int getBound() {
+        return b;
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
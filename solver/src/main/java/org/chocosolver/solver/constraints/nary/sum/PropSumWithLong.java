@@ -459,6 +459,31 @@ public class PropSumWithLong extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @return the coefficient of each variable, in the order of the variables of this propagator
+     */
+    public long[] getCoefficients() {
+        long[] coeffs = new long[l];
+        for (int i = 0; i < l; i++) {
+            coeffs[i] = i < pos ? 1 : -1;
+        }
+        return coeffs;
+    }
+
+    /**
+     * @return the operator of this propagator
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the bound to respect
+     */
+    public long getBound() {
+        return b;
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -14,7 +14,6 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseBuilder;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
-import org.chocosolver.solver.constraints.nary.clauses.PropSignedClause;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
@@ -23,16 +22,23 @@ import org.chocosolver.solver.search.strategy.decision.IntDecision;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
-import org.chocosolver.util.PoolManager;
+import org.chocosolver.util.objects.IdentityValueSortedMap;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
 
 /**
  * An implementation of {@link IExplanation} dedicated to learn signed clauses
  * <p>
- *
+ * Conflict analysis does not allocate once warmed up:
+ * literals are stored in a sparse set indexed by variable ID,
+ * the front is an {@link IdentityValueSortedMap}, backed by primitive arrays,
+ * causes are dispatched on their {@link ICause.Kind}
+ * and range sets are recycled through a preallocated stack.
+ * </p>
  * <p>
  * Project: choco-solver.
  *
@@ -44,11 +50,20 @@ public class ExplanationForSignedClause extends IExplanation {
     /**
      * Conflicting nodes
      */
-    private final ValueSortedMap<IntVar> front;
+    private final IdentityValueSortedMap<IntVar> front;
+    /**
+     * Literals that explains the conflict, the first {@link #nbLiterals} ones are relevant
+     */
+    private IntVar[] literals;
     /**
-     * Literals that explains the conflict
+     * Number of literals that explains the conflict
      */
-    private final HashSet<IntVar> literals;
+    private int nbLiterals;
+    /**
+     * Position of a variable in {@link #literals}, indexed by variable ID.
+     * Not reset, a variable is a literal if its position is relevant and points to it.
+     */
+    private int[] litIndex;
     /**
      * The decision to refute (ie, point to jump to wrt the current decision path).
      *
@@ -62,12 +77,30 @@ public class ExplanationForSignedClause extends IExplanation {
      */
     private final Implications mIG;
 
-    private final PoolManager<IntIterableRangeSet> manager;
+    /**
+     * Free range sets, the first {@link #nbFree} ones are available
+     */
+    private IntIterableRangeSet[] free;
+    /**
+     * Number of free range sets
+     */
+    private int nbFree;
+    /**
+     * Decision levels met when computing the LBD
+     */
+    private final BitSet levels;
 
     public ExplanationForSignedClause(Implications ig) {
-        front = new ValueSortedMap<>();
-        literals = new HashSet<>();
-        manager = new PoolManager<>();
+        front = new IdentityValueSortedMap<>();
+        literals = new IntVar[16];
+        litIndex = new int[16];
+        free = new IntIterableRangeSet[64];
+        for (int i = 0; i < free.length; i++) {
+            free[i] = new IntIterableRangeSet();
+            free[i].lock();
+        }
+        nbFree = free.length;
+        levels = new BitSet();
         mIG = ig;
     }
 
@@ -77,15 +110,21 @@ public class ExplanationForSignedClause extends IExplanation {
     @Override
     public void extractConstraint(Model mModel, ClauseStore ngstore) {
         ClauseBuilder ngb = mModel.getClauseBuilder();
-        literals.forEach(v -> ngb.put(v, v.getLit().export())); // TODO : improve
+        ngstore.declareLBD(getLBD());
+        for (int i = 0; i < nbLiterals; i++) {
+            ngb.put(literals[i], literals[i].getLit().export());
+        }
         ngb.buildNogood(mModel);
     }
 
     @Override
     public void recycle() {
         front.clear();
-        literals.forEach(IntVar::flushLit);
-        literals.clear();
+        for (int i = 0; i < nbLiterals; i++) {
+            literals[i].flushLit();
+            literals[i] = null;
+        }
+        nbLiterals = 0;
         assertLevel = Integer.MAX_VALUE;
     }
 
@@ -158,7 +197,7 @@ public class ExplanationForSignedClause extends IExplanation {
         mIG.collectNodesFromConflict(cex, front);
         // deal with global conflict
         if (cex.v == null) {
-            if (Propagator.class.isAssignableFrom(cex.c.getClass())) {
+            if (cex.c.getKind() == ICause.Kind.PROPAGATOR || cex.c.getKind() == ICause.Kind.CLAUSE) {
                 if (XParameters.PROOF) {
                     System.out.printf("\nCstr: %s\n", cex.c);
                     System.out.print("Pivot: none\n");
@@ -183,9 +222,9 @@ public class ExplanationForSignedClause extends IExplanation {
             explain(mIG.getCauseAt(current), current);
             if (XParameters.PROOF) {
                 System.out.print("Expl: {");
-                literals.stream()
-                        //.sorted(Comparator.comparingInt(Identity::getId))
-                        .forEach(v -> System.out.printf("%s ∈ %s,", v, v.getLit()));
+                for (int i = 0; i < nbLiterals; i++) {
+                    System.out.printf("%s ∈ %s,", literals[i], literals[i].getLit());
+                }
                 System.out.print("}\n-----");
             }
             // filter irrelevant nodes
@@ -193,35 +232,31 @@ public class ExplanationForSignedClause extends IExplanation {
         } while (!stop());
     }
 
+    @SuppressWarnings("unchecked")
     private void explain(ICause cause, int p) {
-        if (p == -1 ||
-                XParameters.DEFAULT_X
-                        && Propagator.class.isAssignableFrom(cause.getClass())
-                        && !PropSignedClause.class.isAssignableFrom(cause.getClass())
-                        && !ClauseStore.SignedClause.class.isAssignableFrom(cause.getClass())
-        ) {
+        ICause.Kind kind = cause.getKind();
+        if (p == -1 || XParameters.DEFAULT_X && kind == ICause.Kind.PROPAGATOR) {
             Propagator<IntVar> propagator = (Propagator<IntVar>) cause;
             Propagator.defaultExplain(propagator, p, this);
         } else {
             cause.explain(p, this);
         }
         // check reification
-        checkReification(cause, p);
+        if (kind == ICause.Kind.PROPAGATOR || kind == ICause.Kind.CLAUSE) {
+            checkReification((Propagator<IntVar>) cause, p);
+        }
     }
 
-    private void checkReification(ICause cause, int p) {
-        if (Propagator.class.isAssignableFrom(cause.getClass())) {
-            Propagator<IntVar> propagator = (Propagator<IntVar>) cause;
-            if (propagator.isReified()) {
-                BoolVar b = propagator.reifiedWith();
-                assert !propagator.isReifiedAndSilent();
-                mIG.findPredecessor(front, b, p == -1 ? mIG.size() : p);
-                if (b.isInstantiated()) {
-                    if (XParameters.FINE_PROOF) System.out.print("Reif: ");
-                    b.unionLit(1 - b.getValue(), this);
-                } else {
-                    throw new UnsupportedOperationException("Oh nooo!");
-                }
+    private void checkReification(Propagator<IntVar> propagator, int p) {
+        if (propagator.isReified()) {
+            BoolVar b = propagator.reifiedWith();
+            assert !propagator.isReifiedAndSilent();
+            mIG.findPredecessor(front, b, p == -1 ? mIG.size() : p);
+            if (b.isInstantiated()) {
+                if (XParameters.FINE_PROOF) System.out.print("Reif: ");
+                b.unionLit(1 - b.getValue(), this);
+            } else {
+                throw new UnsupportedOperationException("Oh nooo!");
             }
         }
     }
@@ -231,7 +266,7 @@ public class ExplanationForSignedClause extends IExplanation {
         while (!front.isEmpty() && (l = front.getLastValue()) != k) {
             // remove variable in 'front' but not in literals
             // achieved lazily by only evaluating the right-most one
-            if (!literals.contains(mIG.getIntVarAt(l))) {
+            if (!contains(mIG.getIntVarAt(l))) {
                 front.pollLastValue();
             } else {
                 IntVar var = mIG.getIntVarAt(l);
@@ -290,11 +325,11 @@ public class ExplanationForSignedClause extends IExplanation {
                 }
                 assertLevel = ((IntDecision) mIG.getCauseAt(max)).getPosition();
             }
-            /*/if (IntDecision.class.isAssignableFrom(mIG.getCauseAt(max).getClass())) {
+            /*/if (mIG.getCauseAt(max).getKind() == ICause.Kind.DECISION) {
             if (XParameters.PROOF)
                 System.out.printf("\nbacktrack to %s\n-----", mIG.getCauseAt(max));
             if (XParameters.ASSERT_NO_LEFT_BRANCH && !((IntDecision) mIG.getCauseAt(max)).hasNext()) {
-                throw new SolverException("Weak explanation found. Try to backjump to :" + mIG.getCauseAt(max) + "\n" + literals);
+                throw new SolverException("Weak explanation found. Try to backjump to :" + mIG.getCauseAt(max) + "\n" + this);
             }
             assertLevel = ((IntDecision) mIG.getCauseAt(max)).getPosition();
             //*/
@@ -308,7 +343,13 @@ public class ExplanationForSignedClause extends IExplanation {
      * @param var a variable
      */
     public void removeLit(IntVar var) {
-        literals.remove(var);
+        if (contains(var)) {
+            int i = litIndex[var.getId()];
+            IntVar last = literals[--nbLiterals];
+            literals[i] = last;
+            litIndex[last.getId()] = i;
+            literals[nbLiterals] = null;
+        }
         front.remove(var);
     }
 
@@ -318,7 +359,17 @@ public class ExplanationForSignedClause extends IExplanation {
      * @param var a variable
      */
     public void addLit(IntVar var) {
-        literals.add(var);
+        if (!contains(var)) {
+            int id = var.getId();
+            if (id >= litIndex.length) {
+                litIndex = Arrays.copyOf(litIndex, Math.max(id + 1, litIndex.length * 3 / 2 + 1));
+            }
+            if (nbLiterals == literals.length) {
+                literals = Arrays.copyOf(literals, nbLiterals * 3 / 2 + 1);
+            }
+            litIndex[id] = nbLiterals;
+            literals[nbLiterals++] = var;
+        }
     }
 
     /**
@@ -327,14 +378,57 @@ public class ExplanationForSignedClause extends IExplanation {
      * @param var a variable
      */
     public boolean contains(IntVar var) {
-        return literals.contains(var);
+        int id = var.getId();
+        if (id < litIndex.length) {
+            int i = litIndex[id];
+            return i < nbLiterals && literals[i] == var;
+        }
+        return false;
     }
 
     /**
      * @return the number of literals in this explanation
      */
     public int getCardinality() {
-        return literals.size();
+        return nbLiterals;
+    }
+
+    /**
+     * Compute the literal block distance of this explanation,
+     * that is, the number of distinct decision levels its literals were set at.
+     * Must be called before {@link #recycle()}.
+     *
+     * @return the LBD of this explanation
+     */
+    public int getLBD() {
+        levels.clear();
+        for (int i = 0; i < nbLiterals; i++) {
+            markLevel(literals[i]);
+        }
+        return levels.cardinality();
+    }
+
+    /**
+     * Compute the literal block distance of a signed clause involved in this explanation,
+     * that is, the number of distinct decision levels its variables were set at.
+     * Variables out of the front are ignored.
+     *
+     * @param vars variables of the signed clause, may contain duplicates
+     * @return the LBD of the signed clause
+     */
+    public int getLBD(IntVar[] vars) {
+        levels.clear();
+        for (IntVar var : vars) {
+            markLevel(var);
+        }
+        return levels.cardinality();
+    }
+
+    private void markLevel(IntVar var) {
+        int p = front.getValueOrDefault(var, -1);
+        if (p > -1) {
+            levels.set(mIG.getDecisionLevelAt(p));
+        }
     }
 
     /**
@@ -350,19 +444,22 @@ public class ExplanationForSignedClause extends IExplanation {
      * @return a free set
      */
     public IntIterableRangeSet empty() {
-        IntIterableRangeSet set = manager.getE();
-        if (set == null) {
+        if (nbFree == 0) {
             return new IntIterableRangeSet();
-        } else {
-            set.unlock();
         }
+        IntIterableRangeSet set = free[--nbFree];
+        free[nbFree] = null;
+        set.unlock();
         return set;
     }
 
     public void returnSet(IntIterableRangeSet set) {
         set.clear();
         set.lock();
-        manager.returnE(set);
+        if (nbFree == free.length) {
+            free = Arrays.copyOf(free, nbFree * 3 / 2 + 1);
+        }
+        free[nbFree++] = set;
     }
 
     /**
@@ -482,17 +579,35 @@ public class ExplanationForSignedClause extends IExplanation {
         return mIG.getDomainAt(front.getValue(var));
     }
 
+    /**
+     * @return a copy of the literals of this explanation
+     * @implNote a new set is allocated on each call,
+     * prefer {@link #getLiteral(int)} and {@link #getCardinality()} to iterate over the literals
+     */
     public HashSet<IntVar> getLiterals() {
-        return literals;
+        HashSet<IntVar> set = new HashSet<>();
+        for (int i = 0; i < nbLiterals; i++) {
+            set.add(literals[i]);
+        }
+        return set;
+    }
+
+    /**
+     * @param i index of a literal, between 0 (inclusive) and {@link #getCardinality()} (exclusive)
+     * @return the i<sup>th</sup> literal of this explanation
+     */
+    public IntVar getLiteral(int i) {
+        assert i < nbLiterals;
+        return literals[i];
     }
 
     @Override
     public String toString() {
         StringBuilder st = new StringBuilder();
         st.append('{');
-        literals.stream()
-                //.sorted(Comparator.comparingInt(Identity::getId))
-                .forEach(v -> st.append(v.getName()).append('\u2208').append(v.getLit()).append(','));
+        for (int i = 0; i < nbLiterals; i++) {
+            st.append(literals[i].getName()).append('\u2208').append(literals[i].getLit()).append(',');
+        }
         st.append('}');
         return st.toString();
 
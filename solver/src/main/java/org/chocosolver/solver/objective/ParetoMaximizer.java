@@ -17,15 +17,20 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.ParetoArchive;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Class to store the pareto front (multi-objective optimization).
  * <p>
  * Based on "Multi-Objective Large Neighborhood Search", P. Schaus , R. Hartert (CP'2013)
  * </p>
+ * <p>
+ * The front is stored in a {@link ParetoArchive}, which can be bounded with epsilon-dominance.
+ * </p>
  *
  * @author Charles Vernerey
  * @author Charles Prud'homme
@@ -39,19 +44,20 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
     //***********************************************************************************
 
     // Set of incomparable and Pareto-best solutions
-    private final List<Solution> paretoSolutions;
-    private final List<int[]> paretoFront;
+    private final ParetoArchive<Solution> paretoFront;
 
     private final Model model;
 
     // Allow to recycle (dominated) Solution objects
     private final List<Solution> poolSols = new ArrayList<>();
+    private final Consumer<Solution> recycle = poolSols::add;
 
     // objective function
     private final IntVar[] objectives;
     private final int n;
 
-    //private final int[] vals;
+    private final int[] vals;
+    private final int[] dominatedPoint;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -70,13 +76,31 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * @param objectives objective variables (must all be optimized in the same direction)
      */
     public ParetoMaximizer(final IntVar[] objectives) {
+        this(objectives, null);
+    }
+
+    /**
+     * Create an object to compute an approximation of the Pareto front of a multi-objective problem,
+     * with epsilon-dominance.
+     * Each objective <i>i</i> is divided in boxes of size <i>epsilons[i]</i>:
+     * at most one solution per box is stored,
+     * and a solution in the same box as, or in a box dominated by, a stored one is forbidden.
+     * Thus, the front is bounded, and so is the time spent in propagation.
+     * <p>
+     * Objectives are expected to be maximized (use {@link org.chocosolver.solver.variables.IViewFactory#intView(int, IntVar, int)} in case of minimisation).
+     * </p>
+     *
+     * @param objectives objective variables (must all be optimized in the same direction)
+     * @param epsilons   size of the boxes for each objective (all strictly positive), or null for the exact front
+     */
+    public ParetoMaximizer(final IntVar[] objectives, final int[] epsilons) {
         super(objectives, PropagatorPriority.QUADRATIC, false);
-        this.paretoSolutions = new ArrayList<>();
-        this.paretoFront = new ArrayList<>();
         this.objectives = objectives.clone();
         n = objectives.length;
+        this.paretoFront = new ParetoArchive<>(n, epsilons);
         model = objectives[0].getModel();
-        //vals = new int[n];
+        vals = new int[n];
+        dominatedPoint = new int[n];
     }
 
     //***********************************************************************************
@@ -87,48 +111,29 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * @return the set of Pareto-best (possibly optimal) solutions found so far
      */
     public List<Solution> getParetoFront() {
-        return paretoSolutions;
+        return paretoFront.values();
     }
 
     @Override
     public void onSolution() {
         // get objective values
-        int[] vals = new int[objectives.length];
         for (int i = 0; i < objectives.length; i++) {
             vals[i] = objectives[i].getValue();
         }
-        // remove dominated solutions
-        for (int i = paretoFront.size() - 1; i >= 0; i--) {
-            if (isDominated(paretoSolutions.get(i), vals)) {
-                poolSols.add(paretoSolutions.remove(i));
-                paretoFront.remove(i);
-            }
-        }
-        // store current solution
+        // store current solution, dominated ones are recycled
         Solution solution;
         if (poolSols.isEmpty()) {
             solution = new Solution(model);
         } else {
-            solution = poolSols.remove(0);
+            solution = poolSols.remove(poolSols.size() - 1);
         }
+        paretoFront.add(vals, solution, recycle);
         solution.record();
-        paretoSolutions.add(solution);
-        paretoFront.add(vals);
-    }
-
-    private boolean isDominated(Solution solution, int[] vals) {
-        for (int i = 0; i < n; i++) {
-            int delta = solution.getIntVal(objectives[i]) - vals[i];
-            if (delta > 0) {
-                return false;
-            }
-        }
-        return true;
     }
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        if (paretoFront.size() > 0) {
+        if (!paretoFront.isEmpty()) {
             for (int i = 0; i < objectives.length; i++) {
                 computeTightestPoint(i);
             }
@@ -143,18 +148,9 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      */
     private void computeTightestPoint(int i) throws ContradictionException {
         // tightest point can not be calculated if paretoFront is empty
-        if (paretoFront.size() > 0) {
-            int tightestPoint = Integer.MIN_VALUE;
-            int[] dominatedPoint = computeDominatedPoint(i);
-            for (int[] sol : paretoFront) {
-                int dominates = dominates(sol, dominatedPoint, i);
-                if (dominates > 0) {
-                    int currentPoint = dominates == 1 ? sol[i] : sol[i] + 1;
-                    if (tightestPoint < currentPoint) {
-                        tightestPoint = currentPoint;
-                    }
-                }
-            }
+        if (!paretoFront.isEmpty()) {
+            computeDominatedPoint(i);
+            int tightestPoint = paretoFront.tightestBound(dominatedPoint, i);
             if (tightestPoint > Integer.MIN_VALUE) {
                 objectives[i].updateLowerBound(tightestPoint, this);
             }
@@ -166,38 +162,12 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * i.e. DP_i = (obj_1_max,...,obj_i_min,...,obj_m_max)
      *
      * @param i index of the variable
-     * @return dominated point
-     */
-    private int[] computeDominatedPoint(int i) {
-        int[] dp = new int[objectives.length];
-        for (int j = 0; j < objectives.length; j++) {
-            dp[j] = objectives[j].getUB();
-        }
-        dp[i] = objectives[i].getLB();
-        return dp;
-    }
-
-    /**
-     * Return an int :
-     * 0 if a doesn't dominate b
-     * 1 if a dominates b and a = b if we don't take into account index i
-     * 2 if a dominates b and a dominates b if we don't take into account index i
-     *
-     * @param a vector
-     * @param b vector
-     * @param i index
-     * @return an int representing the fact that a dominates b
      */
-    private int dominates(int[] a, int[] b, int i) {
-        int dominates = 0;
+    private void computeDominatedPoint(int i) {
         for (int j = 0; j < objectives.length; j++) {
-            if (a[j] < b[j]) return 0;
-            if (a[j] > b[j]) {
-                if (dominates == 0) dominates = 1;
-                if (j != i) dominates = 2;
-            }
+            dominatedPoint[j] = objectives[j].getUB();
         }
-        return dominates;
+        dominatedPoint[i] = objectives[i].getLB();
     }
 
     @Override
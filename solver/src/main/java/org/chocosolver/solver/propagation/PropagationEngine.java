@@ -189,6 +189,33 @@ public class PropagationEngine {
         return init;
     }
 
+    /**
+     * @return the number of propagators currently scheduled for execution
+     */
+    public int getNbPendingPropagators() {
+        int n = 0;
+        for (int i = 0; i < pro_queue.length; i++) {
+            n += pro_queue[i].size();
+        }
+        return n;
+    }
+
+    /**
+     * Schedule again every propagator for activation, as done on {@link #initialize()},
+     * but without rebuilding the internal structures.
+     * To be called once the state preceding the initial propagation has been restored,
+     * so that the next call to {@link #propagate()} runs the initial propagation again.
+     */
+    public void reactivate() {
+        flush();
+        awake_queue.clear();
+        if (init) {
+            for (int i = 0; i < propagators.size(); i++) {
+                awake_queue.addLast(propagators.get(i));
+            }
+        }
+    }
+
     /**
      * Launch the propagation, ie, active propagators if necessary, then reach a fix point
      *
@@ -31,6 +31,11 @@ public class PropagationEngineObserver extends PropagationEngine {
      * The observer to notify
      */
     private final PropagationObserver observer;
+    /**
+     * Number of nested executions, as propagators may execute other ones (see ReificationConstraint).
+     * Failures are only reported by the outermost one.
+     */
+    private int depth;
 
     /**
      * A propagation engine profiler.
@@ -48,10 +53,24 @@ public class PropagationEngineObserver extends PropagationEngine {
      */
     @Override
     public void execute(Propagator<?> propagator) throws ContradictionException {
-        if (propagator.isStateLess() || propagator.isActive()) {
+        boolean observed = propagator.isStateLess() || propagator.isActive();
+        if (observed) {
             observer.onCoarseEvent(propagator);
         }
-        super.execute(propagator);
+        depth++;
+        try {
+            super.execute(propagator);
+        } catch (ContradictionException cex) {
+            if (observed && depth == 1) {
+                observer.onFailure(cex.c, propagator);
+            }
+            throw cex;
+        } finally {
+            depth--;
+        }
+        if (observed) {
+            observer.afterPropagation(propagator);
+        }
     }
 
     /**
@@ -59,6 +78,7 @@ public class PropagationEngineObserver extends PropagationEngine {
      */
     @Override
     protected void propagateEvents() throws ContradictionException {
+        depth++;
         try {
             //lastProp
             if (lastProp.reactToFineEvent()) {
@@ -74,9 +94,14 @@ public class PropagationEngineObserver extends PropagationEngine {
                 observer.onCoarseEvent(lastProp);
                 lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
             }
+            observer.afterPropagation(lastProp);
         } catch (ContradictionException cex) {
-            observer.onFailure(cex.c, lastProp);
+            if (depth == 1) {
+                observer.onFailure(cex.c, lastProp);
+            }
             throw cex;
+        } finally {
+            depth--;
         }
     }
 
@@ -0,0 +1,316 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorUpBranch;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Low-overhead metrics about propagation, to be collected during a whole resolution.
+ * <p>
+ * For each class of propagators, it counts executions, domain reductions and failures.
+ * One execution out of <i>samplingPeriod</i> is timed, and its duration is recorded in a histogram.
+ * On timed executions, the number of scheduled propagators is recorded too.
+ * Before each backtrack, the number of entries stored in the current world is recorded.
+ * </p>
+ * <p>
+ * Metrics can be read at any time, from any thread, for instance through JMX once {@link #registerMBean(String)}
+ * has been called.
+ * Values are read without synchronization, and thus may be slightly inconsistent with each other.
+ * The node throughput is updated on timed executions, at most once per second.
+ * </p>
+ * <pre> {@code
+ * Solver s = m.getSolver();
+ * PropagationMetrics metrics = s.collectPropagationMetrics(64);
+ * metrics.registerMBean("my-model");
+ * s.findOptimalSolution(obj, false);
+ * }</pre>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropagationMetrics implements PropagationObserver, IMonitorUpBranch, PropagationMetricsMXBean {
+
+    private static final int BUCKETS = 64;
+    /**
+     * Minimal delay between two updates of the node throughput, in nanoseconds
+     */
+    private static final long THROUGHPUT_PERIOD = 1_000_000_000L;
+
+    private final Solver solver;
+    private final int samplingPeriod;
+    /**
+     * Statistics of propagators, indexed by their ID
+     */
+    private Stats[] stats = new Stats[16];
+    /**
+     * Statistics of propagators, by class, may be iterated by other threads
+     */
+    private final Map<Class<?>, Stats> classes = new ConcurrentHashMap<>();
+    private long propagations;
+    private long sampled;
+    private int countdown;
+    /**
+     * The propagator being timed, if any, and when it started
+     */
+    private Propagator<?> timed;
+    private long start;
+    private final long[] queueLengths = new long[BUCKETS];
+    private final long[] worldSizes = new long[BUCKETS];
+    private long lastNodeCount;
+    private long lastTime;
+    private volatile double throughput;
+
+    /**
+     * Metrics about propagation.
+     *
+     * @param solver         the observed solver
+     * @param samplingPeriod one propagator execution out of <i>samplingPeriod</i> is timed
+     * @throws SolverException if <i>samplingPeriod</i> is not strictly positive
+     */
+    public PropagationMetrics(Solver solver, int samplingPeriod) {
+        if (samplingPeriod < 1) {
+            throw new SolverException("The sampling period should be strictly positive");
+        }
+        this.solver = solver;
+        this.samplingPeriod = samplingPeriod;
+        this.countdown = samplingPeriod;
+        this.lastTime = System.nanoTime();
+    }
+
+    private static final class Stats {
+        final String name;
+        long calls;
+        long filterings;
+        long failures;
+        long time;
+        final long[] histogram = new long[BUCKETS];
+
+        Stats(Class<?> clazz) {
+            this.name = clazz.getSimpleName();
+        }
+    }
+
+    private Stats of(Propagator<?> propagator) {
+        int id = propagator.getId();
+        if (id >= stats.length) {
+            stats = Arrays.copyOf(stats, Math.max(id + 1, stats.length * 2));
+        }
+        Stats s = stats[id];
+        if (s == null) {
+            s = classes.computeIfAbsent(propagator.getClass(), Stats::new);
+            stats[id] = s;
+        }
+        return s;
+    }
+
+    private static int bucket(long value) {
+        return BUCKETS - Long.numberOfLeadingZeros(value);
+    }
+
+    private void onCall(Propagator<?> propagator) {
+        of(propagator).calls++;
+        propagations++;
+        // a delayed propagation belongs to the same execution as the fine one
+        if (timed != propagator && --countdown == 0) {
+            countdown = samplingPeriod;
+            sampled++;
+            queueLengths[bucket(solver.getEngine().getNbPendingPropagators())]++;
+            timed = propagator;
+            start = System.nanoTime();
+            if (start - lastTime >= THROUGHPUT_PERIOD) {
+                long nodes = solver.getNodeCount();
+                throughput = (nodes - lastNodeCount) * 1e9 / (start - lastTime);
+                lastNodeCount = nodes;
+                lastTime = start;
+            }
+        }
+    }
+
+    private void onEnd(Propagator<?> propagator) {
+        if (timed == propagator) {
+            long duration = System.nanoTime() - start;
+            Stats s = of(propagator);
+            s.time += duration;
+            s.histogram[bucket(duration)]++;
+            timed = null;
+        }
+    }
+
+    @Override
+    public void onCoarseEvent(Propagator<?> propagator) {
+        onCall(propagator);
+    }
+
+    @Override
+    public void onFineEvent(Propagator<?> propagator) {
+        onCall(propagator);
+    }
+
+    @Override
+    public void afterPropagation(Propagator<?> propagator) {
+        onEnd(propagator);
+    }
+
+    @Override
+    public void onFailure(ICause cause, Propagator<?> propagator) {
+        of(propagator).failures++;
+        onEnd(propagator);
+        // the timed execution may be a nested one, which failed too
+        timed = null;
+    }
+
+    @Override
+    public void onFiltering(ICause cause, Propagator<?> propagator) {
+        if (cause instanceof Propagator<?>) {
+            of((Propagator<?>) cause).filterings++;
+        }
+    }
+
+    @Override
+    public void onVariableModification(Variable variable, IEventType type, ICause cause) {
+        // nothing to do
+    }
+
+    @Override
+    public void beforeUpBranch() {
+        worldSizes[bucket(solver.getModel().getEnvironment().sizeOfCurrentWorld())]++;
+    }
+
+    /**
+     * Register this as an MXBean in the platform MBean server,
+     * under the name <code>org.chocosolver:type=PropagationMetrics,name=<i>name</i></code>.
+     *
+     * @param name name of the observed resolution
+     * @return the object name this is registered under
+     * @throws SolverException if this cannot be registered
+     */
+    public ObjectName registerMBean(String name) {
+        try {
+            ObjectName oname = new ObjectName("org.chocosolver:type=PropagationMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, oname);
+            return oname;
+        } catch (JMException e) {
+            throw new SolverException("Unable to register propagation metrics: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long getNodeCount() {
+        return solver.getNodeCount();
+    }
+
+    @Override
+    public double getNodeThroughput() {
+        return throughput;
+    }
+
+    @Override
+    public long getPropagationCount() {
+        return propagations;
+    }
+
+    @Override
+    public long getSampledPropagationCount() {
+        return sampled;
+    }
+
+    private <V> Map<String, V> collect(Function<Stats, V> f) {
+        Map<String, V> map = new LinkedHashMap<>();
+        for (Stats s : classes.values().toArray(new Stats[0])) {
+            map.put(s.name, f.apply(s));
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Long> getCalls() {
+        return collect(s -> s.calls);
+    }
+
+    @Override
+    public Map<String, Long> getFilterings() {
+        return collect(s -> s.filterings);
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        return collect(s -> s.failures);
+    }
+
+    @Override
+    public Map<String, Double> getFilteringRatios() {
+        return collect(s -> s.calls == 0 ? 0d : s.filterings / (double) s.calls);
+    }
+
+    @Override
+    public Map<String, Long> getSampledTimes() {
+        return collect(s -> s.time);
+    }
+
+    @Override
+    public Map<String, long[]> getTimeHistograms() {
+        return collect(s -> s.histogram.clone());
+    }
+
+    @Override
+    public long[] getQueueLengthHistogram() {
+        return queueLengths.clone();
+    }
+
+    @Override
+    public long[] getWorldSizeHistogram() {
+        return worldSizes.clone();
+    }
+
+    /**
+     * <p>Write the metrics of each class of propagators to the print writer,
+     * the most time-consuming classes first.
+     * <code>writer</code> is not closed at the end of the call.
+     * </p>
+     *
+     * @param writer a print writer
+     */
+    public void writeTo(PrintWriter writer) {
+        writer.println("Propagators, by class\n" +
+                " \n" +
+                "* calls   : number of executions\n" +
+                "* filter  : number of domain reductions\n" +
+                "* ratio   : number of domain reductions per execution\n" +
+                "* fails   : number of failures\n" +
+                "* time    : time spent in timed executions, in milliseconds\n" +
+                " \n" +
+                "     calls    filter    ratio     fails      time  class");
+        Stats[] all = classes.values().toArray(new Stats[0]);
+        Arrays.sort(all, (s1, s2) -> Long.compare(s2.time, s1.time));
+        for (Stats s : all) {
+            writer.printf(" %9d %9d %8.3f %9d %9.3f  %s%n",
+                    s.calls, s.filterings, s.calls == 0 ? 0d : s.filterings / (double) s.calls,
+                    s.failures, s.time / 1e6, s.name);
+        }
+        writer.printf("%d executions, %d timed%n", propagations, sampled);
+        writer.println();
+    }
+}
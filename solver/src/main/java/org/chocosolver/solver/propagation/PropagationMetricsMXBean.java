@@ -0,0 +1,87 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link PropagationMetrics}, to read the metrics of a running resolution
+ * from a JMX client.
+ * <p>
+ * Histograms are made of 64 buckets: bucket <i>i</i> counts values in [2<sup>i-1</sup>, 2<sup>i</sup>),
+ * bucket 0 counts 0.
+ * Propagators are grouped by class, using simple class names.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public interface PropagationMetricsMXBean {
+
+    /**
+     * @return the number of nodes explored so far
+     */
+    long getNodeCount();
+
+    /**
+     * @return the number of nodes explored per second, measured over the last second or so of propagation
+     */
+    double getNodeThroughput();
+
+    /**
+     * @return the number of propagator executions, i.e., calls to coarse or fine propagation
+     */
+    long getPropagationCount();
+
+    /**
+     * @return the number of timed propagator executions
+     */
+    long getSampledPropagationCount();
+
+    /**
+     * @return for each class of propagators, the number of executions
+     */
+    Map<String, Long> getCalls();
+
+    /**
+     * @return for each class of propagators, the number of domain reductions
+     */
+    Map<String, Long> getFilterings();
+
+    /**
+     * @return for each class of propagators, the number of failures
+     */
+    Map<String, Long> getFailures();
+
+    /**
+     * @return for each class of propagators, the number of domain reductions per execution
+     */
+    Map<String, Double> getFilteringRatios();
+
+    /**
+     * @return for each class of propagators, the time spent in timed executions, in nanoseconds
+     */
+    Map<String, Long> getSampledTimes();
+
+    /**
+     * @return for each class of propagators, the histogram of the duration of timed executions, in nanoseconds
+     */
+    Map<String, long[]> getTimeHistograms();
+
+    /**
+     * @return the histogram of the number of scheduled propagators, sampled on timed executions
+     */
+    long[] getQueueLengthHistogram();
+
+    /**
+     * @return the histogram of the number of entries stored in a world, sampled before backtracking
+     */
+    long[] getWorldSizeHistogram();
+}
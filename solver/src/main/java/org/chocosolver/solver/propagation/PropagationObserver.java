@@ -40,6 +40,15 @@ public interface PropagationObserver {
      */
     void onFineEvent(Propagator<?> propagator);
 
+    /**
+     * Anytime a propagator is done with its execution, this method is called.
+     * On failure, {@link #onFailure(ICause, Propagator)} is called instead.
+     *
+     * @param propagator the propagator which has been executed.
+     */
+    default void afterPropagation(Propagator<?> propagator) {
+    }
+
     /**
      * Anytime a propagator throws a failure, this method is called first.
      * The failing cause may differ from the current propagator in some cases (views, decisions, etc).
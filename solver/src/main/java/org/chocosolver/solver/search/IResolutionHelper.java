@@ -487,10 +487,32 @@ public interface IResolutionHelper extends ISelf<Solver> {
      * @return a list that contained the solutions found.
      */
     default List<Solution> findParetoFront(IntVar[] objectives, boolean maximize, Criterion... stop) {
+        return findParetoFront(objectives, maximize, null, stop);
+    }
+
+    /**
+     * Attempts to optimize the value of the <i>objectives</i> variable w.r.t. to an optimization criteria.
+     * Finds and stores an approximation of the Pareto front, with epsilon-dominance:
+     * each objective <i>i</i> is divided in boxes of size <i>epsilons[i]</i>,
+     * and at most one solution per box is kept (see {@link ParetoMaximizer#ParetoMaximizer(IntVar[], int[])}).
+     * This bounds the size of the front.
+     * Note that the returned list can be empty, as in {@link #findParetoFront(IntVar[], boolean, Criterion...)}.
+     * <p>
+     * Note that all variables will be recorded
+     *
+     * @param objectives the array of variables to optimize
+     * @param maximize   set to <tt>true</tt> to solve a maximization problem, set to <tt>false</tt> to solve a minimization
+     *                   problem.
+     * @param epsilons   size of the boxes for each objective, or null for the exact front
+     * @param stop       optional criteria to stop the search before finding all/best solution
+     * @return a list that contained the solutions found.
+     */
+    default List<Solution> findParetoFront(IntVar[] objectives, boolean maximize, int[] epsilons, Criterion... stop) {
         ref().addStopCriterion(stop);
         ref().getModel().clearObjective();
         ParetoMaximizer pareto = new ParetoMaximizer(
-                Stream.of(objectives).map(o -> maximize ? o : ref().getModel().neg(o)).toArray(IntVar[]::new)
+                Stream.of(objectives).map(o -> maximize ? o : ref().getModel().neg(o)).toArray(IntVar[]::new),
+                epsilons
         );
         Constraint c = new Constraint("PARETO", pareto);
         c.post();
@@ -40,6 +40,8 @@ public interface ILearnFactory extends ISelf<Solver> {
      *     <il>{@link Settings#setRatioForClauseStoreReduction(float)}</il>
      *     <il>{@link Settings#setMaxLearntClauseCardinality(int)}</il>
      *     <il>{@link Settings#setLearntClausesDominancePerimeter(int)}</il>
+     *     <il>{@link Settings#setLearntClausesLBDTiers(int, int)}</il>
+     *     <il>{@link Settings#setLearntClausesReductionPeriod(int)}</il>
      * </ul>
      */
     default void setLearningSignedClauses() {
@@ -51,5 +53,6 @@ public interface ILearnFactory extends ISelf<Solver> {
         assert evtObs.getGI().isPresent();
         learner.setExplanation(new ExplanationForSignedClause(evtObs.getGI().get()));
         ref().setLearner(learner);
+        ref().plugMonitor(learner);
     }
 }
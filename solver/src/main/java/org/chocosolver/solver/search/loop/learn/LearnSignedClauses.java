@@ -10,9 +10,11 @@
 package org.chocosolver.solver.search.loop.learn;
 
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseExchange;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.search.strategy.decision.DecisionPath;
 import org.chocosolver.solver.search.strategy.decision.IntDecision;
 
@@ -25,13 +27,15 @@ import org.chocosolver.solver.search.strategy.decision.IntDecision;
  * <pre>
  *     "A Proof-Producing CSP Solver", M.Vesler and O.Strichman, AAI'10.
  * </pre>
+ * As a restart monitor, it triggers the periodic reduction of the clause store
+ * (see {@link ClauseStore#reduceIfDue()}).
  *
  * <p> Project: choco-solver.
  *
  * @author Charles Prud'homme
  * @since 27/01/2017.
  */
-public class LearnSignedClauses<E extends ExplanationForSignedClause> implements Learn {
+public class LearnSignedClauses<E extends ExplanationForSignedClause> implements Learn, IMonitorRestart {
 
     /**
      * The model that is watched in order to learn signed clauses from failure
@@ -53,6 +57,14 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
      * Maximum cardinality to add nogoods to the store
      */
     private final int max_card;
+    /**
+     * Where to publish learnt signed clauses, may be null
+     */
+    private ClauseExchange.Endpoint exchange;
+    /**
+     * Set to <i>true</i> when the last explanation refutes a conflict (and not a solution)
+     */
+    private boolean onConflict;
 
     /**
      * Build a learned able to learn signed clauses on conflicts and solutions.
@@ -74,6 +86,16 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
         return lastExplanation;
     }
 
+    /**
+     * Declare an exchange where learnt signed clauses are published.
+     * Only clauses learnt from conflicts are published, nogoods refuting solutions are not.
+     *
+     * @param exchange an endpoint of a clause exchange
+     */
+    public void setClauseExchange(ClauseExchange.Endpoint exchange) {
+        this.exchange = exchange;
+    }
+
     @Override
     public boolean record(Solver solver) {
         if (nbsol == solver.getSolutionCount()) {
@@ -92,12 +114,18 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
         lastExplanation.recycle();
     }
 
+    @Override
+    public void afterRestart() {
+        ngstore.reduceIfDue();
+    }
+
     private void onFailure() {
         ContradictionException cex = mSolver.getContradictionException();
         assert
             (cex.v != null) || (cex.c != null) :
             this.getClass().getName() + ".onContradiction incoherent state";
         lastExplanation.learnSignedClause(cex);
+        onConflict = true;
 
         int upto = mSolver.getDecisionPath().size() - lastExplanation.getAssertingLevel();
 
@@ -136,6 +164,7 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
         } else {
             // extract the decision path to build the nogood
             lastExplanation.learnSolution(mSolver.getDecisionPath());
+            onConflict = false;
             mSolver.setJumpTo(-1);
         }
     }
@@ -143,6 +172,9 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
     private void addLearntConstraint() {
         if (lastExplanation != null && lastExplanation.getCardinality() > 0
             && lastExplanation.getCardinality() <= max_card) {
+            if (exchange != null && onConflict) {
+                exchange.publish(lastExplanation);
+            }
             lastExplanation.extractConstraint(mSolver.getModel(), ngstore);
         }
     }
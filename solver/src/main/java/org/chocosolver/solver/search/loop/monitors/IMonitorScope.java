@@ -0,0 +1,38 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+/**
+ * An interface to monitor scope operations of the solver,
+ * see {@link org.chocosolver.solver.Solver#pushScope()} and {@link org.chocosolver.solver.Solver#popScope()}.
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public interface IMonitorScope extends ISearchMonitor {
+    /**
+     * Actions to execute after a scope is pushed
+     */
+    default void afterPushScope(){
+        // nothing to do by default
+    }
+
+    /**
+     * Actions to execute after a scope is popped, that is,
+     * once the constraints posted in it have been removed from the model.
+     *
+     * @param keepHeuristics set to <i>false</i> when the state of the search heuristics
+     *                       (like weights or activities) has to be reset
+     */
+    default void afterPopScope(boolean keepHeuristics){
+        // nothing to do by default
+    }
+}
@@ -22,7 +22,7 @@ import java.util.List;
  */
 public final class SearchMonitorList implements IMonitorClose, IMonitorContradiction, IMonitorDownBranch,
         IMonitorInitialize, IMonitorOpenNode, IMonitorRestart,
-        IMonitorSolution, IMonitorUpBranch {
+        IMonitorSolution, IMonitorUpBranch, IMonitorScope {
 
     /**
      * Close monitors
@@ -64,6 +64,11 @@ public final class SearchMonitorList implements IMonitorClose, IMonitorContradic
      */
     private final List<IMonitorUpBranch> mubra = new ArrayList<>();
 
+    /**
+     * Scope monitors
+     */
+    private final List<IMonitorScope> mscop = new ArrayList<>();
+
 
     @Override
     public void beforeInitialize() {
@@ -163,6 +168,20 @@ public final class SearchMonitorList implements IMonitorClose, IMonitorContradic
         }
     }
 
+    @Override
+    public void afterPushScope() {
+        for (int i = 0; i < mscop.size(); i++) {
+            mscop.get(i).afterPushScope();
+        }
+    }
+
+    @Override
+    public void afterPopScope(boolean keepHeuristics) {
+        for (int i = 0; i < mscop.size(); i++) {
+            mscop.get(i).afterPopScope(keepHeuristics);
+        }
+    }
+
     /**
      * Adds a search monitor to this list
      * @param sm a search monitor
@@ -193,6 +212,9 @@ public final class SearchMonitorList implements IMonitorClose, IMonitorContradic
             if (sm instanceof IMonitorUpBranch) {
                 mubra.add((IMonitorUpBranch) sm);
             }
+            if (sm instanceof IMonitorScope) {
+                mscop.add((IMonitorScope) sm);
+            }
         }
     }
 
@@ -228,6 +250,9 @@ public final class SearchMonitorList implements IMonitorClose, IMonitorContradic
             if (sm instanceof IMonitorUpBranch) {
                 isPluggedIn = mubra.contains(sm);
             }
+            if (sm instanceof IMonitorScope) {
+                isPluggedIn = mscop.contains(sm);
+            }
         }
         return isPluggedIn;
     }
@@ -262,6 +287,9 @@ public final class SearchMonitorList implements IMonitorClose, IMonitorContradic
             if (sm instanceof IMonitorUpBranch) {
                 mubra.remove(sm);
             }
+            if (sm instanceof IMonitorScope) {
+                mscop.remove(sm);
+            }
         }
     }
 
@@ -277,6 +305,7 @@ public final class SearchMonitorList implements IMonitorClose, IMonitorContradic
         mrest.clear();
         msolu.clear();
         mubra.clear();
+        mscop.clear();
     }
 
 }
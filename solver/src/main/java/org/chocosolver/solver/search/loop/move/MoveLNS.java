@@ -274,7 +274,7 @@ public class MoveLNS implements Move {
      *
      * @param solver SearchLoop
      */
-    private void doRestart(Solver solver) {
+    protected void doRestart(Solver solver) {
         if (!freshRestart) {
             neighbor.restrictLess();
         }
@@ -10,8 +10,6 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.TObjectDoubleMap;
-import gnu.trove.map.hash.TObjectDoubleHashMap;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Solver;
@@ -19,16 +17,28 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
 import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.loop.monitors.IMonitorScope;
 import org.chocosolver.solver.variables.IVariableMonitor;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.objects.IntHeap;
 
 import java.util.*;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 /**
+ * <p>
+ * Statistics are stored in primitive arrays, indexed by the ID of variables and propagators.
+ * </p>
+ * <p>
+ * When there are at least {@link org.chocosolver.solver.Settings#getMinVarsForHeapSelection()} decision variables,
+ * and if the selector allows it, the candidates are kept in a heap instead of being scanned at each decision.
+ * The score of a variable in the heap is updated on weight increases and domain modifications,
+ * decreases are only detected when the variable reaches the top of the heap.
+ * Instantiated variables are removed from the heap when they reach its top, and put back on backtrack.
+ * </p>
  * <p>
  * Project: choco.
  *
@@ -36,7 +46,7 @@ import java.util.stream.Collectors;
  * @since 26/02/2020.
  */
 public abstract class AbstractCriterionBasedVariableSelector<V extends Variable> implements VariableSelector<V>,
-        IVariableMonitor<V>, IMonitorContradiction, IMonitorRestart {
+        IVariableMonitor<V>, IMonitorContradiction, IMonitorRestart, IMonitorScope {
 
     /**
      * An element helps to keep 2 things up to date:
@@ -51,17 +61,85 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
         }
     }
 
-    private final BiFunction<Propagator<?>, double[], double[]> remapWeights =
-            (p, w) -> {
-                if (w == null) {
-                    // if absent
-                    w = new double[p.getNbVars()];
-                } else if (w.length < p.getNbVars()) {
-                    // may happen propagators (like PropSat) with dynamic variable addition
-                    w = Arrays.copyOf(w, p.getNbVars());
-                }
-                return w;
-            };
+    /**
+     * Weights of variables, stored in a primitive array indexed by their ID.
+     */
+    final class VariableWeights {
+
+        private double[] values = new double[16];
+        private boolean[] present = new boolean[16];
+        /**
+         * Variables with a weight, in insertion order
+         */
+        private final ArrayList<Variable> keys = new ArrayList<>();
+
+        double get(Variable v) {
+            int id = v.getId();
+            return id < values.length ? values[id] : 0.;
+        }
+
+        void put(Variable v, double w) {
+            int id = v.getId();
+            if (id >= values.length) {
+                int n = Math.max(id + 1, values.length * 3 / 2 + 1);
+                values = Arrays.copyOf(values, n);
+                present = Arrays.copyOf(present, n);
+            }
+            if (!present[id]) {
+                present[id] = true;
+                keys.add(v);
+            }
+            double old = values[id];
+            values[id] = w;
+            if (w > old) {
+                raise(v);
+            }
+        }
+
+        /**
+         * Add <i>inc</i> to the weight of <i>v</i>, which is set to <i>inc</i> if absent.
+         * Nothing is done if <i>v</i> is null, for instance when a propagation was not triggered by a variable.
+         */
+        void add(Variable v, double inc) {
+            if (v != null) {
+                put(v, get(v) + inc);
+            }
+        }
+
+        /**
+         * Add <i>inc</i> to the weight of <i>v</i>, if present.
+         */
+        void adjust(Variable v, double inc) {
+            int id = v.getId();
+            if (id < present.length && present[id]) {
+                put(v, values[id] + inc);
+            }
+        }
+
+        /**
+         * Set all weights to 0.
+         */
+        void reset() {
+            for (int i = 0; i < keys.size(); i++) {
+                values[keys.get(i).getId()] = 0.;
+            }
+        }
+
+        /**
+         * Remove all weights.
+         */
+        void clear() {
+            reset();
+            for (int i = 0; i < keys.size(); i++) {
+                present[keys.get(i).getId()] = false;
+            }
+            keys.clear();
+        }
+
+        List<Variable> keys() {
+            return keys;
+        }
+    }
 
     protected static final int FLUSH_TOPS = 20;
     protected static final double FLUSH_RATIO = .9 * FLUSH_TOPS;
@@ -95,26 +173,47 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      */
     int conflicts = 0;
     /**
-     * Stores for each propagator, its {@link Element}.
+     * Stores for each propagator, indexed by its ID, its {@link Element}.
      */
-    final HashMap<Propagator<?>, Element> failCount = new HashMap<>();
+    private Element[] elements = new Element[16];
     /**
-     * Required to store for each variable the number of watchers (ie, propagator and futvars)
+     * Propagators with an {@link Element}
      */
-    private final HashMap<Variable, Integer> observed = new HashMap<>();
+    private final ArrayList<Propagator<?>> failing = new ArrayList<>();
+    /**
+     * Required to store for each variable, indexed by its ID,
+     * the number of watchers (ie, propagator and futvars)
+     */
+    private int[] observed = new int[16];
     /**
      * Scoring for each variable, is updated dynamically.
      */
-    final TObjectDoubleMap<Variable> weights = new TObjectDoubleHashMap<>(15, 1.5f, 0.);
+    final VariableWeights weights = new VariableWeights();
     /**
-     * Refined weights,
+     * Refined weights, indexed by propagator ID,
      * for DOMWDEG_REFINED and CHS
      */
-    final HashMap<Propagator<?>, double[]> refinedWeights = new HashMap<>();
+    private double[][] refinedWeights = new double[16][];
     static final double[] rw = {0.};
+    /**
+     * Candidates, when kept in a heap
+     */
+    private V[] candidates;
+    /**
+     * Position of each candidate in {@link #candidates}, indexed by its ID
+     */
+    private int[] positions;
+    /**
+     * Score of each candidate when last computed, never lower than its actual score
+     */
+    private double[] scores;
+    /**
+     * Candidates, the one with the best score on top, or null if candidates are scanned
+     */
+    private IntHeap heap;
 
     final BiConsumer<Variable, Propagator<?>> update = (v, p) -> {
-        Element elt = failCount.get(p);
+        Element elt = element(p);
         if (elt != null) {
             if (p.getVar(elt.ws[0]) == v) {
                 updateFutvars(p, elt, 0);
@@ -134,6 +233,13 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
     @Override
     public final V getVariable(V[] vars) {
+        if (heap == null && allowsHeap()
+                && vars.length >= solver.getModel().getSettings().getMinVarsForHeapSelection()) {
+            buildHeap(vars);
+        }
+        if (heap != null) {
+            return top();
+        }
         V best = null;
         bests.resetQuick();
         double w = Double.NEGATIVE_INFINITY;
@@ -170,6 +276,120 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
     protected abstract double weight(V v);
 
+    /**
+     * @return <i>true</i> if the candidates can be kept in a heap, that is,
+     * if the weight of a variable can only increase when {@link #weights} is modified
+     * or when its domain is reduced.
+     */
+    boolean allowsHeap() {
+        return false;
+    }
+
+    private void buildHeap(V[] vars) {
+        candidates = vars;
+        int maxId = 0;
+        for (V var : vars) {
+            maxId = Math.max(maxId, var.getId());
+        }
+        positions = new int[maxId + 1];
+        Arrays.fill(positions, -1);
+        scores = new double[vars.length];
+        heap = new IntHeap((a, b) -> scores[a] > scores[b]);
+        for (int i = 0; i < vars.length; i++) {
+            positions[vars[i].getId()] = i;
+            scores[i] = weight(vars[i]) / Math.max(1, vars[i].getDomainSize());
+            // instantiated variables are removed when they reach the top
+            heap.insert(i);
+            // to be notified of domain modifications
+            plug(vars[i]);
+        }
+    }
+
+    private V top() {
+        while (!heap.isEmpty()) {
+            int i = heap.get(0);
+            V var = candidates[i];
+            int domSize = var.getDomainSize();
+            if (domSize <= 1) {
+                heap.removeMin();
+                environment.save(() -> restore(i));
+            } else {
+                double score = weight(var) / domSize;
+                if (score == scores[i]) {
+                    return var;
+                }
+                // the score has decreased since it was computed
+                scores[i] = score;
+                heap.update(i);
+            }
+        }
+        return null;
+    }
+
+    private void restore(int i) {
+        if (!heap.contains(i)) {
+            // the domain may not be restored yet, so the score is computed on the next selection
+            scores[i] = Double.POSITIVE_INFINITY;
+            heap.insert(i);
+        }
+    }
+
+    /**
+     * Update the score of <i>var</i> in the heap, if any, when it may have increased.
+     */
+    private void raise(Variable var) {
+        if (heap != null && !var.isInstantiated()) {
+            int id = var.getId();
+            int i = id < positions.length ? positions[id] : -1;
+            if (i >= 0 && heap.contains(i)) {
+                //noinspection unchecked
+                double score = weight((V) var) / var.getDomainSize();
+                if (score > scores[i]) {
+                    scores[i] = score;
+                    heap.decrease(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param prop a propagator
+     * @return the {@link Element} of <i>prop</i>, or <i>null</i> if it never failed
+     */
+    final Element element(Propagator<?> prop) {
+        int id = prop.getId();
+        return id < elements.length ? elements[id] : null;
+    }
+
+    /**
+     * @param prop a propagator
+     * @return the refined weights of <i>prop</i>, or {@link #rw} if it has none
+     */
+    final double[] refinedWeights(Propagator<?> prop) {
+        int id = prop.getId();
+        double[] ws = id < refinedWeights.length ? refinedWeights[id] : null;
+        return ws == null ? rw : ws;
+    }
+
+    /**
+     * Create, or extend, the refined weights of <i>prop</i>
+     */
+    private double[] refine(Propagator<?> prop) {
+        int id = prop.getId();
+        if (id >= refinedWeights.length) {
+            refinedWeights = Arrays.copyOf(refinedWeights, Math.max(id + 1, refinedWeights.length * 3 / 2 + 1));
+        }
+        double[] ws = refinedWeights[id];
+        if (ws == null) {
+            ws = new double[prop.getNbVars()];
+        } else if (ws.length < prop.getNbVars()) {
+            // may happen propagators (like PropSat) with dynamic variable addition
+            ws = Arrays.copyOf(ws, prop.getNbVars());
+        }
+        refinedWeights[id] = ws;
+        return ws;
+    }
+
     @Override
     public void onContradiction(ContradictionException cex) {
         conflicts++;
@@ -178,10 +398,15 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
             if (prop.getNbVars() < 2 /*|| prop instanceof PropSat*/) return;
             // store the propagator if needed
             // then update its failure counter
-            Element elt = failCount.get(prop);
+            Element elt = element(prop);
             if (elt == null) {
                 elt = new Element(0, 0, 1);
-                failCount.put(prop, elt);
+                int id = prop.getId();
+                if (id >= elements.length) {
+                    elements = Arrays.copyOf(elements, Math.max(id + 1, elements.length * 3 / 2 + 1));
+                }
+                elements[id] = elt;
+                failing.add(prop);
             } else {
                 unplug(prop.getVar(elt.ws[0]));
                 unplug(prop.getVar(elt.ws[1]));
@@ -221,13 +446,49 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
             // create, update or get weights
             elt.ws[2] += remapInc();
-            double[] ws = refinedWeights.compute(prop, remapWeights);
+            double[] ws = refine(prop);
             increase(prop, elt, ws);
         }
     }
 
     abstract void increase(Propagator<?> prop, Element elt, double[] ws);
 
+    /**
+     * Forget the statistics of the propagators removed from the propagation engine
+     * or, when <i>keepHeuristics</i> is <i>false</i>, all the statistics.
+     */
+    @Override
+    public void afterPopScope(boolean keepHeuristics) {
+        Iterator<Propagator<?>> it = failing.iterator();
+        while (it.hasNext()) {
+            Propagator<?> prop = it.next();
+            if (!keepHeuristics || prop.getPosition() < 0) {
+                Element elt = elements[prop.getId()];
+                unplug(prop.getVar(elt.ws[0]));
+                unplug(prop.getVar(elt.ws[1]));
+                elements[prop.getId()] = null;
+                refinedWeights[prop.getId()] = null;
+                forget(prop);
+                it.remove();
+            }
+        }
+        if (!keepHeuristics) {
+            weights.clear();
+            tops.clear();
+            loop = 0;
+            conflicts = 0;
+        }
+    }
+
+    /**
+     * Forget the data related to <i>prop</i>, whose {@link Element} is about to be removed.
+     *
+     * @param prop a propagator
+     */
+    void forget(Propagator<?> prop) {
+        // nothing by default
+    }
+
     int remapInc() {
         return 0;
     }
@@ -238,10 +499,10 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      *
      * @return <i>true</i> if the weights should be flushed
      */
-    protected boolean flushWeights(TObjectDoubleMap<?> q) {
+    protected boolean flushWeights(ToDoubleFunction<Variable> q) {
         //if(true)return false;
-        List<Variable> temp = weights.keySet().stream()
-                .sorted(Comparator.comparingDouble(q::get))
+        List<Variable> temp = weights.keys().stream()
+                .sorted(Comparator.comparingDouble(q))
                 .limit(FLUSH_TOPS)
                 .collect(Collectors.toList());
         long cnt = temp.stream().filter(tops::contains).count();
@@ -264,24 +525,21 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
     ////////////////// THIS IS RELATED TO INCREMENTAL FUTVARS ////////////
     //////////////////////////////////////////////////////////////////////
 
-    private final BiFunction<Variable, Integer, Integer> inc = (v, i) -> i + 1;
     final void plug(Variable var) {
-        if (!observed.containsKey(var)) {
-            observed.put(var, 1);
+        int id = var.getId();
+        if (id >= observed.length) {
+            observed = Arrays.copyOf(observed, Math.max(id + 1, observed.length * 3 / 2 + 1));
+        }
+        if (observed[id]++ == 0) {
             var.addMonitor(this);
-        } else {
-            observed.computeIfPresent(var, inc);
         }
     }
 
-    private final BiFunction<Variable, Integer, Integer> dec = (v, i) -> i - 1;
-
     private void unplug(Variable var) {
-        assert observed.containsKey(var);
-        Integer obs = observed.computeIfPresent(var, dec);
-        if (obs != null && obs == 0) {
+        int id = var.getId();
+        assert id < observed.length && observed[id] > 0;
+        if (--observed[id] == 0) {
             var.removeMonitor(this);
-            observed.remove(var);
         }
     }
 
@@ -297,6 +555,8 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
     @Override
     public final void onUpdate(Variable var, IEventType evt) {
+        // the domain of a candidate has been reduced
+        raise(var);
         if (var.isInstantiated()) {
             var.forEachPropagator(update);
         }
@@ -320,12 +580,12 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
                 // 'var' is the last one not instantiated,
                 // so this counter will not be taken into account
                 double[] delta = {0.};
-                double[] ws = refinedWeights.get(p);
+                double[] ws = refinedWeights(p);
                 if (elt.ws[k] < ws.length) {
                     // may happen propagators (like PropSat) with dynamic variable addition
                     delta[0] = ws[elt.ws[k]];
                 }
-                weights.adjustValue(other, -delta[0]);
+                weights.adjust(other, -delta[0]);
                 // but it should be restored upon backtrack
                 environment.save(() -> {
                     double ww = weights.get(other) + delta[0];
@@ -17,6 +17,7 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.limits.ACounter;
 import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
 import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.loop.monitors.IMonitorScope;
 import org.chocosolver.solver.search.restart.AbstractRestart;
 import org.chocosolver.solver.search.restart.MonotonicCutoff;
 import org.chocosolver.solver.search.restart.Restarter;
@@ -33,6 +34,7 @@ import org.chocosolver.util.objects.IVal;
 import org.chocosolver.util.objects.IntMap;
 import org.chocosolver.util.objects.MapVal;
 
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Comparator;
 import java.util.Random;
@@ -48,7 +50,7 @@ import static java.lang.Integer.MAX_VALUE;
  * @author Charles Prud'homme
  * @since 07/06/12
  */
-public final class ActivityBased extends AbstractStrategy<IntVar> implements IMonitorDownBranch, IMonitorRestart,
+public final class ActivityBased extends AbstractStrategy<IntVar> implements IMonitorDownBranch, IMonitorRestart, IMonitorScope,
         IVariableMonitor<IntVar>, Comparator<IntVar>/*, VariableSelector<IntVar>*/ {
 
     private static final double ONE = 1.0f;
@@ -356,6 +358,18 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
         }
     }
 
+    @Override
+    public void afterPopScope(boolean keepHeuristics) {
+        if (!keepHeuristics) {
+            Arrays.fill(A, 0.);
+            Arrays.fill(mA, 0.);
+            Arrays.fill(sA, 0.);
+            nb_probes = 0;
+            sampling = true;
+            restartAfterEachLeaf = true;
+        }
+    }
+
     private void removeRFMove() {
         Solver sl = model.getSolver();
         if (mRestarter != null) {
@@ -89,7 +89,7 @@ public class ConflictHistorySearch<V extends Variable>
                     .limit(2)
                     .count();
             if (fut > 1) {
-                w[0] += refinedWeights.getOrDefault(prop, rw)[0] + D;
+                w[0] += refinedWeights(prop)[0] + D;
             }
         });
         return w[0];
@@ -107,9 +107,25 @@ public class ConflictHistorySearch<V extends Variable>
         elt.ws[2] = conflicts;
     }
 
+    @Override
+    void forget(Propagator<?> prop) {
+        q.remove(prop);
+        conflict.remove(prop);
+    }
+
+    @Override
+    public void afterPopScope(boolean keepHeuristics) {
+        super.afterPopScope(keepHeuristics);
+        if (!keepHeuristics) {
+            q.clear();
+            conflict.clear();
+            alpha = .4d;
+        }
+    }
+
     @Override
     public void afterRestart() {
-        if (flushWeights(q)) {
+        if (flushWeights(q::get)) {
             q.clear();
             conflict.forEachEntry((a1, b) -> {
                 conflict.put(a1, conflicts);
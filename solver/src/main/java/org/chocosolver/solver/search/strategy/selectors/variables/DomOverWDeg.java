@@ -84,14 +84,19 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
             // recall that variable at 0 is the 'deepest' one
             if (i == elt.ws[0] && futVar1) {
                 // it should be restored upon backtrack
-                environment.saveAt(() -> weights.adjustOrPutValue(ivar, 1., 1.), dk);
+                environment.saveAt(() -> weights.add(ivar, 1.), dk);
             } else {
-                weights.adjustOrPutValue(ivar, 1., 1.);
+                weights.add(ivar, 1.);
             }
             ws[i] += 1;
         }
     }
 
+    @Override
+    boolean allowsHeap() {
+        return true;
+    }
+
     @Override
     final int remapInc() {
         return 1;
@@ -103,11 +108,8 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
             solution = vars[0].getModel().getSolver().getSolutionCount();
         }
         if (solution > 0 && top(20)) {*/
-        if (flushWeights(weights)) {
-            weights.forEachEntry((a1, b) -> {
-                weights.put(a1, 0.);
-                return true;
-            });
+        if (flushWeights(weights::get)) {
+            weights.reset();
         }
     }
 
@@ -129,7 +131,7 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
         for (int i = 0; i < prop.getNbVars(); i++) {
             if (!prop.getVar(i).isInstantiated()) {
                 if (++futVars > 1) {
-                    Element elt = failCount.get(prop);
+                    Element elt = element(prop);
                     if (elt != null) {
                         return elt.ws[2];
                     } else break;
@@ -72,12 +72,12 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
         switch (variant) {
             case 0:
                 for (Variable lvar : Lvars) {
-                    weights.adjustOrPutValue(lvar, 1, 1);
+                    weights.add(lvar, 1);
                 }
                 break;
             case 1:
                 for (int i = 0; i < Lvars.size(); i++) {
-                    weights.adjustOrPutValue(Lvars.get(i), Ldeltas.get(i), Ldeltas.get(i));
+                    weights.add(Lvars.get(i), Ldeltas.get(i));
                 }
                 break;
             case 2:
@@ -85,7 +85,7 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
                 r = 100. / sum;
                 for (int i = 0; i < Lvars.size(); i++) {
                     double amnt = r * Ldeltas.get(i);
-                    weights.adjustOrPutValue(Lvars.get(i), amnt, amnt);
+                    weights.add(Lvars.get(i), amnt);
                 }
                 break;
             case 3:
@@ -95,7 +95,7 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
                 r = (n - d) / n * 100. / sum;
                 for (int i = 0; i < Lvars.size(); i++) {
                     double amnt = r * Ldeltas.get(i);
-                    weights.adjustOrPutValue(Lvars.get(i), amnt, amnt);
+                    weights.add(Lvars.get(i), amnt);
                 }
                 break;
 
@@ -107,8 +107,13 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
         // ignore
     }
 
+    @Override
+    boolean allowsHeap() {
+        return true;
+    }
+
     public void afterRestart() {
-        if (flushWeights(weights)) {
+        if (flushWeights(weights::get)) {
             weights.clear();
         }
     }
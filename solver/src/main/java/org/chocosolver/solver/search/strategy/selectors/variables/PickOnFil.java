@@ -124,7 +124,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
     }
 
     public void afterRestart() {
-        if (flushWeights(weights)) {
+        if (flushWeights(weights::get)) {
             weights.clear();
         }
     }
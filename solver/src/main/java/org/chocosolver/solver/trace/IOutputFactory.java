@@ -13,6 +13,7 @@ import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.propagation.PropagationEngineObserver;
+import org.chocosolver.solver.propagation.PropagationMetrics;
 import org.chocosolver.solver.propagation.PropagationObserver;
 import org.chocosolver.solver.propagation.PropagationProfiler;
 import org.chocosolver.solver.search.loop.monitors.*;
@@ -349,6 +350,33 @@ public interface IOutputFactory extends ISelf<Solver> {
         return po;
     }
 
+    /**
+     * <p>
+     * Plug a low-overhead collector of propagation metrics.
+     * It counts executions, domain reductions and failures of propagators, by class,
+     * and times one execution out of <i>samplingPeriod</i>.
+     * </p>
+     * <p>
+     * Metrics can be read during the resolution, for instance through JMX once
+     * {@link PropagationMetrics#registerMBean(String)} has been called.
+     * </p>
+     * <pre> {@code
+     * Solver s = m.getSolver();
+     * PropagationMetrics metrics = s.collectPropagationMetrics(64);
+     * s.findSolution();
+     * metrics.writeTo(new PrintWriter(System.out));
+     * }</pre>
+     *
+     * @param samplingPeriod one propagator execution out of <i>samplingPeriod</i> is timed
+     * @return the propagation metrics
+     */
+    default PropagationMetrics collectPropagationMetrics(int samplingPeriod) {
+        PropagationMetrics pm = new PropagationMetrics(ref(), samplingPeriod);
+        ref().observePropagation(pm);
+        ref().plugMonitor(pm);
+        return pm;
+    }
+
     /**
      * Create and return a {@link SolvingStatisticsFlow} object to observe solving statistics.
      * <p>
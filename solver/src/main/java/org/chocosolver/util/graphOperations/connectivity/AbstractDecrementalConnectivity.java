@@ -0,0 +1,446 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.graphOperations.connectivity;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.GraphVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.delta.IGraphDeltaMonitor;
+import org.chocosolver.solver.variables.events.GraphEventType;
+import org.chocosolver.solver.variables.view.IView;
+import org.chocosolver.util.objects.graphs.IGraph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Backtrackable partition of the nodes of a graph into components (connected or strongly connected),
+ * maintained under node and edge removals.
+ * <p>
+ * Each node present in the graph is labelled with the identifier of its component.
+ * Removals are first recorded (see {@link #nodeRemoved(int)} and {@link #edgeRemoved(int, int)}) and
+ * components are then repaired all at once by {@link #repair()}:
+ * only the components in which at least two nodes lost an incident edge are explored again,
+ * and only the parts which split off get new labels.
+ * Labels, component sizes and the number of components are stored in the backtracking environment,
+ * so they are restored upon backtrack without any computation.
+ * </p>
+ * <p>
+ * Each component also has a backtrackable stamp, which changes whenever a node or an edge of the component
+ * is removed or enforced, or when the component is relabelled (see {@link #getStamp(int)}).
+ * So, users can store some data computed on a component and the stamp of the component at that time,
+ * and know from the stamp whether the data is still valid.
+ * </p>
+ * <p>
+ * When created for the upper bound of a graph variable, removals are read from the variable's delta
+ * on each call to {@link #sync()}, and the instance can be shared by all the propagators
+ * declared on the variable, see {@link #of(GraphVar, Function)}.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public abstract class AbstractDecrementalConnectivity implements ICause {
+
+    /**
+     * Name of the model hook storing the instances shared among propagators
+     */
+    private static final String HK_DECREMENTAL_CONNECTIVITY = "H_DECCONN";
+
+    protected final IGraph graph;
+    protected final int n;
+
+    /**
+     * Component of each node, -1 if the node is not in the graph
+     */
+    private final IStateIntVector labels;
+    /**
+     * Number of nodes of each component
+     */
+    private final IStateIntVector sizes;
+    private final IStateInt nbComponents;
+    private final IStateInt nextLabel;
+    /**
+     * Stamp of each component
+     */
+    private final IStateIntVector stamps;
+
+    /**
+     * Nodes which lost an incident edge since the last repair
+     */
+    private final int[] touched;
+    private int nbTouched;
+    private final BitSet isTouched;
+    // seeds of a component, as linked lists
+    private final int[] firstSeed;
+    private final int[] nextSeed;
+    private final int[] seeds;
+    // components with seeds
+    private final int[] dirty;
+
+    // upper bound of a graph variable
+    private GraphVar<?> var;
+    private IGraphDeltaMonitor gdm;
+
+    /**
+     * Creates a backtrackable partition of the nodes of <i>graph</i> into its components.
+     * The graph must be backtrackable, and is expected to lose nodes and edges only.
+     *
+     * @param environment backtracking environment
+     * @param graph       a graph
+     */
+    protected AbstractDecrementalConnectivity(IEnvironment environment, IGraph graph) {
+        this.graph = graph;
+        this.n = graph.getNbMaxNodes();
+        // there are at most n components at a time, and at most n of them vanish with their last node
+        int maxLabels = Math.max(1, 2 * n);
+        this.labels = environment.makeIntVector(n, -1);
+        this.sizes = environment.makeIntVector(maxLabels, 0);
+        this.stamps = environment.makeIntVector(maxLabels, 0);
+        this.nbComponents = environment.makeInt(0);
+        this.nextLabel = environment.makeInt(0);
+        this.touched = new int[n];
+        this.isTouched = new BitSet(n);
+        this.firstSeed = new int[maxLabels];
+        Arrays.fill(firstSeed, -1);
+        this.nextSeed = new int[n];
+        this.seeds = new int[n];
+        this.dirty = new int[n];
+    }
+
+    /**
+     * Computes the components of the graph from scratch.
+     * To be called once, at the end of the constructor of concrete classes.
+     */
+    protected final void init() {
+        int nb = 0;
+        for (int i : graph.getNodes()) {
+            labels.quickSet(i, 0);
+            seeds[nb++] = i;
+        }
+        if (nb > 0) {
+            sizes.quickSet(0, nb);
+            stamp(0);
+            nbComponents.set(1);
+            nextLabel.set(1);
+            split(0, seeds, nb);
+        }
+    }
+
+    /**
+     * Reads removals from the delta of <i>var</i> from now on.
+     *
+     * @param var a graph variable whose upper bound is the graph of this
+     */
+    protected final void watch(GraphVar<?> var) {
+        assert var.getUB() == graph;
+        this.var = var;
+        this.gdm = var.monitorDelta(this);
+        this.gdm.startMonitoring();
+    }
+
+    /**
+     * Returns the instance of type <i>T</i> attached to the upper bound of <i>var</i>,
+     * creates it with <i>factory</i> on first call.
+     * Instances are stored in the model of <i>var</i>, so that propagators can share them.
+     *
+     * @param var     a graph variable
+     * @param factory creates the instance for <i>var</i>
+     * @param <V>     type of graph variable
+     * @param <T>     type of connectivity structure
+     * @return the shared instance
+     */
+    @SuppressWarnings("unchecked")
+    protected static <V extends GraphVar<?>, T extends AbstractDecrementalConnectivity> T of(V var, Function<V, T> factory) {
+        Model model = var.getModel();
+        Map<GraphVar<?>, AbstractDecrementalConnectivity> instances =
+                (Map<GraphVar<?>, AbstractDecrementalConnectivity>) model.getHook(HK_DECREMENTAL_CONNECTIVITY);
+        if (instances == null) {
+            instances = new HashMap<>();
+            model.addHook(HK_DECREMENTAL_CONNECTIVITY, instances);
+        }
+        AbstractDecrementalConnectivity instance = instances.get(var);
+        if (instance == null) {
+            instance = factory.apply(var);
+            instances.put(var, instance);
+        }
+        return (T) instance;
+    }
+
+    /**
+     * Computes the components of the graph from scratch, and forgets the removals recorded so far.
+     * Should be called on full propagation of the propagators relying on the components,
+     * as removals which occurred before may not be in the delta of the graph variable anymore.
+     */
+    public final void reset() {
+        if (gdm != null) {
+            gdm.startMonitoring();
+        }
+        for (int k = 0; k < nbTouched; k++) {
+            isTouched.clear(touched[k]);
+        }
+        nbTouched = 0;
+        for (int l = nextLabel.get() - 1; l >= 0; l--) {
+            if (sizes.quickGet(l) != 0) {
+                sizes.quickSet(l, 0);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (labels.quickGet(i) != -1) {
+                labels.quickSet(i, -1);
+            }
+        }
+        nbComponents.set(0);
+        nextLabel.set(0);
+        init();
+    }
+
+    /**
+     * Brings the components up to date with the upper bound of the graph variable,
+     * if any, then {@link #repair()}s them.
+     * Should be called at the beginning of each propagation relying on the components.
+     *
+     * @throws ContradictionException never, declared by the delta monitor
+     */
+    public final void sync() throws ContradictionException {
+        if (gdm != null) {
+            // the delta may not have been touched since the last world change
+            lazyClear(var);
+            gdm.forEachNode(this::nodeRemoved, GraphEventType.REMOVE_NODE);
+            gdm.forEachEdge(this::edgeRemoved, GraphEventType.REMOVE_EDGE);
+            gdm.forEachNode(this::nodeEnforced, GraphEventType.ADD_NODE);
+            gdm.forEachEdge(this::edgeEnforced, GraphEventType.ADD_EDGE);
+        }
+        repair();
+    }
+
+    /**
+     * Clears the delta of <i>v</i> if it is out of date, or the ones of the variables it observes, if it is a view.
+     *
+     * @param v a variable
+     */
+    private static void lazyClear(Variable v) {
+        if (v instanceof IView) {
+            for (Variable o : ((IView<?>) v).getVariables()) {
+                lazyClear(o);
+            }
+        } else {
+            v.getDelta().lazyClear();
+        }
+    }
+
+    /**
+     * Records that node <i>x</i> has been removed from the graph.
+     * Removals of its incident edges must be recorded too.
+     *
+     * @param x a node
+     */
+    public final void nodeRemoved(int x) {
+        int l = labels.quickGet(x);
+        if (l >= 0) {
+            stamp(l);
+            labels.quickSet(x, -1);
+            int s = sizes.quickGet(l) - 1;
+            sizes.quickSet(l, s);
+            if (s == 0) {
+                nbComponents.add(-1);
+            }
+        }
+    }
+
+    /**
+     * Records that edge (<i>x</i>, <i>y</i>) has been removed from the graph.
+     *
+     * @param x a node
+     * @param y a node
+     */
+    public final void edgeRemoved(int x, int y) {
+        touch(x);
+        touch(y);
+    }
+
+    /**
+     * Records that node <i>x</i> has been enforced, which only changes the stamp of its component.
+     *
+     * @param x a node
+     */
+    public final void nodeEnforced(int x) {
+        int l = labels.quickGet(x);
+        if (l >= 0) {
+            stamp(l);
+        }
+    }
+
+    /**
+     * Records that edge (<i>x</i>, <i>y</i>) has been enforced, which only changes the stamps of the components
+     * of <i>x</i> and <i>y</i>.
+     *
+     * @param x a node
+     * @param y a node
+     */
+    public final void edgeEnforced(int x, int y) {
+        nodeEnforced(x);
+        if (!sameComponent(x, y)) {
+            nodeEnforced(y);
+        }
+    }
+
+    private void stamp(int l) {
+        stamps.quickSet(l, stamps.quickGet(l) + 1);
+    }
+
+    private void touch(int x) {
+        if (!isTouched.get(x)) {
+            isTouched.set(x);
+            touched[nbTouched++] = x;
+        }
+    }
+
+    /**
+     * Updates the components wrt the removals recorded since the last call.
+     * Only the components with at least two nodes still present in the graph which lost an incident edge
+     * are explored again.
+     */
+    public final void repair() {
+        if (nbTouched == 0) {
+            return;
+        }
+        int nbDirty = 0;
+        for (int k = 0; k < nbTouched; k++) {
+            int x = touched[k];
+            isTouched.clear(x);
+            int l = labels.quickGet(x);
+            if (l >= 0) {
+                if (firstSeed[l] < 0) {
+                    dirty[nbDirty++] = l;
+                    stamp(l);
+                }
+                nextSeed[x] = firstSeed[l];
+                firstSeed[l] = x;
+            }
+        }
+        nbTouched = 0;
+        for (int k = 0; k < nbDirty; k++) {
+            int l = dirty[k];
+            int nb = 0;
+            for (int x = firstSeed[l]; x >= 0; x = nextSeed[x]) {
+                seeds[nb++] = x;
+            }
+            firstSeed[l] = -1;
+            if (nb > 1) {
+                split(l, seeds, nb);
+            }
+        }
+    }
+
+    /**
+     * Splits the component labelled <i>label</i> into its current components:
+     * all of them but one should be given a new label, see {@link #newLabel()} and {@link #move(int, int)}.
+     * Each node of the component is reachable from one of the seeds.
+     *
+     * @param label   a component which may have split
+     * @param seeds   nodes of the component which lost an incident edge
+     * @param nbSeeds number of seeds
+     */
+    protected abstract void split(int label, int[] seeds, int nbSeeds);
+
+    /**
+     * @return a new label, for a new component
+     */
+    protected final int newLabel() {
+        nbComponents.add(1);
+        int l = nextLabel.add(1) - 1;
+        stamp(l);
+        return l;
+    }
+
+    /**
+     * Moves node <i>x</i> to component <i>label</i>
+     *
+     * @param x     a node in the graph
+     * @param label its new component
+     */
+    protected final void move(int x, int label) {
+        int l = labels.quickGet(x);
+        sizes.quickSet(l, sizes.quickGet(l) - 1);
+        sizes.quickSet(label, sizes.quickGet(label) + 1);
+        labels.quickSet(x, label);
+    }
+
+    /**
+     * @param x a node
+     * @return the label of the component of <i>x</i>, or -1 if <i>x</i> is not in the graph
+     */
+    public final int getComponentOf(int x) {
+        return labels.quickGet(x);
+    }
+
+    /**
+     * @param label the label of a component
+     * @return the number of nodes of the component
+     */
+    public final int getComponentSize(int label) {
+        return sizes.quickGet(label);
+    }
+
+    /**
+     * Returns the stamp of a component, which changes whenever a node or an edge of the component
+     * is removed or enforced, or when the component is relabelled, and is restored upon backtrack.
+     * Two calls return the same stamp only if the component is the same, with the same nodes and edges,
+     * and the same enforced nodes and edges, if the graph is the upper bound of a graph variable.
+     *
+     * @param label the label of a component
+     * @return the stamp of the component
+     */
+    public final int getStamp(int label) {
+        return stamps.quickGet(label);
+    }
+
+    /**
+     * @return an upper bound of the labels of the components, whatever the state of the graph
+     */
+    public final int getNbMaxLabels() {
+        return firstSeed.length;
+    }
+
+    /**
+     * @return the number of components
+     */
+    public final int getNbComponents() {
+        return nbComponents.get();
+    }
+
+    /**
+     * Labels are in [0, getMaxLabel()[, some of them may denote empty components
+     *
+     * @return an upper bound of the labels
+     */
+    public final int getMaxLabel() {
+        return nextLabel.get();
+    }
+
+    /**
+     * @param x a node
+     * @param y a node
+     * @return true iff <i>x</i> and <i>y</i> are in the graph and in the same component
+     */
+    public final boolean sameComponent(int x, int y) {
+        int l = labels.quickGet(x);
+        return l >= 0 && l == labels.quickGet(y);
+    }
+}
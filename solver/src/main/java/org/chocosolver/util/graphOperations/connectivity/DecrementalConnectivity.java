@@ -0,0 +1,183 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.graphOperations.connectivity;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.variables.UndirectedGraphVar;
+import org.chocosolver.util.objects.graphs.UndirectedGraph;
+
+import java.util.Arrays;
+
+/**
+ * Connected components of an undirected graph, maintained under node and edge removals
+ * (see {@link AbstractDecrementalConnectivity}).
+ * <p>
+ * When a component may have split, one breadth-first search is started from each node which lost an edge,
+ * and these searches are interleaved: two searches which meet are merged,
+ * and a search which runs out of nodes has found a whole component, which gets a new label.
+ * Exploration stops as soon as one search remains, whose nodes keep the label of the component.
+ * So, the cost of a split is roughly the size of the parts which split off,
+ * and it is small when the removed edges were on short cycles.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DecrementalConnectivity extends AbstractDecrementalConnectivity {
+
+    // owner search of each visited node, -1 if not visited
+    private final int[] owner;
+    private final int[] visited;
+    // union-find over searches
+    private final int[] merged;
+    // queue and visited nodes of each search, as linked lists
+    private final int[] qFirst, qLast, qNext;
+    private final int[] mFirst, mLast, mNext;
+    // searches still running, and their position
+    private final int[] running;
+    private final int[] position;
+
+    /**
+     * Creates the connected components of the upper bound of <i>g</i>,
+     * kept up to date on each call to {@link #sync()}.
+     * Prefer {@link #of(UndirectedGraphVar)} to share them among propagators.
+     *
+     * @param g an undirected graph variable
+     */
+    public DecrementalConnectivity(UndirectedGraphVar g) {
+        this(g.getModel().getEnvironment(), g.getUB());
+        watch(g);
+    }
+
+    /**
+     * Creates the connected components of <i>graph</i>.
+     * Removals must be reported with {@link #nodeRemoved(int)} and {@link #edgeRemoved(int, int)}
+     * before calling {@link #repair()}.
+     *
+     * @param environment backtracking environment
+     * @param graph       a backtrackable undirected graph
+     */
+    public DecrementalConnectivity(IEnvironment environment, UndirectedGraph graph) {
+        super(environment, graph);
+        owner = new int[n];
+        Arrays.fill(owner, -1);
+        visited = new int[n];
+        merged = new int[n];
+        qFirst = new int[n];
+        qLast = new int[n];
+        qNext = new int[n];
+        mFirst = new int[n];
+        mLast = new int[n];
+        mNext = new int[n];
+        running = new int[n];
+        position = new int[n];
+        init();
+    }
+
+    /**
+     * @param g an undirected graph variable
+     * @return the connected components of the upper bound of <i>g</i>, shared among propagators
+     */
+    public static DecrementalConnectivity of(UndirectedGraphVar g) {
+        return of(g, DecrementalConnectivity::new);
+    }
+
+    @Override
+    protected void split(int label, int[] seeds, int nbSeeds) {
+        int nbVisited = 0;
+        for (int s = 0; s < nbSeeds; s++) {
+            int x = seeds[s];
+            owner[x] = s;
+            visited[nbVisited++] = x;
+            merged[s] = s;
+            qFirst[s] = qLast[s] = x;
+            qNext[x] = -1;
+            mFirst[s] = mLast[s] = x;
+            mNext[x] = -1;
+            running[s] = s;
+            position[s] = s;
+        }
+        int nbRunning = nbSeeds;
+        int r = 0;
+        while (nbRunning > 1) {
+            if (r >= nbRunning) {
+                r = 0;
+            }
+            int s = running[r];
+            int x = qFirst[s];
+            if (x < 0) {
+                // the search is over: its nodes form a component on their own
+                int l = newLabel();
+                for (int y = mFirst[s]; y >= 0; y = mNext[y]) {
+                    move(y, l);
+                }
+                stop(s, nbRunning--);
+                continue;
+            }
+            qFirst[s] = qNext[x];
+            for (int y : graph.getSuccessorsOf(x)) {
+                int o = owner[y];
+                if (o < 0) {
+                    owner[y] = s;
+                    visited[nbVisited++] = y;
+                    qNext[y] = -1;
+                    if (qFirst[s] < 0) {
+                        qFirst[s] = y;
+                    } else {
+                        qNext[qLast[s]] = y;
+                    }
+                    qLast[s] = y;
+                    mNext[y] = -1;
+                    mNext[mLast[s]] = y;
+                    mLast[s] = y;
+                } else if ((o = find(o)) != s) {
+                    // the searches met: s goes on with the queue and the nodes of o
+                    merged[o] = s;
+                    if (qFirst[o] >= 0) {
+                        if (qFirst[s] < 0) {
+                            qFirst[s] = qFirst[o];
+                        } else {
+                            qNext[qLast[s]] = qFirst[o];
+                        }
+                        qLast[s] = qLast[o];
+                    }
+                    mNext[mLast[s]] = mFirst[o];
+                    mLast[s] = mLast[o];
+                    stop(o, nbRunning--);
+                    if (nbRunning == 1) {
+                        break;
+                    }
+                }
+            }
+            r++;
+        }
+        for (int k = 0; k < nbVisited; k++) {
+            owner[visited[k]] = -1;
+        }
+    }
+
+    /**
+     * Removes search <i>s</i> from the running ones
+     */
+    private void stop(int s, int nbRunning) {
+        int p = position[s];
+        int last = running[nbRunning - 1];
+        running[p] = last;
+        position[last] = p;
+    }
+
+    private int find(int s) {
+        while (merged[s] != s) {
+            merged[s] = merged[merged[s]];
+            s = merged[s];
+        }
+        return s;
+    }
+}
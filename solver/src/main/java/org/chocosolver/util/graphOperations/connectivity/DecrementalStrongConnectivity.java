@@ -0,0 +1,162 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.graphOperations.connectivity;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.variables.DirectedGraphVar;
+import org.chocosolver.util.objects.graphs.DirectedGraph;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+
+import java.util.Arrays;
+
+/**
+ * Strongly connected components of a directed graph, maintained under node and edge removals
+ * (see {@link AbstractDecrementalConnectivity}).
+ * <p>
+ * When a strongly connected component may have split, Tarjan's algorithm is run on the nodes of this component only,
+ * starting from the nodes which lost an incident arc.
+ * The largest of the resulting components keeps the label, the other ones get new labels.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DecrementalStrongConnectivity extends AbstractDecrementalConnectivity {
+
+    // dfs number of each visited node, -1 if not visited
+    private final int[] dfsNum;
+    private final int[] low;
+    // call stack
+    private final int[] calls;
+    private final ISetIterator[] iterators;
+    // tarjan's stack
+    private final int[] stack;
+    private final boolean[] inStack;
+    // nodes of the components found, and their first index in nodes
+    private final int[] nodes;
+    private final int[] first;
+
+    /**
+     * Creates the strongly connected components of the upper bound of <i>g</i>,
+     * kept up to date on each call to {@link #sync()}.
+     * Prefer {@link #of(DirectedGraphVar)} to share them among propagators.
+     *
+     * @param g a directed graph variable
+     */
+    public DecrementalStrongConnectivity(DirectedGraphVar g) {
+        this(g.getModel().getEnvironment(), g.getUB());
+        watch(g);
+    }
+
+    /**
+     * Creates the strongly connected components of <i>graph</i>.
+     * Removals must be reported with {@link #nodeRemoved(int)} and {@link #edgeRemoved(int, int)}
+     * before calling {@link #repair()}.
+     *
+     * @param environment backtracking environment
+     * @param graph       a backtrackable directed graph
+     */
+    public DecrementalStrongConnectivity(IEnvironment environment, DirectedGraph graph) {
+        super(environment, graph);
+        dfsNum = new int[n];
+        Arrays.fill(dfsNum, -1);
+        low = new int[n];
+        calls = new int[n];
+        iterators = new ISetIterator[n];
+        stack = new int[n];
+        inStack = new boolean[n];
+        nodes = new int[n];
+        first = new int[n + 1];
+        init();
+    }
+
+    /**
+     * @param g a directed graph variable
+     * @return the strongly connected components of the upper bound of <i>g</i>, shared among propagators
+     */
+    public static DecrementalStrongConnectivity of(DirectedGraphVar g) {
+        return of(g, DecrementalStrongConnectivity::new);
+    }
+
+    @Override
+    protected void split(int label, int[] seeds, int nbSeeds) {
+        int nbVisited = 0;
+        int nbNodes = 0;
+        int nbSCC = 0;
+        int sp = 0;
+        for (int s = 0; s < nbSeeds; s++) {
+            int root = seeds[s];
+            if (dfsNum[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            dfsNum[root] = low[root] = nbVisited++;
+            stack[sp++] = root;
+            inStack[root] = true;
+            calls[0] = root;
+            iterators[0] = graph.getSuccessorsOf(root).iterator();
+            while (depth >= 0) {
+                int x = calls[depth];
+                ISetIterator it = iterators[depth];
+                if (it.hasNext()) {
+                    int y = it.nextInt();
+                    if (getComponentOf(y) != label) {
+                        continue;
+                    }
+                    if (dfsNum[y] < 0) {
+                        dfsNum[y] = low[y] = nbVisited++;
+                        stack[sp++] = y;
+                        inStack[y] = true;
+                        calls[++depth] = y;
+                        iterators[depth] = graph.getSuccessorsOf(y).iterator();
+                    } else if (inStack[y]) {
+                        low[x] = Math.min(low[x], dfsNum[y]);
+                    }
+                } else {
+                    iterators[depth--] = null;
+                    if (depth >= 0) {
+                        int p = calls[depth];
+                        low[p] = Math.min(low[p], low[x]);
+                    }
+                    if (low[x] == dfsNum[x]) {
+                        first[nbSCC++] = nbNodes;
+                        int y;
+                        do {
+                            y = stack[--sp];
+                            inStack[y] = false;
+                            nodes[nbNodes++] = y;
+                        } while (y != x);
+                    }
+                }
+            }
+        }
+        first[nbSCC] = nbNodes;
+        assert nbNodes == getComponentSize(label) : "some nodes of the component are not reachable from the seeds";
+        if (nbSCC > 1) {
+            int largest = 0;
+            for (int c = 1; c < nbSCC; c++) {
+                if (first[c + 1] - first[c] > first[largest + 1] - first[largest]) {
+                    largest = c;
+                }
+            }
+            for (int c = 0; c < nbSCC; c++) {
+                if (c != largest) {
+                    int l = newLabel();
+                    for (int k = first[c]; k < first[c + 1]; k++) {
+                        move(nodes[k], l);
+                    }
+                }
+            }
+        }
+        for (int k = 0; k < nbNodes; k++) {
+            dfsNum[nodes[k]] = -1;
+        }
+    }
+}
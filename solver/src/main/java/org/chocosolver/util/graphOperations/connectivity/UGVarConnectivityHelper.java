@@ -9,12 +9,12 @@
  */
 package org.chocosolver.util.graphOperations.connectivity;
 
+import org.chocosolver.memory.IStateIntVector;
 import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 
@@ -34,7 +34,16 @@ public class UGVarConnectivityHelper {
     // internal variables for Articulation Points and Bridge detection
     private int numOrder;
     private final int[] num;
-    private final BitSet visited;
+    // nodes numbered since the last reset of num
+    private final int[] numbered;
+    private int nbNumbered;
+
+    // internal variables to restrict the detection to modified components, if any
+    private final DecrementalConnectivity components;
+    // stamp of each component when its articulation points and bridges were last enforced
+    private final IStateIntVector validStamps;
+    private final int[] explored;
+    private int nbExplored;
 
     // output data
     private final ISet articulationPoints = SetFactory.makeBipartiteSet(0);
@@ -42,11 +51,31 @@ public class UGVarConnectivityHelper {
 
     // --- constructor
     public UGVarConnectivityHelper(UndirectedGraphVar g){
+        this(g, null);
+    }
+
+    /**
+     * Creates a helper which can restrict the detection of articulation points and bridges to the connected
+     * components of the envelope modified since the last detection,
+     * see {@link #computeMandatoryArticulationPointsAndBridgesOfModifiedComponents()}.
+     *
+     * @param g          an undirected graph variable
+     * @param components the connected components of the envelope of <i>g</i>, may be null
+     */
+    public UGVarConnectivityHelper(UndirectedGraphVar g, DecrementalConnectivity components){
         this.g = g;
         this.n = g.getNbMaxNodes();
         this.fifo = new int[n];
         this.num = new int[n];
-        this.visited = new BitSet(n);
+        this.numbered = new int[n];
+        this.components = components;
+        if (components != null) {
+            this.validStamps = g.getModel().getEnvironment().makeIntVector(components.getNbMaxLabels(), -1);
+            this.explored = new int[n];
+        } else {
+            this.validStamps = null;
+            this.explored = null;
+        }
     }
 
     //***********************************************************************************
@@ -80,16 +109,57 @@ public class UGVarConnectivityHelper {
         ISet mNodes = g.getMandatoryNodes();
         if(g.getMandatoryNodes().size()<2) return;
 
-        visited.clear();
-        Arrays.fill(num, 0);
         for(int root : mNodes) {
-            if(!visited.get(root)) {
-                // root node init
-                visited.set(root);
+            if(num[root] == 0) {
                 // DFS from root
                 computeMandatoryArticulationPointsAndBridgesFrom(root);
             }
         }
+        resetNum();
+    }
+
+    /**
+     * Computes articulation points and bridges linking mandatory nodes, as
+     * {@link #computeMandatoryArticulationPointsAndBridges()}, but only in the connected components of the envelope
+     * modified since their articulation points and bridges were last enforced, see {@link #validateComponents()}.
+     * The components must be up to date, and the helper must have been created with them.
+     */
+    public void computeMandatoryArticulationPointsAndBridgesOfModifiedComponents() {
+        assert components != null;
+        articulationPoints.clear();
+        bridges.clear();
+        nbExplored = 0;
+        for (int root : g.getMandatoryNodes()) {
+            if (num[root] == 0) {
+                int l = components.getComponentOf(root);
+                if (validStamps.quickGet(l) != components.getStamp(l)) {
+                    explored[nbExplored++] = l;
+                    computeMandatoryArticulationPointsAndBridgesFrom(root);
+                }
+            }
+        }
+        resetNum();
+    }
+
+    /**
+     * Records that the articulation points and bridges found by the last call to
+     * {@link #computeMandatoryArticulationPointsAndBridgesOfModifiedComponents()} are mandatory:
+     * their components will not be explored again until they are modified.
+     * To be called once they are enforced and the components are synchronized with the enforcements.
+     */
+    public void validateComponents() {
+        for (int k = 0; k < nbExplored; k++) {
+            int l = explored[k];
+            validStamps.quickSet(l, components.getStamp(l));
+        }
+        nbExplored = 0;
+    }
+
+    private void resetNum() {
+        for (int k = 0; k < nbNumbered; k++) {
+            num[numbered[k]] = 0;
+        }
+        nbNumbered = 0;
     }
 
     /**
@@ -100,6 +170,7 @@ public class UGVarConnectivityHelper {
         assert g.getMandatoryNodes().contains(s);
         numOrder = 1;
         num[s] = numOrder++;
+        numbered[nbNumbered++] = s;
         for (int next:g.getPotentialNeighborsOf(s)) {
             if (num[next] == 0) {
                 int[] LowMand = doFindArticulation(next, s);
@@ -114,6 +185,7 @@ public class UGVarConnectivityHelper {
 
     private int[] doFindArticulation (int s, int parent) {
         int lowpt = num[s] = numOrder++;
+        numbered[nbNumbered++] = s;
         int mand = g.getMandatoryNodes().contains(s)?1:0;
         for (int next:g.getPotentialNeighborsOf(s)) {
             if (num[next] == 0) {
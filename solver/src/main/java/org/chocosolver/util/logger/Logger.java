@@ -125,4 +125,15 @@ public class Logger {
         postfix();
     }
 
+    /**
+     * Prints a throwable and its backtrace.
+     *
+     * @see Throwable#printStackTrace(PrintStream)
+     */
+    public final void printStackTrace(Throwable t) {
+        prefix();
+        this.pstreams.forEach(t::printStackTrace);
+        postfix();
+    }
+
 }
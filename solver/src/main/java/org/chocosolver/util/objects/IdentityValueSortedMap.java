@@ -0,0 +1,243 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import org.chocosolver.solver.Identity;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * A {@link ValueSortedMap} whose keys are identified by their ID.
+ * <p>
+ * Keys are indexed by their ID in primitive arrays and values are ordered in a binary max-heap,
+ * so that no object is allocated once the arrays are large enough.
+ * </p>
+ *
+ * @param <E> key's type
+ * @author agent
+ * @implSpec The value is necessarily a primitive integer greater or equal to 0.
+ * @since 17/10/2026
+ */
+public class IdentityValueSortedMap<E extends Identity> extends ValueSortedMap<E> {
+
+    /**
+     * Create a doubly-linked set E <-> value, where value is a int.
+     * Keys are unique, so do values.
+     * Value can be retrieved through key and key can be retrieved through value.
+     * In addition, values are sorted.
+     */
+    public IdentityValueSortedMap() {
+        super(new HeapEntries<>());
+    }
+
+    /**
+     * Entries indexed by key ID, values ordered in a binary max-heap.
+     * @param <E> key's type
+     */
+    private static final class HeapEntries<E extends Identity> implements Entries<E> {
+
+        /**
+         * Keys, indexed by ID
+         */
+        private Object[] keys;
+        /**
+         * Values, indexed by key ID, or {@link #NO_ENTRY}
+         */
+        private int[] values;
+        /**
+         * Position in {@link #heap}, indexed by key ID
+         */
+        private int[] where;
+        /**
+         * Binary max-heap of key IDs, ordered wrt their value
+         */
+        private int[] heap;
+        /**
+         * Number of entries
+         */
+        private int size;
+
+        HeapEntries() {
+            this.keys = new Object[16];
+            this.values = new int[16];
+            Arrays.fill(values, NO_ENTRY);
+            this.where = new int[16];
+            this.heap = new int[16];
+        }
+
+        private void ensureKey(int id) {
+            if (id >= keys.length) {
+                int n = Math.max(id + 1, keys.length * 3 / 2 + 1);
+                keys = Arrays.copyOf(keys, n);
+                int o = values.length;
+                values = Arrays.copyOf(values, n);
+                Arrays.fill(values, o, n, NO_ENTRY);
+                where = Arrays.copyOf(where, n);
+            }
+        }
+
+        @Override
+        public void clear() {
+            for (int i = 0; i < size; i++) {
+                keys[heap[i]] = null;
+                values[heap[i]] = NO_ENTRY;
+            }
+            size = 0;
+        }
+
+        @Override
+        public void insert(E k, int v) {
+            int id = k.getId();
+            ensureKey(id);
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 3 / 2 + 1);
+            }
+            keys[id] = k;
+            values[id] = v;
+            heap[size] = id;
+            where[id] = size;
+            siftUp(size++);
+        }
+
+        @Override
+        public void replace(E k, int v) {
+            int id = k.getId();
+            int cValue = values[id];
+            if (v != cValue) {
+                values[id] = v;
+                if (v > cValue) {
+                    siftUp(where[id]);
+                } else {
+                    siftDown(where[id]);
+                }
+            }
+        }
+
+        @Override
+        public int getValue(E k) {
+            int id = k.getId();
+            return id < values.length ? values[id] : NO_ENTRY;
+        }
+
+        @Override
+        public int getLastValue() {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            return values[heap[0]];
+        }
+
+        @Override
+        public int getLowerValue(int value){
+            int low = -1;
+            for (int i = 0; i < size; i++) {
+                int v = values[heap[i]];
+                if (v < value && v > low) {
+                    low = v;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        public int pollLastValue() {
+            int last = getLastValue();
+            removeAt(0);
+            return last;
+        }
+
+        @Override
+        public void remove(E k){
+            if (getValue(k) != NO_ENTRY) {
+                removeAt(where[k.getId()]);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean removeIf(Predicate<? super E> filter) {
+            int j = 0;
+            for (int i = 0; i < size; i++) {
+                int id = heap[i];
+                if (filter.test((E) keys[id])) {
+                    keys[id] = null;
+                    values[id] = NO_ENTRY;
+                } else {
+                    heap[j] = id;
+                    where[id] = j++;
+                }
+            }
+            boolean removed = j < size;
+            size = j;
+            if (removed) {
+                for (int i = (size >> 1) - 1; i >= 0; i--) {
+                    siftDown(i);
+                }
+            }
+            return removed;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void removeAt(int i) {
+            int id = heap[i];
+            keys[id] = null;
+            values[id] = NO_ENTRY;
+            if (i != --size) {
+                int m = heap[size];
+                heap[i] = m;
+                where[m] = i;
+                siftDown(i);
+                siftUp(where[m]);
+            }
+        }
+
+        private void siftUp(int i) {
+            int id = heap[i];
+            int v = values[id];
+            while (i > 0) {
+                int p = (i - 1) >> 1;
+                if (values[heap[p]] >= v) {
+                    break;
+                }
+                heap[i] = heap[p];
+                where[heap[i]] = i;
+                i = p;
+            }
+            heap[i] = id;
+            where[id] = i;
+        }
+
+        private void siftDown(int i) {
+            int id = heap[i];
+            int v = values[id];
+            int c;
+            while ((c = (i << 1) + 1) < size) {
+                if (c + 1 < size && values[heap[c + 1]] > values[heap[c]]) {
+                    c++;
+                }
+                if (values[heap[c]] <= v) {
+                    break;
+                }
+                heap[i] = heap[c];
+                where[heap[i]] = i;
+                i = c;
+            }
+            heap[i] = id;
+            where[id] = i;
+        }
+    }
+
+}
@@ -0,0 +1,485 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import org.chocosolver.solver.exception.SolverException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An archive of mutually non-dominated points (to be maximized), each of them associated with a value,
+ * indexed by a k-d tree.
+ * <p>
+ * Each node of the tree stores the bounding box of its subtree,
+ * so that dominance queries only visit the subtrees which may contain an answer.
+ * Queries do not allocate.
+ * Removed points are only marked as such, and the tree is rebuilt, balanced, when it has doubled in size
+ * or when half of its nodes are removed ones.
+ * </p>
+ * <p>
+ * The archive can be bounded with epsilon-dominance: given <i>e<sub>j</sub></i> for each dimension <i>j</i>,
+ * a point <i>p</i> is stored as the upper corner of its box,
+ * that is, <i>(&lfloor;p<sub>j</sub> / e<sub>j</sub>&rfloor; + 1) &times; e<sub>j</sub> - 1</i>
+ * in each dimension <i>j</i>.
+ * Thus, any point in the same box as, or in a box dominated by, an archived one is dominated,
+ * and at most one point per box is archived.
+ * </p>
+ *
+ * @param <T> type of the values
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParetoArchive<T> {
+
+    private static final int NONE = -1;
+
+    /**
+     * Number of dimensions
+     */
+    private final int dim;
+    /**
+     * Size of the boxes in each dimension, or null if points are stored as is
+     */
+    private final int[] epsilons;
+    /**
+     * Stored points, <i>dim</i> coordinates per node
+     */
+    private int[] keys;
+    /**
+     * Bounding boxes of subtrees, <i>dim</i> coordinates per node
+     */
+    private int[] lows;
+    private int[] highs;
+    private int[] left;
+    private int[] right;
+    /**
+     * Dimension the node splits its subtree on
+     */
+    private int[] axis;
+    private boolean[] alive;
+    /**
+     * Insertion rank of each node
+     */
+    private long[] ranks;
+    private Object[] values;
+    private int root = NONE;
+    /**
+     * Number of nodes, removed ones included
+     */
+    private int nodes;
+    /**
+     * Number of points
+     */
+    private int size;
+    private long rank;
+    /**
+     * The tree is rebuilt once it reaches this number of nodes
+     */
+    private int rebuildAt;
+    /**
+     * For traversals
+     */
+    private int[] stack;
+    private final int[] key;
+
+    /**
+     * Create an archive of points whose values are to be maximized.
+     *
+     * @param dim number of dimensions
+     */
+    public ParetoArchive(int dim) {
+        this(dim, null);
+    }
+
+    /**
+     * Create an archive of points whose values are to be maximized, bounded with epsilon-dominance.
+     *
+     * @param dim      number of dimensions
+     * @param epsilons size of the boxes in each dimension (all strictly positive), or null to store points as is
+     * @throws SolverException if <i>epsilons</i> does not match <i>dim</i>
+     */
+    public ParetoArchive(int dim, int[] epsilons) {
+        if (epsilons != null) {
+            if (epsilons.length != dim) {
+                throw new SolverException("Expected " + dim + " epsilons, found " + epsilons.length);
+            }
+            for (int e : epsilons) {
+                if (e < 1) {
+                    throw new SolverException("Epsilons should be strictly positive");
+                }
+            }
+            epsilons = epsilons.clone();
+        }
+        this.dim = dim;
+        this.epsilons = epsilons;
+        this.key = new int[dim];
+        this.stack = new int[32];
+        allocate(16);
+        this.rebuildAt = 64;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity * dim];
+        lows = new int[capacity * dim];
+        highs = new int[capacity * dim];
+        left = new int[capacity];
+        right = new int[capacity];
+        axis = new int[capacity];
+        alive = new boolean[capacity];
+        ranks = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    private void grow() {
+        int capacity = left.length * 3 / 2 + 1;
+        keys = Arrays.copyOf(keys, capacity * dim);
+        lows = Arrays.copyOf(lows, capacity * dim);
+        highs = Arrays.copyOf(highs, capacity * dim);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        axis = Arrays.copyOf(axis, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        ranks = Arrays.copyOf(ranks, capacity);
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    /**
+     * @return the number of points in this archive
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <i>true</i> if this archive is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all points.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, nodes, null);
+        root = NONE;
+        nodes = 0;
+        size = 0;
+        rebuildAt = 64;
+    }
+
+    /**
+     * @return the values of the points in this archive, in insertion order
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> values() {
+        Integer[] order = new Integer[size];
+        for (int n = 0, k = 0; n < nodes; n++) {
+            if (alive[n]) {
+                order[k++] = n;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(ranks[a], ranks[b]));
+        List<T> list = new ArrayList<>(size);
+        for (Integer n : order) {
+            list.add((T) values[n]);
+        }
+        return list;
+    }
+
+    /**
+     * Add a point to this archive, and remove the archived points it dominates or is equal to
+     * (or, with epsilon-dominance, the ones in the same box or in a dominated box).
+     * The point is expected not to be dominated by an archived point.
+     *
+     * @param point     a point, which is not stored
+     * @param value     the value associated with the point
+     * @param onRemoval called with the value of each removed point, may be null
+     */
+    public void add(int[] point, T value, Consumer<T> onRemoval) {
+        toKey(point);
+        removeDominated(onRemoval);
+        insert(value);
+        if (nodes >= rebuildAt || nodes - size > size + 64) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @param point a point
+     * @return <i>true</i> if an archived point is greater than or equal to <i>point</i> in each dimension,
+     * and strictly greater in at least one
+     */
+    public boolean isDominated(int[] point) {
+        int top = push(0, root);
+        while (top > 0) {
+            int n = stack[--top];
+            int o = n * dim;
+            boolean in = true;
+            for (int j = 0; j < dim && in; j++) {
+                in = highs[o + j] >= point[j];
+            }
+            if (!in) {
+                continue;
+            }
+            if (alive[n]) {
+                boolean ge = true, gt = false;
+                for (int j = 0; j < dim && ge; j++) {
+                    ge = keys[o + j] >= point[j];
+                    gt |= keys[o + j] > point[j];
+                }
+                if (ge && gt) {
+                    return true;
+                }
+            }
+            top = push(top, left[n]);
+            top = push(top, right[n]);
+        }
+        return false;
+    }
+
+    /**
+     * Compute the smallest value in dimension <i>i</i> a point should have not to be dominated,
+     * considering the other dimensions are at their maximum, given by <i>dp</i>.
+     * For each archived point <i>a</i> greater than or equal to <i>dp</i> in each dimension, the bound is:
+     * <ul>
+     *     <li><i>a<sub>i</sub></i> if <i>a</i> is strictly greater than <i>dp</i> in dimension <i>i</i> only,</li>
+     *     <li><i>a<sub>i</sub> + 1</i> if <i>a</i> is strictly greater than <i>dp</i> in another dimension.</li>
+     * </ul>
+     *
+     * @param dp the dominated point: the maximum value in each dimension but <i>i</i>, the minimum value in <i>i</i>
+     * @param i  a dimension
+     * @return the largest bound, or {@link Integer#MIN_VALUE} if no archived point applies
+     */
+    public int tightestBound(int[] dp, int i) {
+        int best = Integer.MIN_VALUE;
+        int top = push(0, root);
+        while (top > 0) {
+            int n = stack[--top];
+            int o = n * dim;
+            // no point in this subtree can improve the bound
+            boolean in = (long) highs[o + i] + 1 > best;
+            for (int j = 0; j < dim && in; j++) {
+                in = highs[o + j] >= dp[j];
+            }
+            if (!in) {
+                continue;
+            }
+            if (alive[n]) {
+                int dominates = 0;
+                for (int j = 0; j < dim; j++) {
+                    if (keys[o + j] < dp[j]) {
+                        dominates = 0;
+                        break;
+                    }
+                    if (keys[o + j] > dp[j]) {
+                        if (dominates == 0) dominates = 1;
+                        if (j != i) dominates = 2;
+                    }
+                }
+                if (dominates > 0) {
+                    int current = dominates == 1 ? keys[o + i] : keys[o + i] + 1;
+                    if (best < current) {
+                        best = current;
+                    }
+                }
+            }
+            top = push(top, left[n]);
+            top = push(top, right[n]);
+        }
+        return best;
+    }
+
+    private int push(int top, int n) {
+        if (n != NONE) {
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, top * 2);
+            }
+            stack[top++] = n;
+        }
+        return top;
+    }
+
+    private void toKey(int[] point) {
+        for (int j = 0; j < dim; j++) {
+            if (epsilons == null) {
+                key[j] = point[j];
+            } else {
+                long e = epsilons[j];
+                key[j] = (int) Math.min(Integer.MAX_VALUE, Math.floorDiv(point[j], e) * e + e - 1);
+            }
+        }
+    }
+
+    /**
+     * Remove the points less than or equal to {@link #key} in each dimension.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeDominated(Consumer<T> onRemoval) {
+        int top = push(0, root);
+        while (top > 0) {
+            int n = stack[--top];
+            int o = n * dim;
+            boolean in = true;
+            for (int j = 0; j < dim && in; j++) {
+                in = lows[o + j] <= key[j];
+            }
+            if (!in) {
+                continue;
+            }
+            if (alive[n]) {
+                boolean le = true;
+                for (int j = 0; j < dim && le; j++) {
+                    le = keys[o + j] <= key[j];
+                }
+                if (le) {
+                    alive[n] = false;
+                    size--;
+                    T value = (T) values[n];
+                    values[n] = null;
+                    if (onRemoval != null) {
+                        onRemoval.accept(value);
+                    }
+                }
+            }
+            top = push(top, left[n]);
+            top = push(top, right[n]);
+        }
+    }
+
+    private void insert(T value) {
+        if (nodes == left.length) {
+            grow();
+        }
+        int node = nodes++;
+        int o = node * dim;
+        System.arraycopy(key, 0, keys, o, dim);
+        System.arraycopy(key, 0, lows, o, dim);
+        System.arraycopy(key, 0, highs, o, dim);
+        left[node] = right[node] = NONE;
+        alive[node] = true;
+        ranks[node] = rank++;
+        values[node] = value;
+        size++;
+        if (root == NONE) {
+            root = node;
+            axis[node] = 0;
+            return;
+        }
+        int n = root;
+        while (true) {
+            int p = n * dim;
+            for (int j = 0; j < dim; j++) {
+                lows[p + j] = Math.min(lows[p + j], key[j]);
+                highs[p + j] = Math.max(highs[p + j], key[j]);
+            }
+            int a = axis[n];
+            int child = key[a] < keys[p + a] ? left[n] : right[n];
+            if (child == NONE) {
+                if (key[a] < keys[p + a]) {
+                    left[n] = node;
+                } else {
+                    right[n] = node;
+                }
+                axis[node] = (a + 1) % dim;
+                return;
+            }
+            n = child;
+        }
+    }
+
+    /**
+     * Rebuild a balanced tree, without removed points.
+     */
+    private void rebuild() {
+        int[] ids = new int[size];
+        for (int n = 0, k = 0; n < nodes; n++) {
+            if (alive[n]) {
+                ids[k++] = n;
+            }
+        }
+        int[] oKeys = keys;
+        long[] oRanks = ranks;
+        Object[] oValues = values;
+        allocate(Math.max(16, size * 3 / 2 + 1));
+        nodes = 0;
+        root = build(ids, 0, size, 0, oKeys, oRanks, oValues);
+        rebuildAt = Math.max(64, size * 2);
+    }
+
+    private int build(int[] ids, int from, int to, int a, int[] oKeys, long[] oRanks, Object[] oValues) {
+        if (from >= to) {
+            return NONE;
+        }
+        int mid = (from + to) >>> 1;
+        select(ids, from, to - 1, mid, a, oKeys);
+        int node = nodes++;
+        int o = node * dim;
+        System.arraycopy(oKeys, ids[mid] * dim, keys, o, dim);
+        System.arraycopy(keys, o, lows, o, dim);
+        System.arraycopy(keys, o, highs, o, dim);
+        alive[node] = true;
+        ranks[node] = oRanks[ids[mid]];
+        values[node] = oValues[ids[mid]];
+        axis[node] = a;
+        int b = (a + 1) % dim;
+        left[node] = build(ids, from, mid, b, oKeys, oRanks, oValues);
+        right[node] = build(ids, mid + 1, to, b, oKeys, oRanks, oValues);
+        enclose(node, left[node]);
+        enclose(node, right[node]);
+        return node;
+    }
+
+    /**
+     * Extend the bounding box of <i>node</i> with the one of <i>child</i>.
+     */
+    private void enclose(int node, int child) {
+        if (child != NONE) {
+            int o = node * dim, c = child * dim;
+            for (int j = 0; j < dim; j++) {
+                lows[o + j] = Math.min(lows[o + j], lows[c + j]);
+                highs[o + j] = Math.max(highs[o + j], highs[c + j]);
+            }
+        }
+    }
+
+    /**
+     * Reorder <i>ids[lo..hi]</i> so that <i>ids[k]</i> is the one with the k-th smallest coordinate <i>a</i>,
+     * smaller or equal ones before it, greater or equal ones after it.
+     * Queries only rely on bounding boxes, so ties need not be ordered as on insertion.
+     */
+    private void select(int[] ids, int lo, int hi, int k, int a, int[] oKeys) {
+        while (lo < hi) {
+            int pivot = oKeys[ids[(lo + hi) >>> 1] * dim + a];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (oKeys[ids[i] * dim + a] < pivot) i++;
+                while (oKeys[ids[j] * dim + a] > pivot) j--;
+                if (i <= j) {
+                    int t = ids[i];
+                    ids[i] = ids[j];
+                    ids[j] = t;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                break;
+            }
+        }
+    }
+}
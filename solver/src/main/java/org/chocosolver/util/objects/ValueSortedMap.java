@@ -31,15 +31,11 @@ public class ValueSortedMap<E> {
     /**
      * Default value for no entry
      */
-    private static final int NO_ENTRY = -1;
+    static final int NO_ENTRY = -1;
     /**
-     * Set : values -> E
+     * Storage of the entries
      */
-    TObjectIntHashMap<E> map;
-    /**
-     * Ordered set : values -> E
-     */
-    TreeMap<Integer, E> rmap;
+    private final Entries<E> entries;
 
     /**
      * Create a doubly-linked set E <-> value, where value is a int.
@@ -48,16 +44,22 @@ public class ValueSortedMap<E> {
      * In addition, values are sorted.
      */
     public ValueSortedMap() {
-        this.map = new TObjectIntHashMap<>(16, .5f, NO_ENTRY);
-        this.rmap = new TreeMap<>();
+        this(new TreeEntries<>());
+    }
+
+    /**
+     * Create a map whose entries are stored in <i>entries</i>.
+     * @param entries an empty storage
+     */
+    ValueSortedMap(Entries<E> entries) {
+        this.entries = entries;
     }
 
     /**
      * Remove all entries from this map.
      */
     public void clear() {
-        map.clear();
-        rmap.clear();
+        entries.clear();
     }
 
     /**
@@ -67,11 +69,10 @@ public class ValueSortedMap<E> {
      * @param v the value
      */
     public void put(E k, int v) {
-        if(map.containsKey(k)){
-            replace(k, v);
-        }else {
-            map.put(k, v);
-            rmap.put(v, k);
+        if (entries.getValue(k) != NO_ENTRY) {
+            entries.replace(k, v);
+        } else {
+            entries.insert(k, v);
         }
     }
 
@@ -81,16 +82,8 @@ public class ValueSortedMap<E> {
      * @param v the value
      */
     public void replace(E k, int v) {
-        int cValue = map.get(k);
-        assert cValue != NO_ENTRY;
-        int amount = v - cValue;
-        if(amount != 0) {
-            map.adjustValue(k, amount);
-            rmap.remove(cValue);
-            rmap.put(v, k);
-        }
-        assert rmap.get(map.get(k)) == k;
-        assert map.get(rmap.get(v)) == v;
+        assert entries.getValue(k) != NO_ENTRY;
+        entries.replace(k, v);
     }
 
     /**
@@ -98,7 +91,7 @@ public class ValueSortedMap<E> {
      * @return value attached to the key <i>k</i>, or {@link #NO_ENTRY} otherwise.
      */
     public int getValue(E k) {
-        return map.get(k);
+        return entries.getValue(k);
     }
 
     /**
@@ -107,7 +100,7 @@ public class ValueSortedMap<E> {
      * @return value attached to the key <i>k</i>, or <i>defaultValue</i> otherwise.
      */
     public int getValueOrDefault(E k, int defaultValue) {
-        int value = map.get(k);
+        int value = entries.getValue(k);
         if (value == NO_ENTRY) {
             return defaultValue;
         }
@@ -119,8 +112,7 @@ public class ValueSortedMap<E> {
      * @return the largest value stored in this
      */
     public int getLastValue() {
-//        return rmap.lastValue();
-        return rmap.lastKey();
+        return entries.getLastValue();
     }
 
     /**
@@ -128,20 +120,14 @@ public class ValueSortedMap<E> {
      * @return the lowest value stored in this
      */
     public int getLowerValue(int value){
-        Integer low = rmap.lowerKey(value);
-        if(low == null){
-            low = -1;
-        }
-        return low;
+        return entries.getLowerValue(value);
     }
     /**
      * return and remove the largest value stored in this
      * @return  the largest value stored in this
      */
     public int pollLastValue() {
-        Map.Entry<Integer, E> last = rmap.pollLastEntry();
-        map.remove(last.getValue());
-        return last.getKey();
+        return entries.pollLastValue();
     }
 
     /**
@@ -149,7 +135,7 @@ public class ValueSortedMap<E> {
      * @param k a key
      */
     public void remove(E k){
-        rmap.remove(map.remove(k));
+        entries.remove(k);
     }
 
     /**
@@ -158,25 +144,142 @@ public class ValueSortedMap<E> {
      */
     public boolean removeIf(Predicate<? super E> filter) {
         Objects.requireNonNull(filter);
-        boolean removed = false;
-        final Iterator<E> each = map.keySet().iterator();
-        while (each.hasNext()) {
-            E e = each.next();
-            if (filter.test(e)) {
-                int value = map.get(e);
-                each.remove();
-                rmap.remove(value);
-                removed = true;
-            }
-        }
-        return removed;
+        return entries.removeIf(filter);
     }
 
     /**
      * @return <i>true</i> if this is empty
      */
     public boolean isEmpty() {
-        return map.isEmpty();
+        return entries.isEmpty();
+    }
+
+    /**
+     * Storage of the entries of a {@link ValueSortedMap}.
+     * @param <E> key's type
+     */
+    interface Entries<E> {
+
+        void clear();
+
+        /**
+         * Insert a key <i>k</i>, which is not stored yet, with the value <i>v</i>.
+         */
+        void insert(E k, int v);
+
+        /**
+         * Replaces the value attached with key <i>k</i>, which is stored, with <i>v</i>.
+         */
+        void replace(E k, int v);
+
+        /**
+         * @return value attached to the key <i>k</i>, or {@link #NO_ENTRY} otherwise.
+         */
+        int getValue(E k);
+
+        int getLastValue();
+
+        int getLowerValue(int value);
+
+        int pollLastValue();
+
+        void remove(E k);
+
+        boolean removeIf(Predicate<? super E> filter);
+
+        boolean isEmpty();
+    }
+
+    /**
+     * Entries stored in a hash map, values ordered in a tree map.
+     * @param <E> key's type
+     */
+    static final class TreeEntries<E> implements Entries<E> {
+        /**
+         * Set : values -> E
+         */
+        private final TObjectIntHashMap<E> map = new TObjectIntHashMap<>(16, .5f, NO_ENTRY);
+        /**
+         * Ordered set : values -> E
+         */
+        private final TreeMap<Integer, E> rmap = new TreeMap<>();
+
+        @Override
+        public void clear() {
+            map.clear();
+            rmap.clear();
+        }
+
+        @Override
+        public void insert(E k, int v) {
+            map.put(k, v);
+            rmap.put(v, k);
+        }
+
+        @Override
+        public void replace(E k, int v) {
+            int cValue = map.get(k);
+            int amount = v - cValue;
+            if(amount != 0) {
+                map.adjustValue(k, amount);
+                rmap.remove(cValue);
+                rmap.put(v, k);
+            }
+            assert rmap.get(map.get(k)) == k;
+            assert map.get(rmap.get(v)) == v;
+        }
+
+        @Override
+        public int getValue(E k) {
+            return map.get(k);
+        }
+
+        @Override
+        public int getLastValue() {
+            return rmap.lastKey();
+        }
+
+        @Override
+        public int getLowerValue(int value) {
+            Integer low = rmap.lowerKey(value);
+            if(low == null){
+                low = -1;
+            }
+            return low;
+        }
+
+        @Override
+        public int pollLastValue() {
+            Map.Entry<Integer, E> last = rmap.pollLastEntry();
+            map.remove(last.getValue());
+            return last.getKey();
+        }
+
+        @Override
+        public void remove(E k) {
+            rmap.remove(map.remove(k));
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            boolean removed = false;
+            final Iterator<E> each = map.keySet().iterator();
+            while (each.hasNext()) {
+                E e = each.next();
+                if (filter.test(e)) {
+                    int value = map.get(e);
+                    each.remove();
+                    rmap.remove(value);
+                    removed = true;
+                }
+            }
+            return removed;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.isEmpty();
+        }
     }
 
 }
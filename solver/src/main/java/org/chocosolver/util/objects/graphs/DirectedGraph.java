@@ -14,6 +14,7 @@ import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.csr.CompressedSparseRows;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetDifference;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetIntersection;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetUnion;
@@ -131,6 +132,49 @@ public class DirectedGraph implements IGraph {
         this(model, n, SetType.BITSET, edgeSetType, allNodes);
     }
 
+    /**
+     * Creates a backtrackable graph whose successors and predecessors are stored in compressed sparse row structures,
+     * built once for all from the given directed edges (see {@link SetType#CSR}).
+     * Such a graph is meant to be a static envelope, as the upper bound of a graph variable:
+     * nodes and edges can be removed (and are restored upon backtrack), but no new edge can be added.
+     * Its memory footprint only depends on the number of edges.
+     *
+     * @param model       model providing the backtracking environment
+     * @param n           maximum number of nodes
+     * @param nodeSetType data structure to use for representing nodes
+     * @param nodes       initial nodes of the graph, endpoints of the edges are added too
+     * @param edges       directed edges of the graph (in the form { {from, to}, ...})
+     */
+    public DirectedGraph(Model model, int n, SetType nodeSetType, int[] nodes, int[][] edges) {
+        this.n = n;
+        this.nodeSetType = nodeSetType;
+        this.edgeSetType = SetType.CSR;
+        int m = edges.length;
+        int[] from = new int[m];
+        int[] to = new int[m];
+        for (int k = 0; k < m; k++) {
+            assert edges[k].length == 2;
+            from[k] = edges[k][0];
+            to[k] = edges[k][1];
+        }
+        CompressedSparseRows succs = new CompressedSparseRows(model.getEnvironment(), n, from, to);
+        CompressedSparseRows preds = new CompressedSparseRows(model.getEnvironment(), n, to, from);
+        predecessors = new ISet[n];
+        successors = new ISet[n];
+        for (int i = 0; i < n; i++) {
+            predecessors[i] = preds.makeRow(i);
+            successors[i] = succs.makeRow(i);
+        }
+        this.nodes = SetFactory.makeStoredSet(nodeSetType, 0, model);
+        for (int i : nodes) {
+            this.nodes.add(i);
+        }
+        for (int k = 0; k < m; k++) {
+            this.nodes.add(from[k]);
+            this.nodes.add(to[k]);
+        }
+    }
+
     /**
      * Construct a read-only copy of another graph
      * @param g the graph to copy
@@ -13,6 +13,8 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
 
@@ -135,6 +137,8 @@ public class GraphFactory {
 
     /**
      * Return a stored undirected graph with a given set of nodes and edges.
+     * If <code>edgeSetType</code> is {@link SetType#CSR}, edges are stored in a compressed sparse row structure
+     * and no new edge can be added to the graph afterwards.
      * @param model The choco model
      * @param n the maximum number of nodes
      * @param nodeSetType set type for storing nodes
@@ -144,6 +148,9 @@ public class GraphFactory {
      * @return a stored undirected graph with a nodes from `nodes` and edges from `edges`.
      */
     public static UndirectedGraph makeStoredUndirectedGraph(Model model, int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, int[][] edges) {
+        if (edgeSetType == SetType.CSR) {
+            return new UndirectedGraph(model, n, nodeSetType, nodes, edges);
+        }
         UndirectedGraph g = makeStoredUndirectedGraph(model, n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
@@ -157,6 +164,8 @@ public class GraphFactory {
 
     /**
      * Return a stored undirected graph with a given set of nodes and edges.
+     * If <code>edgeSetType</code> is {@link SetType#CSR}, edges are stored in a compressed sparse row structure
+     * and no new edge can be added to the graph afterwards.
      * @param model The choco model
      * @param n the maximum number of nodes
      * @param nodeSetType set type for storing nodes
@@ -166,6 +175,9 @@ public class GraphFactory {
      * @return a stored undirected graph with a nodes from `nodes` and edges from `edges`.
      */
     public static UndirectedGraph makeStoredUndirectedGraph(Model model, int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, boolean[][] adjacencyMatrix) {
+        if (edgeSetType == SetType.CSR) {
+            return new UndirectedGraph(model, n, nodeSetType, nodes, adjacencyMatrixToEdges(adjacencyMatrix, false));
+        }
         UndirectedGraph g = makeStoredUndirectedGraph(model, n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
@@ -183,6 +195,8 @@ public class GraphFactory {
 
     /**
      * Return a stored directed graph with a given set of nodes and edges.
+     * If <code>edgeSetType</code> is {@link SetType#CSR}, edges are stored in a compressed sparse row structure
+     * and no new edge can be added to the graph afterwards.
      * @param model The choco model
      * @param n the maximum number of nodes
      * @param nodeSetType set type for storing nodes
@@ -192,6 +206,9 @@ public class GraphFactory {
      * @return a stored directed graph with a nodes from `nodes` and edges from `edges`.
      */
     public static DirectedGraph makeStoredDirectedGraph(Model model, int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, int[][] edges) {
+        if (edgeSetType == SetType.CSR) {
+            return new DirectedGraph(model, n, nodeSetType, nodes, edges);
+        }
         DirectedGraph g = makeStoredDirectedGraph(model, n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
@@ -214,6 +231,9 @@ public class GraphFactory {
      * @return a stored directed graph with a nodes from `nodes` and edges from `edges`.
      */
     public static DirectedGraph makeStoredDirectedGraph(Model model, int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, boolean[][] adjacencyMatrix) {
+        if (edgeSetType == SetType.CSR) {
+            return new DirectedGraph(model, n, nodeSetType, nodes, adjacencyMatrixToEdges(adjacencyMatrix, true));
+        }
         DirectedGraph g = makeStoredDirectedGraph(model, n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
@@ -601,4 +621,23 @@ public class GraphFactory {
         return edges;
     }
 
+    /**
+     * Convert an adjacency matrix into a list of edges.
+     * @param adjacencyMatrix The adjacency (boolean) matrix
+     * @param directed if false, only the upper triangle of the matrix is read
+     * @return the list of edges (in the form { {start, end}, ...}
+     */
+    private static int[][] adjacencyMatrixToEdges(boolean[][] adjacencyMatrix, boolean directed) {
+        int n = adjacencyMatrix.length;
+        List<int[]> edges = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            for (int j = directed ? 0 : i; j < n; j++) {
+                if (adjacencyMatrix[i][j]) {
+                    edges.add(new int[]{i, j});
+                }
+            }
+        }
+        return edges.toArray(new int[0][]);
+    }
+
 }
@@ -14,6 +14,7 @@ import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.csr.CompressedSparseRows;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetDifference;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetIntersection;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetUnion;
@@ -123,6 +124,45 @@ public class UndirectedGraph implements IGraph {
         this(n, SetType.BITSET, edgeSetType, allNodes);
     }
 
+    /**
+     * Creates a backtrackable undirected graph whose neighbors are stored in a compressed sparse row structure,
+     * built once for all from the given edges (see {@link SetType#CSR}).
+     * Such a graph is meant to be a static envelope, as the upper bound of a graph variable:
+     * nodes and edges can be removed (and are restored upon backtrack), but no new edge can be added.
+     * Its memory footprint only depends on the number of edges.
+     *
+     * @param model       model providing the backtracking environment
+     * @param n           max number of nodes
+     * @param nodeSetType data structure storing for nodes
+     * @param nodes       initial nodes of the graph, endpoints of the edges are added too
+     * @param edges       edges of the graph (in the form { {x, y}, ...})
+     */
+    public UndirectedGraph(Model model, int n, SetType nodeSetType, int[] nodes, int[][] edges) {
+        this.edgeSetType = SetType.CSR;
+        this.nodeSetType = nodeSetType;
+        this.n = n;
+        int m = edges.length;
+        int[] tails = new int[2 * m];
+        int[] heads = new int[2 * m];
+        for (int k = 0; k < m; k++) {
+            assert edges[k].length == 2;
+            tails[k] = heads[m + k] = edges[k][0];
+            heads[k] = tails[m + k] = edges[k][1];
+        }
+        CompressedSparseRows rows = new CompressedSparseRows(model.getEnvironment(), n, tails, heads);
+        neighbors = new ISet[n];
+        for (int i = 0; i < n; i++) {
+            neighbors[i] = rows.makeRow(i);
+        }
+        this.nodes = SetFactory.makeStoredSet(this.nodeSetType, 0, model);
+        for (int i : nodes) {
+            this.nodes.add(i);
+        }
+        for (int k = 0; k < 2 * m; k++) {
+            this.nodes.add(tails[k]);
+        }
+    }
+
     /**
      * Construct a read-only copy of another graph
      * @param g the graph to copy
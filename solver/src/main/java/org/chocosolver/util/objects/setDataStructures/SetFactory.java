@@ -90,6 +90,7 @@ public class SetFactory {
                 return makeBitSet(offSet);
             case FIXED_ARRAY: throw new UnsupportedOperationException("Please use makeConstantSet method to create a "+SetType.FIXED_ARRAY+" set");
             case FIXED_INTERVAL: throw new UnsupportedOperationException("Please use makeConstantSet method to create a "+SetType.FIXED_INTERVAL+" set");
+            case CSR: throw new UnsupportedOperationException("Please use GraphFactory methods with edges to create a graph whose edges are stored as "+SetType.CSR);
             default:throw new UnsupportedOperationException("Unsupported SetType "+type);
         }
     }
@@ -18,5 +18,6 @@ public enum SetType {
 	FIXED_INTERVAL,
 	RANGESET,
     DYNAMIC,
+	CSR,
 }
 
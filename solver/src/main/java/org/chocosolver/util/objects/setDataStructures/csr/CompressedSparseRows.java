@@ -0,0 +1,264 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.csr;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.memory.IStateLongArray;
+
+import java.util.Arrays;
+
+/**
+ * Compressed sparse row storage of a family of sets of integers, typically the adjacency lists of a graph.
+ * <p>
+ * The content of all the rows is given on creation and is stored once for all in two flat arrays:
+ * <i>offsets</i>, such that the (sorted) elements of row <i>x</i> are in <i>targets</i>[<i>offsets</i>[x],
+ * <i>offsets</i>[x+1]).
+ * Each entry of <i>targets</i> is called a slot.
+ * Elements can then be removed from (and put back in) their row, which is recorded in a backtrackable bitmap
+ * with one bit per slot, and the number of remaining elements of each row is maintained in a backtrackable vector.
+ * <br/>
+ * Compared with one stored set per row, the memory footprint only depends on the number of slots,
+ * and iterating over a row reads contiguous memory.
+ * </p>
+ *
+ * @author agent
+ * @see Set_CSR
+ * @since 17/10/2026
+ */
+public class CompressedSparseRows {
+
+    /**
+     * Elements of row x are in targets[offsets[x], offsets[x+1])
+     */
+    private final int[] offsets;
+    /**
+     * Elements of the rows, sorted in increasing order within each row
+     */
+    private final int[] targets;
+    /**
+     * One bit per slot, set iff the element in the slot still belongs to its row
+     */
+    private final IStateLongArray present;
+    /**
+     * Number of elements of each row
+     */
+    private final IStateIntVector degrees;
+
+    /**
+     * Creates a compressed sparse row storage of <i>n</i> rows,
+     * such that row <i>tails</i>[k] contains <i>heads</i>[k], for each k.
+     * Duplicates are ignored.
+     *
+     * @param environment backtracking environment
+     * @param n           number of rows
+     * @param tails       rows of the elements
+     * @param heads       elements, in [0, n-1]
+     */
+    public CompressedSparseRows(IEnvironment environment, int n, int[] tails, int[] heads) {
+        if (tails.length != heads.length) {
+            throw new IllegalArgumentException("tails and heads must have the same length");
+        }
+        offsets = new int[n + 1];
+        for (int k = 0; k < tails.length; k++) {
+            if (heads[k] < 0 || heads[k] >= n) {
+                throw new IllegalStateException("Cannot add " + heads[k] + " to a row of a CSR storage of " + n + " rows");
+            }
+            offsets[tails[k] + 1]++;
+        }
+        for (int x = 0; x < n; x++) {
+            offsets[x + 1] += offsets[x];
+        }
+        int[] slots = new int[tails.length];
+        int[] pos = Arrays.copyOf(offsets, n);
+        for (int k = 0; k < tails.length; k++) {
+            slots[pos[tails[k]]++] = heads[k];
+        }
+        // sort each row and remove duplicates, in place
+        int w = 0;
+        for (int x = 0; x < n; x++) {
+            int lo = offsets[x];
+            int hi = offsets[x + 1];
+            Arrays.sort(slots, lo, hi);
+            offsets[x] = w;
+            for (int s = lo; s < hi; s++) {
+                if (s == lo || slots[s] != slots[s - 1]) {
+                    slots[w++] = slots[s];
+                }
+            }
+        }
+        offsets[n] = w;
+        targets = w < slots.length ? Arrays.copyOf(slots, w) : slots;
+        present = environment.makeLongArray((w + 63) >>> 6, -1L);
+        degrees = environment.makeIntVector(n, 0);
+        for (int x = 0; x < n; x++) {
+            degrees.quickSet(x, offsets[x + 1] - offsets[x]);
+        }
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getNbRows() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return the number of slots, that is, the total number of elements the rows were created with
+     */
+    public int getNbSlots() {
+        return targets.length;
+    }
+
+    /**
+     * @param x a row
+     * @return a set view of row <i>x</i>
+     */
+    public Set_CSR makeRow(int x) {
+        return new Set_CSR(this, x);
+    }
+
+    /**
+     * @param x a row
+     * @return the first slot of row <i>x</i>
+     */
+    int start(int x) {
+        return offsets[x];
+    }
+
+    /**
+     * @param x a row
+     * @return the last slot of row <i>x</i>
+     */
+    int end(int x) {
+        return offsets[x + 1] - 1;
+    }
+
+    /**
+     * @param x a row
+     * @param e an element
+     * @return the slot of <i>e</i> in row <i>x</i>, or -1 if <i>e</i> was not in row <i>x</i> on creation
+     */
+    int slot(int x, int e) {
+        int s = Arrays.binarySearch(targets, offsets[x], offsets[x + 1], e);
+        return s >= 0 ? s : -1;
+    }
+
+    /**
+     * @param s a slot
+     * @return the element in slot <i>s</i>
+     */
+    int target(int s) {
+        return targets[s];
+    }
+
+    /**
+     * @param s a slot
+     * @return true iff the element in slot <i>s</i> still belongs to its row
+     */
+    boolean isPresent(int s) {
+        return (present.get(s >>> 6) & (1L << s)) != 0;
+    }
+
+    /**
+     * @param x a row
+     * @return the current number of elements of row <i>x</i>
+     */
+    int degree(int x) {
+        return degrees.quickGet(x);
+    }
+
+    /**
+     * Removes the element in slot <i>s</i>, which is present, from row <i>x</i>
+     */
+    void delete(int x, int s) {
+        present.andNot(s >>> 6, 1L << s);
+        degrees.quickSet(x, degrees.quickGet(x) - 1);
+    }
+
+    /**
+     * Puts back the element in slot <i>s</i>, which is absent, in row <i>x</i>
+     */
+    void restore(int x, int s) {
+        present.or(s >>> 6, 1L << s);
+        degrees.quickSet(x, degrees.quickGet(x) + 1);
+    }
+
+    /**
+     * Removes all the elements of row <i>x</i>
+     */
+    void clear(int x) {
+        int lo = offsets[x];
+        int hi = offsets[x + 1];
+        if (lo < hi) {
+            for (int w = lo >>> 6; w <= (hi - 1) >>> 6; w++) {
+                long mask = -1L;
+                if (w == lo >>> 6) {
+                    mask &= -1L << lo;
+                }
+                if (w == (hi - 1) >>> 6) {
+                    mask &= -1L >>> -hi;
+                }
+                present.andNot(w, mask);
+            }
+        }
+        degrees.quickSet(x, 0);
+    }
+
+    /**
+     * @param x    a row
+     * @param from a slot
+     * @return the first slot of row <i>x</i>, greater or equal than <i>from</i>, whose element is present,
+     * or -1 if there is none
+     */
+    int nextSlot(int x, int from) {
+        int hi = offsets[x + 1];
+        if (from >= hi) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long word = present.get(w) & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int s = (w << 6) + Long.numberOfTrailingZeros(word);
+                return s < hi ? s : -1;
+            }
+            if (++w << 6 >= hi) {
+                return -1;
+            }
+            word = present.get(w);
+        }
+    }
+
+    /**
+     * @param x    a row
+     * @param from a slot
+     * @return the last slot of row <i>x</i>, less or equal than <i>from</i>, whose element is present,
+     * or -1 if there is none
+     */
+    int prevSlot(int x, int from) {
+        int lo = offsets[x];
+        if (from < lo) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long word = present.get(w) & (-1L >>> -(from + 1));
+        while (true) {
+            if (word != 0) {
+                int s = (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+                return s >= lo ? s : -1;
+            }
+            if (w-- << 6 <= lo) {
+                return -1;
+            }
+            word = present.get(w);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.csr;
+
+import org.chocosolver.util.objects.setDataStructures.AbstractSet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+
+/**
+ * Backtrackable set of integers, stored as a row of a {@link CompressedSparseRows}.
+ * Its possible elements are fixed on creation of the storage:
+ * elements can be removed and added back, but no new element can be added.
+ * Elements are iterated in increasing order.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class Set_CSR extends AbstractSet {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final CompressedSparseRows rows;
+    private final int row;
+    private ISetIterator iter;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Creates a set view of row <i>row</i> of <i>rows</i>
+     *
+     * @param rows the compressed sparse row storage
+     * @param row  index of the row
+     */
+    Set_CSR(CompressedSparseRows rows, int row) {
+        this.rows = rows;
+        this.row = row;
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public boolean add(int element) {
+        int s = rows.slot(row, element);
+        if (s < 0) {
+            throw new UnsupportedOperationException("Cannot add " + element + " to Set_CSR: it does not belong to its envelope");
+        }
+        if (rows.isPresent(s)) {
+            return false;
+        }
+        rows.restore(row, s);
+        notifyObservingElementAdded(element);
+        return true;
+    }
+
+    @Override
+    public boolean remove(int element) {
+        int s = rows.slot(row, element);
+        if (s >= 0 && rows.isPresent(s)) {
+            rows.delete(row, s);
+            notifyObservingElementRemoved(element);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(int element) {
+        int s = rows.slot(row, element);
+        return s >= 0 && rows.isPresent(s);
+    }
+
+    @Override
+    public int size() {
+        return rows.degree(row);
+    }
+
+    @Override
+    public void clear() {
+        rows.clear(row);
+        notifyObservingCleared();
+    }
+
+    @Override
+    public SetType getSetType() {
+        return SetType.CSR;
+    }
+
+    @Override
+    public int min() {
+        if (isEmpty()) throw new IllegalStateException("cannot find minimum of an empty set");
+        return rows.target(rows.nextSlot(row, rows.start(row)));
+    }
+
+    @Override
+    public int max() {
+        if (isEmpty()) throw new IllegalStateException("cannot find maximum of an empty set");
+        return rows.target(rows.prevSlot(row, rows.end(row)));
+    }
+
+    //***********************************************************************************
+    // ITERATOR
+    //***********************************************************************************
+
+    @Override
+    public ISetIterator iterator() {
+        if (iter == null) {
+            // lazily created, there may be many rows
+            iter = newIterator();
+        }
+        iter.reset();
+        return iter;
+    }
+
+    @Override
+    public ISetIterator newIterator() {
+        return new ISetIterator() {
+            private int current = rows.start(row) - 1;
+
+            @Override
+            public void reset() {
+                current = rows.start(row) - 1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return rows.nextSlot(row, current + 1) >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                current = rows.nextSlot(row, current + 1);
+                return rows.target(current);
+            }
+        };
+    }
+}
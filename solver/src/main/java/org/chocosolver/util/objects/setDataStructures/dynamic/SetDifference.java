@@ -48,7 +48,7 @@ public class SetDifference extends AbstractSet {
     public SetDifference(ISet setA, ISet setB, SetType setType, int offset) {
         this.setA = setA;
         this.setB = setB;
-        if (setType == SetType.FIXED_ARRAY || setType == SetType.FIXED_INTERVAL) {
+        if (setType == SetType.FIXED_ARRAY || setType == SetType.FIXED_INTERVAL || setType == SetType.CSR) {
             this.values = SetFactory.makeRangeSet();
         } else {
             this.values = SetFactory.makeSet(setType, offset);
@@ -77,7 +77,11 @@ public class SetDifference extends AbstractSet {
     public SetDifference(Model model, ISet setA, ISet setB, SetType setType, int offset) {
         this.setA = setA;
         this.setB = setB;
-        this.values = SetFactory.makeStoredSet(setType, offset, model);
+        if (setType == SetType.CSR) {
+            this.values = SetFactory.makeStoredSet(SetType.RANGESET, 0, model);
+        } else {
+            this.values = SetFactory.makeStoredSet(setType, offset, model);
+        }
         init();
     }
 
@@ -37,7 +37,11 @@ public class SetIntersection extends AbstractSet {
      */
     public SetIntersection(SetType setType, int offset, ISet... sets) {
         this.sets = sets;
-        this.values = SetFactory.makeSet(setType, offset);
+        if (setType == SetType.CSR) {
+            this.values = SetFactory.makeRangeSet();
+        } else {
+            this.values = SetFactory.makeSet(setType, offset);
+        }
         init();
     }
 
@@ -53,7 +57,11 @@ public class SetIntersection extends AbstractSet {
      */
     public SetIntersection(Model model, SetType setType, int offset, ISet... sets) {
         this.sets = sets;
-        this.values = SetFactory.makeStoredSet(setType, offset, model);
+        if (setType == SetType.CSR) {
+            this.values = SetFactory.makeStoredSet(SetType.RANGESET, 0, model);
+        } else {
+            this.values = SetFactory.makeStoredSet(setType, offset, model);
+        }
         init();
     }
 
@@ -0,0 +1,219 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.lp;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class RevisedSimplexTest {
+
+    private static RevisedSimplex make(double[][] A, double[] b, double[] c) {
+        RevisedSimplex lp = new RevisedSimplex();
+        lp.makeVariables(c.length);
+        int[] vars = new int[c.length];
+        for (int j = 0; j < c.length; j++) {
+            vars[j] = j;
+        }
+        for (int i = 0; i < b.length; i++) {
+            lp.addLeq(vars, A[i], b[i]);
+        }
+        lp.setObjective(true, c);
+        return lp;
+    }
+
+    @Test(groups = "1s")
+    public void testInfeasible() {
+        double[] c = {3, -2};
+        double[][] A = {{1, 1}, {-2, -2}};
+        double[] b = {2, -10};
+        RevisedSimplex lp = make(A, b, c);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.INFEASIBLE);
+        Assert.assertEquals(lp.objective(), Double.NEGATIVE_INFINITY, 1e-8);
+    }
+
+    @Test(groups = "1s")
+    public void testUnbounded() {
+        double[] c = {1, -1};
+        double[][] A = {{-2, 1}, {-1, -2}};
+        double[] b = {-1, -2};
+        RevisedSimplex lp = make(A, b, c);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.UNBOUNDED);
+    }
+
+    @Test(groups = "1s")
+    public void testFeasible01() {
+        // 29.3-7
+        double[] c = {-1, -1, -1};
+        double[][] A = {
+                {-2, -7.5, -3},
+                {-20, -5, -10}
+        };
+        double[] b = {-10000, -30000};
+        RevisedSimplex lp = make(A, b, c);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), -2250, 1e-8);
+        Assert.assertEquals(lp.value(0), 1250, 1e-8);
+        Assert.assertEquals(lp.value(1), 1000, 1e-8);
+        Assert.assertEquals(lp.value(2), 0, 1e-8);
+    }
+
+    @Test(groups = "1s")
+    public void testFeasible1() {
+        double[] c = new double[]{3, 1, 2};
+        double[][] A = new double[][]{
+                {1, 1, 3},
+                {2, 2, 5},
+                {4, 1, 2}
+        };
+        double[] b = new double[]{30, 24, 36};
+        RevisedSimplex lp = make(A, b, c);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 8., 1e-8);
+        Assert.assertEquals(lp.value(1), 4., 1e-8);
+        Assert.assertEquals(lp.value(2), 0., 1e-8);
+        Assert.assertEquals(lp.objective(), 28., 1e-8);
+        Assert.assertEquals(lp.rowActivity(2), 36., 1e-8);
+    }
+
+    @Test(groups = "1s")
+    public void testFeasible6() {
+        // 29.5-5
+        double[] c = {1, 3};
+        double[][] A = {
+                {1, -1},
+                {-1, -1},
+                {-1, 4}
+        };
+        double[] b = {8, -3, 2};
+        RevisedSimplex lp = make(A, b, c);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 11.333333333333334, 1e-8);
+        Assert.assertEquals(lp.value(1), 3.3333333333333335, 1e-8);
+        Assert.assertEquals(lp.objective(), 21.333333333333336, 1e-8);
+    }
+
+    @Test(groups = "1s")
+    public void testBoundsAndRanges() {
+        RevisedSimplex lp = new RevisedSimplex();
+        int x = lp.makeVariable(-5, 5);
+        int y = lp.makeVariable(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        lp.addRow(new int[]{x, y}, new double[]{1, 1}, 2, 4);
+        lp.addEq(new int[]{x, y}, new double[]{1, -1}, 1);
+        lp.setObjective(false, new double[]{1, 2});
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(x), 1.5, 1e-8);
+        Assert.assertEquals(lp.value(y), .5, 1e-8);
+        Assert.assertEquals(lp.objective(), 2.5, 1e-8);
+        lp.setBounds(x, 2, 5);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(x), 2., 1e-8);
+        Assert.assertEquals(lp.value(y), 1., 1e-8);
+        lp.setBounds(x, 3, 5);
+        lp.setBounds(y, Double.NEGATIVE_INFINITY, 1.5);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.INFEASIBLE);
+    }
+
+    @Test(groups = "1s")
+    public void testDuplicates() {
+        RevisedSimplex lp = new RevisedSimplex();
+        lp.makeVariables(2);
+        lp.addLeq(new int[]{0, 1, 0}, new double[]{1, 1, 1}, 8);
+        lp.setObjective(true, new double[]{1, 1});
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 8., 1e-8);
+        Assert.assertEquals(lp.value(0), 0., 1e-8);
+    }
+
+    @Test(groups = "1s")
+    public void testWarmStart() {
+        Random rnd = new Random(0);
+        int n = 200, m = 150;
+        RevisedSimplex lp = random(rnd, n, m);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        int[] basis = lp.getBasis();
+        double z = lp.objective();
+        for (int k = 0; k < 10; k++) {
+            int j = rnd.nextInt(n);
+            double lb = lp.getLB(j), ub = lp.getUB(j);
+            lp.setBounds(j, lb, Math.floor(lp.value(j) / 2));
+            long it = lp.getIterations();
+            LinearProgram.Status st = lp.simplex();
+            Assert.assertTrue(lp.getIterations() - it < m, "too many iterations");
+            // compare with a cold start
+            RevisedSimplex cold = random(new Random(0), n, m);
+            for (int i = 0; i < n; i++) {
+                cold.setBounds(i, lp.getLB(i), lp.getUB(i));
+            }
+            Assert.assertEquals(cold.simplex(), st);
+            Assert.assertEquals(lp.objective(), cold.objective(), 1e-6);
+            Assert.assertTrue(lp.objective() <= z + 1e-6);
+            lp.setBounds(j, lb, ub);
+        }
+        lp.setBasis(basis);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), z, 1e-6);
+    }
+
+    @Test(groups = "1s")
+    public void testAddRowAfterSolve() {
+        RevisedSimplex lp = new RevisedSimplex();
+        lp.makeVariables(2);
+        lp.addLeq(new int[]{0, 1}, new double[]{1, 1}, 50);
+        lp.addLeq(new int[]{0, 1}, new double[]{4, 7}, 280);
+        lp.setObjective(true, new double[]{5., 6.});
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 5 * 70. / 3 + 6 * 80. / 3, 1e-8);
+        // a cut
+        lp.addLeq(new int[]{1}, new double[]{1}, 26);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 24., 1e-8);
+        Assert.assertEquals(lp.value(1), 26., 1e-8);
+        Assert.assertEquals(lp.objective(), 276., 1e-8);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testLarge() {
+        RevisedSimplex lp = random(new Random(1), 3000, 2000);
+        Assert.assertEquals(lp.simplex(), LinearProgram.Status.FEASIBLE);
+        for (int i = 0; i < lp.nbRows(); i++) {
+            Assert.assertTrue(lp.rowActivity(i) <= 39 + 1e-6);
+        }
+    }
+
+    private static RevisedSimplex random(Random rnd, int n, int m) {
+        RevisedSimplex lp = new RevisedSimplex();
+        for (int j = 0; j < n; j++) {
+            lp.makeVariable(0, 10);
+        }
+        int[] vars = new int[5];
+        double[] coeffs = new double[5];
+        for (int i = 0; i < m; i++) {
+            for (int k = 0; k < 5; k++) {
+                vars[k] = rnd.nextInt(n);
+                coeffs[k] = 1 + rnd.nextInt(5);
+            }
+            lp.addLeq(vars, coeffs, 20 + rnd.nextInt(20));
+        }
+        double[] c = new double[n];
+        for (int j = 0; j < n; j++) {
+            c[j] = 1 + rnd.nextInt(10);
+        }
+        lp.setObjective(true, c);
+        return lp;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory;
+
+import org.chocosolver.memory.copying.EnvironmentCopying;
+import org.chocosolver.memory.copying.Snapshot;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p> Project: choco-solver.
+ *
+ * @author agent
+ * @since 17/10/2026.
+ */
+public class EnvironmentCopyingTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCreatedInWorld() {
+        EnvironmentCopying env = new EnvironmentCopying();
+        IStateInt a = env.makeInt(1);
+        env.worldPush();
+        a.set(2);
+        IStateInt b = env.makeInt(3);
+        b.set(4);
+        env.worldPush();
+        b.set(5);
+        env.worldPop();
+        Assert.assertEquals(a.get(), 2);
+        Assert.assertEquals(b.get(), 4);
+        env.worldPop();
+        Assert.assertEquals(a.get(), 1);
+        Assert.assertEquals(b.get(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCommit() {
+        EnvironmentCopying env = new EnvironmentCopying();
+        IStateLong a = env.makeLong(1);
+        env.worldPush();
+        a.set(2);
+        env.worldPush();
+        a.set(3);
+        env.worldCommit();
+        Assert.assertEquals(a.get(), 3);
+        env.worldPop();
+        Assert.assertEquals(a.get(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSnapshot() {
+        EnvironmentCopying env1 = new EnvironmentCopying();
+        EnvironmentCopying env2 = new EnvironmentCopying();
+        IStateInt i1 = env1.makeInt(0), i2 = env2.makeInt(0);
+        IStateBool b1 = env1.makeBool(false), b2 = env2.makeBool(false);
+        IStateDouble d1 = env1.makeFloat(0.), d2 = env2.makeFloat(0.);
+        IStateBitSet s1 = env1.makeBitSet(128), s2 = env2.makeBitSet(128);
+        env1.worldPush();
+        i1.set(7);
+        b1.set(true);
+        d1.set(.5);
+        s1.set(3);
+        s1.set(100);
+        Snapshot snapshot = env1.snapshot();
+        env1.worldPop();
+        Assert.assertEquals(i1.get(), 0);
+
+        env2.worldPush();
+        env2.restore(snapshot);
+        Assert.assertEquals(i2.get(), 7);
+        Assert.assertTrue(b2.get());
+        Assert.assertEquals(d2.get(), .5);
+        Assert.assertEquals(s2.cardinality(), 2);
+        Assert.assertTrue(s2.get(3));
+        Assert.assertTrue(s2.get(100));
+        env2.worldPop();
+        Assert.assertEquals(i2.get(), 0);
+        Assert.assertFalse(b2.get());
+        Assert.assertEquals(s2.cardinality(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = IllegalArgumentException.class)
+    public void testSnapshotMismatch() {
+        EnvironmentCopying env1 = new EnvironmentCopying();
+        EnvironmentCopying env2 = new EnvironmentCopying();
+        env1.makeInt(0);
+        env1.makeInt(0);
+        env2.makeInt(0);
+        env2.restore(env1.snapshot());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = IllegalStateException.class)
+    public void testSnapshotWithOperations() {
+        EnvironmentCopying env1 = new EnvironmentCopying();
+        EnvironmentCopying env2 = new EnvironmentCopying();
+        IStateIntVector v1 = env1.makeIntVector(2, 0);
+        env2.makeIntVector(2, 0);
+        env1.worldPush();
+        v1.set(0, 1);
+        env2.restore(env1.snapshot());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSnapshotAfterPropagation() throws ContradictionException {
+        Model m1 = queens(new EnvironmentCopying());
+        Model m2 = queens(new EnvironmentCopying());
+        IntVar[] vars1 = (IntVar[]) m1.getHook("vars");
+        m1.getEnvironment().worldPush();
+        vars1[0].instantiateTo(1, Cause.Null);
+        m1.getSolver().propagate();
+        // propagators were activated, and some made passive, which cannot be transferred
+        Snapshot snapshot = ((EnvironmentCopying) m1.getEnvironment()).snapshot();
+        Assert.assertThrows(IllegalStateException.class, () -> ((EnvironmentCopying) m2.getEnvironment()).restore(snapshot));
+        m1.getEnvironment().worldPop();
+        // neither can a snapshot be restored in a propagated model
+        Snapshot root = ((EnvironmentCopying) m2.getEnvironment()).snapshot();
+        m1.getEnvironment().worldPush();
+        m1.getSolver().getEngine().reset();
+        m1.getSolver().propagate();
+        Assert.assertThrows(IllegalStateException.class, () -> ((EnvironmentCopying) m1.getEnvironment()).restore(root));
+        m1.getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testModel() throws ContradictionException {
+        Model m1 = queens(new EnvironmentCopying());
+        Model m2 = queens(new EnvironmentCopying());
+        IntVar[] vars1 = (IntVar[]) m1.getHook("vars");
+        IntVar[] vars2 = (IntVar[]) m2.getHook("vars");
+        m1.getEnvironment().worldPush();
+        vars1[0].instantiateTo(1, Cause.Null);
+        // the state is captured before propagation, which makes some propagators passive
+        Snapshot snapshot = ((EnvironmentCopying) m1.getEnvironment()).snapshot();
+        m1.getSolver().propagate();
+        int[] sizes = new int[vars1.length];
+        for (int i = 0; i < vars1.length; i++) {
+            sizes[i] = vars1[i].getDomainSize();
+        }
+        m1.getEnvironment().worldPop();
+        m1.getSolver().getEngine().reset();
+        // the state is handed off to the second model, without replaying the decision
+        ((EnvironmentCopying) m2.getEnvironment()).restore(snapshot);
+        Assert.assertTrue(vars2[0].isInstantiatedTo(1));
+        m2.getEnvironment().worldPush();
+        m2.getSolver().propagate();
+        for (int i = 0; i < vars2.length; i++) {
+            Assert.assertEquals(vars2[i].getDomainSize(), sizes[i]);
+        }
+        m2.getEnvironment().worldPop();
+        m2.getSolver().getEngine().reset();
+        Assert.assertEquals(m2.getSolver().findAllSolutions().size(), 4);
+        Assert.assertEquals(m1.getSolver().findAllSolutions().size(), 92);
+    }
+
+    private static Model queens(IEnvironment environment) {
+        int n = 8;
+        Model model = new Model(environment, "queens");
+        IntVar[] vars = model.intVarArray("Q", n, 1, n, false);
+        model.addHook("vars", vars);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(vars[i], "!=", vars[j]).post();
+                model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                model.arithm(vars[i], "!=", vars[j], "+", k).post();
+            }
+        }
+        return model;
+    }
+}
@@ -9,8 +9,10 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.copying.EnvironmentCopying;
 import org.chocosolver.memory.structure.OneWordS32BitSet;
 import org.chocosolver.memory.structure.OneWordS64BitSet;
+import org.chocosolver.memory.structure.OperationLongArray;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
@@ -38,7 +40,9 @@ public class EnvironmentTest {
     public Object[][] env() {
         return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromIndexed().build()},
+                {new EnvironmentCopying()}
         };
     }
 
@@ -84,6 +88,56 @@ public class EnvironmentTest {
         Assert.assertEquals(prim.toString(), "10");
     }
 
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testLongArray(IEnvironment environment) {
+        checkLongArray(environment, environment.makeLongArray(4, -1L));
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testOperationLongArray(IEnvironment environment) {
+        checkLongArray(environment, new OperationLongArray(environment, 4, -1L));
+    }
+
+    private static void checkLongArray(IEnvironment environment, IStateLongArray prim) {
+        Assert.assertEquals(prim.length(), 4);
+        prim.set(0, 10L);
+        environment.worldPush();
+        Assert.assertEquals(prim.and(0, 2L), 2L);
+        Assert.assertEquals(prim.andNot(1, 1L), -2L);
+        Assert.assertEquals(prim.or(2, 1L), -1L);
+        prim.fill(2, 4, 0L);
+        environment.worldPush();
+        prim.set(0, 3L);
+        Assert.assertTrue(prim.and(new long[]{1L, 1L, 1L, 1L}, 0, 4));
+        Assert.assertEquals(prim.intersect(new long[]{0L, 1L, 1L, 1L}, 0, 4), -1);
+        Assert.assertEquals(prim.intersect(new long[]{1L, 1L, 1L, 1L}, 0, 4), 0);
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "[2, -2, 0, 0]");
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "[10, -1, -1, -1]");
+        prim.ensureCapacity(6);
+        Assert.assertEquals(prim.get(5), -1L);
+        environment.worldPush();
+        prim.set(5, 0L);
+        environment.worldPop();
+        Assert.assertEquals(prim.get(5), -1L);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLongArrayCommit() {
+        IEnvironment environment = new EnvironmentBuilder().fromFlat().build();
+        IStateLongArray prim = environment.makeLongArray(2, 0L);
+        environment.worldPush();
+        prim.set(0, 1L);
+        environment.worldPush();
+        prim.set(0, 2L);
+        prim.set(1, 2L);
+        environment.worldCommit();
+        Assert.assertEquals(prim.toString(), "[2, 2]");
+        environment.worldPop();
+        Assert.assertEquals(prim.toString(), "[0, 0]");
+    }
+
     @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
     public void testFloat(IEnvironment environment) {
         IStateDouble prim = environment.makeFloat(0.2d);
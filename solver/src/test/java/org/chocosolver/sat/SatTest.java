@@ -9,6 +9,7 @@
  */
 package org.chocosolver.sat;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.util.ESat;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -21,6 +22,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * <br/>
@@ -39,6 +41,60 @@ public class SatTest {
         Assert.assertEquals(sat.solve(), ESat.TRUE);
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPigeonHoles() {
+        int h = 7;
+        MiniSat sat = new MiniSat();
+        int[][] x = new int[h + 1][h];
+        for (int i = 0; i <= h; i++) {
+            TIntArrayList lits = new TIntArrayList();
+            for (int j = 0; j < h; j++) {
+                x[i][j] = MiniSat.makeLiteral(sat.newVariable());
+                lits.add(x[i][j]);
+            }
+            sat.addClause(lits);
+        }
+        for (int j = 0; j < h; j++) {
+            for (int i = 0; i <= h; i++) {
+                for (int k = i + 1; k <= h; k++) {
+                    sat.addClause(MiniSat.neg(x[i][j]), MiniSat.neg(x[k][j]));
+                }
+            }
+        }
+        // enough conflicts to reduce the learnt clauses and compact the arena
+        Assert.assertEquals(sat.solve(), ESat.FALSE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandomModels() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random rnd = new Random(seed);
+            int n = 100;
+            MiniSat sat = new MiniSat();
+            for (int i = 0; i < n; i++) {
+                sat.newVariable();
+            }
+            List<int[]> clauses = new ArrayList<>();
+            for (int i = 0; i < 410; i++) {
+                int[] c = new int[3];
+                for (int j = 0; j < 3; j++) {
+                    c[j] = MiniSat.makeLiteral(rnd.nextInt(n), rnd.nextBoolean());
+                }
+                clauses.add(c);
+                sat.addClause(new TIntArrayList(c));
+            }
+            if (sat.solve() == ESat.TRUE) {
+                for (int[] c : clauses) {
+                    boolean satisfied = false;
+                    for (int l : c) {
+                        satisfied |= (sat.model[MiniSat.var(l)] == MiniSat.L_TRUE) == MiniSat.sgn(l);
+                    }
+                    Assert.assertTrue(satisfied);
+                }
+            }
+        }
+    }
+
     private static final String ROOT = "/dimacs/";
     private static final String COMMENT = "#";
     private static final String DELIMITER = ",";
@@ -0,0 +1,152 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.chocosolver.solver.ModelTest.knapsack;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.minDomLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class EmbarrassinglyParallelSearchTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAllSolutions() {
+        for (int w = 1; w < 5; w++) {
+            EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+            for (int i = 0; i < w; i++) {
+                Model m = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+                m.getSolver().setSearch(minDomLBSearch((IntVar[]) m.getHook("vars")));
+                eps.addModel(m);
+            }
+            List<Solution> sols = eps.findAllSolutions();
+            Assert.assertEquals(sols.size(), 92);
+            Assert.assertTrue(eps.isSearchCompleted());
+            Assert.assertTrue(eps.getSubproblemCount() > 1);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAllSolutionsDefaultSearch() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 3; i++) {
+            eps.addModel(ProblemMaker.makeNQueenWithOneAlldifferent(8));
+        }
+        Assert.assertEquals(eps.findAllSolutions().size(), 92);
+        // a second run starts from scratch
+        Assert.assertEquals(eps.findAllSolutions().size(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOneSolution() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            eps.addModel(ProblemMaker.makeNQueenWithOneAlldifferent(12));
+        }
+        Assert.assertTrue(eps.solve());
+        Solution sol = eps.getBestSolution();
+        Assert.assertNotNull(sol);
+        // check the solution with the variables of another model
+        IntVar[] vars = (IntVar[]) eps.getModels().get(3).getHook("vars");
+        for (int i = 0; i < vars.length; i++) {
+            for (int j = i + 1; j < vars.length; j++) {
+                int vi = sol.getIntVal(vars[i]);
+                int vj = sol.getIntVal(vars[j]);
+                Assert.assertNotEquals(vi, vj);
+                Assert.assertNotEquals(Math.abs(vi - vj), j - i);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 2; i++) {
+            eps.addModel(ProblemMaker.makeNQueenWithOneAlldifferent(3));
+        }
+        Assert.assertFalse(eps.solve());
+        Assert.assertNull(eps.getBestSolution());
+        Assert.assertTrue(eps.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            eps.addModel(knapsack());
+        }
+        Assert.assertTrue(eps.solve());
+        Assert.assertEquals(eps.getBestSolutionValue(), 51);
+        Assert.assertEquals(eps.getBestSolution().getIntVal((IntVar) eps.getModels().get(0).getObjective()), 51);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGolomb() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 4; i++) {
+            Model m = ProblemMaker.makeGolombRuler(8);
+            m.getSolver().setSearch(inputOrderLBSearch((IntVar[]) m.getHook("ticks")));
+            eps.addModel(m);
+        }
+        Assert.assertTrue(eps.solve());
+        Assert.assertEquals(eps.getBestSolutionValue(), 34);
+        Assert.assertTrue(eps.isSearchCompleted());
+        Assert.assertTrue(eps.getNodeCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimeLimit() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 2; i++) {
+            Model m = ProblemMaker.makeGolombRuler(14);
+            m.getSolver().setSearch(inputOrderLBSearch((IntVar[]) m.getHook("ticks")));
+            eps.addModel(m);
+        }
+        eps.limitTime(500);
+        // a solution may not be found in time on a loaded machine
+        eps.solve();
+        Assert.assertFalse(eps.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimeLimitPerResolution() throws InterruptedException {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch();
+        for (int i = 0; i < 2; i++) {
+            Model m = ProblemMaker.makeGolombRuler(14);
+            m.getSolver().setSearch(inputOrderLBSearch((IntVar[]) m.getHook("ticks")));
+            eps.addModel(m);
+        }
+        eps.limitTime(1000);
+        // the limit is measured from the beginning of each resolution
+        Thread.sleep(1100);
+        for (int r = 0; r < 2; r++) {
+            eps.solve();
+            Assert.assertTrue(eps.getNodeCount() > 0);
+            Assert.assertFalse(eps.isSearchCompleted());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoModel() {
+        new EmbarrassinglyParallelSearch().solve();
+    }
+}
@@ -34,7 +34,8 @@ public class EnvironmentTest {
 	public Object[][] getEnvs(){
 		return new EnvironmentTrailing[][]{
 				{new EnvironmentBuilder().fromFlat().build()},
-				{new EnvironmentBuilder().fromChunk().build()}
+				{new EnvironmentBuilder().fromChunk().build()},
+				{new EnvironmentBuilder().fromIndexed().build()}
 		};
 	}
 
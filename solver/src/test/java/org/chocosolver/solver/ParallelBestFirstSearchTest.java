@@ -0,0 +1,161 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.ModelTest.knapsack;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParallelBestFirstSearchTest {
+
+    private static ParallelBestFirstSearch golomb(ParallelBestFirstSearch.Order order, int m, int workers) {
+        ParallelBestFirstSearch bfs = new ParallelBestFirstSearch(order);
+        for (int i = 0; i < workers; i++) {
+            Model model = ProblemMaker.makeGolombRuler(m);
+            model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("ticks")));
+            bfs.addModel(model);
+        }
+        return bfs;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOneSolution() {
+        ParallelBestFirstSearch bfs = new ParallelBestFirstSearch(ParallelBestFirstSearch.Order.DISCREPANCY);
+        for (int i = 0; i < 4; i++) {
+            bfs.addModel(ProblemMaker.makeNQueenWithOneAlldifferent(12));
+        }
+        Assert.assertTrue(bfs.solve());
+        Solution sol = bfs.getBestSolution();
+        IntVar[] vars = (IntVar[]) bfs.getModels().get(3).getHook("vars");
+        for (int i = 0; i < vars.length; i++) {
+            for (int j = i + 1; j < vars.length; j++) {
+                int vi = sol.getIntVal(vars[i]);
+                int vj = sol.getIntVal(vars[j]);
+                Assert.assertNotEquals(vi, vj);
+                Assert.assertNotEquals(Math.abs(vi - vj), j - i);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        ParallelBestFirstSearch bfs = new ParallelBestFirstSearch(ParallelBestFirstSearch.Order.DISCREPANCY);
+        for (int i = 0; i < 2; i++) {
+            bfs.addModel(ProblemMaker.makeNQueenWithOneAlldifferent(3));
+        }
+        Assert.assertFalse(bfs.solve());
+        Assert.assertNull(bfs.getBestSolution());
+        Assert.assertTrue(bfs.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        for (ParallelBestFirstSearch.Order order : ParallelBestFirstSearch.Order.values()) {
+            ParallelBestFirstSearch bfs = new ParallelBestFirstSearch(order);
+            for (int i = 0; i < 4; i++) {
+                bfs.addModel(knapsack());
+            }
+            Assert.assertTrue(bfs.solve());
+            Assert.assertEquals(bfs.getBestSolutionValue(), 51);
+            Assert.assertEquals(bfs.getBestSolution().getIntVal((IntVar) bfs.getModels().get(0).getObjective()), 51);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGolomb() {
+        for (ParallelBestFirstSearch.Order order : ParallelBestFirstSearch.Order.values()) {
+            ParallelBestFirstSearch bfs = golomb(order, 8, 4).setProbeLimit(100);
+            Assert.assertTrue(bfs.solve());
+            Assert.assertEquals(bfs.getBestSolutionValue(), 34);
+            Assert.assertTrue(bfs.isSearchCompleted());
+            Assert.assertTrue(bfs.getOpenNodeCount() > 1);
+            // a second run starts from scratch
+            Assert.assertTrue(bfs.solve());
+            Assert.assertEquals(bfs.getBestSolutionValue(), 34);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSpillDepthFirst() {
+        ParallelBestFirstSearch bfs = golomb(ParallelBestFirstSearch.Order.BOUND, 8, 3)
+                .setProbeLimit(0)
+                .setMaxOpenNodes(8, ParallelBestFirstSearch.SpillPolicy.DEPTH_FIRST);
+        Assert.assertTrue(bfs.solve());
+        Assert.assertEquals(bfs.getBestSolutionValue(), 34);
+        Assert.assertTrue(bfs.isSearchCompleted());
+        Assert.assertTrue(bfs.getPeakOpenNodes() <= 8 + 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSpillDiscard() {
+        ParallelBestFirstSearch bfs = golomb(ParallelBestFirstSearch.Order.BOUND, 8, 2)
+                .setProbeLimit(0)
+                .setMaxOpenNodes(2, ParallelBestFirstSearch.SpillPolicy.DISCARD);
+        bfs.solve();
+        Assert.assertFalse(bfs.isSearchCompleted());
+        if (bfs.getBestSolutionValue() != null) {
+            Assert.assertTrue(bfs.getBestSolutionValue().intValue() >= 34);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMaxDiscrepancy() {
+        ParallelBestFirstSearch bfs = new ParallelBestFirstSearch(ParallelBestFirstSearch.Order.DISCREPANCY);
+        for (int i = 0; i < 2; i++) {
+            bfs.addModel(knapsack());
+        }
+        bfs.setMaxDiscrepancy(0).setProbeLimit(0);
+        // only the leftmost branch is explored
+        bfs.solve();
+        Assert.assertFalse(bfs.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimeLimit() {
+        ParallelBestFirstSearch bfs = golomb(ParallelBestFirstSearch.Order.DISCREPANCY, 14, 2);
+        bfs.limitTime(500);
+        Assert.assertTrue(bfs.solve());
+        Assert.assertFalse(bfs.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimeLimitPerResolution() throws InterruptedException {
+        ParallelBestFirstSearch bfs = golomb(ParallelBestFirstSearch.Order.DISCREPANCY, 14, 2);
+        bfs.limitTime(500);
+        // the limit is measured from the beginning of each resolution
+        Thread.sleep(600);
+        Assert.assertTrue(bfs.solve());
+        Assert.assertTrue(bfs.solve());
+        Assert.assertFalse(bfs.isSearchCompleted());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    public void testBoundOnSatisfaction() {
+        ParallelBestFirstSearch bfs = new ParallelBestFirstSearch(ParallelBestFirstSearch.Order.BOUND);
+        bfs.addModel(ProblemMaker.makeNQueenWithOneAlldifferent(8));
+        bfs.solve();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoModel() {
+        new ParallelBestFirstSearch(ParallelBestFirstSearch.Order.DISCREPANCY).solve();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.lns.neighbors.PropagationGuidedNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.ReversePropagationGuidedNeighborhood;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.bandit.MOSS;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static java.lang.Math.ceil;
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
+import static org.chocosolver.solver.search.strategy.Search.lastConflict;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParallelLNSTest {
+
+    private static Model knapsack20() {
+        int[] capacities = {99, 1101};
+        int[] volumes = {54, 12, 47, 33, 30, 65, 56, 57, 91, 88, 77, 99, 29, 23, 39, 86, 12, 85, 22, 64};
+        int[] energies = {38, 57, 69, 90, 79, 89, 28, 70, 38, 71, 46, 41, 49, 43, 36, 68, 92, 33, 84, 90};
+        Model model = new Model();
+        int nos = 20;
+        IntVar[] objects = new IntVar[nos];
+        for (int i = 0; i < nos; i++) {
+            objects[i] = model.intVar("o_" + (i + 1), 0, (int) ceil(capacities[1] * 1. / volumes[i]), true);
+        }
+        IntVar power = model.intVar("power", 0, 99999, true);
+        IntVar scalar = model.intVar("weight", capacities[0], capacities[1], true);
+        model.scalar(objects, volumes, "=", scalar).post();
+        model.scalar(objects, energies, "=", power).post();
+        model.knapsack(objects, scalar, power, volumes, energies).post();
+        model.getSolver().setSearch(lastConflict(domOverWDegSearch(objects)));
+        model.setObjective(Model.MAXIMIZE, power);
+        model.addHook("objects", objects);
+        return model;
+    }
+
+    private static ParallelLNS knapsack20(int workers) {
+        ParallelLNS lns = new ParallelLNS();
+        for (int i = 0; i < workers; i++) {
+            Model model = knapsack20();
+            IntVar[] objects = (IntVar[]) model.getHook("objects");
+            lns.addModel(model,
+                    new RandomNeighborhood(objects, 200, i),
+                    new PropagationGuidedNeighborhood(objects, 40, 10, i),
+                    new ReversePropagationGuidedNeighborhood(objects, 40, 10, i));
+        }
+        return lns;
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testKnapsack() {
+        ParallelLNS lns = knapsack20(4);
+        lns.limitTime(3000);
+        Assert.assertTrue(lns.solve());
+        // the optimum, 8372, may not be reached in time, but the first solution should be improved
+        Model first = knapsack20();
+        Assert.assertTrue(first.getSolver().solve());
+        int value = lns.getBestSolutionValue().intValue();
+        Assert.assertTrue(value > ((IntVar) first.getObjective()).getValue());
+        Assert.assertTrue(value <= 8372);
+        Model model = lns.getModels().get(0);
+        Assert.assertEquals(lns.getBestSolution().getIntVal((IntVar) model.getObjective()), value);
+        long runs = 0;
+        for (int i = 0; i < 3; i++) {
+            runs += lns.getRunCount(i);
+            Assert.assertTrue(lns.getImprovementCount(i) <= lns.getRunCount(i));
+        }
+        Assert.assertTrue(runs > 0);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testMOSS() {
+        ParallelLNS lns = knapsack20(2).setPolicy(MOSS::new).setRestartFailLimit(30);
+        lns.limitTime(2000);
+        Assert.assertTrue(lns.solve());
+        Assert.assertTrue(lns.getBestSolutionValue().intValue() <= 8372);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testTimeLimitPerResolution() throws InterruptedException {
+        ParallelLNS lns = knapsack20(2);
+        lns.limitTime(300);
+        // the limit is measured from the beginning of each resolution
+        Thread.sleep(400);
+        Assert.assertTrue(lns.solve());
+        int value = lns.getBestSolutionValue().intValue();
+        // the incumbent is kept from one resolution to the next one
+        Assert.assertTrue(lns.solve());
+        Assert.assertTrue(lns.getBestSolutionValue().intValue() >= value);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    public void testSatisfaction() {
+        ParallelLNS lns = new ParallelLNS();
+        Model model = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+        lns.addModel(model, new RandomNeighborhood((IntVar[]) model.getHook("vars"), 2, 0));
+        lns.solve();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNeighborhoodCount() {
+        ParallelLNS lns = knapsack20(1);
+        Model model = knapsack20();
+        lns.addModel(model, new RandomNeighborhood((IntVar[]) model.getHook("objects"), 200, 0));
+        lns.solve();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoModel() {
+        new ParallelLNS().solve();
+    }
+}
@@ -9,8 +9,12 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.constraints.nary.clauses.ClauseExchange;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
 import org.chocosolver.solver.search.restart.MonotonicCutoff;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
 import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -269,4 +273,85 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    private static Model pigeons(int n, long seed) {
+        Model model = new Model("pigeons");
+        IntVar[] p = model.intVarArray("p", n + 1, 1, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j <= n; j++) {
+                model.arithm(p[i], "!=", p[j]).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(randomSearch(p, seed));
+        solver.setLearningSignedClauses();
+        solver.setLubyRestart(16, new FailCounter(model, 0), 1000);
+        return model;
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testShareLearntClauses1() {
+        ParallelPortfolio pares = new ParallelPortfolio(false);
+        for (int i = 0; i < 4; i++) {
+            pares.addModel(pigeons(6, i));
+        }
+        ClauseExchange exchange = new ClauseExchange(64, 16, 16);
+        pares.shareLearntClauses(exchange);
+        Assert.assertFalse(pares.solve());
+        Assert.assertTrue(exchange.getNbPublished() > 0);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testShareLearntClauses2() {
+        for (int iter = 0; iter < 10; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio(false);
+            for (int i = 0; i < 4; i++) {
+                Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+                Solver solver = model.getSolver();
+                solver.setSearch(randomSearch(model.retrieveIntVars(true), iter * 4 + i));
+                solver.setLearningSignedClauses();
+                solver.setLubyRestart(4, new FailCounter(model, 0), 1000);
+                pares.addModel(model, i % 2 == 0);
+            }
+            pares.shareLearntClauses();
+            Assert.assertTrue(pares.solve());
+            Model finder = pares.getBestModel();
+            Assert.assertNotNull(finder);
+            Assert.assertEquals(finder.getSolver().isSatisfied(), ESat.TRUE);
+        }
+    }
+
+    private static ClauseExchange.Endpoint connect(ClauseExchange exchange, Model model) {
+        ClauseExchange.Endpoint ep = exchange.connect(model, true);
+        ((LearnSignedClauses<?>) model.getSolver().getLearner()).setClauseExchange(ep);
+        model.getSolver().plugMonitor(ep);
+        return ep;
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testShareLearntClausesOptimization() {
+        // seeds for which the sequential resolution learns clauses that pass the unit propagation check
+        for (int seed : new int[]{0, 2, 8, 10, 12}) {
+            ClauseExchange exchange = new ClauseExchange(1024, 16, 16);
+            Model[] models = new Model[2];
+            ClauseExchange.Endpoint[] eps = new ClauseExchange.Endpoint[2];
+            for (int i = 0; i < 2; i++) {
+                models[i] = knapsack();
+                Solver solver = models[i].getSolver();
+                solver.setSearch(randomSearch(models[i].retrieveIntVars(true), seed + i));
+                solver.setLearningSignedClauses();
+                solver.setLubyRestart(4, new FailCounter(models[i], 0), 1000);
+                eps[i] = connect(exchange, models[i]);
+            }
+            // the first model publishes clauses learnt under its successive bounds
+            while (models[0].getSolver().solve()) ;
+            Assert.assertEquals(models[0].getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+            // the second one has no bound yet: clauses learnt under a bound are skipped
+            eps[1].beforeRestart();
+            Assert.assertEquals(eps[1].getNbImported() + eps[1].getNbSkipped(), exchange.getNbPublished());
+            Assert.assertTrue(eps[1].getNbSkipped() > 0);
+            while (models[1].getSolver().solve()) ;
+            Assert.assertEquals(models[1].getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ScopeTest {
+
+    private static Model pigeons(int n) {
+        Model model = new Model("pigeons");
+        IntVar[] p = model.intVarArray("p", n, 1, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                model.arithm(p[i], "!=", p[j]).post();
+            }
+        }
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPushPop() {
+        Model model = pigeons(4);
+        IntVar[] p = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(p));
+        int nbCstrs = model.getNbCstrs();
+        Assert.assertEquals(solver.findAllSolutions().size(), 24);
+        solver.pushScope();
+        model.arithm(p[0], "=", 1).post();
+        Assert.assertEquals(solver.findAllSolutions().size(), 6);
+        solver.pushScope();
+        model.arithm(p[1], "<", p[2]).post();
+        Assert.assertEquals(solver.findAllSolutions().size(), 3);
+        Assert.assertEquals(solver.getNbScopes(), 2);
+        solver.popScope();
+        Assert.assertEquals(solver.findAllSolutions().size(), 6);
+        solver.popScope();
+        Assert.assertEquals(model.getNbCstrs(), nbCstrs);
+        Assert.assertEquals(solver.getNbScopes(), 0);
+        Assert.assertEquals(solver.findAllSolutions().size(), 24);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPushBeforeSolving() {
+        Model model = pigeons(4);
+        IntVar[] p = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.pushScope();
+        model.arithm(p[3], ">", 4).post();
+        Assert.assertFalse(solver.solve());
+        solver.popScope();
+        Assert.assertTrue(solver.solve());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testUnpostBelowScope() {
+        Model model = pigeons(4);
+        Constraint c = model.getCstrs()[0];
+        model.getSolver().pushScope();
+        model.unpost(c);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testPopWithoutPush() {
+        Model model = pigeons(4);
+        model.getSolver().popScope();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLearntClauses() {
+        Model model = pigeons(6);
+        IntVar[] p = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(p));
+        solver.setLearningSignedClauses();
+        solver.pushScope();
+        for (IntVar v : p) {
+            model.arithm(v, "<", 6).post();
+        }
+        Assert.assertFalse(solver.solve());
+        Assert.assertTrue(solver.getFailCount() > 0);
+        solver.popScope(false, false);
+        Assert.assertEquals(model.getClauseConstraint().getClauseStore().getNbLearntClauses(), 0);
+        Assert.assertTrue(solver.solve());
+        Assert.assertEquals(solver.isSatisfied(), ESat.TRUE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHeuristics() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        IntVar[] q = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(domOverWDegSearch(q));
+        for (int i = 0; i < 8; i++) {
+            solver.pushScope();
+            model.arithm(q[0], "=", i + 1).post();
+            model.arithm(q[7], "=", 8 - i).post();
+            int nb = solver.findAllSolutions().size();
+            solver.popScope(true, i % 2 == 0);
+            Model check = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+            IntVar[] r = check.retrieveIntVars(true);
+            check.arithm(r[0], "=", i + 1).post();
+            check.arithm(r[7], "=", 8 - i).post();
+            Assert.assertEquals(nb, check.getSolver().findAllSolutions().size());
+        }
+        Assert.assertEquals(solver.findAllSolutions().size(), 92);
+    }
+}
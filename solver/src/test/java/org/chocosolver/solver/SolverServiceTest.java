@@ -0,0 +1,87 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class SolverServiceTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testManyJobs() throws Exception {
+        try (SolverService service = new SolverService().setYieldPeriod(1)) {
+            List<CompletableFuture<Solution>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(service.submit(ProblemMaker.makeNQueenWithOneAlldifferent(8 + i % 4),
+                        Solver::findSolution, 30_000));
+            }
+            for (CompletableFuture<Solution> future : futures) {
+                Assert.assertNotNull(future.get());
+            }
+            Assert.assertEquals(service.getCompletedJobCount(), 64);
+            Assert.assertEquals(service.getExpiredJobCount(), 0);
+            Assert.assertEquals(service.getPendingJobCount(), 0);
+            Assert.assertTrue(service.getSolveLatency(50) > 0);
+            Assert.assertTrue(service.getSolveLatency(50) <= service.getSolveLatency(99));
+            Assert.assertTrue(service.getQueueLatency(50) <= service.getQueueLatency(100));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDeadline() throws Exception {
+        try (SolverService service = new SolverService()) {
+            Model model = ProblemMaker.makeGolombRuler(14);
+            model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("ticks")));
+            Solution solution = service.submit(model,
+                    s -> s.findOptimalSolution((IntVar) model.getObjective(), false), 1000).get();
+            Assert.assertNotNull(solution);
+            Assert.assertEquals(model.getSolver().getSearchState(), SearchState.STOPPED);
+            // the deadline criterion is removed once the job is over
+            Assert.assertFalse(model.getSolver().isStopCriterionMet());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testExpired() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (SolverService service = new SolverService(executor)) {
+            Model busy = ProblemMaker.makeGolombRuler(14);
+            CompletableFuture<Solution> first = service.submit(busy,
+                    s -> s.findOptimalSolution((IntVar) busy.getObjective(), false), 300);
+            CompletableFuture<Solution> second = service.submit(ProblemMaker.makeNQueenWithOneAlldifferent(8),
+                    Solver::findSolution, 1);
+            first.get();
+            try {
+                second.get();
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof TimeoutException);
+            }
+            Assert.assertEquals(service.getExpiredJobCount(), 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.graph.connectivity;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.DirectedGraphVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.UndirectedGraphVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.GraphEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
+import org.chocosolver.util.graphOperations.connectivity.UGVarConnectivityHelper;
+import org.chocosolver.util.objects.graphs.DirectedGraph;
+import org.chocosolver.util.objects.graphs.GraphFactory;
+import org.chocosolver.util.objects.graphs.UndirectedGraph;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Compares `connected`, `nbConnectedComponents` and `stronglyConnected`, whose propagators maintain
+ * the components of the envelope incrementally, with propagators computing them from scratch:
+ * both must find the same solutions, with the same number of nodes.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DecrementalConnectivityPropagatorsTest {
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testConnected() {
+        for (int seed = 0; seed < 40; seed++) {
+            long[] inc = solveUndirected(seed, 0, false);
+            long[] ref = solveUndirected(seed, 0, true);
+            Assert.assertEquals(inc, ref, "seed " + seed);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testNbConnectedComponents() {
+        for (int seed = 0; seed < 40; seed++) {
+            for (int nb = 1; nb <= 3; nb++) {
+                long[] inc = solveUndirected(seed, nb, false);
+                long[] ref = solveUndirected(seed, nb, true);
+                Assert.assertEquals(inc, ref, "seed " + seed + ", nb " + nb);
+            }
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testStronglyConnected() {
+        for (int seed = 0; seed < 40; seed++) {
+            long[] inc = solveDirected(seed, false);
+            long[] ref = solveDirected(seed, true);
+            Assert.assertEquals(inc, ref, "seed " + seed);
+        }
+    }
+
+    /**
+     * Enumerates the solutions of connected(g) if nb is 0, of nbConnectedComponents(g, [0, nb]) otherwise
+     *
+     * @return the number of solutions and the number of nodes
+     */
+    private static long[] solveUndirected(int seed, int nb, boolean fromScratch) {
+        Random rnd = new Random(seed);
+        int n = 6;
+        Model model = new Model();
+        UndirectedGraph LB = GraphFactory.makeStoredUndirectedGraph(model, n, SetType.BITSET, SetType.BITSET);
+        UndirectedGraph UB = GraphFactory.makeStoredUndirectedGraph(model, n, SetType.BITSET, SetType.BITSET);
+        for (int i = 0; i < n; i++) {
+            UB.addNode(i);
+            if (rnd.nextInt(3) == 0) {
+                LB.addNode(i);
+            }
+            for (int j = i + 1; j < n; j++) {
+                if (rnd.nextInt(2) == 0) {
+                    UB.addEdge(i, j);
+                }
+            }
+        }
+        UndirectedGraphVar g = model.graphVar("g", LB, UB);
+        if (nb == 0) {
+            if (fromScratch) {
+                new Constraint("connected", new PropConnectedFromScratch(g)).post();
+            } else {
+                model.connected(g).post();
+            }
+        } else {
+            IntVar k = model.intVar("k", 0, nb);
+            if (fromScratch) {
+                new Constraint("NbCC", new PropNbCCFromScratch(g, k)).post();
+            } else {
+                model.nbConnectedComponents(g, k).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        while (solver.solve()) ;
+        return new long[]{solver.getSolutionCount(), solver.getNodeCount()};
+    }
+
+    /**
+     * Enumerates the solutions of stronglyConnected(g)
+     *
+     * @return the number of solutions and the number of nodes
+     */
+    private static long[] solveDirected(int seed, boolean fromScratch) {
+        Random rnd = new Random(seed);
+        int n = 5;
+        Model model = new Model();
+        DirectedGraph LB = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, SetType.BITSET);
+        DirectedGraph UB = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, SetType.BITSET);
+        for (int i = 0; i < n; i++) {
+            UB.addNode(i);
+            if (rnd.nextInt(3) == 0) {
+                LB.addNode(i);
+            }
+            for (int j = 0; j < n; j++) {
+                if (i != j && rnd.nextInt(5) < 2) {
+                    UB.addEdge(i, j);
+                }
+            }
+        }
+        DirectedGraphVar g = model.digraphVar("g", LB, UB);
+        if (fromScratch) {
+            new Constraint("NbSCC", new PropNbSCCFromScratch(g, model.intVar(1))).post();
+        } else {
+            model.stronglyConnected(g).post();
+        }
+        Solver solver = model.getSolver();
+        while (solver.solve()) ;
+        return new long[]{solver.getSolutionCount(), solver.getNodeCount()};
+    }
+
+    /**
+     * Same filtering as PropConnected, the envelope being explored from scratch
+     */
+    private static class PropConnectedFromScratch extends Propagator<UndirectedGraphVar> {
+
+        private final UndirectedGraphVar g;
+        private final BitSet visited;
+        private final UGVarConnectivityHelper helper;
+
+        PropConnectedFromScratch(UndirectedGraphVar g) {
+            super(new UndirectedGraphVar[]{g}, PropagatorPriority.LINEAR, false);
+            this.g = g;
+            this.visited = new BitSet(g.getNbMaxNodes());
+            this.helper = new UGVarConnectivityHelper(g);
+        }
+
+        @Override
+        public int getPropagationConditions(int vIdx) {
+            return GraphEventType.REMOVE_EDGE.getMask() + GraphEventType.ADD_NODE.getMask() + GraphEventType.REMOVE_NODE.getMask();
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            if (g.getPotentialNodes().size() <= 1) {
+                setPassive();
+                return;
+            }
+            if (g.getMandatoryNodes().size() > 0) {
+                visited.clear();
+                helper.exploreFrom(g.getMandatoryNodes().iterator().next(), visited);
+                for (int o : g.getPotentialNodes()) {
+                    if (!visited.get(o)) {
+                        g.removeNode(o, this);
+                    }
+                }
+                helper.computeMandatoryArticulationPointsAndBridges();
+                for (int ap : helper.getArticulationPoints()) {
+                    g.enforceNode(ap, this);
+                }
+                for (int[] bridge : helper.getBridges()) {
+                    g.enforceEdge(bridge[0], bridge[1], this);
+                }
+            }
+        }
+
+        @Override
+        public ESat isEntailed() {
+            if (g.getPotentialNodes().size() <= 1) {
+                return ESat.TRUE;
+            }
+            if (g.getMandatoryNodes().size() < 2) {
+                return ESat.UNDEFINED;
+            }
+            visited.clear();
+            helper.exploreFrom(g.getMandatoryNodes().iterator().next(), visited);
+            for (int i : g.getMandatoryNodes()) {
+                if (!visited.get(i)) {
+                    return ESat.FALSE;
+                }
+            }
+            return g.isInstantiated() ? ESat.TRUE : ESat.UNDEFINED;
+        }
+    }
+
+    /**
+     * Same filtering as PropNbCC, the envelope being explored from scratch
+     */
+    private static class PropNbCCFromScratch extends Propagator<Variable> {
+
+        private final UndirectedGraphVar g;
+        private final IntVar k;
+        private final UGVarConnectivityHelper helper;
+        private final BitSet visitedMin, visitedMax;
+        private final int[] fifo, ccOf;
+
+        PropNbCCFromScratch(UndirectedGraphVar g, IntVar k) {
+            super(new Variable[]{g, k}, PropagatorPriority.LINEAR, false);
+            this.g = g;
+            this.k = k;
+            this.helper = new UGVarConnectivityHelper(g);
+            this.visitedMin = new BitSet(g.getNbMaxNodes());
+            this.visitedMax = new BitSet(g.getNbMaxNodes());
+            this.fifo = new int[g.getNbMaxNodes()];
+            this.ccOf = new int[g.getNbMaxNodes()];
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            k.updateBounds(0, g.getPotentialNodes().size(), this);
+            if (k.getUB() == 0) {
+                for (int i : g.getPotentialNodes()) g.removeNode(i, this);
+                return;
+            }
+            int min = 0;
+            visitedMin.clear();
+            for (int i : g.getMandatoryNodes()) {
+                if (!visitedMin.get(i)) {
+                    helper.exploreFrom(i, visitedMin);
+                    min++;
+                }
+            }
+            int max = 0;
+            visitedMax.clear();
+            for (int i : g.getMandatoryNodes()) {
+                if (!visitedMax.get(i)) {
+                    exploreLBFrom(i);
+                    max++;
+                }
+            }
+            max += g.getPotentialNodes().size() - g.getMandatoryNodes().size();
+            k.updateLowerBound(min, this);
+            k.updateUpperBound(max, this);
+            if (min != max) {
+                if (k.getUB() == min) {
+                    for (int o : g.getPotentialNodes()) {
+                        if (!visitedMin.get(o)) {
+                            g.removeNode(o, this);
+                        }
+                    }
+                    helper.computeMandatoryArticulationPointsAndBridges();
+                    for (int ap : helper.getArticulationPoints()) {
+                        g.enforceNode(ap, this);
+                    }
+                    for (int[] bridge : helper.getBridges()) {
+                        g.enforceEdge(bridge[0], bridge[1], this);
+                    }
+                } else if (k.getLB() == max) {
+                    ISet mNodes = g.getMandatoryNodes();
+                    for (int i : g.getPotentialNodes()) {
+                        if (!mNodes.contains(i)) {
+                            for (int j : g.getPotentialNeighborsOf(i)) {
+                                g.removeEdge(i, j, this);
+                            }
+                            g.enforceNode(i, this);
+                        }
+                    }
+                    for (int i : g.getPotentialNodes()) {
+                        for (int j : g.getPotentialNeighborsOf(i)) {
+                            if (ccOf[i] != ccOf[j]) {
+                                g.removeEdge(i, j, this);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private void exploreLBFrom(int root) {
+            int first = 0;
+            int last = 0;
+            fifo[last++] = root;
+            visitedMax.set(root);
+            ccOf[root] = root;
+            while (first < last) {
+                int i = fifo[first++];
+                for (int j : g.getMandatoryNeighborsOf(i)) {
+                    if (!visitedMax.get(j)) {
+                        visitedMax.set(j);
+                        ccOf[j] = root;
+                        fifo[last++] = j;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public ESat isEntailed() {
+            if (isCompletelyInstantiated()) {
+                int nb = 0;
+                visitedMax.clear();
+                for (int i : g.getMandatoryNodes()) {
+                    if (!visitedMax.get(i)) {
+                        exploreLBFrom(i);
+                        nb++;
+                    }
+                }
+                return ESat.eval(nb == k.getValue());
+            }
+            return ESat.UNDEFINED;
+        }
+    }
+
+    /**
+     * Same filtering as PropNbSCC, the strongly connected components of the envelope being computed from scratch
+     */
+    private static class PropNbSCCFromScratch extends Propagator<Variable> {
+
+        private final DirectedGraphVar g;
+        private final IntVar k;
+        private final StrongConnectivityFinder envCCFinder;
+        private final StrongConnectivityFinder kerCCFinder;
+
+        PropNbSCCFromScratch(DirectedGraphVar g, IntVar k) {
+            super(new Variable[]{g, k}, PropagatorPriority.LINEAR, false);
+            this.g = g;
+            this.k = k;
+            this.envCCFinder = new StrongConnectivityFinder(g.getUB());
+            this.kerCCFinder = new StrongConnectivityFinder(g.getLB());
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            k.updateLowerBound(0, this);
+            if (g.getPotentialNodes().size() == 0) {
+                k.instantiateTo(0, this);
+                return;
+            }
+            if (k.getUB() == 0) {
+                for (int i : g.getPotentialNodes()) {
+                    g.removeNode(i, this);
+                }
+                return;
+            }
+            envCCFinder.findAllSCC();
+            int ccs = envCCFinder.getNbSCC();
+            BitSet mandatory = new BitSet(ccs);
+            for (int cc = 0; cc < ccs; cc++) {
+                for (int i = envCCFinder.getSCCFirstNode(cc); i >= 0; i = envCCFinder.getNextNode(i)) {
+                    if (g.getMandatoryNodes().contains(i)) {
+                        mandatory.set(cc);
+                    }
+                }
+            }
+            int min = mandatory.cardinality();
+            kerCCFinder.findAllSCC();
+            int max = kerCCFinder.getNbSCC() + g.getPotentialNodes().size() - g.getMandatoryNodes().size();
+            k.updateLowerBound(min, this);
+            k.updateUpperBound(max, this);
+            if (k.getUB() == min && min != max) {
+                for (int cc = 0; cc < ccs; cc++) {
+                    if (!mandatory.get(cc)) {
+                        for (int i = envCCFinder.getSCCFirstNode(cc); i >= 0; i = envCCFinder.getNextNode(i)) {
+                            g.removeNode(i, this);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public ESat isEntailed() {
+            if (isCompletelyInstantiated()) {
+                kerCCFinder.findAllSCC();
+                return ESat.eval(kerCCFinder.getNbSCC() == k.getValue());
+            }
+            return ESat.UNDEFINED;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
@@ -209,4 +210,86 @@ public class CumulativeTest {
             }
         }
 	}
+
+	@Test(groups="10s", timeOut=60000)
+	public void testEdgeFinding(){
+		Cumulative.Filter[][] filters = new Cumulative.Filter[][]{
+				{Cumulative.Filter.TIME},
+				{Cumulative.Filter.TIME,Cumulative.Filter.EDGE_FINDING},
+				{Cumulative.Filter.TIME,Cumulative.Filter.EXTENDED_EDGE_FINDING},
+				{Cumulative.Filter.TIME,Cumulative.Filter.TIMETABLE_EDGE_FINDING},
+				{Cumulative.Filter.HEIGHTS,Cumulative.Filter.SWEEP,Cumulative.Filter.EDGE_FINDING,Cumulative.Filter.TIMETABLE_EDGE_FINDING}
+		};
+		for(long seed = 0; seed<20; seed++){
+			long ref = countSolutions(6, seed, true, filters[0]);
+			for(boolean g : new boolean[]{true,false}) {
+				for (int f = 1; f < filters.length; f++) {
+					Assert.assertEquals(countSolutions(6, seed, g, filters[f]), ref, "filters " + Arrays.toString(filters[f]));
+				}
+			}
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testEdgeFindingFiltering() throws ContradictionException {
+		// the task of height 1 cannot end before the one of height 2
+		Model model = new Model();
+		Task[] t = new Task[]{
+				new Task(model.intVar("s0", 0, 1), 2),
+				new Task(model.intVar("s1", 0, 10), 3)
+		};
+		IntVar[] h = new IntVar[]{model.intVar(2), model.intVar(1)};
+		model.cumulative(t, h, model.intVar(2), false, Cumulative.Filter.EDGE_FINDING).post();
+		model.getSolver().propagate();
+		Assert.assertEquals(t[1].getStart().getLB(), 1);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testExtendedEdgeFindingFiltering() throws ContradictionException {
+		// the task of height 1 cannot end before 2, so it cannot end before the one of height 2 either
+		for (Cumulative.Filter f : new Cumulative.Filter[]{Cumulative.Filter.EDGE_FINDING, Cumulative.Filter.EXTENDED_EDGE_FINDING}) {
+			Model model = new Model();
+			Task[] t = new Task[]{
+					new Task(model.intVar("s0", 2), 2),
+					new Task(model.intVar("s1", 0, 10), 3)
+			};
+			IntVar[] h = new IntVar[]{model.intVar(2), model.intVar(1)};
+			model.cumulative(t, h, model.intVar(2), false, f).post();
+			model.getSolver().propagate();
+			Assert.assertEquals(t[1].getStart().getLB(), f == Cumulative.Filter.EDGE_FINDING ? 0 : 4);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testTimeTableEdgeFindingFiltering() throws ContradictionException {
+		// the two long tasks cannot start before 2, otherwise the short one does not fit in [0,4)
+		Model model = new Model();
+		Task[] t = new Task[]{
+				new Task(model.intVar("s0", 0, 2), 2),
+				new Task(model.intVar("s1", 0, 20), 3),
+				new Task(model.intVar("s2", 0, 20), 3)
+		};
+		IntVar[] h = new IntVar[]{model.intVar(2), model.intVar(2), model.intVar(2)};
+		model.cumulative(t, h, model.intVar(2), false, Cumulative.Filter.TIMETABLE_EDGE_FINDING).post();
+		model.getSolver().propagate();
+		Assert.assertEquals(t[1].getStart().getLB(), 2);
+		Assert.assertEquals(t[2].getStart().getLB(), 2);
+	}
+
+	private static long countSolutions(int n, long seed, boolean graph, Cumulative.Filter... filters) {
+		Random rnd = new Random(seed);
+		Model model = new Model();
+		Task[] t = new Task[n];
+		IntVar[] h = new IntVar[n];
+		for (int i = 0; i < n; i++) {
+			int est = rnd.nextInt(6);
+			int d = 1 + rnd.nextInt(4);
+			t[i] = new Task(model.intVar("s" + i, est, est + 1 + rnd.nextInt(3)), d);
+			h[i] = model.intVar("h" + i, 1 + rnd.nextInt(2));
+		}
+		model.cumulative(t, h, model.intVar("capa", 2, 3), graph, filters).post();
+		Solver solver = model.getSolver();
+		solver.setSearch(randomSearch(model.retrieveIntVars(false), seed));
+		return solver.streamSolutions().count();
+	}
 }
@@ -0,0 +1,156 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DiffNTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSweepFiltering() throws ContradictionException {
+        Model model = new Model(Settings.init().setMinBoxesForSweepDiffN(0));
+        // a fixed 4x4 square and a 2x2 one which only fits on its right
+        IntVar[] x = new IntVar[]{model.intVar(1), model.intVar("x1", 0, 10)};
+        IntVar[] y = new IntVar[]{model.intVar(0), model.intVar("y1", 0, 2)};
+        IntVar[] w = new IntVar[]{model.intVar(4), model.intVar(2)};
+        IntVar[] h = new IntVar[]{model.intVar(4), model.intVar(2)};
+        model.diffN(x, y, w, h, false).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(x[1].getLB(), 5);
+        Assert.assertEquals(x[1].getUB(), 10);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSweepFailure() {
+        Model model = new Model(Settings.init().setMinBoxesForSweepDiffN(0));
+        IntVar[] x = new IntVar[]{model.intVar(0), model.intVar(1)};
+        IntVar[] y = new IntVar[]{model.intVar(0), model.intVar(1)};
+        IntVar[] w = new IntVar[]{model.intVar(2), model.intVar(2)};
+        IntVar[] h = new IntVar[]{model.intVar(2), model.intVar(2)};
+        model.diffN(x, y, w, h, false).post();
+        Assert.assertThrows(ContradictionException.class, () -> model.getSolver().propagate());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSweepSureOverlap() throws ContradictionException {
+        Model model = new Model(Settings.init().setMinBoxesForSweepDiffN(0));
+        // a box with a compulsory part on the x-axis only, and a tall box which overlaps it on the y-axis
+        IntVar[] x = new IntVar[]{model.intVar(0), model.intVar("x1", 0, 6)};
+        IntVar[] y = new IntVar[]{model.intVar("y0", 0, 5), model.intVar(0)};
+        IntVar[] w = new IntVar[]{model.intVar(4), model.intVar(2)};
+        IntVar[] h = new IntVar[]{model.intVar(1), model.intVar(10)};
+        model.diffN(x, y, w, h, false).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(x[1].getLB(), 4);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSweepLengthFiltering() throws ContradictionException {
+        Model model = new Model(Settings.init().setMinBoxesForSweepDiffN(0));
+        // a fixed 4x4 square, a box on its left which cannot jump over it
+        IntVar[] x = new IntVar[]{model.intVar(5), model.intVar("x1", 0, 2)};
+        IntVar[] y = new IntVar[]{model.intVar(0), model.intVar("y1", 1, 2)};
+        IntVar[] w = new IntVar[]{model.intVar(4), model.intVar("w1", 1, 10)};
+        IntVar[] h = new IntVar[]{model.intVar(4), model.intVar("h1", 2, 10)};
+        model.diffN(x, y, w, h, false).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(w[1].getUB(), 5);
+        Assert.assertEquals(h[1].getUB(), 10);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSweepEnergy() {
+        Model model = new Model(Settings.init().setMinBoxesForSweepDiffN(0));
+        // five unit squares, without compulsory part, in a 2x2 square
+        IntVar[] x = model.intVarArray("x", 5, 0, 1);
+        IntVar[] y = model.intVarArray("y", 5, 0, 1);
+        IntVar[] w = model.intVarArray("w", 5, 1, 1);
+        IntVar[] h = model.intVarArray("h", 5, 1, 1);
+        model.diffN(x, y, w, h, false).post();
+        Assert.assertThrows(ContradictionException.class, () -> model.getSolver().propagate());
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testSweepAgainstPairwise() {
+        for (long seed = 0; seed < 10; seed++) {
+            Assert.assertEquals(countSolutions(4, seed, 0), countSolutions(4, seed, Integer.MAX_VALUE), "seed " + seed);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testOverlappingBoxes() {
+        for (long seed = 0; seed < 10; seed++) {
+            Assert.assertEquals(countOverlapping(4, seed, 0), countOverlapping(4, seed, Integer.MAX_VALUE), "seed " + seed);
+        }
+    }
+
+    private static long countSolutions(int n, long seed, int threshold) {
+        Random rnd = new Random(seed);
+        Model model = new Model(Settings.init().setMinBoxesForSweepDiffN(threshold));
+        IntVar[] x = new IntVar[n];
+        IntVar[] y = new IntVar[n];
+        IntVar[] w = new IntVar[n];
+        IntVar[] h = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            int ox = rnd.nextInt(4);
+            int oy = rnd.nextInt(4);
+            x[i] = model.intVar("x" + i, ox, ox + 1 + rnd.nextInt(2));
+            y[i] = model.intVar("y" + i, oy, oy + 1 + rnd.nextInt(2));
+            w[i] = model.intVar("w" + i, 1, 1 + rnd.nextInt(2));
+            h[i] = model.intVar("h" + i, 1, 1 + rnd.nextInt(2));
+        }
+        model.diffN(x, y, w, h, false).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(randomSearch(model.retrieveIntVars(true), seed));
+        return solver.streamSolutions().count();
+    }
+
+    /**
+     * Counts the solutions of a k x k grid of boxes, each one with a 3x3 window for its origin
+     * and a side of 3 or 4, so that boxes may overlap their neighbors in both dimensions.
+     */
+    private static long countOverlapping(int k, long seed, int threshold) {
+        Random rnd = new Random(seed);
+        int n = k * k;
+        Model model = new Model(Settings.init().setMinBoxesForSweepDiffN(threshold));
+        IntVar[] x = new IntVar[n];
+        IntVar[] y = new IntVar[n];
+        IntVar[] w = new IntVar[n];
+        IntVar[] h = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            int cx = (i % k) * 3;
+            int cy = (i / k) * 3;
+            x[i] = model.intVar("x" + i, cx, cx + 2);
+            y[i] = model.intVar("y" + i, cy, cy + 2);
+            w[i] = model.intVar(3 + rnd.nextInt(2));
+            h[i] = model.intVar(3 + rnd.nextInt(2));
+        }
+        model.diffN(x, y, w, h, false).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(randomSearch(model.retrieveIntVars(true), seed));
+        return solver.streamSolutions().count();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.cumulative.PropDisjunctive;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DisjunctiveTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOverload() {
+        Model model = new Model();
+        Task[] t = new Task[]{
+                new Task(model.intVar("s0", 0, 2), 2),
+                new Task(model.intVar("s1", 0, 2), 2)
+        };
+        model.arithm(t[0].getEnd(), "<=", 3).post();
+        model.arithm(t[1].getEnd(), "<=", 3).post();
+        model.disjunctive(t).post();
+        Assert.assertThrows(ContradictionException.class, () -> model.getSolver().propagate());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDetectablePrecedence() throws ContradictionException {
+        Model model = new Model();
+        Task[] t = new Task[]{
+                new Task(model.intVar("s0", 0, 1), 4),
+                new Task(model.intVar("s1", 2, 10), 3)
+        };
+        model.disjunctive(t).post();
+        model.getSolver().propagate();
+        // the first task cannot start after the second one
+        Assert.assertEquals(t[1].getStart().getLB(), 4);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEdgeFinding() throws ContradictionException {
+        Model model = new Model();
+        Task[] t = new Task[]{
+                new Task(model.intVar("s0", 0, 5), 3),
+                new Task(model.intVar("s1", 1, 3), 2),
+                new Task(model.intVar("s2", 1, 3), 2)
+        };
+        model.disjunctive(t).post();
+        model.getSolver().propagate();
+        // the first task cannot precede nor be in between the two others
+        Assert.assertEquals(t[0].getStart().getLB(), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testArityMismatch() {
+        Model model = new Model();
+        new PropDisjunctive(model.intVarArray("s", 3, 0, 5), model.intVarArray("d", 2, 1, 2), model.intVarArray("e", 3, 0, 7));
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testAgainstCumulative() {
+        for (long seed = 0; seed < 10; seed++) {
+            Assert.assertEquals(countSolutions(5, seed, true), countSolutions(5, seed, false), "seed " + seed);
+        }
+    }
+
+    private static long countSolutions(int n, long seed, boolean disjunctive) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        Task[] t = new Task[n];
+        for (int i = 0; i < n; i++) {
+            int est = rnd.nextInt(8);
+            t[i] = new Task(model.intVar("s" + i, est, est + 1 + rnd.nextInt(4)), model.intVar("d" + i, 0, 3), model.intVar("e" + i, 0, 20));
+        }
+        if (disjunctive) {
+            model.disjunctive(t).post();
+        } else {
+            IntVar[] h = model.intVarArray("h", n, 1, 1);
+            model.cumulative(t, h, model.intVar(1)).post();
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(randomSearch(model.retrieveIntVars(true), seed));
+        return solver.streamSolutions().count();
+    }
+}
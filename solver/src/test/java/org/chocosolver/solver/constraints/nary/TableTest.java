@@ -313,6 +313,32 @@ public class TableTest {
         }
     }
 
+    @Test(groups = "10s", timeOut = 300000)
+    public void testDenseKernels() {
+        for (long seed = 0; seed < 3; seed++) {
+            long[] sparse = solveCT(seed, false);
+            long[] dense = solveCT(seed, true);
+            assertEquals(dense, sparse);
+        }
+    }
+
+    private static long[] solveCT(long seed, boolean denseKernels) {
+        Random rnd = new Random(seed);
+        Model model = new Model(Settings.init().setEnableDenseTableKernels(denseKernels));
+        IntVar[] vars = model.intVarArray("v", 6, 0, 9, false);
+        for (int c = 0; c < 3; c++) {
+            // large tables, so that most of the words are not empty
+            Tuples tuples = new Tuples(true);
+            for (int t = 0; t < 5000; t++) {
+                tuples.add(rnd.nextInt(10), rnd.nextInt(10), rnd.nextInt(10), rnd.nextInt(10));
+            }
+            model.table(new IntVar[]{vars[c], vars[c + 1], vars[c + 2], vars[c + 3]}, tuples, "CT+").post();
+        }
+        model.getSolver().setSearch(randomSearch(vars, seed));
+        long nbSolutions = model.getSolver().streamSolutions().count();
+        return new long[]{nbSolutions, model.getSolver().getNodeCount()};
+    }
+
     @Test(groups = "1s", timeOut = 60000)
     public void testTuplesTable1() {
         Model model = new Model();
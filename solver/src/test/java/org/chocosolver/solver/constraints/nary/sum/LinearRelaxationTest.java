@@ -0,0 +1,110 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class LinearRelaxationTest {
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testRootInfeasibility() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 1);
+        // bound consistent, but summing the first four rows gives 3.(x0+x1+x2+x3) <= 8
+        model.sum(new IntVar[]{x[0], x[1], x[2]}, "<=", 2).post();
+        model.sum(new IntVar[]{x[1], x[2], x[3]}, "<=", 2).post();
+        model.sum(new IntVar[]{x[0], x[2], x[3]}, "<=", 2).post();
+        model.sum(new IntVar[]{x[0], x[1], x[3]}, "<=", 2).post();
+        model.sum(x, ">=", 3).post();
+        model.linearRelaxation(null, false).post();
+        model.getSolver().propagate();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testObjectiveBound() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 10);
+        IntVar obj = model.intVar("obj", 0, 100);
+        model.scalar(x, new int[]{2, 3, 4, 5}, ">=", 15).post();
+        model.sum(x, "=", obj).post();
+        model.linearRelaxation(obj, false).post();
+        model.getSolver().propagate();
+        // the relaxation reaches 3 with x3 = 3, rounded up
+        Assert.assertEquals(obj.getLB(), 3);
+    }
+
+    @DataProvider
+    public Object[][] seeds() {
+        Object[][] params = new Object[10][];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = new Object[]{i, i % 2 == 0};
+        }
+        return params;
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "seeds")
+    public void testRandom(int seed, boolean maximize) {
+        IntVar o1 = random(seed, maximize, false);
+        IntVar o2 = random(seed, maximize, true);
+        Model m1 = o1.getModel();
+        Model m2 = o2.getModel();
+        Solution s1 = m1.getSolver().findOptimalSolution(o1, maximize);
+        Solution s2 = m2.getSolver().findOptimalSolution(o2, maximize);
+        Assert.assertEquals(s2 == null, s1 == null);
+        if (s1 != null) {
+            Assert.assertEquals(s2.getIntVal(o2), s1.getIntVal(o1));
+        }
+        Assert.assertTrue(m2.getSolver().getNodeCount() <= m1.getSolver().getNodeCount());
+    }
+
+    private static IntVar random(int seed, boolean maximize, boolean relax) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        int n = 12;
+        IntVar[] x = model.intVarArray("x", n, 0, 5);
+        for (int i = 0; i < 8; i++) {
+            IntVar[] vs = new IntVar[4];
+            int[] cs = new int[4];
+            int f = rnd.nextInt(n);
+            for (int k = 0; k < 4; k++) {
+                vs[k] = x[(f + 3 * k) % n];
+                cs[k] = 1 + rnd.nextInt(6);
+            }
+            model.scalar(vs, cs, maximize ? "<=" : ">=", 10 + rnd.nextInt(20)).post();
+        }
+        int[] c = new int[n];
+        for (int j = 0; j < n; j++) {
+            c[j] = 1 + rnd.nextInt(9);
+        }
+        IntVar obj = model.intVar("obj", 0, 999);
+        model.scalar(x, c, "=", obj).post();
+        if (relax) {
+            model.linearRelaxation(obj, maximize).post();
+        }
+        model.getSolver().setSearch(inputOrderLBSearch(x));
+        return obj;
+    }
+}
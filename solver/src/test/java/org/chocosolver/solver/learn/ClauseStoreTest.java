@@ -0,0 +1,99 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.learn;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ClauseStoreTest {
+
+    private static Model pigeons(int n, Settings settings) {
+        Model model = new Model("pigeons", settings);
+        IntVar[] p = model.intVarArray("p", n, 1, n - 1);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                model.arithm(p[i], "!=", p[j]).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(p));
+        solver.setLearningSignedClauses();
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPeriodicReduction() {
+        int period = 50;
+        // no core nor tier-2 clauses, all of them can be removed
+        Model model = pigeons(7, Settings.init()
+                .setLearntClausesReductionPeriod(period)
+                .setLearntClausesLBDTiers(0, 0));
+        Solver solver = model.getSolver();
+        ClauseStore store = model.getClauseConstraint().getClauseStore();
+        Assert.assertFalse(solver.solve());
+        Assert.assertTrue(solver.getFailCount() > 2 * period);
+        Assert.assertTrue(store.getNbReductions() > 0);
+        // half of the local clauses are kept on reduction
+        Assert.assertTrue(store.getNbLearntClauses() <= 3 * period);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReductionOnRestart() {
+        int period = 50;
+        Model model = pigeons(7, Settings.init()
+                .setLearntClausesReductionPeriod(period)
+                .setLearntClausesLBDTiers(0, 0));
+        Solver solver = model.getSolver();
+        solver.setLubyRestart(8, new FailCounter(model, 0), 1000);
+        ClauseStore store = model.getClauseConstraint().getClauseStore();
+        Assert.assertFalse(solver.solve());
+        Assert.assertTrue(solver.getRestartCount() > 0);
+        Assert.assertTrue(store.getNbReductions() > 0);
+        Assert.assertTrue(store.getNbReductions() <= solver.getRestartCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCoreClausesAreKept() {
+        Model model = pigeons(7, Settings.init()
+                .setLearntClausesReductionPeriod(10)
+                .setLearntClausesLBDTiers(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        Solver solver = model.getSolver();
+        ClauseStore store = model.getClauseConstraint().getClauseStore();
+        Assert.assertFalse(solver.solve());
+        Assert.assertTrue(store.getNbReductions() > 0);
+        Assert.assertEquals(store.getNbCoreClauses(), store.getNbLearntClauses());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSameResults() {
+        for (int n = 4; n < 8; n++) {
+            Model m1 = pigeons(n, Settings.init());
+            Model m2 = pigeons(n, Settings.init()
+                    .setLearntClausesReductionPeriod(5)
+                    .setLearntClausesLBDTiers(1, 2));
+            Assert.assertFalse(m1.getSolver().solve());
+            Assert.assertFalse(m2.getSolver().solve());
+        }
+    }
+}
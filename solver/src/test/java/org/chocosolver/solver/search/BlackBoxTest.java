@@ -100,6 +100,52 @@ public class BlackBoxTest {
         Assert.assertTrue(solver.getSolutionCount() <= 14); // for ABS only
     }
 
+    @DataProvider
+    public Object[][] heapstrategies() {
+        return new Object[][]{
+                {(Function<IntVar[], AbstractStrategy<IntVar>>) Search::domOverWDegSearch},
+                {(Function<IntVar[], AbstractStrategy<IntVar>>) Search::domOverWDegRefSearch},
+                {(Function<IntVar[], AbstractStrategy<IntVar>>) Search::pickOnDom},
+        };
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "heapstrategies")
+    public void testCostasHeap(Function<IntVar[], AbstractStrategy<IntVar>> strat) {
+        Model model = ProblemMaker.makeCostasArrays(6);
+        model.getSettings().setMinVarsForHeapSelection(1);
+        IntVar[] vars = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(strat.apply(vars));
+        solver.setGeometricalRestart(vars.length * 3L, 1.1d, new FailCounter(model, 0), 1000);
+        solver.setNoGoodRecordingFromSolutions(vars);
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getSolutionCount(), 58);
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "heapstrategies")
+    public void testGolombRulerHeap(Function<IntVar[], AbstractStrategy<IntVar>> strat) {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        model.getSettings().setMinVarsForHeapSelection(1);
+        IntVar[] vars = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(strat.apply(vars));
+        solver.setGeometricalRestart(vars.length * 3L, 1.1d, new FailCounter(model, 0), 1000);
+        solver.setNoGoodRecordingFromSolutions(vars);
+        solver.findOptimalSolution((IntVar) model.getHook("objective"), false);
+        Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue(), 34);
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "heapstrategies")
+    public void testNQueenHeap(Function<IntVar[], AbstractStrategy<IntVar>> strat) {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(10);
+        model.getSettings().setMinVarsForHeapSelection(1);
+        IntVar[] vars = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(strat.apply(vars));
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getSolutionCount(), 724);
+    }
+
     @DataProvider
     public Object[][] setstrategies() {
         return new Object[][]{
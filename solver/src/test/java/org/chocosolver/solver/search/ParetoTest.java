@@ -89,6 +89,23 @@ public class ParetoTest {
         }
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParetoEpsilon() {
+        Model m = new Model();
+        IntVar x = m.intVar("x", 0, 100);
+        IntVar y = m.intVar("y", 0, 100);
+        m.arithm(x, "+", y, "<=", 100).post();
+        m.getSolver().setSearch(Search.inputOrderLBSearch(x, y));
+        List<Solution> front = m.getSolver().findParetoFront(new IntVar[]{x, y}, Model.MAXIMIZE, new int[]{10, 10});
+        Assert.assertTrue(front.size() > 0);
+        Assert.assertTrue(front.size() <= 11);
+        // each optimal point is in the box of, or in a box dominated by, a point of the front
+        for (int v = 0; v <= 100; v++) {
+            int bx = v / 10, by = (100 - v) / 10;
+            Assert.assertTrue(front.stream().anyMatch(sol -> sol.getIntVal(x) / 10 >= bx && sol.getIntVal(y) / 10 >= by));
+        }
+    }
+
     @Test(groups = "10s")
     public void testMOQAP() {
         runMOQAP();
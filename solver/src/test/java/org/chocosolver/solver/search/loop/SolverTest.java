@@ -14,6 +14,7 @@ import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.propagation.PropagationMetrics;
 import org.chocosolver.solver.propagation.PropagationProfiler;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
@@ -36,6 +37,7 @@ import org.testng.annotations.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -410,6 +412,45 @@ public class SolverTest {
                 " 9              0         0         0         0         0  \"cste -- 24576\"\n\n");
     }
 
+    @Test(groups = "1s")
+    public void testPropagationMetrics() {
+        Model model = makeNQueenWithOneAlldifferent(8);
+        Solver solver = model.getSolver();
+        PropagationMetrics metrics = solver.collectPropagationMetrics(1);
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getSolutionCount(), 92);
+        Assert.assertEquals(metrics.getNodeCount(), solver.getNodeCount());
+        Assert.assertTrue(metrics.getPropagationCount() > 0);
+        Assert.assertTrue(metrics.getSampledPropagationCount() > 0);
+        Assert.assertTrue(metrics.getSampledPropagationCount() <= metrics.getPropagationCount());
+        Assert.assertEquals(metrics.getCalls().values().stream().mapToLong(Long::longValue).sum(),
+                metrics.getPropagationCount());
+        Assert.assertTrue(metrics.getFilterings().values().stream().mapToLong(Long::longValue).sum() > 0);
+        Assert.assertTrue(metrics.getFailures().values().stream().mapToLong(Long::longValue).sum() > 0);
+        long timed = metrics.getTimeHistograms().values().stream()
+                .flatMapToLong(Arrays::stream).sum();
+        Assert.assertEquals(timed, metrics.getSampledPropagationCount());
+        Assert.assertEquals(Arrays.stream(metrics.getQueueLengthHistogram()).sum(),
+                metrics.getSampledPropagationCount());
+        Assert.assertTrue(Arrays.stream(metrics.getWorldSizeHistogram()).sum() > 0);
+    }
+
+    @Test(groups = "1s")
+    public void testPropagationMetricsNestedFailures() {
+        // reified constraints execute their propagators from within their own execution
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 4, 0, 2);
+        BoolVar b = model.boolVar("b");
+        model.allDifferent(xs).reifyWith(b);
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderUBSearch(b), inputOrderLBSearch(xs));
+        PropagationMetrics metrics = solver.collectPropagationMetrics(1);
+        solver.findAllSolutions();
+        long failures = metrics.getFailures().values().stream().mapToLong(Long::longValue).sum();
+        Assert.assertTrue(failures > 0);
+        Assert.assertEquals(failures, solver.getFailCount());
+    }
+
     @Test(groups = "1s")
     public void testSolvingFlow() {
         Model model = ProblemMaker.makeGolombRuler(9);
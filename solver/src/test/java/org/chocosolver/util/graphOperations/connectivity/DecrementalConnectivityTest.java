@@ -0,0 +1,285 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.graphOperations.connectivity;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.DirectedGraphVar;
+import org.chocosolver.solver.variables.UndirectedGraphVar;
+import org.chocosolver.util.objects.graphs.DirectedGraph;
+import org.chocosolver.util.objects.graphs.GraphFactory;
+import org.chocosolver.util.objects.graphs.IGraph;
+import org.chocosolver.util.objects.graphs.UndirectedGraph;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Test for DecrementalConnectivity and DecrementalStrongConnectivity classes
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DecrementalConnectivityTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUndirected() {
+        Model model = new Model();
+        int[][] edges = {{0, 1}, {1, 2}, {2, 0}, {2, 3}, {3, 4}, {4, 5}, {5, 3}, {6, 7}};
+        UndirectedGraph g = GraphFactory.makeStoredUndirectedGraph(model, 9, SetType.BITSET, SetType.BITSET,
+                new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8}, edges);
+        DecrementalConnectivity cc = new DecrementalConnectivity(model.getEnvironment(), g);
+        Assert.assertEquals(cc.getNbComponents(), 3);
+        Assert.assertTrue(cc.sameComponent(0, 5));
+        Assert.assertFalse(cc.sameComponent(0, 6));
+        Assert.assertEquals(cc.getComponentSize(cc.getComponentOf(4)), 6);
+        model.getEnvironment().worldPush();
+        g.removeEdge(2, 3);
+        cc.edgeRemoved(2, 3);
+        cc.repair();
+        Assert.assertEquals(cc.getNbComponents(), 4);
+        Assert.assertFalse(cc.sameComponent(0, 5));
+        Assert.assertTrue(cc.sameComponent(3, 5));
+        Assert.assertEquals(cc.getComponentSize(cc.getComponentOf(4)), 3);
+        g.removeNode(8);
+        cc.nodeRemoved(8);
+        cc.repair();
+        Assert.assertEquals(cc.getNbComponents(), 3);
+        Assert.assertEquals(cc.getComponentOf(8), -1);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(cc.getNbComponents(), 3);
+        Assert.assertTrue(cc.sameComponent(0, 5));
+        Assert.assertEquals(cc.getComponentSize(cc.getComponentOf(8)), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDirected() {
+        Model model = new Model();
+        int[][] arcs = {{0, 1}, {1, 2}, {2, 0}, {2, 3}, {3, 4}, {4, 3}};
+        DirectedGraph g = GraphFactory.makeStoredDirectedGraph(model, 5, SetType.BITSET, SetType.BITSET,
+                new int[]{0, 1, 2, 3, 4}, arcs);
+        DecrementalStrongConnectivity scc = new DecrementalStrongConnectivity(model.getEnvironment(), g);
+        Assert.assertEquals(scc.getNbComponents(), 2);
+        Assert.assertTrue(scc.sameComponent(0, 2));
+        Assert.assertFalse(scc.sameComponent(2, 3));
+        model.getEnvironment().worldPush();
+        g.removeEdge(1, 2);
+        scc.edgeRemoved(1, 2);
+        scc.repair();
+        Assert.assertEquals(scc.getNbComponents(), 4);
+        Assert.assertFalse(scc.sameComponent(0, 1));
+        Assert.assertTrue(scc.sameComponent(3, 4));
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(scc.getNbComponents(), 2);
+        Assert.assertTrue(scc.sameComponent(0, 1));
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 200; seed++) {
+            for (boolean directed : new boolean[]{false, true}) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                IEnvironment env = model.getEnvironment();
+                int n = 1 + rnd.nextInt(20);
+                double p = rnd.nextDouble() * 0.4;
+                IGraph g = directed ?
+                        GraphFactory.makeStoredAllNodesDirectedGraph(model, n, SetType.BITSET, SetType.BITSET, false) :
+                        GraphFactory.makeStoredAllNodesUndirectedGraph(model, n, SetType.BITSET, SetType.BITSET, false);
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < n; j++) {
+                        if (i != j && rnd.nextDouble() < p) {
+                            g.addEdge(i, j);
+                        }
+                    }
+                }
+                AbstractDecrementalConnectivity cc = directed ?
+                        new DecrementalStrongConnectivity(env, (DirectedGraph) g) :
+                        new DecrementalConnectivity(env, (UndirectedGraph) g);
+                check(g, cc);
+                int depth = 0;
+                for (int step = 0; step < 100; step++) {
+                    int op = rnd.nextInt(10);
+                    if (op < 2) {
+                        env.worldPush();
+                        depth++;
+                    } else if (op < 4 && depth > 0) {
+                        env.worldPop();
+                        depth--;
+                    } else {
+                        int x = rnd.nextInt(n);
+                        if (!g.getNodes().contains(x)) {
+                            continue;
+                        }
+                        if (rnd.nextInt(5) == 0) {
+                            for (int y : g.getSuccessorsOf(x).toArray()) {
+                                cc.edgeRemoved(x, y);
+                            }
+                            for (int y : g.getPredecessorsOf(x).toArray()) {
+                                cc.edgeRemoved(y, x);
+                            }
+                            g.removeNode(x);
+                            cc.nodeRemoved(x);
+                        } else if (g.getSuccessorsOf(x).size() > 0) {
+                            int[] succ = g.getSuccessorsOf(x).toArray();
+                            int y = succ[rnd.nextInt(succ.length)];
+                            g.removeEdge(x, y);
+                            cc.edgeRemoved(x, y);
+                        }
+                        cc.repair();
+                    }
+                    check(g, cc);
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGraphVar() throws ContradictionException {
+        Model model = new Model();
+        UndirectedGraph LB = GraphFactory.makeStoredUndirectedGraph(model, 6, SetType.BITSET, SetType.BITSET);
+        UndirectedGraph UB = GraphFactory.makeCompleteStoredUndirectedGraph(model, 6, SetType.BITSET, SetType.BITSET, false);
+        UndirectedGraphVar g = model.graphVar("g", LB, UB);
+        DecrementalConnectivity cc = DecrementalConnectivity.of(g);
+        Assert.assertSame(DecrementalConnectivity.of(g), cc);
+        Assert.assertEquals(cc.getNbComponents(), 1);
+        model.getEnvironment().worldPush();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 3; j < 6; j++) {
+                g.removeEdge(i, j, Cause.Null);
+            }
+        }
+        cc.sync();
+        Assert.assertEquals(cc.getNbComponents(), 2);
+        Assert.assertTrue(cc.sameComponent(0, 2));
+        Assert.assertFalse(cc.sameComponent(0, 3));
+        model.getEnvironment().worldPush();
+        g.removeNode(0, Cause.Null);
+        cc.sync();
+        Assert.assertEquals(cc.getComponentOf(0), -1);
+        Assert.assertEquals(cc.getComponentSize(cc.getComponentOf(1)), 2);
+        model.getEnvironment().worldPop();
+        cc.sync();
+        Assert.assertEquals(cc.getComponentSize(cc.getComponentOf(1)), 3);
+        model.getEnvironment().worldPop();
+        cc.sync();
+        Assert.assertEquals(cc.getNbComponents(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDigraphVar() throws ContradictionException {
+        Model model = new Model();
+        DirectedGraph LB = GraphFactory.makeStoredDirectedGraph(model, 4, SetType.BITSET, SetType.BITSET);
+        DirectedGraph UB = GraphFactory.makeStoredDirectedGraph(model, 4, SetType.BITSET, SetType.BITSET,
+                new int[]{0, 1, 2, 3}, new int[][]{{0, 1}, {1, 2}, {2, 3}, {3, 0}});
+        DirectedGraphVar g = model.digraphVar("g", LB, UB);
+        DecrementalStrongConnectivity scc = DecrementalStrongConnectivity.of(g);
+        Assert.assertEquals(scc.getNbComponents(), 1);
+        model.getEnvironment().worldPush();
+        g.removeEdge(3, 0, Cause.Null);
+        scc.sync();
+        Assert.assertEquals(scc.getNbComponents(), 4);
+        model.getEnvironment().worldPop();
+        scc.sync();
+        Assert.assertEquals(scc.getNbComponents(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStamps() throws ContradictionException {
+        Model model = new Model();
+        UndirectedGraph LB = GraphFactory.makeStoredUndirectedGraph(model, 6, SetType.BITSET, SetType.BITSET);
+        UndirectedGraph UB = GraphFactory.makeStoredUndirectedGraph(model, 6, SetType.BITSET, SetType.BITSET,
+                new int[]{0, 1, 2, 3, 4, 5}, new int[][]{{0, 1}, {1, 2}, {2, 0}, {3, 4}, {4, 5}, {5, 3}});
+        UndirectedGraphVar g = model.graphVar("g", LB, UB);
+        DecrementalConnectivity cc = DecrementalConnectivity.of(g);
+        int a = cc.getComponentOf(0);
+        int b = cc.getComponentOf(3);
+        int sa = cc.getStamp(a);
+        int sb = cc.getStamp(b);
+        model.getEnvironment().worldPush();
+        g.enforceEdge(0, 1, Cause.Null);
+        cc.sync();
+        Assert.assertNotEquals(cc.getStamp(a), sa);
+        Assert.assertEquals(cc.getStamp(b), sb);
+        int sa2 = cc.getStamp(a);
+        g.removeEdge(3, 4, Cause.Null);
+        cc.sync();
+        Assert.assertEquals(cc.getComponentOf(4), b);
+        Assert.assertEquals(cc.getStamp(a), sa2);
+        Assert.assertNotEquals(cc.getStamp(b), sb);
+        model.getEnvironment().worldPop();
+        cc.sync();
+        Assert.assertEquals(cc.getStamp(a), sa);
+        Assert.assertEquals(cc.getStamp(b), sb);
+    }
+
+    /**
+     * Compares the components with the ones computed by brute force
+     */
+    private static void check(IGraph g, AbstractDecrementalConnectivity cc) {
+        int n = g.getNbMaxNodes();
+        int[] label = new int[n];
+        Arrays.fill(label, -1);
+        int nb = 0;
+        // nested loops over the nodes would share the same iterator
+        int[] nodes = g.getNodes().toArray();
+        for (int x : nodes) {
+            if (label[x] < 0) {
+                BitSet fromX = reachableFrom(g, x);
+                for (int y : nodes) {
+                    if (fromX.get(y) && reachableFrom(g, y).get(x)) {
+                        label[y] = nb;
+                    }
+                }
+                nb++;
+            }
+        }
+        Assert.assertEquals(cc.getNbComponents(), nb);
+        for (int x = 0; x < n; x++) {
+            Assert.assertEquals(cc.getComponentOf(x) < 0, label[x] < 0);
+            if (label[x] >= 0) {
+                int size = 0;
+                for (int y = 0; y < n; y++) {
+                    if (label[y] == label[x]) {
+                        size++;
+                    }
+                    if (label[y] >= 0) {
+                        Assert.assertEquals(cc.sameComponent(x, y), label[x] == label[y]);
+                    }
+                }
+                Assert.assertEquals(cc.getComponentSize(cc.getComponentOf(x)), size);
+            }
+        }
+    }
+
+    private static BitSet reachableFrom(IGraph g, int x) {
+        BitSet visited = new BitSet();
+        Deque<Integer> queue = new ArrayDeque<>();
+        visited.set(x);
+        queue.add(x);
+        while (!queue.isEmpty()) {
+            for (int y : g.getSuccessorsOf(queue.poll())) {
+                if (!visited.get(y)) {
+                    visited.set(y);
+                    queue.add(y);
+                }
+            }
+        }
+        return visited;
+    }
+}
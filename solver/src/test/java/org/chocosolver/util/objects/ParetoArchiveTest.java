@@ -0,0 +1,126 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParetoArchiveTest {
+
+    private static boolean dominates(int[] a, int[] b) {
+        boolean gt = false;
+        for (int j = 0; j < a.length; j++) {
+            if (a[j] < b[j]) return false;
+            gt |= a[j] > b[j];
+        }
+        return gt;
+    }
+
+    private static int bound(List<int[]> front, int[] dp, int i) {
+        int best = Integer.MIN_VALUE;
+        for (int[] a : front) {
+            int d = 0;
+            for (int j = 0; j < a.length; j++) {
+                if (a[j] < dp[j]) {
+                    d = 0;
+                    break;
+                }
+                if (a[j] > dp[j]) {
+                    if (d == 0) d = 1;
+                    if (j != i) d = 2;
+                }
+            }
+            if (d > 0) {
+                best = Math.max(best, d == 1 ? a[i] : a[i] + 1);
+            }
+        }
+        return best;
+    }
+
+    @Test(groups = "1s")
+    public void testSimple() {
+        ParetoArchive<String> archive = new ParetoArchive<>(2);
+        archive.add(new int[]{1, 5}, "a", null);
+        archive.add(new int[]{3, 3}, "b", null);
+        archive.add(new int[]{5, 1}, "c", null);
+        Assert.assertEquals(archive.values(), Arrays.asList("a", "b", "c"));
+        Assert.assertTrue(archive.isDominated(new int[]{2, 2}));
+        Assert.assertFalse(archive.isDominated(new int[]{3, 3}));
+        Assert.assertFalse(archive.isDominated(new int[]{4, 4}));
+        List<String> removed = new ArrayList<>();
+        archive.add(new int[]{4, 4}, "d", removed::add);
+        Assert.assertEquals(removed, Arrays.asList("b"));
+        Assert.assertEquals(archive.values(), Arrays.asList("a", "c", "d"));
+        // dp = (0, 4): 'a' forbids objective 0 below 2, 'd' below 4
+        Assert.assertEquals(archive.tightestBound(new int[]{0, 4}, 0), 4);
+        Assert.assertEquals(archive.tightestBound(new int[]{0, 6}, 0), Integer.MIN_VALUE);
+        archive.clear();
+        Assert.assertTrue(archive.isEmpty());
+    }
+
+    @Test(groups = "1s")
+    public void testRandom() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 50; t++) {
+            int dim = 2 + rnd.nextInt(3);
+            int range = 5 + rnd.nextInt(200);
+            ParetoArchive<int[]> archive = new ParetoArchive<>(dim);
+            List<int[]> front = new ArrayList<>();
+            for (int s = 0; s < 1000; s++) {
+                int[] p = rnd.ints(dim, -range, range).toArray();
+                boolean dominated = front.stream().anyMatch(a -> dominates(a, p));
+                Assert.assertEquals(archive.isDominated(p), dominated);
+                int[] dp = rnd.ints(dim, -range, range).toArray();
+                for (int i = 0; i < dim; i++) {
+                    Assert.assertEquals(archive.tightestBound(dp, i), bound(front, dp, i));
+                }
+                if (!dominated) {
+                    front.removeIf(a -> Arrays.equals(a, p) || dominates(p, a));
+                    front.add(p);
+                    archive.add(p, p, null);
+                }
+                Assert.assertEquals(archive.size(), front.size());
+            }
+            Assert.assertEquals(archive.values(), front);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testEpsilon() {
+        ParetoArchive<int[]> archive = new ParetoArchive<>(2, new int[]{10, 10});
+        for (int x = 0; x < 1000; x++) {
+            int[] p = {x, 999 - x};
+            if (!archive.isDominated(p)) {
+                archive.add(p, p, null);
+            }
+        }
+        // one point per box
+        Assert.assertEquals(archive.size(), 100);
+        // a point in the same box as an archived one is dominated
+        Assert.assertTrue(archive.isDominated(new int[]{1, 998}));
+    }
+
+    @Test(groups = "1s", expectedExceptions = SolverException.class)
+    public void testWrongEpsilon() {
+        new ParetoArchive<>(2, new int[]{1, 0});
+    }
+}
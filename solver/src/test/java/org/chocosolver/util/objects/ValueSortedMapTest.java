@@ -0,0 +1,112 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import org.chocosolver.solver.Identity;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ValueSortedMapTest {
+
+    private static Identity[] keys(int n) {
+        Identity[] keys = new Identity[n];
+        for (int i = 0; i < n; i++) {
+            int id = i;
+            keys[i] = () -> id;
+        }
+        return keys;
+    }
+
+    @DataProvider
+    public Object[][] maps() {
+        return new Object[][]{
+                {(Supplier<ValueSortedMap<Identity>>) ValueSortedMap::new},
+                {(Supplier<ValueSortedMap<Identity>>) IdentityValueSortedMap::new}
+        };
+    }
+
+    @Test(groups = "1s", dataProvider = "maps")
+    public void testOrder(Supplier<ValueSortedMap<Identity>> maker) {
+        Identity[] k = keys(4);
+        ValueSortedMap<Identity> map = maker.get();
+        map.put(k[0], 5);
+        map.put(k[1], 12);
+        map.put(k[2], 3);
+        map.put(k[3], 8);
+        Assert.assertEquals(map.getLastValue(), 12);
+        map.replace(k[1], 1);
+        Assert.assertEquals(map.getLastValue(), 8);
+        Assert.assertEquals(map.getLowerValue(5), 3);
+        map.remove(k[3]);
+        Assert.assertEquals(map.getValueOrDefault(k[3], -1), -1);
+        Assert.assertEquals(map.pollLastValue(), 5);
+        Assert.assertEquals(map.pollLastValue(), 3);
+        Assert.assertEquals(map.pollLastValue(), 1);
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    @Test(groups = "1s", dataProvider = "maps")
+    public void testRandom(Supplier<ValueSortedMap<Identity>> maker) {
+        Random rnd = new Random(0);
+        Identity[] k = keys(200);
+        for (int t = 0; t < 20; t++) {
+            ValueSortedMap<Identity> map = maker.get();
+            HashMap<Identity, Integer> ref = new HashMap<>();
+            for (int s = 0; s < 2000; s++) {
+                Identity key = k[rnd.nextInt(k.length)];
+                switch (rnd.nextInt(5)) {
+                    case 0:
+                    case 1:
+                        int v;
+                        do {
+                            v = rnd.nextInt(100_000);
+                        } while (ref.containsValue(v));
+                        map.put(key, v);
+                        ref.put(key, v);
+                        break;
+                    case 2:
+                        map.remove(key);
+                        ref.remove(key);
+                        break;
+                    case 3:
+                        if (!ref.isEmpty()) {
+                            int max = Collections.max(ref.values());
+                            Assert.assertEquals(map.pollLastValue(), max);
+                            ref.values().remove(max);
+                        }
+                        break;
+                    default:
+                        int th = rnd.nextInt(100_000);
+                        Assert.assertEquals(map.removeIf(e -> ref.get(e) < th), ref.values().removeIf(e -> e < th));
+                        break;
+                }
+                Assert.assertEquals(map.isEmpty(), ref.isEmpty());
+                if (!ref.isEmpty()) {
+                    Assert.assertEquals(map.getLastValue(), (int) Collections.max(ref.values()));
+                }
+                Assert.assertEquals(map.getValueOrDefault(key, -1), (int) ref.getOrDefault(key, -1));
+            }
+            map.clear();
+            Assert.assertTrue(map.isEmpty());
+        }
+    }
+}
@@ -14,6 +14,8 @@ import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 /**
  * Test for DirectedGraph class
  * @author Dimitri Justeau-Allaire
@@ -59,4 +61,38 @@ public class DirectedGraphTest {
         Assert.assertTrue(g2.equals(g1));
     }
 
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCSR() {
+        Model m = new Model();
+        int n = 200;
+        Random rnd = new Random(0);
+        int[][] edges = new int[600][];
+        for (int k = 0; k < edges.length; k++) {
+            edges[k] = new int[]{rnd.nextInt(n), rnd.nextInt(n)};
+        }
+        int[] nodes = new int[]{0, 1, 2};
+        DirectedGraph csr = GraphFactory.makeStoredDirectedGraph(m, n, SetType.BITSET, SetType.CSR, nodes, edges);
+        DirectedGraph ref = GraphFactory.makeStoredDirectedGraph(m, n, SetType.BITSET, SetType.BITSET, nodes, edges);
+        Assert.assertEquals(csr.getEdgeSetType(), SetType.CSR);
+        Assert.assertTrue(csr.equals(ref));
+        Assert.assertTrue(ref.equals(csr));
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(csr.getPredecessorsOf(i).size(), ref.getPredecessorsOf(i).size());
+        }
+        m.getEnvironment().worldPush();
+        for (int k = 0; k < edges.length; k += 3) {
+            Assert.assertEquals(csr.removeEdge(edges[k][0], edges[k][1]), ref.removeEdge(edges[k][0], edges[k][1]));
+        }
+        for (int i = 0; i < n; i += 7) {
+            Assert.assertEquals(csr.removeNode(i), ref.removeNode(i));
+        }
+        Assert.assertTrue(csr.equals(ref));
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(csr.getPredecessorsOf(i).size(), ref.getPredecessorsOf(i).size());
+        }
+        m.getEnvironment().worldPop();
+        Assert.assertTrue(csr.equals(ref));
+        Assert.assertTrue(ref.equals(csr));
+    }
 }
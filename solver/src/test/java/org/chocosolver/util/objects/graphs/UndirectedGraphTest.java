@@ -10,11 +10,13 @@
 package org.chocosolver.util.objects.graphs;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 /**
  * Test for UndirectedGraph class
@@ -87,4 +89,70 @@ public class UndirectedGraphTest {
         Assert.assertTrue(Arrays.equals(neigh5, new int[] {7}));
         Assert.assertTrue(Arrays.equals(neigh7, new int[] {1, 5}));
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCSR() {
+        Model m = new Model();
+        int n = 200;
+        Random rnd = new Random(0);
+        int[][] edges = new int[600][];
+        for (int k = 0; k < edges.length; k++) {
+            edges[k] = new int[]{rnd.nextInt(n), rnd.nextInt(n)};
+        }
+        int[] nodes = new int[]{0, 1, 2};
+        UndirectedGraph csr = GraphFactory.makeStoredUndirectedGraph(m, n, SetType.BITSET, SetType.CSR, nodes, edges);
+        UndirectedGraph ref = GraphFactory.makeStoredUndirectedGraph(m, n, SetType.BITSET, SetType.BITSET, nodes, edges);
+        Assert.assertEquals(csr.getEdgeSetType(), SetType.CSR);
+        Assert.assertTrue(csr.equals(ref));
+        Assert.assertTrue(ref.equals(csr));
+        for (int i = 0; i < n; i++) {
+            int[] neigh = ref.getNeighborsOf(i).toArray();
+            Arrays.sort(neigh);
+            // neighbors are iterated in increasing order
+            Assert.assertEquals(csr.getNeighborsOf(i).toArray(), neigh);
+        }
+        m.getEnvironment().worldPush();
+        for (int k = 0; k < edges.length; k += 3) {
+            Assert.assertEquals(csr.removeEdge(edges[k][0], edges[k][1]), ref.removeEdge(edges[k][0], edges[k][1]));
+        }
+        for (int i = 0; i < n; i += 7) {
+            Assert.assertEquals(csr.removeNode(i), ref.removeNode(i));
+        }
+        Assert.assertTrue(csr.equals(ref));
+        Assert.assertTrue(ref.equals(csr));
+        m.getEnvironment().worldPop();
+        Assert.assertTrue(csr.equals(ref));
+        Assert.assertTrue(ref.equals(csr));
+        Assert.assertFalse(csr.addEdge(edges[0][0], edges[0][1]));
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = UnsupportedOperationException.class)
+    public void testCSRAdd() {
+        Model m = new Model();
+        UndirectedGraph csr = GraphFactory.makeStoredUndirectedGraph(m, 4, SetType.BITSET, SetType.CSR,
+                new int[0], new int[][]{{0, 1}, {1, 2}});
+        csr.addEdge(0, 3);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCSRGraphVar() {
+        long[] counts = new long[2];
+        SetType[] types = {SetType.BITSET, SetType.CSR};
+        for (int t = 0; t < 2; t++) {
+            Model m = new Model();
+            int n = 5;
+            int[][] edges = new int[][]{{0, 1}, {1, 2}, {2, 3}, {3, 4}, {4, 0}, {0, 2}, {1, 3}};
+            UndirectedGraph LB = GraphFactory.makeStoredUndirectedGraph(m, n, SetType.BITSET, SetType.BITSET);
+            LB.addNode(0);
+            UndirectedGraph UB = GraphFactory.makeStoredUndirectedGraph(m, n, SetType.BITSET, types[t],
+                    new int[0], edges);
+            UndirectedGraphVar g = m.graphVar("g", LB, UB);
+            m.connected(g).post();
+            m.nbEdges(g, m.intVar(4)).post();
+            while (m.getSolver().solve()) ;
+            counts[t] = m.getSolver().getSolutionCount();
+        }
+        Assert.assertTrue(counts[0] > 0);
+        Assert.assertEquals(counts[1], counts[0]);
+    }
 }